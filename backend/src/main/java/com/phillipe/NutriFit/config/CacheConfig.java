@@ -0,0 +1,48 @@
+package com.phillipe.NutriFit.config;
+
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Per-user read caches for views the home screen polls. Bounded and expired by
+ * {@code app.cache.spec}; hit and miss counts are published as {@code cache.gets}.
+ * <p>
+ * The caches are local to each instance and nothing evicts across instances: with more than
+ * one backend running, an instance that didn't handle a write keeps serving the profile or
+ * latest measurements it cached before it until they expire. That is why the default
+ * {@code expireAfterWrite} is only 30 seconds; raise it in {@code app.cache.spec} if longer is
+ * acceptable.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String PROFILES = "profiles";
+    public static final String LATEST_MEASUREMENTS = "latestMeasurements";
+
+    @Bean
+    public CacheManager cacheManager(@Value("${app.cache.spec:maximumSize=10000,expireAfterWrite=30s}") String spec) {
+        CaffeineCacheManager caffeine = new CaffeineCacheManager(PROFILES, LATEST_MEASUREMENTS) {
+            // A read that loaded the old row before a write committed would otherwise put it
+            // back after the writer's eviction, see InvalidationAwareCache
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return new InvalidationAwareCache(name, cache, isAllowNullValues());
+            }
+        };
+        // recordStats is what feeds the hit/miss meters
+        caffeine.setCaffeineSpec(CaffeineSpec.parse(spec + ",recordStats"));
+        caffeine.setAllowNullValues(true);  // "no measurement yet" is worth caching too
+
+        // Puts and evictions wait for the commit of the transaction that makes them, so a
+        // rolled-back write never touches the cache
+        return new TransactionAwareCacheManagerProxy(caffeine);
+    }
+}
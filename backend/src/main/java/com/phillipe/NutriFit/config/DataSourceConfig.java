@@ -0,0 +1,44 @@
+package com.phillipe.NutriFit.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the pooled DataSource in a {@link ConcurrencyLimitingDataSource}.
+ * The limit defaults to the Hikari pool size; set
+ * {@code app.datasource.concurrency-limit.enabled=false} to hand out connections directly.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class DataSourceConfig {
+
+    @Bean
+    static BeanPostProcessor concurrencyLimitingDataSourcePostProcessor(Environment env) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitingDataSource) {
+                    return bean;
+                }
+                int poolSize = env.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+                int maxConcurrency = env.getProperty("app.datasource.concurrency-limit.max-concurrency", Integer.class, poolSize);
+                long acquireTimeoutMs = env.getProperty("app.datasource.concurrency-limit.acquire-timeout-ms", Long.class, 5000L);
+                return new ConcurrencyLimitingDataSource(dataSource, maxConcurrency, acquireTimeoutMs);
+            }
+        };
+    }
+
+    @Bean
+    MeterBinder concurrencyLimitingDataSourceMetrics(ObjectProvider<DataSource> dataSources) {
+        return registry -> dataSources.orderedStream()
+                .filter(ConcurrencyLimitingDataSource.class::isInstance)
+                .forEach(dataSource -> ((ConcurrencyLimitingDataSource) dataSource).bindTo(registry));
+    }
+}
@@ -0,0 +1,30 @@
+package com.phillipe.NutriFit.config;
+
+import com.phillipe.NutriFit.config.db.StatementCountingInspector;
+import com.phillipe.NutriFit.config.db.StatementTimingListener;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Counts and times every statement Hibernate runs, for the per-request numbers collected by
+ * {@link com.phillipe.NutriFit.config.filter.DbStatementMetricsFilter}. Statements slower than
+ * {@code app.db-metrics.slow-statement-ms} are logged (0 turns that off).
+ */
+@Configuration
+public class DbStatementMetricsConfig {
+
+    @Bean
+    HibernatePropertiesCustomizer statementMetricsCustomizer(
+            @Value("${app.db-metrics.slow-statement-ms:200}") long slowStatementMs) {
+        StatementCountingInspector inspector = new StatementCountingInspector(Duration.ofMillis(slowStatementMs));
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, StatementTimingListener.class.getName());
+        };
+    }
+}
@@ -0,0 +1,111 @@
+package com.phillipe.NutriFit.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caffeine cache that doesn't let a reader put back a value it loaded before the key was
+ * invalidated.
+ * <p>
+ * A miss marks when the calling thread's read of that key started; its put of the key is dropped
+ * if the key was evicted, overwritten by a put no miss preceded (a {@code @CachePut} writer), or
+ * the cache was cleared since. Both sides of that check run inside the key's mapping, so a put
+ * can't slip in between a writer's invalidation and its own put. Invalidations are remembered
+ * for {@link #INVALIDATIONS_KEPT}; a read that took longer than that is never put.
+ */
+public class InvalidationAwareCache extends CaffeineCache {
+
+    static final Duration INVALIDATIONS_KEPT = Duration.ofMinutes(1);
+
+    private record Read(long version, long startedAt) {
+    }
+
+    private final Ticker ticker;
+    private final AtomicLong version = new AtomicLong();
+    private final Cache<Object, Long> invalidatedAt;
+    private volatile long clearedAt;
+
+    // Keys the current thread missed on and hasn't put yet
+    private final ThreadLocal<Map<Object, Read>> reads = ThreadLocal.withInitial(HashMap::new);
+
+    public InvalidationAwareCache(String name, Cache<Object, Object> cache, boolean allowNullValues) {
+        this(name, cache, allowNullValues, Ticker.systemTicker());
+    }
+
+    InvalidationAwareCache(String name, Cache<Object, Object> cache, boolean allowNullValues, Ticker ticker) {
+        super(name, cache, allowNullValues);
+        this.ticker = ticker;
+        this.invalidatedAt = Caffeine.newBuilder()
+                .expireAfterWrite(INVALIDATIONS_KEPT)
+                .ticker(ticker)
+                .build();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper cached = super.get(key);
+        if (cached == null) {
+            reads.get().put(key, new Read(version.get(), ticker.read()));
+        }
+        return cached;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        Read read = reads.get().remove(key);
+        getNativeCache().asMap().compute(key, (k, current) -> {
+            if (read == null) {
+                invalidate(k);
+                return toStoreValue(value);
+            }
+            return invalidatedSince(k, read) ? current : toStoreValue(value);
+        });
+    }
+
+    @Override
+    public void evict(Object key) {
+        evictIfPresent(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean[] present = new boolean[1];
+        getNativeCache().asMap().compute(key, (k, current) -> {
+            invalidate(k);
+            present[0] = current != null;
+            return null;
+        });
+        return present[0];
+    }
+
+    @Override
+    public void clear() {
+        clearedAt = version.incrementAndGet();
+        super.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        clearedAt = version.incrementAndGet();
+        return super.invalidate();
+    }
+
+    private void invalidate(Object key) {
+        invalidatedAt.put(key, version.incrementAndGet());
+    }
+
+    private boolean invalidatedSince(Object key, Read read) {
+        if (ticker.read() - read.startedAt() >= INVALIDATIONS_KEPT.toNanos()) {
+            return true;
+        }
+        Long invalidated = invalidatedAt.getIfPresent(key);
+        return clearedAt > read.version() || (invalidated != null && invalidated > read.version());
+    }
+}
@@ -3,6 +3,7 @@ package com.phillipe.NutriFit.config;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
 import io.github.bucket4j.Refill;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
@@ -22,8 +23,8 @@ public class RateLimitConfig {
     // Register: 3 attempts per minute per IP
     private static final int REGISTER_REQUESTS_PER_MINUTE = 3;
 
-    // General API: 100 requests per minute per user/IP
-    private static final int GENERAL_REQUESTS_PER_MINUTE = 100;
+    // General API: 100 requests per minute per user/IP unless overridden, e.g. for load tests
+    private final int generalRequestsPerMinute;
 
     // Cache for login rate limit buckets (keyed by IP)
     private final Map<String, Bucket> loginBuckets = new ConcurrentHashMap<>();
@@ -34,6 +35,10 @@ public class RateLimitConfig {
     // Cache for general API rate limit buckets (keyed by user ID or IP)
     private final Map<String, Bucket> generalBuckets = new ConcurrentHashMap<>();
 
+    public RateLimitConfig(@Value("${app.rate-limit.general-requests-per-minute:100}") int generalRequestsPerMinute) {
+        this.generalRequestsPerMinute = generalRequestsPerMinute;
+    }
+
     /**
      * Get or create a rate limit bucket for login attempts by IP.
      */
@@ -74,8 +79,8 @@ public class RateLimitConfig {
 
     private Bucket createGeneralBucket(String key) {
         Bandwidth limit = Bandwidth.classic(
-                GENERAL_REQUESTS_PER_MINUTE,
-                Refill.intervally(GENERAL_REQUESTS_PER_MINUTE, Duration.ofMinutes(1))
+                generalRequestsPerMinute,
+                Refill.intervally(generalRequestsPerMinute, Duration.ofMinutes(1))
         );
         return Bucket.builder().addLimit(limit).build();
     }
@@ -98,6 +103,6 @@ public class RateLimitConfig {
      * Get the number of requests allowed per minute for general API calls.
      */
     public int getGeneralRequestsPerMinute() {
-        return GENERAL_REQUESTS_PER_MINUTE;
+        return generalRequestsPerMinute;
     }
 }
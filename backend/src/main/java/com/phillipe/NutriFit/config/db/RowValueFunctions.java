@@ -0,0 +1,24 @@
+package com.phillipe.NutriFit.config.db;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * SQL functions the Criteria API has no equivalent for, registered with Hibernate through
+ * META-INF/services.
+ * <p>
+ * {@code row_before(a, b, x, y)} renders the row-value comparison {@code (a, b) < (x, y)}, which
+ * Postgres answers with a single index range scan on (a, b), where the expanded
+ * {@code a < x OR (a = x AND b < y)} is filtered row by row.
+ */
+public class RowValueFunctions implements FunctionContributor {
+
+    public static final String ROW_BEFORE = "row_before";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functions) {
+        functions.getFunctionRegistry().registerPattern(ROW_BEFORE, "((?1, ?2) < (?3, ?4))",
+                functions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.BOOLEAN));
+    }
+}
@@ -0,0 +1,48 @@
+package com.phillipe.NutriFit.config.db;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.time.Duration;
+import java.util.regex.Pattern;
+
+/**
+ * Counts each statement Hibernate prepares towards the current {@link StatementStats} and keeps
+ * its SQL, so {@link StatementTimingListener} can log it if it runs past the slow threshold.
+ */
+public class StatementCountingInspector implements StatementInspector {
+
+    private static final ThreadLocal<Pending> PENDING = new ThreadLocal<>();
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+
+    private final long slowThresholdNanos;
+
+    public StatementCountingInspector(Duration slowThreshold) {
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
+    @Override
+    public String inspect(String sql) {
+        StatementStats.statementPrepared();
+        PENDING.set(new Pending(sql, slowThresholdNanos));
+        return sql;
+    }
+
+    /** The statement most recently prepared on this thread, or null. */
+    static Pending pending() {
+        return PENDING.get();
+    }
+
+    /**
+     * Bound parameters are never part of the SQL; this masks literals written into it, such as
+     * those in native queries, so logged statements carry no user data.
+     */
+    static String redact(String sql) {
+        String masked = STRING_LITERAL.matcher(sql).replaceAll("'?'");
+        return NUMBER_LITERAL.matcher(masked).replaceAll("?");
+    }
+
+    record Pending(String sql, long slowThresholdNanos) {
+    }
+}
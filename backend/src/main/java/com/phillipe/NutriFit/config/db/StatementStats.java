@@ -0,0 +1,69 @@
+package com.phillipe.NutriFit.config.db;
+
+import java.time.Duration;
+
+/**
+ * Hibernate statements run on the current thread since {@link #start()}: how many, and how long
+ * they spent executing. Scopes nest; closing one adds its totals to the scope it was started
+ * in, so a test can wrap requests that each open their own.
+ * <p>
+ * Only the thread that opened the scope is seen, so work handed to other threads (the
+ * dashboard's parallel sections) is not counted, and neither are JdbcTemplate queries, which
+ * bypass Hibernate.
+ */
+public final class StatementStats implements AutoCloseable {
+
+    private static final ThreadLocal<StatementStats> CURRENT = new ThreadLocal<>();
+
+    private final StatementStats parent;
+    private int statements;
+    private long nanos;
+    private boolean closed;
+
+    private StatementStats(StatementStats parent) {
+        this.parent = parent;
+    }
+
+    public static StatementStats start() {
+        StatementStats stats = new StatementStats(CURRENT.get());
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void statementPrepared() {
+        StatementStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements++;
+        }
+    }
+
+    static void statementExecuted(long elapsedNanos) {
+        StatementStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.nanos += elapsedNanos;
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public Duration getTime() {
+        return Duration.ofNanos(nanos);
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (parent == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(parent);
+            parent.statements += statements;
+            parent.nanos += nanos;
+        }
+    }
+}
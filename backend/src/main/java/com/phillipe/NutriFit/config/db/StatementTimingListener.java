@@ -0,0 +1,48 @@
+package com.phillipe.NutriFit.config.db;
+
+import org.hibernate.SessionEventListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Times statement and batch executions into the current {@link StatementStats} and logs those
+ * over the threshold with their literals redacted. Hibernate creates one per session from the
+ * class name, so the threshold comes from {@link StatementCountingInspector}.
+ */
+public class StatementTimingListener implements SessionEventListener {
+
+    private static final Logger log = LoggerFactory.getLogger(StatementTimingListener.class);
+
+    private long startedAt;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        startedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        executed();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        startedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        executed();
+    }
+
+    private void executed() {
+        long elapsed = System.nanoTime() - startedAt;
+        StatementStats.statementExecuted(elapsed);
+
+        StatementCountingInspector.Pending pending = StatementCountingInspector.pending();
+        if (pending != null && pending.slowThresholdNanos() > 0 && elapsed >= pending.slowThresholdNanos()) {
+            log.warn("Slow statement ({} ms): {}", elapsed / 1_000_000,
+                    StatementCountingInspector.redact(pending.sql()));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.phillipe.NutriFit.config.filter;
+
+import com.phillipe.NutriFit.config.db.StatementStats;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.security.autoconfigure.web.servlet.SecurityFilterProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * Records how many Hibernate statements each request ran and how long they took, as per-route
+ * histograms {@code nutrifit.db.statements} and {@code nutrifit.db.time}, so an N+1 in a
+ * mapper shows up as a route whose statement count grows with its result size.
+ * <p>
+ * With {@code app.db-metrics.response-headers} on (the local and docker profiles), the numbers
+ * are also returned as X-DB-Statements and X-DB-Time (milliseconds).
+ */
+@Component
+@Order(SecurityFilterProperties.DEFAULT_FILTER_ORDER - 1) // Around the security chain, so the user lookup counts too
+public class DbStatementMetricsFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_HEADER = "X-DB-Statements";
+    public static final String TIME_HEADER = "X-DB-Time";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean responseHeaders;
+
+    // Web slice tests run filters without metrics; there the numbers go nowhere
+    public DbStatementMetricsFilter(ObjectProvider<MeterRegistry> meterRegistry,
+                                    @Value("${app.db-metrics.response-headers:false}") boolean responseHeaders) {
+        this.meterRegistry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        this.responseHeaders = responseHeaders;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        StatementStats stats = StatementStats.start();
+        // Headers have to go out before the body commits the response
+        HttpServletResponse target = !responseHeaders ? response : new OnCommittedResponseWrapper(response) {
+            @Override
+            protected void onResponseCommitted() {
+                writeHeaders(response, stats);
+            }
+        };
+        try {
+            filterChain.doFilter(request, target);
+        } finally {
+            stats.close();
+            if (responseHeaders && !response.isCommitted()) {
+                writeHeaders(response, stats);
+            }
+            record(request, stats);
+        }
+    }
+
+    private static void writeHeaders(HttpServletResponse response, StatementStats stats) {
+        response.setHeader(STATEMENTS_HEADER, Integer.toString(stats.getStatements()));
+        response.setHeader(TIME_HEADER, String.format(Locale.ROOT, "%.1f", stats.getTime().toNanos() / 1e6));
+    }
+
+    private void record(HttpServletRequest request, StatementStats stats) {
+        // The matched pattern keeps the tag bounded; requests no handler matched share one
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("nutrifit.db.statements")
+                .description("Hibernate statements run per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        Timer.builder("nutrifit.db.time")
+                .description("Time per request spent executing Hibernate statements")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.getTime());
+    }
+}
@@ -0,0 +1,35 @@
+package com.phillipe.NutriFit.config.oauth2;
+
+import com.phillipe.NutriFit.model.entity.User;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.core.oidc.user.DefaultOidcUser;
+import org.springframework.security.oauth2.core.oidc.user.OidcUser;
+
+import java.util.List;
+
+/**
+ * OIDC user whose name is the local NutriFit username rather than the provider's subject,
+ * and which also carries the local user id, so the success handler can issue a token
+ * without looking the user up again.
+ */
+public class NutriFitOidcUser extends DefaultOidcUser {
+
+    private final String username;
+    private final Long userId;
+
+    public NutriFitOidcUser(OidcUser oidcUser, User user) {
+        // "sub" is always present in OIDC responses and avoids a MissingAttributeException
+        super(List.of(new SimpleGrantedAuthority("ROLE_USER")), oidcUser.getIdToken(), oidcUser.getUserInfo(), "sub");
+        this.username = user.getUsername();
+        this.userId = user.getId();
+    }
+
+    @Override
+    public String getName() {
+        return username;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+}
@@ -2,21 +2,17 @@ package com.phillipe.NutriFit.config.oauth2;
 
 import com.phillipe.NutriFit.model.entity.User;
 import com.phillipe.NutriFit.service.UserService;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.client.oidc.userinfo.OidcUserRequest;
 import org.springframework.security.oauth2.client.oidc.userinfo.OidcUserService;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
-import org.springframework.security.oauth2.core.oidc.user.DefaultOidcUser;
 import org.springframework.security.oauth2.core.oidc.user.OidcUser;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-
 /**
  * Handles OIDC user info for providers that use OpenID Connect (e.g., Google).
  * Delegates token verification to the standard OidcUserService, then finds or
- * creates a local User and returns an OidcUser with the local username as the
- * name attribute.
+ * creates a local User and returns a {@link NutriFitOidcUser} carrying the local
+ * username and user id.
  */
 @Service
 public class NutriFitOidcUserService extends OidcUserService {
@@ -41,20 +37,7 @@ public class NutriFitOidcUserService extends OidcUserService {
 
         User user = userService.findOrCreateOAuthUser(provider, providerId, preferredUsername);
 
-        // "sub" is always present in OIDC responses and avoids a MissingAttributeException.
-        // Override getName() so the success handler can call oAuth2User.getName() to get
-        // the local NutriFit username directly.
-        return new DefaultOidcUser(
-                List.of(new SimpleGrantedAuthority("ROLE_USER")),
-                oidcUser.getIdToken(),
-                oidcUser.getUserInfo(),
-                "sub"
-        ) {
-            @Override
-            public String getName() {
-                return user.getUsername();
-            }
-        };
+        return new NutriFitOidcUser(oidcUser, user);
     }
 
     private String extractPreferredUsername(OidcUser oidcUser) {
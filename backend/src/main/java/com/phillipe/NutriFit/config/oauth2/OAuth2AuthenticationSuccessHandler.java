@@ -5,7 +5,6 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
 
@@ -33,10 +32,9 @@ public class OAuth2AuthenticationSuccessHandler implements AuthenticationSuccess
     public void onAuthenticationSuccess(HttpServletRequest request,
                                         HttpServletResponse response,
                                         Authentication authentication) throws IOException {
-        OAuth2User oAuth2User = (OAuth2User) authentication.getPrincipal();
+        NutriFitOidcUser oidcUser = (NutriFitOidcUser) authentication.getPrincipal();
         // getName() returns the local NutriFit username stored during loadUser()
-        String username = oAuth2User.getName();
-        String token = jwtService.generateToken(username);
+        String token = jwtService.generateToken(oidcUser.getName(), oidcUser.getUserId());
         response.sendRedirect(frontendUrl + "/oauth2/callback?token=" + token);
     }
 }
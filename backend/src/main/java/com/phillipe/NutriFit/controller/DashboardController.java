@@ -0,0 +1,26 @@
+package com.phillipe.NutriFit.controller;
+
+import com.phillipe.NutriFit.dto.response.DashboardResponse;
+import com.phillipe.NutriFit.service.DashboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/dashboard")
+@RequiredArgsConstructor
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    @GetMapping
+    public DashboardResponse getDashboard(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization,
+                                          Authentication authentication) {
+        String username = authentication.getName();
+        return dashboardService.getDashboard(username, authorization);
+    }
+}
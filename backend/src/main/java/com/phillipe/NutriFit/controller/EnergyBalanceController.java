@@ -0,0 +1,32 @@
+package com.phillipe.NutriFit.controller;
+
+import com.phillipe.NutriFit.dto.response.EnergyBalanceResponse;
+import com.phillipe.NutriFit.model.TrendResolution;
+import com.phillipe.NutriFit.service.EnergyBalanceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+@RestController
+@RequestMapping("/energy-balance")
+@RequiredArgsConstructor
+public class EnergyBalanceController {
+
+    private final EnergyBalanceService energyBalanceService;
+
+    @GetMapping
+    public List<EnergyBalanceResponse> getBalance(
+            @RequestParam(required = false) TrendResolution period,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestHeader(value = WorkoutLogController.TIME_ZONE_HEADER, required = false) ZoneId zone,
+            Authentication authentication) {
+        String username = authentication.getName();
+        return energyBalanceService.getBalance(username, period, from, to, zone);
+    }
+}
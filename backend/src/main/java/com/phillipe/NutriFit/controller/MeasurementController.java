@@ -1,14 +1,20 @@
 package com.phillipe.NutriFit.controller;
 
 import com.phillipe.NutriFit.dto.request.MeasurementRequest;
+import com.phillipe.NutriFit.dto.response.MeasurementForecastResponse;
 import com.phillipe.NutriFit.dto.response.MeasurementResponse;
+import com.phillipe.NutriFit.dto.response.MeasurementTrendResponse;
+import com.phillipe.NutriFit.model.TrendResolution;
 import com.phillipe.NutriFit.service.MeasurementService;
+import com.phillipe.NutriFit.service.MeasurementStatsService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Instant;
 import java.util.List;
 
 @RestController
@@ -17,6 +23,7 @@ import java.util.List;
 public class MeasurementController {
 
     private final MeasurementService measurementService;
+    private final MeasurementStatsService measurementStatsService;
 
     @PostMapping
     public MeasurementResponse createMeasurement(@Valid @RequestBody MeasurementRequest request,
@@ -41,6 +48,27 @@ public class MeasurementController {
         return ResponseEntity.ok(latest);
     }
 
+    @GetMapping("/trends")
+    public MeasurementTrendResponse getTrends(
+            @RequestParam(required = false) List<String> fields,
+            @RequestParam(required = false) TrendResolution resolution,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) Integer window,
+            @RequestParam(required = false) Integer points,
+            Authentication authentication) {
+        String username = authentication.getName();
+        return measurementService.getTrends(username, fields, resolution, from, to, window, points);
+    }
+
+    @GetMapping("/forecast")
+    public MeasurementForecastResponse getForecast(@RequestParam(required = false) String field,
+                                                   @RequestParam(required = false) Double target,
+                                                   Authentication authentication) {
+        String username = authentication.getName();
+        return measurementStatsService.forecast(username, field, target);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteMeasurement(@PathVariable Long id,
                                                    Authentication authentication) {
@@ -2,14 +2,17 @@ package com.phillipe.NutriFit.controller;
 
 import com.phillipe.NutriFit.dto.request.ProfileUpdateRequest;
 import com.phillipe.NutriFit.dto.response.ProfileResponse;
+import com.phillipe.NutriFit.dto.response.UserChangeHistoryPageResponse;
 import com.phillipe.NutriFit.dto.response.UserChangeHistoryResponse;
 import com.phillipe.NutriFit.service.ChangeHistoryService;
 import com.phillipe.NutriFit.service.ProfileService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Instant;
 import java.util.List;
 
 @RestController
@@ -38,4 +41,17 @@ public class ProfileController {
         String username = authentication.getName();
         return changeHistoryService.getHistory(username);
     }
+
+    @GetMapping("/history/page")
+    public UserChangeHistoryPageResponse getHistoryPage(
+            @RequestParam(required = false) String entityType,
+            @RequestParam(required = false) String fieldName,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            Authentication authentication) {
+        String username = authentication.getName();
+        return changeHistoryService.getHistoryPage(username, entityType, fieldName, from, to, cursor, limit);
+    }
 }
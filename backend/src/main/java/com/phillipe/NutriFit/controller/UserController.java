@@ -5,6 +5,7 @@ import com.phillipe.NutriFit.dto.request.RegisterRequest;
 import com.phillipe.NutriFit.dto.response.LoginResponse;
 import com.phillipe.NutriFit.dto.response.UserResponse;
 import com.phillipe.NutriFit.model.entity.User;
+import com.phillipe.NutriFit.security.UserPrincipal;
 import com.phillipe.NutriFit.service.JwtService;
 import com.phillipe.NutriFit.service.UserService;
 import jakarta.validation.Valid;
@@ -47,7 +48,8 @@ public class UserController {
                 .authenticate(new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword()));
 
         if (authentication.isAuthenticated()) {
-            String token = jwtService.generateToken(authentication.getName());
+            UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+            String token = jwtService.generateToken(authentication.getName(), principal.getId());
             return LoginResponse.builder().token(token).build();
         } else {
             throw new BadCredentialsException("Invalid username or password.");
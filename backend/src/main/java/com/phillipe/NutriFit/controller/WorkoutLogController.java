@@ -11,6 +11,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.ZoneId;
 import java.util.List;
 
 @RestController
@@ -18,21 +19,26 @@ import java.util.List;
 @RequiredArgsConstructor
 public class WorkoutLogController {
 
+    /** IANA zone of the client; decides which day a workout counts towards. UTC if absent. */
+    static final String TIME_ZONE_HEADER = "X-Time-Zone";
+
     private final WorkoutLogService workoutLogService;
 
     @PostMapping
     public WorkoutLogResponse createWorkout(@Valid @RequestBody WorkoutLogRequest request,
+                                            @RequestHeader(value = TIME_ZONE_HEADER, required = false) ZoneId zone,
                                             Authentication authentication) {
         String username = authentication.getName();
-        return workoutLogService.createWorkout(request, username);
+        return workoutLogService.createWorkout(request, username, zone);
     }
 
     @PostMapping("/from-plan")
     @ResponseStatus(HttpStatus.CREATED)
     public WorkoutLogResponse createWorkoutFromPlan(@Valid @RequestBody WorkoutLogFromPlanRequest request,
+                                                     @RequestHeader(value = TIME_ZONE_HEADER, required = false) ZoneId zone,
                                                      Authentication authentication) {
         String username = authentication.getName();
-        return workoutLogService.createWorkoutFromPlan(request, username);
+        return workoutLogService.createWorkoutFromPlan(request, username, zone);
     }
 
     @GetMapping("/mine")
@@ -62,4 +62,11 @@ public class WorkoutPlanController {
         String username = authentication.getName();
         return workoutPlanService.getPlanDayById(dayId, username);
     }
+
+    @GetMapping("/days/{dayId}/start")
+    public WorkoutPlanDayResponse startPlanDay(@PathVariable Long dayId,
+                                                Authentication authentication) {
+        String username = authentication.getName();
+        return workoutPlanService.startPlanDay(dayId, username);
+    }
 }
@@ -0,0 +1,23 @@
+package com.phillipe.NutriFit.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Everything the home page renders, fetched in one round trip. A section that failed or
+ * timed out is null and listed in {@code failedSections} with the reason.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DashboardResponse {
+    private ProfileResponse profile;
+    private MeasurementResponse latestMeasurement;
+    private List<WorkoutPlanResponse> plans;
+    private List<WorkoutLogResponse> workouts;
+    private List<MealResponse> meals;
+    private Map<String, String> failedSections;
+}
@@ -0,0 +1,16 @@
+package com.phillipe.NutriFit.dto.response;
+
+import lombok.*;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EnergyBalanceResponse {
+    private LocalDate periodStart;  // first day of the day or week
+    private int caloriesIn;
+    private int caloriesOut;
+    private int balance;            // in minus out
+}
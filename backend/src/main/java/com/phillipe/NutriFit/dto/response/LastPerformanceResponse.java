@@ -0,0 +1,21 @@
+package com.phillipe.NutriFit.dto.response;
+
+import com.phillipe.NutriFit.dto.request.SetItemRequest;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LastPerformanceResponse {
+    private Long workoutLogId;
+    private Instant performedAt;
+    private Integer durationMinutes;
+    private Integer sets;
+    private Integer reps;
+    private Integer weight;
+    private List<SetItemRequest> setDetails;
+}
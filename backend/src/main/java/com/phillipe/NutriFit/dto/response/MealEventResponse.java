@@ -0,0 +1,23 @@
+package com.phillipe.NutriFit.dto.response;
+
+import lombok.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * A change to a user's calories eaten on a day, as returned by nutrition-service's
+ * GET /events/meals.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MealEventResponse {
+    private Long xactId;  // with id, the event's position in the feed
+    private Long id;
+    private Long userId;
+    private LocalDate localDate;
+    private Integer calories;
+    private Instant createdAt;
+}
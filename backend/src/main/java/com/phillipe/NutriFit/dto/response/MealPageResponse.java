@@ -0,0 +1,18 @@
+package com.phillipe.NutriFit.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * A page of the user's meals, newest first, as returned by nutrition-service's
+ * GET /meals/mine/page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MealPageResponse {
+    private List<MealResponse> items;
+    private String nextCursor;  // null on the last page
+}
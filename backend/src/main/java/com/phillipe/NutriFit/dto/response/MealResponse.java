@@ -0,0 +1,35 @@
+package com.phillipe.NutriFit.dto.response;
+
+import lombok.*;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A meal as returned by nutrition-service's GET /meals/mine.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MealResponse {
+    private Long id;
+    private Instant createdAt;
+    private Integer totalCalories;
+    private Integer totalProtein;
+    private Integer totalCarbs;
+    private Integer totalFats;
+    private List<FoodItem> foods;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class FoodItem {
+        private String type;
+        private Integer calories;
+        private Integer protein;
+        private Integer carbs;
+        private Integer fats;
+    }
+}
@@ -0,0 +1,24 @@
+package com.phillipe.NutriFit.dto.response;
+
+import lombok.*;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MeasurementForecastResponse {
+    private String field;               // e.g. "weightKg"
+    private long samples;
+    private Instant asOf;
+
+    private Double current;             // recency-weighted trend line evaluated at asOf
+    private Double recentAverage;       // exponentially weighted average, 14-day half-life
+    private Double weeklyRate;          // slope of the recency-weighted fit, per week
+    private Double overallWeeklyRate;   // slope of the least-squares fit over all history, per week
+    private Double rSquared;            // of the all-history fit
+
+    private Double target;
+    private Instant projectedTargetDate;  // null without a target, or when the trend doesn't reach it
+}
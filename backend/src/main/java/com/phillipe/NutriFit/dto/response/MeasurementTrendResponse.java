@@ -0,0 +1,38 @@
+package com.phillipe.NutriFit.dto.response;
+
+import com.phillipe.NutriFit.model.TrendResolution;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MeasurementTrendResponse {
+    private TrendResolution resolution;
+    private int window;             // buckets in each moving average
+    private List<Series> series;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Series {
+        private String field;       // e.g. "weightKg"
+        private int totalPoints;    // buckets before downsampling
+        private List<Point> points;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Point {
+        private Instant bucket;     // start of the UTC day, ISO week or month
+        private double value;       // average of the measurements in the bucket
+        private double movingAverage;
+        private long samples;
+    }
+}
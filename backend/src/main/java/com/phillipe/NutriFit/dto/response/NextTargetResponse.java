@@ -0,0 +1,28 @@
+package com.phillipe.NutriFit.dto.response;
+
+import com.phillipe.NutriFit.model.entity.ExerciseProgression;
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NextTargetResponse {
+    private Integer sets;
+    private Integer reps;
+    private Integer weight;
+    private Double estimatedOneRepMax;
+    private Boolean deload;
+    private Integer stallCount;
+
+    public static NextTargetResponse fromEntity(ExerciseProgression progression) {
+        return NextTargetResponse.builder()
+                .sets(progression.getNextSets())
+                .reps(progression.getNextReps())
+                .weight(progression.getNextWeight())
+                .estimatedOneRepMax(progression.getBestE1rm())
+                .deload(progression.getDeload())
+                .stallCount(progression.getStallCount())
+                .build();
+    }
+}
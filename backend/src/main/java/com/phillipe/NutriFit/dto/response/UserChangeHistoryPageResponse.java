@@ -0,0 +1,14 @@
+package com.phillipe.NutriFit.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserChangeHistoryPageResponse {
+    private List<UserChangeHistoryResponse> items;
+    private String nextCursor;  // null on the last page
+}
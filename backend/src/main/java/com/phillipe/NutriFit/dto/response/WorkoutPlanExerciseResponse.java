@@ -14,4 +14,10 @@ public class WorkoutPlanExerciseResponse {
     private Integer targetSets;
     private Integer targetReps;
     private Integer targetWeight;
+
+    // Next-session targets from the progression engine, null until the exercise is logged from a plan
+    private NextTargetResponse recommendation;
+
+    // Only populated when starting a workout from the plan day
+    private LastPerformanceResponse lastPerformance;
 }
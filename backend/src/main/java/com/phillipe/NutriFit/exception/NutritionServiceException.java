@@ -0,0 +1,11 @@
+package com.phillipe.NutriFit.exception;
+
+public class NutritionServiceException extends RuntimeException {
+    public NutritionServiceException(String message) {
+        super(message);
+    }
+
+    public NutritionServiceException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
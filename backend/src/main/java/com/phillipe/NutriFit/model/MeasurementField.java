@@ -0,0 +1,56 @@
+package com.phillipe.NutriFit.model;
+
+import com.phillipe.NutriFit.model.entity.BodyMeasurement;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * Numeric body measurement fields that can be charted. The column names are the only
+ * identifiers ever interpolated into trend SQL.
+ */
+public enum MeasurementField {
+    HEIGHT_CM("heightCm", "height_cm", BodyMeasurement::getHeightCm),
+    WEIGHT_KG("weightKg", "weight_kg", BodyMeasurement::getWeightKg),
+    BODY_FAT_PERCENT("bodyFatPercent", "body_fat_percent", BodyMeasurement::getBodyFatPercent),
+    NECK_CM("neckCm", "neck_cm", BodyMeasurement::getNeckCm),
+    SHOULDERS_CM("shouldersCm", "shoulders_cm", BodyMeasurement::getShouldersCm),
+    CHEST_CM("chestCm", "chest_cm", BodyMeasurement::getChestCm),
+    BICEPS_CM("bicepsCm", "biceps_cm", BodyMeasurement::getBicepsCm),
+    FOREARMS_CM("forearmsCm", "forearms_cm", BodyMeasurement::getForearmsCm),
+    WAIST_CM("waistCm", "waist_cm", BodyMeasurement::getWaistCm),
+    HIPS_CM("hipsCm", "hips_cm", BodyMeasurement::getHipsCm),
+    THIGHS_CM("thighsCm", "thighs_cm", BodyMeasurement::getThighsCm),
+    CALVES_CM("calvesCm", "calves_cm", BodyMeasurement::getCalvesCm);
+
+    private final String fieldName;
+    private final String column;
+    private final Function<BodyMeasurement, Double> getter;
+
+    MeasurementField(String fieldName, String column, Function<BodyMeasurement, Double> getter) {
+        this.fieldName = fieldName;
+        this.column = column;
+        this.getter = getter;
+    }
+
+    /** Name used in API requests and responses, e.g. "weightKg". */
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    /** This field's value in {@code measurement}, or null if it wasn't measured. */
+    public Double extract(BodyMeasurement measurement) {
+        return getter.apply(measurement);
+    }
+
+    public static MeasurementField fromFieldName(String fieldName) {
+        return Arrays.stream(values())
+                .filter(field -> field.fieldName.equals(fieldName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown measurement field: " + fieldName));
+    }
+}
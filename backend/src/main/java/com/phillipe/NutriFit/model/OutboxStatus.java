@@ -0,0 +1,6 @@
+package com.phillipe.NutriFit.model;
+
+public enum OutboxStatus {
+    PENDING,
+    FAILED
+}
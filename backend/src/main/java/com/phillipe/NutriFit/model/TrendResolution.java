@@ -0,0 +1,18 @@
+package com.phillipe.NutriFit.model;
+
+public enum TrendResolution {
+    DAY("day"),
+    WEEK("week"),
+    MONTH("month");
+
+    private final String truncUnit;
+
+    TrendResolution(String truncUnit) {
+        this.truncUnit = truncUnit;
+    }
+
+    /** Unit passed to Postgres date_trunc. */
+    public String getTruncUnit() {
+        return truncUnit;
+    }
+}
@@ -1,9 +1,14 @@
 package com.phillipe.NutriFit.model.embedded;
 
+import com.phillipe.NutriFit.model.entity.Exercise;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
 import lombok.*;
 
+import java.time.Instant;
+
 @Embeddable
 @Getter
 @Setter
@@ -12,10 +17,16 @@ import lombok.*;
 @Builder
 public class WorkoutExerciseEntry {
 
-    @Column(nullable = false)
-    private String name;
+    @ManyToOne(optional = false)
+    @JoinColumn(name = "exercise_id", nullable = false)
+    private Exercise exercise;
+
+    // Copied from the owning workout so per-exercise history is a single index read
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
 
-    private String category;
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
 
     private Integer durationMinutes;
 
@@ -29,4 +40,12 @@ public class WorkoutExerciseEntry {
 
     @Column(name = "set_details")
     private String setDetailsJson;
+
+    public String getName() {
+        return exercise != null ? exercise.getName() : null;
+    }
+
+    public String getCategory() {
+        return exercise != null ? exercise.getCategory() : null;
+    }
 }
@@ -1,10 +1,11 @@
 package com.phillipe.NutriFit.model.embedded;
 
 import com.phillipe.NutriFit.model.ExerciseCategory;
+import com.phillipe.NutriFit.model.entity.Exercise;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
-import jakarta.persistence.EnumType;
-import jakarta.persistence.Enumerated;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
 import lombok.*;
 
 @Embeddable
@@ -15,11 +16,9 @@ import lombok.*;
 @Builder
 public class WorkoutPlanExercise {
 
-    @Column(nullable = false)
-    private String name;
-
-    @Enumerated(EnumType.STRING)
-    private ExerciseCategory category;
+    @ManyToOne(optional = false)
+    @JoinColumn(name = "exercise_id", nullable = false)
+    private Exercise exercise;
 
     @Builder.Default
     @Column(nullable = false)
@@ -30,4 +29,19 @@ public class WorkoutPlanExercise {
     private Integer targetReps;
 
     private Integer targetWeight;
+
+    public String getName() {
+        return exercise != null ? exercise.getName() : null;
+    }
+
+    public ExerciseCategory getCategory() {
+        if (exercise == null || exercise.getCategory() == null) {
+            return null;
+        }
+        try {
+            return ExerciseCategory.valueOf(exercise.getCategory());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
 }
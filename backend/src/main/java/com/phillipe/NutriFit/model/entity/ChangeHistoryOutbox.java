@@ -0,0 +1,57 @@
+package com.phillipe.NutriFit.model.entity;
+
+import com.phillipe.NutriFit.model.OutboxStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * One audited operation waiting to be copied into {@link UserChangeHistory}.
+ * {@code changes} holds the operation's field changes as a JSON array, so an
+ * operation costs one outbox row regardless of how many fields it touched.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "change_history_outbox")
+public class ChangeHistoryOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 20)
+    private String entityType;
+
+    private Long entityId;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String changes;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Instant createdAt = Instant.now();
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Instant nextAttemptAt = Instant.now();
+
+    @Column(columnDefinition = "TEXT")
+    private String lastError;
+}
@@ -0,0 +1,44 @@
+package com.phillipe.NutriFit.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Calories eaten and burned by one user on one day. A read model: meals come from
+ * nutrition-service's change feed and workouts from workout_energy_event, both applied by
+ * the energy-balance projector, so it trails the source data by the projector's lag.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "energy_balance_daily")
+@IdClass(EnergyBalanceDaily.Key.class)
+public class EnergyBalanceDaily {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    private LocalDate localDate;
+
+    @Column(nullable = false)
+    private int caloriesIn;
+
+    @Column(nullable = false)
+    private int caloriesOut;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long userId;
+        private LocalDate localDate;
+    }
+}
@@ -0,0 +1,29 @@
+package com.phillipe.NutriFit.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Dictionary of exercise names. Workout log and plan rows reference an exercise
+ * by id instead of repeating the name and category on every row.
+ * Seeded from {@link com.phillipe.NutriFit.model.PredefinedExercise} and grown
+ * with custom names as they are first used.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "exercise")
+public class Exercise {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(nullable = false)
+    private String name;
+
+    private String category;
+}
@@ -0,0 +1,56 @@
+package com.phillipe.NutriFit.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * The most recent logged entry for each exercise a user has performed.
+ * Written alongside every workout so the "start workout" prefill is a primary-key
+ * read instead of a scan over the user's workout history.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "exercise_last_performance")
+@IdClass(ExerciseLastPerformance.Key.class)
+public class ExerciseLastPerformance {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "exercise_id")
+    private Integer exerciseId;
+
+    @Column(name = "workout_log_id", nullable = false)
+    private Long workoutLogId;
+
+    @Column(name = "performed_at", nullable = false)
+    private Instant performedAt;
+
+    private Integer durationMinutes;
+
+    private Integer sets;
+
+    private Integer reps;
+
+    private Integer weight;
+
+    @Column(name = "set_details")
+    private String setDetailsJson;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long userId;
+        private Integer exerciseId;
+    }
+}
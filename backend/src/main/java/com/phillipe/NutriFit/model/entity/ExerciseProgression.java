@@ -0,0 +1,74 @@
+package com.phillipe.NutriFit.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * Running progression state for one exercise of one user in one rep range. Updated incrementally
+ * each time the exercise is logged from a plan day and holds the next recommended targets,
+ * so serving a recommendation is a lookup rather than a pass over workout history. Plans that
+ * prescribe the exercise for different reps progress separately.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "exercise_progression")
+@IdClass(ExerciseProgression.Key.class)
+public class ExerciseProgression {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "exercise_id")
+    private Integer exerciseId;
+
+    // Bottom of the rep range the plan exercise prescribes
+    @Id
+    @Column(name = "min_reps")
+    private Integer minReps;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Integer sessions = 0;
+
+    @Column(name = "best_e1rm")
+    private Double bestE1rm;
+
+    @Column(name = "last_e1rm")
+    private Double lastE1rm;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Integer stallCount = 0;
+
+    private Integer nextSets;
+
+    private Integer nextReps;
+
+    private Integer nextWeight;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Boolean deload = false;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Instant updatedAt = Instant.now();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long userId;
+        private Integer exerciseId;
+        private Integer minReps;
+    }
+}
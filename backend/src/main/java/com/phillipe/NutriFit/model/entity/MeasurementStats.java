@@ -0,0 +1,81 @@
+package com.phillipe.NutriFit.model.entity;
+
+import com.phillipe.NutriFit.model.MeasurementField;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * Running sufficient statistics for one measurement field of one user, with t in days since
+ * {@code origin} and y the measured value. The plain sums support an ordinary least-squares fit
+ * over all history; the w* sums weight each point by exp(lambda * t) for a recency-weighted fit.
+ * Every column is a sum over points, so a measurement is added or removed without reading history.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "measurement_stats")
+@IdClass(MeasurementStats.Key.class)
+public class MeasurementStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 30)
+    private MeasurementField field;
+
+    @Column(nullable = false)
+    private Instant origin;
+
+    @Column(nullable = false)
+    private long n;
+
+    @Column(name = "sum_t", nullable = false)
+    private double sumT;
+
+    @Column(name = "sum_y", nullable = false)
+    private double sumY;
+
+    @Column(name = "sum_tt", nullable = false)
+    private double sumTT;
+
+    @Column(name = "sum_ty", nullable = false)
+    private double sumTY;
+
+    @Column(name = "sum_yy", nullable = false)
+    private double sumYY;
+
+    @Column(name = "w_sum", nullable = false)
+    private double wSum;
+
+    @Column(name = "w_t", nullable = false)
+    private double wT;
+
+    @Column(name = "w_y", nullable = false)
+    private double wY;
+
+    @Column(name = "w_tt", nullable = false)
+    private double wTT;
+
+    @Column(name = "w_ty", nullable = false)
+    private double wTY;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long userId;
+        private MeasurementField field;
+    }
+}
@@ -0,0 +1,39 @@
+package com.phillipe.NutriFit.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * A change to one user's burned calories on one day, written in the same transaction as the
+ * workout and moved into {@link EnergyBalanceDaily} by the energy-balance projector.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "workout_energy_event")
+public class WorkoutEnergyEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private LocalDate localDate;
+
+    // Negative when a workout is deleted
+    @Column(nullable = false)
+    private Integer calories;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Instant createdAt = Instant.now();
+}
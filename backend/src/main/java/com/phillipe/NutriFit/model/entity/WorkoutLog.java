@@ -5,6 +5,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -33,6 +34,10 @@ public class WorkoutLog {
     @Column(nullable = false)
     private Instant createdAt = Instant.now();
 
+    // Day the workout counts towards in the user's zone, for the energy balance
+    @Column(nullable = false)
+    private LocalDate localDate;
+
     @Builder.Default
     @Column(nullable = false)
     private Integer totalDurationMinutes = 0;
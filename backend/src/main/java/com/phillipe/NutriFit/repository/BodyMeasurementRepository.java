@@ -6,7 +6,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.List;
 import java.util.Optional;
 
-public interface BodyMeasurementRepository extends JpaRepository<BodyMeasurement, Long> {
+public interface BodyMeasurementRepository
+        extends JpaRepository<BodyMeasurement, Long>, BodyMeasurementRepositoryCustom {
     List<BodyMeasurement> findByUserIdOrderByRecordedAtDesc(Long userId);
     Optional<BodyMeasurement> findFirstByUserIdOrderByRecordedAtDesc(Long userId);
     Optional<BodyMeasurement> findByIdAndUserId(Long id, Long userId);
@@ -0,0 +1,20 @@
+package com.phillipe.NutriFit.repository;
+
+import com.phillipe.NutriFit.model.MeasurementField;
+import com.phillipe.NutriFit.model.TrendResolution;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface BodyMeasurementRepositoryCustom {
+
+    /**
+     * Averages each field per UTC bucket and adds a trailing moving average over the last
+     * {@code window} buckets that have a value for that field. Rows come back ordered by
+     * field, then bucket. {@code from} and {@code to} are optional.
+     */
+    List<TrendBucket> findTrend(Long userId, List<MeasurementField> fields, TrendResolution resolution,
+                                Instant from, Instant to, int window);
+
+    record TrendBucket(MeasurementField field, Instant bucket, double value, double movingAverage, long samples) {}
+}
@@ -0,0 +1,69 @@
+package com.phillipe.NutriFit.repository;
+
+import com.phillipe.NutriFit.model.MeasurementField;
+import com.phillipe.NutriFit.model.TrendResolution;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class BodyMeasurementRepositoryImpl implements BodyMeasurementRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BodyMeasurementRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<TrendBucket> findTrend(Long userId, List<MeasurementField> fields, TrendResolution resolution,
+                                       Instant from, Instant to, int window) {
+        if (fields.isEmpty()) {
+            return List.of();
+        }
+
+        // Unpivot the requested columns so each field is bucketed and windowed independently.
+        // Names and columns come from MeasurementField, never from the request.
+        String unpivot = fields.stream()
+                .map(field -> "('" + field.name() + "', m." + field.getColumn() + ")")
+                .collect(Collectors.joining(", "));
+
+        List<Object> args = new ArrayList<>();
+        args.add(window - 1);
+        args.add(resolution.getTruncUnit());
+        args.add(userId);
+
+        StringBuilder where = new StringBuilder("m.user_id = ?");
+        if (from != null) {
+            where.append(" AND m.recorded_at >= ?");
+            args.add(Timestamp.from(from));
+        }
+        if (to != null) {
+            where.append(" AND m.recorded_at < ?");
+            args.add(Timestamp.from(to));
+        }
+
+        String sql = """
+                SELECT field, bucket, value, samples,
+                       AVG(value) OVER (PARTITION BY field ORDER BY bucket ROWS BETWEEN ? PRECEDING AND CURRENT ROW) AS moving_avg
+                FROM (
+                    SELECT v.field, date_trunc(?, m.recorded_at, 'UTC') AS bucket, AVG(v.value) AS value, COUNT(*) AS samples
+                    FROM body_measurement m
+                    CROSS JOIN LATERAL (VALUES %s) AS v(field, value)
+                    WHERE %s AND v.value IS NOT NULL
+                    GROUP BY v.field, bucket
+                ) b
+                ORDER BY field, bucket
+                """.formatted(unpivot, where);
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new TrendBucket(
+                MeasurementField.valueOf(rs.getString("field")),
+                rs.getTimestamp("bucket").toInstant(),
+                rs.getDouble("value"),
+                rs.getDouble("moving_avg"),
+                rs.getLong("samples")), args.toArray());
+    }
+}
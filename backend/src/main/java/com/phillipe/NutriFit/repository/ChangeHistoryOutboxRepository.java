@@ -0,0 +1,33 @@
+package com.phillipe.NutriFit.repository;
+
+import com.phillipe.NutriFit.model.OutboxStatus;
+import com.phillipe.NutriFit.model.entity.ChangeHistoryOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public interface ChangeHistoryOutboxRepository extends JpaRepository<ChangeHistoryOutbox, Long> {
+
+    // SKIP LOCKED lets several relay instances drain the outbox without blocking each other
+    @Query(value = """
+            SELECT * FROM change_history_outbox
+            WHERE status = 'PENDING' AND next_attempt_at <= now()
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<ChangeHistoryOutbox> claimBatch(@Param("limit") int limit);
+
+    @Query(value = "SELECT * FROM change_history_outbox WHERE id = :id AND status = 'PENDING' FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    Optional<ChangeHistoryOutbox> claim(@Param("id") Long id);
+
+    long countByStatus(OutboxStatus status);
+
+    @Query("SELECT MIN(o.createdAt) FROM ChangeHistoryOutbox o WHERE o.status = :status")
+    Optional<Instant> findOldestCreatedAt(@Param("status") OutboxStatus status);
+}
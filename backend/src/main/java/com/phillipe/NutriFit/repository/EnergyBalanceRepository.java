@@ -0,0 +1,8 @@
+package com.phillipe.NutriFit.repository;
+
+import com.phillipe.NutriFit.model.entity.EnergyBalanceDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface EnergyBalanceRepository extends JpaRepository<EnergyBalanceDaily, EnergyBalanceDaily.Key>,
+        EnergyBalanceRepositoryCustom {
+}
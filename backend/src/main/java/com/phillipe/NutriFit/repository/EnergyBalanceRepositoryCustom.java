@@ -0,0 +1,36 @@
+package com.phillipe.NutriFit.repository;
+
+import com.phillipe.NutriFit.model.TrendResolution;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface EnergyBalanceRepositoryCustom {
+
+    /** A change to the calories eaten and burned by a user on a day. */
+    record Delta(Long userId, LocalDate localDate, int caloriesIn, int caloriesOut) {
+    }
+
+    record PeriodBalance(LocalDate periodStart, int caloriesIn, int caloriesOut) {
+    }
+
+    /** Where a remote feed's event sits in it: the transaction that wrote it, then its id. */
+    record FeedPosition(long xactId, long eventId) {
+    }
+
+    /** Adds the deltas to the daily rows, creating them as needed; deltas of unknown users are dropped. */
+    void addAll(List<Delta> deltas);
+
+    /** Position of the last event applied from the feed. */
+    FeedPosition findCursor(String source);
+
+    /**
+     * Moves the feed's cursor from {@code seen}, the position its events were read after, to
+     * {@code next}; false when another instance has moved it first and so applied those events.
+     * Locks the cursor row until the transaction ends.
+     */
+    boolean advanceCursor(String source, FeedPosition seen, FeedPosition next);
+
+    /** Sums per day or week, oldest first; periods without data are left out. */
+    List<PeriodBalance> summarize(Long userId, TrendResolution resolution, LocalDate from, LocalDate to);
+}
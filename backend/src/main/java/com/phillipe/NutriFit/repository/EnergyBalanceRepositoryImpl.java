@@ -0,0 +1,82 @@
+package com.phillipe.NutriFit.repository;
+
+import com.phillipe.NutriFit.model.TrendResolution;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+public class EnergyBalanceRepositoryImpl implements EnergyBalanceRepositoryCustom {
+
+    // Meal events can name users the backend doesn't know (or no longer knows); those are skipped
+    private static final String ADD_SQL = """
+            INSERT INTO energy_balance_daily (user_id, local_date, calories_in, calories_out)
+            SELECT ?, ?, ?, ?
+            WHERE EXISTS (SELECT 1 FROM users WHERE id = ?)
+            ON CONFLICT (user_id, local_date) DO UPDATE
+            SET calories_in = energy_balance_daily.calories_in + EXCLUDED.calories_in,
+                calories_out = energy_balance_daily.calories_out + EXCLUDED.calories_out
+            """;
+
+    // One range scan of the (user_id, local_date) primary key
+    private static final String SUMMARY_SQL = """
+            SELECT date_trunc(?, local_date)::date AS period_start,
+                   SUM(calories_in) AS calories_in, SUM(calories_out) AS calories_out
+            FROM energy_balance_daily
+            WHERE user_id = ? AND local_date BETWEEN ? AND ?
+            GROUP BY 1
+            ORDER BY 1
+            """;
+
+    private static final String CURSOR_SQL =
+            "SELECT last_event_xact_id, last_event_id FROM energy_feed_cursor WHERE source = ?";
+
+    private static final String ADVANCE_CURSOR_SQL = """
+            UPDATE energy_feed_cursor SET last_event_xact_id = ?, last_event_id = ?
+            WHERE source = ? AND last_event_xact_id = ? AND last_event_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EnergyBalanceRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void addAll(List<Delta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(ADD_SQL, deltas, deltas.size(), (ps, delta) -> {
+            ps.setLong(1, delta.userId());
+            ps.setDate(2, Date.valueOf(delta.localDate()));
+            ps.setInt(3, delta.caloriesIn());
+            ps.setInt(4, delta.caloriesOut());
+            ps.setLong(5, delta.userId());
+        });
+    }
+
+    @Override
+    public FeedPosition findCursor(String source) {
+        return jdbcTemplate.queryForObject(CURSOR_SQL,
+                (rs, rowNum) -> new FeedPosition(rs.getLong("last_event_xact_id"), rs.getLong("last_event_id")),
+                source);
+    }
+
+    @Override
+    public boolean advanceCursor(String source, FeedPosition seen, FeedPosition next) {
+        return jdbcTemplate.update(ADVANCE_CURSOR_SQL,
+                next.xactId(), next.eventId(), source, seen.xactId(), seen.eventId()) == 1;
+    }
+
+    @Override
+    public List<PeriodBalance> summarize(Long userId, TrendResolution resolution, LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(SUMMARY_SQL,
+                (rs, rowNum) -> new PeriodBalance(
+                        rs.getDate("period_start").toLocalDate(),
+                        rs.getInt("calories_in"),
+                        rs.getInt("calories_out")),
+                resolution.getTruncUnit(), userId, Date.valueOf(from), Date.valueOf(to));
+    }
+}
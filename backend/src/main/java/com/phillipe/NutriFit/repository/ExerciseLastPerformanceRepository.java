@@ -0,0 +1,59 @@
+package com.phillipe.NutriFit.repository;
+
+import com.phillipe.NutriFit.model.entity.ExerciseLastPerformance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface ExerciseLastPerformanceRepository
+        extends JpaRepository<ExerciseLastPerformance, ExerciseLastPerformance.Key> {
+
+    List<ExerciseLastPerformance> findByUserIdAndExerciseIdIn(Long userId, Collection<Integer> exerciseIds);
+
+    // Never replaces a newer row, so out-of-order writes cannot regress the index
+    @Modifying
+    @Query(value = """
+            INSERT INTO exercise_last_performance (user_id, exercise_id, workout_log_id, performed_at,
+                                                   duration_minutes, sets, reps, weight, set_details)
+            VALUES (:userId, :exerciseId, :workoutLogId, :performedAt,
+                    :durationMinutes, :sets, :reps, :weight, CAST(:setDetails AS TEXT))
+            ON CONFLICT (user_id, exercise_id) DO UPDATE
+            SET workout_log_id = EXCLUDED.workout_log_id,
+                performed_at = EXCLUDED.performed_at,
+                duration_minutes = EXCLUDED.duration_minutes,
+                sets = EXCLUDED.sets,
+                reps = EXCLUDED.reps,
+                weight = EXCLUDED.weight,
+                set_details = EXCLUDED.set_details
+            WHERE EXCLUDED.performed_at >= exercise_last_performance.performed_at
+            """, nativeQuery = true)
+    void upsert(@Param("userId") Long userId,
+                @Param("exerciseId") Integer exerciseId,
+                @Param("workoutLogId") Long workoutLogId,
+                @Param("performedAt") Instant performedAt,
+                @Param("durationMinutes") Integer durationMinutes,
+                @Param("sets") Integer sets,
+                @Param("reps") Integer reps,
+                @Param("weight") Integer weight,
+                @Param("setDetails") String setDetails);
+
+    // Refills rows dropped by ON DELETE CASCADE from the next most recent log entry
+    @Modifying
+    @Query(value = """
+            INSERT INTO exercise_last_performance (user_id, exercise_id, workout_log_id, performed_at,
+                                                   duration_minutes, sets, reps, weight, set_details)
+            SELECT DISTINCT ON (exercise_id)
+                   user_id, exercise_id, workout_log_id, created_at,
+                   duration_minutes, sets, reps, weight, set_details
+            FROM workout_log_exercises
+            WHERE user_id = :userId AND exercise_id IN (:exerciseIds)
+            ORDER BY exercise_id, created_at DESC, workout_log_id DESC
+            ON CONFLICT (user_id, exercise_id) DO NOTHING
+            """, nativeQuery = true)
+    void rebuild(@Param("userId") Long userId, @Param("exerciseIds") Collection<Integer> exerciseIds);
+}
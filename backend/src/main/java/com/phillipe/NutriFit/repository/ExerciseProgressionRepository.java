@@ -0,0 +1,31 @@
+package com.phillipe.NutriFit.repository;
+
+import com.phillipe.NutriFit.model.entity.ExerciseProgression;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ExerciseProgressionRepository
+        extends JpaRepository<ExerciseProgression, ExerciseProgression.Key> {
+
+    List<ExerciseProgression> findByUserIdAndExerciseIdIn(Long userId, Collection<Integer> exerciseIds);
+
+    // Locked so two sessions of the same user logged at once advance the state in turn
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM ExerciseProgression p WHERE p.userId = :userId AND p.exerciseId IN :exerciseIds")
+    List<ExerciseProgression> findByUserIdAndExerciseIdInForUpdate(@Param("userId") Long userId,
+                                                                   @Param("exerciseIds") Collection<Integer> exerciseIds);
+
+    // Safe when two sessions start the same state at once; the loser waits, then finds the row
+    @Modifying
+    @Query(value = "INSERT INTO exercise_progression (user_id, exercise_id, min_reps, updated_at) "
+            + "VALUES (:userId, :exerciseId, :minReps, now()) ON CONFLICT DO NOTHING", nativeQuery = true)
+    void insertIfAbsent(@Param("userId") Long userId, @Param("exerciseId") Integer exerciseId,
+                        @Param("minReps") Integer minReps);
+}
@@ -0,0 +1,19 @@
+package com.phillipe.NutriFit.repository;
+
+import com.phillipe.NutriFit.model.entity.Exercise;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface ExerciseRepository extends JpaRepository<Exercise, Integer> {
+    Optional<Exercise> findByNameAndCategory(String name, String category);
+
+    // Safe under concurrent first use of the same custom name (unique on name + category)
+    @Modifying
+    @Query(value = "INSERT INTO exercise (name, category) VALUES (:name, CAST(:category AS VARCHAR)) ON CONFLICT DO NOTHING",
+            nativeQuery = true)
+    void insertIfAbsent(@Param("name") String name, @Param("category") String category);
+}
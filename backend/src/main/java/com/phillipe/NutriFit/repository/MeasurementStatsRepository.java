@@ -0,0 +1,21 @@
+package com.phillipe.NutriFit.repository;
+
+import com.phillipe.NutriFit.model.MeasurementField;
+import com.phillipe.NutriFit.model.entity.MeasurementStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface MeasurementStatsRepository extends JpaRepository<MeasurementStats, MeasurementStats.Key> {
+
+    // Locked so concurrent writes for the same user can't lose an update to the sums
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM MeasurementStats s WHERE s.userId = :userId")
+    List<MeasurementStats> findByUserIdForUpdate(Long userId);
+
+    Optional<MeasurementStats> findByUserIdAndField(Long userId, MeasurementField field);
+}
@@ -2,9 +2,13 @@ package com.phillipe.NutriFit.repository;
 
 import com.phillipe.NutriFit.model.entity.UserChangeHistory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
 import java.util.List;
 
-public interface UserChangeHistoryRepository extends JpaRepository<UserChangeHistory, Long> {
-    List<UserChangeHistory> findByUserIdOrderByChangedAtDesc(Long userId);
+public interface UserChangeHistoryRepository
+        extends JpaRepository<UserChangeHistory, Long>, JpaSpecificationExecutor<UserChangeHistory>,
+                UserChangeHistoryRepositoryCustom {
+    // Rows written by one operation share changed_at; id keeps them in insertion order
+    List<UserChangeHistory> findByUserIdOrderByChangedAtDescIdDesc(Long userId);
 }
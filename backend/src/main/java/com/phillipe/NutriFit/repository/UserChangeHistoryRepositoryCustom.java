@@ -0,0 +1,39 @@
+package com.phillipe.NutriFit.repository;
+
+import com.phillipe.NutriFit.model.entity.UserChangeHistory;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public interface UserChangeHistoryRepositoryCustom {
+
+    /**
+     * Inserts all rows with one multi-row INSERT. IDENTITY ids rule out Hibernate's
+     * JDBC batching, which would otherwise issue one statement per row.
+     */
+    void insertAll(List<UserChangeHistory> entries);
+
+    /**
+     * Creates the monthly partition for {@code month} if it does not exist yet.
+     */
+    void ensurePartition(YearMonth month);
+
+    /**
+     * Collapses repeated changes of the same field within {@code month} into one row holding
+     * the first old value and the last new value, and records the month as compacted.
+     * Returns the number of rows removed.
+     */
+    int compactMonth(YearMonth month);
+
+    /**
+     * Months up to and including {@code month} that have a partition and haven't been compacted
+     * yet, oldest first.
+     */
+    List<YearMonth> findUncompactedMonthsThrough(YearMonth month);
+
+    /**
+     * Drops every monthly partition that ends on or before the start of {@code month}.
+     * Returns the names of the dropped partitions.
+     */
+    List<String> dropPartitionsBefore(YearMonth month);
+}
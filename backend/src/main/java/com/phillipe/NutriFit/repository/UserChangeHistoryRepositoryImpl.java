@@ -0,0 +1,138 @@
+package com.phillipe.NutriFit.repository;
+
+import com.phillipe.NutriFit.model.entity.UserChangeHistory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class UserChangeHistoryRepositoryImpl implements UserChangeHistoryRepositoryCustom {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO user_change_history (user_id, entity_type, entity_id, field_name, old_value, new_value, changed_at) VALUES ";
+    private static final String ROW_PLACEHOLDERS = "(?, ?, ?, ?, ?, ?, ?)";
+
+    private static final Pattern MONTHLY_PARTITION = Pattern.compile("user_change_history_(\\d{4})_(\\d{2})");
+
+    private static final String COMPACT_MONTH = """
+            WITH ranked AS (
+                SELECT id, changed_at,
+                       row_number() OVER latest AS rn,
+                       count(*) OVER fields AS changes,
+                       first_value(old_value) OVER earliest AS first_old_value
+                FROM user_change_history
+                WHERE changed_at >= ? AND changed_at < ?
+                WINDOW fields AS (PARTITION BY user_id, entity_type, entity_id, field_name),
+                       latest AS (PARTITION BY user_id, entity_type, entity_id, field_name ORDER BY changed_at DESC, id DESC),
+                       earliest AS (PARTITION BY user_id, entity_type, entity_id, field_name ORDER BY changed_at, id)
+            ), kept AS (
+                UPDATE user_change_history h
+                SET old_value = r.first_old_value
+                FROM ranked r
+                WHERE h.id = r.id AND h.changed_at = r.changed_at AND r.rn = 1 AND r.changes > 1
+            )
+            DELETE FROM user_change_history h
+            USING ranked r
+            WHERE h.id = r.id AND h.changed_at = r.changed_at AND r.rn > 1
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserChangeHistoryRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertAll(List<UserChangeHistory> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(entries.size(), ROW_PLACEHOLDERS));
+        List<Object> args = new ArrayList<>(entries.size() * 7);
+        for (UserChangeHistory entry : entries) {
+            args.add(entry.getUser().getId());
+            args.add(entry.getEntityType());
+            args.add(entry.getEntityId());
+            args.add(entry.getFieldName());
+            args.add(entry.getOldValue());
+            args.add(entry.getNewValue());
+            args.add(Timestamp.from(entry.getChangedAt()));
+        }
+        jdbcTemplate.update(sql, args.toArray());
+    }
+
+    @Override
+    public void ensurePartition(YearMonth month) {
+        jdbcTemplate.query("SELECT ensure_user_change_history_partition(?)",
+                rs -> null, Date.valueOf(month.atDay(1)));
+    }
+
+    @Override
+    public int compactMonth(YearMonth month) {
+        int removed = jdbcTemplate.update(COMPACT_MONTH, startOf(month), startOf(month.plusMonths(1)));
+        jdbcTemplate.update("INSERT INTO user_change_history_compacted_month (month) VALUES (?) ON CONFLICT DO NOTHING",
+                Date.valueOf(month.atDay(1)));
+        return removed;
+    }
+
+    @Override
+    public List<YearMonth> findUncompactedMonthsThrough(YearMonth month) {
+        List<YearMonth> compacted = jdbcTemplate.queryForList(
+                "SELECT month FROM user_change_history_compacted_month WHERE month <= ?",
+                Date.class, Date.valueOf(month.atDay(1))).stream()
+                .map(date -> YearMonth.from(date.toLocalDate()))
+                .toList();
+        return monthlyPartitions().keySet().stream()
+                .filter(partitionMonth -> !partitionMonth.isAfter(month) && !compacted.contains(partitionMonth))
+                .toList();
+    }
+
+    @Override
+    public List<String> dropPartitionsBefore(YearMonth month) {
+        List<String> dropped = new ArrayList<>();
+        monthlyPartitions().forEach((partitionMonth, partition) -> {
+            if (partitionMonth.isBefore(month)) {
+                // Name comes from the catalog and matched the pattern, so it is safe to inline
+                jdbcTemplate.execute("DROP TABLE " + partition);
+                dropped.add(partition);
+            }
+        });
+        jdbcTemplate.update("DELETE FROM user_change_history_compacted_month WHERE month < ?",
+                Date.valueOf(month.atDay(1)));
+        return dropped;
+    }
+
+    // Monthly partitions by the month they hold, oldest first; the default partition is left out
+    private Map<YearMonth, String> monthlyPartitions() {
+        List<String> partitions = jdbcTemplate.queryForList("""
+                SELECT c.relname
+                FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                JOIN pg_class p ON p.oid = i.inhparent
+                WHERE p.relname = 'user_change_history'
+                """, String.class);
+
+        Map<YearMonth, String> monthly = new TreeMap<>();
+        for (String partition : partitions) {
+            Matcher m = MONTHLY_PARTITION.matcher(partition);
+            if (m.matches()) {
+                monthly.put(YearMonth.of(Integer.parseInt(m.group(1)), Integer.parseInt(m.group(2))), partition);
+            }
+        }
+        return monthly;
+    }
+
+    private static Timestamp startOf(YearMonth month) {
+        return Timestamp.from(month.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant());
+    }
+}
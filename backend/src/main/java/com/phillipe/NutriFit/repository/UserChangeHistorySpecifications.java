@@ -0,0 +1,51 @@
+package com.phillipe.NutriFit.repository;
+
+import com.phillipe.NutriFit.config.db.RowValueFunctions;
+import com.phillipe.NutriFit.model.entity.UserChangeHistory;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+
+/**
+ * Filters for paging through a user's change history. Combined with an order of
+ * (changedAt DESC, id DESC), {@link #before} gives keyset pagination that matches
+ * the (user_id, changed_at, id) index.
+ */
+public final class UserChangeHistorySpecifications {
+
+    private UserChangeHistorySpecifications() {
+    }
+
+    public static Specification<UserChangeHistory> forUser(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("user").get("id"), userId);
+    }
+
+    public static Specification<UserChangeHistory> hasEntityType(String entityType) {
+        return (root, query, cb) -> cb.equal(root.get("entityType"), entityType);
+    }
+
+    public static Specification<UserChangeHistory> hasFieldName(String fieldName) {
+        return (root, query, cb) -> cb.equal(root.get("fieldName"), fieldName);
+    }
+
+    public static Specification<UserChangeHistory> changedAtOrAfter(Instant from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("changedAt"), from);
+    }
+
+    public static Specification<UserChangeHistory> changedBefore(Instant to) {
+        return (root, query, cb) -> cb.lessThan(root.get("changedAt"), to);
+    }
+
+    /**
+     * Rows strictly before the position, compared as the row value (changedAt, id). The position
+     * is bound as parameters; literals would be rendered into the SQL of each page.
+     */
+    public static Specification<UserChangeHistory> before(Instant changedAt, Long id) {
+        return (root, query, cb) -> {
+            HibernateCriteriaBuilder hcb = (HibernateCriteriaBuilder) cb;
+            return cb.isTrue(cb.function(RowValueFunctions.ROW_BEFORE, Boolean.class,
+                    root.get("changedAt"), root.get("id"), hcb.value(changedAt), hcb.value(id)));
+        };
+    }
+}
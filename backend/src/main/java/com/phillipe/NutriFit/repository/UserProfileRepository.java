@@ -7,4 +7,5 @@ import java.util.Optional;
 
 public interface UserProfileRepository extends JpaRepository<UserProfile, Long> {
     Optional<UserProfile> findByUserId(Long userId);
+    Optional<UserProfile> findByUserUsername(String username);
 }
@@ -0,0 +1,25 @@
+package com.phillipe.NutriFit.repository;
+
+import com.phillipe.NutriFit.model.entity.WorkoutEnergyEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public interface WorkoutEnergyEventRepository extends JpaRepository<WorkoutEnergyEvent, Long> {
+
+    // SKIP LOCKED lets several projector instances drain the events without blocking each other
+    @Query(value = """
+            SELECT * FROM workout_energy_event
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<WorkoutEnergyEvent> claimBatch(@Param("limit") int limit);
+
+    @Query("SELECT MIN(e.createdAt) FROM WorkoutEnergyEvent e")
+    Optional<Instant> findOldestCreatedAt();
+}
@@ -1,6 +1,8 @@
 package com.phillipe.NutriFit.repository;
 
 import com.phillipe.NutriFit.model.entity.WorkoutLog;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -11,9 +13,38 @@ import java.util.List;
 import java.util.Optional;
 
 public interface WorkoutLogRepository extends JpaRepository<WorkoutLog, Long> {
-    List<WorkoutLog> findByUserIdOrderByCreatedAtDesc(Long userId);
+
+    // An entity graph can't reach the exercise through the embedded entries; a fetch join can
+    @Query("""
+            SELECT wl FROM WorkoutLog wl
+            LEFT JOIN FETCH wl.workoutPlanDay
+            LEFT JOIN FETCH wl.exercises e
+            LEFT JOIN FETCH e.exercise
+            WHERE wl.user.id = :userId
+            ORDER BY wl.createdAt DESC
+            """)
+    List<WorkoutLog> findByUserIdOrderByCreatedAtDesc(@Param("userId") Long userId);
+
+    // Fetching the exercises too would make Hibernate apply the limit in memory, over every workout
+    @EntityGraph(attributePaths = {"workoutPlanDay"})
+    List<WorkoutLog> findByUserIdOrderByCreatedAtDesc(Long userId, Limit limit);
+
     Optional<WorkoutLog> findByIdAndUserId(Long id, Long userId);
 
+    // Plan sessions that logged any of the exercises, oldest first, to replay progression from
+    @Query("""
+            SELECT wl FROM WorkoutLog wl
+            JOIN FETCH wl.workoutPlanDay
+            LEFT JOIN FETCH wl.exercises e
+            LEFT JOIN FETCH e.exercise
+            WHERE wl.user.id = :userId
+              AND wl.id IN (SELECT w.id FROM WorkoutLog w JOIN w.exercises we
+                            WHERE we.userId = :userId AND we.exercise.id IN :exerciseIds)
+            ORDER BY wl.createdAt, wl.id
+            """)
+    List<WorkoutLog> findPlanSessionsWithExercises(@Param("userId") Long userId,
+                                                   @Param("exerciseIds") Collection<Integer> exerciseIds);
+
     @Modifying
     @Query("UPDATE WorkoutLog wl SET wl.workoutPlanDay = null WHERE wl.workoutPlanDay.id IN :dayIds")
     void clearWorkoutPlanDayReferences(@Param("dayIds") Collection<Long> dayIds);
@@ -0,0 +1,230 @@
+package com.phillipe.NutriFit.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.phillipe.NutriFit.model.OutboxStatus;
+import com.phillipe.NutriFit.model.entity.ChangeHistoryOutbox;
+import com.phillipe.NutriFit.model.entity.User;
+import com.phillipe.NutriFit.model.entity.UserChangeHistory;
+import com.phillipe.NutriFit.repository.ChangeHistoryOutboxRepository;
+import com.phillipe.NutriFit.repository.UserChangeHistoryRepository;
+import com.phillipe.NutriFit.service.ChangeHistoryService.FieldChange;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Moves audit events from change_history_outbox into user_change_history in the background.
+ * <p>
+ * Each run drains at most {@code maxBatchesPerRun} batches of {@code batchSize} events, so a
+ * burst of writes is absorbed over several runs instead of monopolising connections. A batch
+ * that fails is replayed one event at a time; events that keep failing are retried with
+ * exponential backoff and parked as FAILED after {@code maxAttempts}.
+ * <p>
+ * The backlog gauges count the outbox when they are read, at most once per
+ * {@code gaugeRefreshMillis}, rather than on every poll.
+ */
+@Component
+public class ChangeHistoryOutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeHistoryOutboxRelay.class);
+
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final ChangeHistoryOutboxRepository outboxRepo;
+    private final UserChangeHistoryRepository historyRepo;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate tx;
+
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final int maxAttempts;
+
+    private final long gaugeRefreshNanos;
+    private volatile Backlog backlog;
+    private final Counter relayed;
+    private final Counter retried;
+    private final Counter deadLettered;
+    private final Timer batchTimer;
+
+    public ChangeHistoryOutboxRelay(ChangeHistoryOutboxRepository outboxRepo,
+                                    UserChangeHistoryRepository historyRepo,
+                                    ObjectMapper objectMapper,
+                                    PlatformTransactionManager transactionManager,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${app.change-history.outbox.batch-size:500}") int batchSize,
+                                    @Value("${app.change-history.outbox.max-batches-per-run:20}") int maxBatchesPerRun,
+                                    @Value("${app.change-history.outbox.max-attempts:10}") int maxAttempts,
+                                    @Value("${app.change-history.outbox.gauge-refresh-ms:15000}") long gaugeRefreshMillis) {
+        this.outboxRepo = outboxRepo;
+        this.historyRepo = historyRepo;
+        this.objectMapper = objectMapper;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.maxAttempts = maxAttempts;
+        this.gaugeRefreshNanos = Duration.ofMillis(gaugeRefreshMillis).toNanos();
+
+        Gauge.builder("nutrifit.change_history.outbox.pending", this, relay -> relay.backlog().pending())
+                .description("Audit events waiting to be relayed")
+                .register(meterRegistry);
+        Gauge.builder("nutrifit.change_history.outbox.failed", this, relay -> relay.backlog().failed())
+                .description("Audit events parked after exhausting retries")
+                .register(meterRegistry);
+        Gauge.builder("nutrifit.change_history.outbox.lag", this, relay -> relay.backlog().lagSeconds())
+                .description("Age of the oldest pending audit event")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.relayed = Counter.builder("nutrifit.change_history.outbox.relayed")
+                .description("Audit events copied into user_change_history")
+                .register(meterRegistry);
+        this.retried = Counter.builder("nutrifit.change_history.outbox.retried")
+                .description("Audit events scheduled for another attempt after a failure")
+                .register(meterRegistry);
+        this.deadLettered = Counter.builder("nutrifit.change_history.outbox.dead_lettered")
+                .description("Audit events marked FAILED")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("nutrifit.change_history.outbox.batch")
+                .description("Time to relay one batch")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.change-history.outbox.poll-interval-ms:500}")
+    public void relay() {
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            Integer claimed = batchTimer.record(this::relayBatch);
+            // A short batch means the outbox is drained for now
+            if (claimed == null || claimed < batchSize) {
+                break;
+            }
+        }
+    }
+
+    int relayBatch() {
+        List<Long> claimedIds = new ArrayList<>();
+        try {
+            return tx.execute(status -> {
+                List<ChangeHistoryOutbox> batch = outboxRepo.claimBatch(batchSize);
+                if (batch.isEmpty()) {
+                    return 0;
+                }
+                batch.forEach(event -> claimedIds.add(event.getId()));
+
+                List<UserChangeHistory> rows = new ArrayList<>();
+                for (ChangeHistoryOutbox event : batch) {
+                    rows.addAll(toHistory(event));
+                }
+                historyRepo.insertAll(rows);
+                outboxRepo.deleteAllByIdInBatch(claimedIds);
+                relayed.increment(batch.size());
+                return batch.size();
+            });
+        } catch (RuntimeException e) {
+            log.warn("Relaying {} audit events failed, retrying individually", claimedIds.size(), e);
+            claimedIds.forEach(this::relaySingle);
+            return claimedIds.size();
+        }
+    }
+
+    private void relaySingle(Long id) {
+        try {
+            tx.executeWithoutResult(status -> outboxRepo.claim(id).ifPresent(event -> {
+                historyRepo.insertAll(toHistory(event));
+                outboxRepo.deleteAllByIdInBatch(List.of(id));
+                relayed.increment();
+            }));
+        } catch (RuntimeException e) {
+            tx.executeWithoutResult(status -> outboxRepo.claim(id).ifPresent(event -> markFailed(event, e)));
+        }
+    }
+
+    private void markFailed(ChangeHistoryOutbox event, RuntimeException e) {
+        int attempts = event.getAttempts() + 1;
+        event.setAttempts(attempts);
+        String message = String.valueOf(e.getMessage());
+        event.setLastError(message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message);
+
+        if (attempts >= maxAttempts) {
+            event.setStatus(OutboxStatus.FAILED);
+            deadLettered.increment();
+            log.error("Audit event {} failed {} times and was parked: {}", event.getId(), attempts, message);
+        } else {
+            event.setNextAttemptAt(Instant.now().plus(backoff(attempts)));
+            retried.increment();
+        }
+        outboxRepo.save(event);
+    }
+
+    static Duration backoff(int attempts) {
+        long factor = 1L << Math.min(attempts - 1, 20);
+        Duration delay = BASE_BACKOFF.multipliedBy(factor);
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+
+    private List<UserChangeHistory> toHistory(ChangeHistoryOutbox event) {
+        List<FieldChange> changes;
+        try {
+            changes = objectMapper.readValue(event.getChanges(), new TypeReference<List<FieldChange>>() {});
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable changes in audit event " + event.getId(), e);
+        }
+
+        User user = new User();
+        user.setId(event.getUserId());
+        return changes.stream()
+                .map(change -> UserChangeHistory.builder()
+                        .user(user)
+                        .entityType(event.getEntityType())
+                        .entityId(event.getEntityId())
+                        .fieldName(change.field())
+                        .oldValue((String) change.oldValue())
+                        .newValue((String) change.newValue())
+                        .changedAt(event.getCreatedAt())
+                        .build())
+                .toList();
+    }
+
+    // Between refreshes the lag keeps growing from the oldest pending event last seen
+    private Backlog backlog() {
+        Backlog current = backlog;
+        if (current == null || System.nanoTime() - current.readAt() >= gaugeRefreshNanos) {
+            synchronized (this) {
+                current = backlog;
+                if (current == null || System.nanoTime() - current.readAt() >= gaugeRefreshNanos) {
+                    current = new Backlog(
+                            outboxRepo.countByStatus(OutboxStatus.PENDING),
+                            outboxRepo.countByStatus(OutboxStatus.FAILED),
+                            outboxRepo.findOldestCreatedAt(OutboxStatus.PENDING).orElse(null),
+                            System.nanoTime());
+                    backlog = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private record Backlog(long pending, long failed, Instant oldestPending, long readAt) {
+
+        double lagSeconds() {
+            return oldestPending == null
+                    ? 0
+                    : Math.max(0, Duration.between(oldestPending, Instant.now()).toMillis()) / 1000.0;
+        }
+    }
+}
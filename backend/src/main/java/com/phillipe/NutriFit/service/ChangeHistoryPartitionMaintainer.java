@@ -0,0 +1,105 @@
+package com.phillipe.NutriFit.service;
+
+import com.phillipe.NutriFit.repository.UserChangeHistoryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Keeps the monthly partitions of user_change_history ahead of the clock and, when configured,
+ * applies retention to old months.
+ * <p>
+ * Partitions for the current month and {@code monthsAhead} following months are created at
+ * startup and daily afterwards, so inserts never fall through to the default partition.
+ * Partitions older than {@code dropAfterMonths} are dropped; every remaining month at least
+ * {@code compactAfterMonths} old that hasn't been compacted yet has repeated edits of the same
+ * field collapsed into one row, one month per transaction. Both are off at 0.
+ */
+@Component
+public class ChangeHistoryPartitionMaintainer {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeHistoryPartitionMaintainer.class);
+
+    private final UserChangeHistoryRepository historyRepo;
+    private final TransactionTemplate tx;
+    private final Clock clock;
+
+    private final int monthsAhead;
+    private final int compactAfterMonths;
+    private final int dropAfterMonths;
+
+    @Autowired
+    public ChangeHistoryPartitionMaintainer(UserChangeHistoryRepository historyRepo,
+                                            PlatformTransactionManager transactionManager,
+                                            @Value("${app.change-history.partitions.months-ahead:2}") int monthsAhead,
+                                            @Value("${app.change-history.retention.compact-after-months:0}") int compactAfterMonths,
+                                            @Value("${app.change-history.retention.drop-after-months:0}") int dropAfterMonths) {
+        this(historyRepo, transactionManager, Clock.systemUTC(), monthsAhead, compactAfterMonths, dropAfterMonths);
+    }
+
+    ChangeHistoryPartitionMaintainer(UserChangeHistoryRepository historyRepo,
+                                     PlatformTransactionManager transactionManager,
+                                     Clock clock,
+                                     int monthsAhead,
+                                     int compactAfterMonths,
+                                     int dropAfterMonths) {
+        this.historyRepo = historyRepo;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.monthsAhead = monthsAhead;
+        this.compactAfterMonths = compactAfterMonths;
+        this.dropAfterMonths = dropAfterMonths;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${app.change-history.partitions.cron:0 15 3 * * *}", zone = "UTC")
+    public void maintain() {
+        // Partitions are cut on UTC month boundaries, see V12__partition_user_change_history.sql
+        YearMonth current = YearMonth.now(clock.withZone(ZoneOffset.UTC));
+        try {
+            for (int i = 0; i <= monthsAhead; i++) {
+                YearMonth month = current.plusMonths(i);
+                tx.executeWithoutResult(status -> historyRepo.ensurePartition(month));
+            }
+
+            // Dropping first spares compacting months that are about to go
+            if (dropAfterMonths > 0) {
+                YearMonth cutoff = current.minusMonths(dropAfterMonths);
+                List<String> dropped = tx.execute(status -> historyRepo.dropPartitionsBefore(cutoff));
+                if (dropped != null && !dropped.isEmpty()) {
+                    log.info("Dropped change history partitions {}", dropped);
+                }
+            }
+
+            if (compactAfterMonths > 0) {
+                YearMonth cutoff = current.minusMonths(compactAfterMonths);
+                for (YearMonth month : historyRepo.findUncompactedMonthsThrough(cutoff)) {
+                    Integer removed = tx.execute(status -> historyRepo.compactMonth(month));
+                    if (removed != null && removed > 0) {
+                        log.info("Compacted {} change history rows for {}", removed, month);
+                    }
+                }
+            }
+        } catch (DataAccessException e) {
+            // Schemas created by Hibernate ddl-auto rather than Flyway have no partitioning function
+            log.warn("Change history partition maintenance failed: {}", e.getMessage());
+        }
+    }
+}
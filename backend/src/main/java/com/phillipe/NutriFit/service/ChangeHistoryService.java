@@ -1,11 +1,29 @@
 package com.phillipe.NutriFit.service;
 
+import com.phillipe.NutriFit.dto.response.UserChangeHistoryPageResponse;
 import com.phillipe.NutriFit.dto.response.UserChangeHistoryResponse;
 import com.phillipe.NutriFit.model.entity.User;
 
+import java.time.Instant;
 import java.util.List;
 
 public interface ChangeHistoryService {
     void recordChange(User user, String entityType, Long entityId, String field, Object oldVal, Object newVal);
+
+    /**
+     * Records every changed field of one operation with a single insert.
+     * Fields whose old and new values are equal are skipped.
+     */
+    void recordChanges(User user, String entityType, Long entityId, List<FieldChange> changes);
+
     List<UserChangeHistoryResponse> getHistory(String username);
+
+    /**
+     * Returns one page of history, newest first. {@code cursor} is the {@code nextCursor}
+     * of the previous page; all filters are optional.
+     */
+    UserChangeHistoryPageResponse getHistoryPage(String username, String entityType, String fieldName,
+                                                 Instant from, Instant to, String cursor, Integer limit);
+
+    record FieldChange(String field, Object oldValue, Object newValue) {}
 }
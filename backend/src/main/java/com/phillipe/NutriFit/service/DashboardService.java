@@ -0,0 +1,14 @@
+package com.phillipe.NutriFit.service;
+
+import com.phillipe.NutriFit.dto.response.DashboardResponse;
+
+public interface DashboardService {
+
+    /**
+     * Loads every home page section concurrently. Sections that fail or exceed their
+     * timeout are left empty and reported instead of failing the whole response.
+     *
+     * @param authorization the caller's Authorization header, forwarded to nutrition-service
+     */
+    DashboardResponse getDashboard(String username, String authorization);
+}
@@ -0,0 +1,189 @@
+package com.phillipe.NutriFit.service;
+
+import com.phillipe.NutriFit.dto.response.MealEventResponse;
+import com.phillipe.NutriFit.model.entity.WorkoutEnergyEvent;
+import com.phillipe.NutriFit.repository.EnergyBalanceRepository;
+import com.phillipe.NutriFit.repository.EnergyBalanceRepositoryCustom.Delta;
+import com.phillipe.NutriFit.repository.EnergyBalanceRepositoryCustom.FeedPosition;
+import com.phillipe.NutriFit.repository.WorkoutEnergyEventRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps energy_balance_daily in step with meals and workouts in the background.
+ * <p>
+ * Workouts are read from the local workout_energy_event outbox, which is drained as it is
+ * applied. Meals are read from nutrition-service's change feed with a service token; the
+ * position of the last event applied is stored in energy_feed_cursor. A page is fetched outside
+ * any transaction, so no connection or lock is held while nutrition-service answers. The cursor
+ * is then moved from the position the page was read after, in the same short transaction as
+ * the totals, so a crash never applies an event twice or skips one; of instances that fetched
+ * the same page, only the first to move the cursor applies it.
+ * <p>
+ * {@code nutrifit.energy_balance.lag} times each event from its write to its projection;
+ * {@code nutrifit.energy_balance.behind} is how long ago a source was last fully projected,
+ * which keeps rising while a source is stuck and no events get through.
+ */
+@Component
+public class EnergyBalanceProjector {
+
+    private static final Logger log = LoggerFactory.getLogger(EnergyBalanceProjector.class);
+
+    static final String MEALS = "meals";
+    static final String WORKOUTS = "workouts";
+
+    private final WorkoutEnergyEventRepository workoutEventRepo;
+    private final EnergyBalanceRepository balanceRepo;
+    private final NutritionClient nutritionClient;
+    private final JwtService jwtService;
+    private final TransactionTemplate tx;
+
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    private final AtomicReference<Instant> mealsCaughtUpAt = new AtomicReference<>(Instant.now());
+    private final AtomicReference<Instant> workoutsCaughtUpAt = new AtomicReference<>(Instant.now());
+    private final Timer mealLag;
+    private final Timer workoutLag;
+
+    public EnergyBalanceProjector(WorkoutEnergyEventRepository workoutEventRepo,
+                                  EnergyBalanceRepository balanceRepo,
+                                  NutritionClient nutritionClient,
+                                  JwtService jwtService,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.energy-balance.batch-size:500}") int batchSize,
+                                  @Value("${app.energy-balance.max-batches-per-run:20}") int maxBatchesPerRun) {
+        this.workoutEventRepo = workoutEventRepo;
+        this.balanceRepo = balanceRepo;
+        this.nutritionClient = nutritionClient;
+        this.jwtService = jwtService;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+
+        this.mealLag = lagTimer(meterRegistry, MEALS);
+        this.workoutLag = lagTimer(meterRegistry, WORKOUTS);
+        behindGauge(meterRegistry, MEALS, mealsCaughtUpAt);
+        behindGauge(meterRegistry, WORKOUTS, workoutsCaughtUpAt);
+    }
+
+    private static Timer lagTimer(MeterRegistry meterRegistry, String source) {
+        return Timer.builder("nutrifit.energy_balance.lag")
+                .description("Time from a meal or workout change to its projection into the energy balance")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    private static void behindGauge(MeterRegistry meterRegistry, String source, AtomicReference<Instant> caughtUpAt) {
+        Gauge.builder("nutrifit.energy_balance.behind", caughtUpAt,
+                        v -> Duration.between(v.get(), Instant.now()).toMillis() / 1000.0)
+                .description("Time since the source was last fully projected")
+                .tag("source", source)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.energy-balance.poll-interval-ms:1000}")
+    public void project() {
+        projectWorkouts();
+        projectMeals();
+    }
+
+    void projectWorkouts() {
+        Instant started = Instant.now();
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            Integer applied = tx.execute(status -> {
+                List<WorkoutEnergyEvent> batch = workoutEventRepo.claimBatch(batchSize);
+                if (batch.isEmpty()) {
+                    return 0;
+                }
+                balanceRepo.addAll(merge(batch.stream()
+                        .map(e -> new Delta(e.getUserId(), e.getLocalDate(), 0, e.getCalories()))
+                        .toList()));
+                workoutEventRepo.deleteAllByIdInBatch(batch.stream().map(WorkoutEnergyEvent::getId).toList());
+                batch.forEach(e -> workoutLag.record(Duration.between(e.getCreatedAt(), Instant.now())));
+                return batch.size();
+            });
+            // A short batch means the outbox is drained for now
+            if (applied == null || applied < batchSize) {
+                workoutsCaughtUpAt.set(started);
+                return;
+            }
+        }
+    }
+
+    void projectMeals() {
+        Instant started = Instant.now();
+        String authorization = "Bearer " + jwtService.generateServiceToken(NutritionClient.MEAL_EVENTS_SCOPE);
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            Integer applied;
+            try {
+                applied = projectMealPage(authorization);
+            } catch (RuntimeException e) {
+                log.warn("Projecting meal events failed, retrying on the next run: {}", e.getMessage());
+                return;
+            }
+            // Null when another instance applied the page first; it reports the feed's progress
+            if (applied == null || applied < batchSize) {
+                mealsCaughtUpAt.set(started);
+                return;
+            }
+        }
+    }
+
+    private Integer projectMealPage(String authorization) {
+        FeedPosition seen = balanceRepo.findCursor(MEALS);
+        List<MealEventResponse> events =
+                nutritionClient.getMealEvents(seen.xactId(), seen.eventId(), batchSize, authorization);
+        if (events.isEmpty()) {
+            return 0;
+        }
+        FeedPosition next = new FeedPosition(events.getLast().getXactId(), events.getLast().getId());
+        return tx.execute(status -> {
+            // Moving the cursor first locks its row until the totals are written
+            if (!balanceRepo.advanceCursor(MEALS, seen, next)) {
+                return null;
+            }
+            balanceRepo.addAll(merge(events.stream()
+                    .map(e -> new Delta(e.getUserId(), e.getLocalDate(), e.getCalories(), 0))
+                    .toList()));
+            events.forEach(e -> mealLag.record(Duration.between(e.getCreatedAt(), Instant.now())));
+            return events.size();
+        });
+    }
+
+    /**
+     * Sums deltas per user and day, ordered by user and day so concurrent projections lock
+     * rows in the same order.
+     */
+    static List<Delta> merge(List<Delta> deltas) {
+        Map<Delta, int[]> sums = new TreeMap<>(Comparator.comparing(Delta::userId).thenComparing(Delta::localDate));
+        for (Delta delta : deltas) {
+            int[] sum = sums.computeIfAbsent(new Delta(delta.userId(), delta.localDate(), 0, 0), k -> new int[2]);
+            sum[0] += delta.caloriesIn();
+            sum[1] += delta.caloriesOut();
+        }
+        List<Delta> merged = new ArrayList<>(sums.size());
+        sums.forEach((key, sum) -> merged.add(new Delta(key.userId(), key.localDate(), sum[0], sum[1])));
+        return merged;
+    }
+}
@@ -0,0 +1,19 @@
+package com.phillipe.NutriFit.service;
+
+import com.phillipe.NutriFit.dto.response.EnergyBalanceResponse;
+import com.phillipe.NutriFit.model.TrendResolution;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+public interface EnergyBalanceService {
+
+    /**
+     * Calories eaten against calories burned per day, week or month between {@code from} and
+     * {@code to} (both default to today in {@code zone}), oldest first. Periods with nothing
+     * logged are left out.
+     */
+    List<EnergyBalanceResponse> getBalance(String username, TrendResolution period,
+                                           LocalDate from, LocalDate to, ZoneId zone);
+}
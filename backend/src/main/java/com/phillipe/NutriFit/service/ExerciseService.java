@@ -0,0 +1,7 @@
+package com.phillipe.NutriFit.service;
+
+import com.phillipe.NutriFit.model.entity.Exercise;
+
+public interface ExerciseService {
+    Exercise resolve(String name, String category);
+}
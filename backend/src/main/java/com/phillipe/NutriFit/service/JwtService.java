@@ -18,6 +18,17 @@ import java.util.function.Function;
 @Service
 public class JwtService {
 
+    /**
+     * Claim holding the user's numeric id. Other services key user data by it rather than by
+     * the username in the subject.
+     */
+    public static final String USER_ID_CLAIM = "uid";
+
+    /** Claim naming what a service token may do. */
+    public static final String SCOPE_CLAIM = "scope";
+
+    private static final long SERVICE_TOKEN_TTL_MS = 1000L * 60 * 5;
+
     private final String secretKey;
 
     public JwtService(@Value("${jwt.secret}") String secretKey) {
@@ -31,8 +42,9 @@ public class JwtService {
         this.secretKey = secretKey;
     }
 
-    public String generateToken(String username) {
+    public String generateToken(String username, Long userId) {
         Map<String, Object> claims = new HashMap<>();
+        claims.put(USER_ID_CLAIM, userId);
 
         return Jwts.builder()
                 .claims(claims)
@@ -43,6 +55,19 @@ public class JwtService {
                 .compact();
     }
 
+    /**
+     * Short-lived token for calling another service as the backend itself. It has no subject,
+     * so it never authenticates as a user here.
+     */
+    public String generateServiceToken(String scope) {
+        return Jwts.builder()
+                .claim(SCOPE_CLAIM, scope)
+                .issuedAt(new Date(System.currentTimeMillis()))
+                .expiration(new Date(System.currentTimeMillis() + SERVICE_TOKEN_TTL_MS))
+                .signWith(getKey())
+                .compact();
+    }
+
     private SecretKey getKey() {
         byte[] keyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
         return Keys.hmacShaKeyFor(keyBytes);
@@ -51,6 +76,10 @@ public class JwtService {
     public String extractUserName(String token) {
         return extractClaim(token, Claims::getSubject);
     }
+
+    public Long extractUserId(String token) {
+        return extractClaim(token, claims -> claims.get(USER_ID_CLAIM, Long.class));
+    }
     private <T> T extractClaim(String token, Function<Claims, T> claimResolver) {
             final Claims claims = extractAllClaims(token);
             return claimResolver.apply(claims);
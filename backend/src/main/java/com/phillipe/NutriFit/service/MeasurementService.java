@@ -2,7 +2,10 @@ package com.phillipe.NutriFit.service;
 
 import com.phillipe.NutriFit.dto.request.MeasurementRequest;
 import com.phillipe.NutriFit.dto.response.MeasurementResponse;
+import com.phillipe.NutriFit.dto.response.MeasurementTrendResponse;
+import com.phillipe.NutriFit.model.TrendResolution;
 
+import java.time.Instant;
 import java.util.List;
 
 public interface MeasurementService {
@@ -10,4 +13,12 @@ public interface MeasurementService {
     List<MeasurementResponse> getMeasurements(String username);
     MeasurementResponse getLatestMeasurement(String username);
     void deleteMeasurement(Long id, String username);
+
+    /**
+     * Per-field series bucketed at {@code resolution} with a trailing moving average over
+     * {@code window} buckets. When {@code maxPoints} is set, each series is downsampled to at
+     * most that many points.
+     */
+    MeasurementTrendResponse getTrends(String username, List<String> fields, TrendResolution resolution,
+                                       Instant from, Instant to, Integer window, Integer maxPoints);
 }
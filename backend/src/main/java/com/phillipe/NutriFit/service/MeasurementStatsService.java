@@ -0,0 +1,23 @@
+package com.phillipe.NutriFit.service;
+
+import com.phillipe.NutriFit.dto.response.MeasurementForecastResponse;
+import com.phillipe.NutriFit.model.entity.BodyMeasurement;
+
+public interface MeasurementStatsService {
+
+    /**
+     * Adds every measured field of a newly saved measurement to the user's running statistics.
+     */
+    void record(BodyMeasurement measurement);
+
+    /**
+     * Removes a measurement that is about to be deleted from the user's running statistics.
+     */
+    void reverse(BodyMeasurement measurement);
+
+    /**
+     * Rate of change and, given a {@code target}, projected date for one field,
+     * answered from the running statistics alone.
+     */
+    MeasurementForecastResponse forecast(String username, String field, Double target);
+}
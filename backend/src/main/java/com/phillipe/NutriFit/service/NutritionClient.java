@@ -0,0 +1,100 @@
+package com.phillipe.NutriFit.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.phillipe.NutriFit.dto.response.MealEventResponse;
+import com.phillipe.NutriFit.dto.response.MealPageResponse;
+import com.phillipe.NutriFit.dto.response.MealResponse;
+import com.phillipe.NutriFit.exception.NutritionServiceException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+/**
+ * Calls nutrition-service on behalf of the current user by forwarding their bearer token, or
+ * as the backend itself with a service token for the meal change feed.
+ * <p>
+ * One {@link HttpClient} is shared by all requests, so connections to nutrition-service are
+ * kept alive and reused instead of being opened per call.
+ */
+@Component
+public class NutritionClient {
+
+    /** Scope of the service token nutrition-service requires for GET /events/meals. */
+    public static final String MEAL_EVENTS_SCOPE = "meal-events";
+
+    private final HttpClient httpClient;
+    private final URI baseUri;
+    private final Duration requestTimeout;
+    private final ObjectReader mealPageReader;
+    private final ObjectReader mealEventsReader;
+
+    public NutritionClient(ObjectMapper objectMapper,
+                           @Value("${app.nutrition.base-url:http://localhost:8081/api}") String baseUrl,
+                           @Value("${app.nutrition.connect-timeout-ms:1000}") long connectTimeoutMs,
+                           @Value("${app.nutrition.request-timeout-ms:3000}") long requestTimeoutMs) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        this.baseUri = URI.create(baseUrl.endsWith("/") ? baseUrl : baseUrl + "/");
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMs);
+        // Tolerate fields nutrition-service adds before this client knows about them
+        this.mealPageReader = objectMapper.readerFor(MealPageResponse.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.mealEventsReader = objectMapper.readerFor(new TypeReference<List<MealEventResponse>>() {})
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    /** The user's {@code limit} newest meals, newest first. */
+    public List<MealResponse> getRecentMeals(int limit, String authorization) {
+        MealPageResponse page = get("meals/mine/page?limit=" + limit, authorization, mealPageReader);
+        return page.getItems();
+    }
+
+    /** Up to {@code limit} committed meal change events after the position {@code (afterXact, after)}, oldest first. */
+    public List<MealEventResponse> getMealEvents(long afterXact, long after, int limit, String authorization) {
+        return get("events/meals?afterXact=" + afterXact + "&after=" + after + "&limit=" + limit,
+                authorization, mealEventsReader);
+    }
+
+    private <T> T get(String path, String authorization, ObjectReader reader) {
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(requestTimeout)
+                .header(HttpHeaders.AUTHORIZATION, authorization)
+                .header(HttpHeaders.ACCEPT, "application/json")
+                .GET()
+                .build();
+
+        try {
+            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream body = response.body()) {
+                if (response.statusCode() != 200) {
+                    throw new NutritionServiceException("nutrition-service returned " + response.statusCode());
+                }
+                return reader.readValue(body);
+            }
+        } catch (HttpTimeoutException e) {
+            throw new NutritionServiceException("nutrition-service timed out", e);
+        } catch (IOException e) {
+            throw new NutritionServiceException("nutrition-service unavailable: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NutritionServiceException("Interrupted calling nutrition-service", e);
+        }
+    }
+}
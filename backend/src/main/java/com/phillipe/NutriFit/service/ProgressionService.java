@@ -0,0 +1,21 @@
+package com.phillipe.NutriFit.service;
+
+import com.phillipe.NutriFit.model.entity.WorkoutLog;
+
+import java.util.Collection;
+
+public interface ProgressionService {
+
+    /**
+     * Advances the progression state of every plan exercise logged in the workout
+     * and stores the next recommended targets. The workout must reference its plan day.
+     */
+    void recordSession(WorkoutLog workout);
+
+    /**
+     * Recomputes the user's progression state for the exercises by replaying every remaining
+     * plan session that logged them, oldest first, against the plan days as they are now.
+     * Ranges left without a session are dropped.
+     */
+    void rebuild(Long userId, Collection<Integer> exerciseIds);
+}
@@ -1,10 +1,13 @@
 package com.phillipe.NutriFit.service;
 
 import com.phillipe.NutriFit.exception.DuplicateUsernameException;
+import com.phillipe.NutriFit.model.entity.UserProfile;
+import com.phillipe.NutriFit.repository.UserProfileRepository;
 import com.phillipe.NutriFit.repository.UserRepository;
 import com.phillipe.NutriFit.model.entity.User;
 import org.springframework.stereotype.Service;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
@@ -12,13 +15,16 @@ import java.util.UUID;
 public class UserService {
 
     private final UserRepository userRepo;
+    private final UserProfileRepository profileRepo;
     private final PasswordEncoder passwordEncoder;
 
-    public UserService(UserRepository userRepo, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepo, UserProfileRepository profileRepo, PasswordEncoder passwordEncoder) {
         this.userRepo = userRepo;
+        this.profileRepo = profileRepo;
         this.passwordEncoder = passwordEncoder;
     }
 
+    @Transactional
     public User saveUser(User user) {
         if (user == null) {
             throw new IllegalArgumentException("request body is required");
@@ -38,9 +44,10 @@ public class UserService {
         user.setUsername(normalizedUsername);
         user.setPassword(passwordEncoder.encode(user.getPassword()));
 
-        return userRepo.save(user);
+        return createWithProfile(user);
     }
 
+    @Transactional
     public User findOrCreateOAuthUser(String provider, String providerId, String preferredUsername) {
         return userRepo.findByProviderAndProviderId(provider, providerId)
                 .orElseGet(() -> {
@@ -49,10 +56,17 @@ public class UserService {
                     user.setUsername(username);
                     user.setProvider(provider);
                     user.setProviderId(providerId);
-                    return userRepo.save(user);
+                    return createWithProfile(user);
                 });
     }
 
+    // Every user gets a default profile up front, so reading it never has to insert one
+    private User createWithProfile(User user) {
+        User saved = userRepo.save(user);
+        profileRepo.save(UserProfile.builder().user(saved).build());
+        return saved;
+    }
+
     private String generateUniqueUsername(String base) {
         // Strip characters not allowed in usernames (keep alphanumeric + underscore + hyphen)
         String sanitized = base.replaceAll("[^a-zA-Z0-9_\\-]", "");
@@ -4,11 +4,13 @@ import com.phillipe.NutriFit.dto.request.WorkoutLogRequest;
 import com.phillipe.NutriFit.dto.response.WorkoutLogResponse;
 import com.phillipe.NutriFit.dto.request.WorkoutLogFromPlanRequest;
 
+import java.time.ZoneId;
 import java.util.List;
 
 public interface WorkoutLogService {
-    WorkoutLogResponse createWorkout(WorkoutLogRequest request, String username);
-    WorkoutLogResponse createWorkoutFromPlan(WorkoutLogFromPlanRequest request, String username);
+    WorkoutLogResponse createWorkout(WorkoutLogRequest request, String username, ZoneId zone);
+    WorkoutLogResponse createWorkoutFromPlan(WorkoutLogFromPlanRequest request, String username, ZoneId zone);
     List<WorkoutLogResponse> getMyWorkouts(String username);
+    List<WorkoutLogResponse> getRecentWorkouts(String username, int limit);
     void deleteWorkout(Long id, String username);
 }
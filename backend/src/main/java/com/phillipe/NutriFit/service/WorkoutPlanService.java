@@ -22,6 +22,12 @@ public interface WorkoutPlanService {
 
     WorkoutPlanDayResponse getPlanDayById(Long dayId, String username);
 
+    /**
+     * Returns the plan day with each exercise's most recent logged performance attached,
+     * for prefilling a new workout.
+     */
+    WorkoutPlanDayResponse startPlanDay(Long dayId, String username);
+
     List<PredefinedExerciseResponse> getPredefinedExercises(ExerciseCategory category);
 
     List<ExerciseCategory> getCategories();
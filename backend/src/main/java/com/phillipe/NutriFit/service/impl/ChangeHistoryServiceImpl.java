@@ -1,59 +1,155 @@
 package com.phillipe.NutriFit.service.impl;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.phillipe.NutriFit.dto.response.UserChangeHistoryPageResponse;
 import com.phillipe.NutriFit.dto.response.UserChangeHistoryResponse;
+import com.phillipe.NutriFit.model.entity.ChangeHistoryOutbox;
 import com.phillipe.NutriFit.model.entity.User;
 import com.phillipe.NutriFit.model.entity.UserChangeHistory;
+import com.phillipe.NutriFit.repository.ChangeHistoryOutboxRepository;
 import com.phillipe.NutriFit.repository.UserChangeHistoryRepository;
 import com.phillipe.NutriFit.repository.UserRepository;
 import com.phillipe.NutriFit.service.ChangeHistoryService;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
 import java.util.Objects;
 
+import static com.phillipe.NutriFit.repository.UserChangeHistorySpecifications.*;
+
 @Service
 public class ChangeHistoryServiceImpl implements ChangeHistoryService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "changedAt", "id");
+
     private final UserChangeHistoryRepository historyRepo;
+    private final ChangeHistoryOutboxRepository outboxRepo;
     private final UserRepository userRepo;
+    private final ObjectMapper objectMapper;
 
-    public ChangeHistoryServiceImpl(UserChangeHistoryRepository historyRepo, UserRepository userRepo) {
+    public ChangeHistoryServiceImpl(UserChangeHistoryRepository historyRepo,
+                                    ChangeHistoryOutboxRepository outboxRepo,
+                                    UserRepository userRepo,
+                                    ObjectMapper objectMapper) {
         this.historyRepo = historyRepo;
+        this.outboxRepo = outboxRepo;
         this.userRepo = userRepo;
+        this.objectMapper = objectMapper;
     }
 
     @Override
     @Transactional
     public void recordChange(User user, String entityType, Long entityId, String field, Object oldVal, Object newVal) {
-        // Only record if values are actually different
-        if (Objects.equals(oldVal, newVal)) {
+        recordChanges(user, entityType, entityId, List.of(new FieldChange(field, oldVal, newVal)));
+    }
+
+    @Override
+    @Transactional
+    public void recordChanges(User user, String entityType, Long entityId, List<FieldChange> changes) {
+        List<FieldChange> recorded = changes.stream()
+                // Only record if values are actually different
+                .filter(change -> !Objects.equals(change.oldValue(), change.newValue()))
+                .map(change -> new FieldChange(change.field(),
+                        change.oldValue() != null ? String.valueOf(change.oldValue()) : null,
+                        change.newValue() != null ? String.valueOf(change.newValue()) : null))
+                .toList();
+        if (recorded.isEmpty()) {
             return;
         }
 
-        UserChangeHistory history = UserChangeHistory.builder()
-                .user(user)
+        // Written in the caller's transaction; ChangeHistoryOutboxRelay copies it into user_change_history
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(recorded);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize field changes", e);
+        }
+
+        outboxRepo.save(ChangeHistoryOutbox.builder()
+                .userId(user.getId())
                 .entityType(entityType)
                 .entityId(entityId)
-                .fieldName(field)
-                .oldValue(oldVal != null ? String.valueOf(oldVal) : null)
-                .newValue(newVal != null ? String.valueOf(newVal) : null)
-                .build();
-
-        historyRepo.save(history);
+                .changes(json)
+                .build());
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<UserChangeHistoryResponse> getHistory(String username) {
         User user = findUser(username);
-        return historyRepo.findByUserIdOrderByChangedAtDesc(user.getId())
+        return historyRepo.findByUserIdOrderByChangedAtDescIdDesc(user.getId())
                 .stream()
                 .map(UserChangeHistoryResponse::fromEntity)
                 .toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public UserChangeHistoryPageResponse getHistoryPage(String username, String entityType, String fieldName,
+                                                        Instant from, Instant to, String cursor, Integer limit) {
+        User user = findUser(username);
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.clamp(limit, 1, MAX_PAGE_SIZE);
+
+        Specification<UserChangeHistory> spec = forUser(user.getId());
+        if (entityType != null) {
+            spec = spec.and(hasEntityType(entityType));
+        }
+        if (fieldName != null) {
+            spec = spec.and(hasFieldName(fieldName));
+        }
+        // Time bounds let Postgres prune monthly partitions outside the range
+        if (from != null) {
+            spec = spec.and(changedAtOrAfter(from));
+        }
+        if (to != null) {
+            spec = spec.and(changedBefore(to));
+        }
+        if (cursor != null) {
+            Cursor position = decodeCursor(cursor);
+            spec = spec.and(before(position.changedAt(), position.id()));
+        }
+
+        // Fetch one extra row to know whether another page follows
+        List<UserChangeHistory> rows = historyRepo.findBy(spec,
+                query -> query.sortBy(NEWEST_FIRST).limit(pageSize + 1).all());
+
+        boolean hasMore = rows.size() > pageSize;
+        List<UserChangeHistory> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        return UserChangeHistoryPageResponse.builder()
+                .items(page.stream().map(UserChangeHistoryResponse::fromEntity).toList())
+                .nextCursor(hasMore ? encodeCursor(page.getLast()) : null)
+                .build();
+    }
+
+    private static String encodeCursor(UserChangeHistory last) {
+        String raw = last.getChangedAt() + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Cursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.indexOf('|');
+            return new Cursor(Instant.parse(raw.substring(0, sep)), Long.parseLong(raw.substring(sep + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid history cursor");
+        }
+    }
+
+    private record Cursor(Instant changedAt, Long id) {}
+
     private User findUser(String username) {
         User user = userRepo.findByUsername(username);
         if (user == null) {
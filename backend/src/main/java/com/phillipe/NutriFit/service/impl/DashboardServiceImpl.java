@@ -0,0 +1,118 @@
+package com.phillipe.NutriFit.service.impl;
+
+import com.phillipe.NutriFit.dto.response.DashboardResponse;
+import com.phillipe.NutriFit.service.DashboardService;
+import com.phillipe.NutriFit.service.MeasurementService;
+import com.phillipe.NutriFit.service.NutritionClient;
+import com.phillipe.NutriFit.service.ProfileService;
+import com.phillipe.NutriFit.service.WorkoutLogService;
+import com.phillipe.NutriFit.service.WorkoutPlanService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Fans the home page sections out on virtual threads, so the response takes as long as the
+ * slowest section rather than the sum of all of them. Each section has its own deadline
+ * measured from the start of the request.
+ */
+@Service
+public class DashboardServiceImpl implements DashboardService {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardServiceImpl.class);
+
+    // The page shows the latest workout, with a link to the history whenever there is one, and
+    // three meals; the fourth meal only tells it whether to link to the meal history
+    private static final int RECENT_WORKOUTS = 1;
+    private static final int RECENT_MEALS = 4;
+
+    private final ProfileService profileService;
+    private final MeasurementService measurementService;
+    private final WorkoutPlanService workoutPlanService;
+    private final WorkoutLogService workoutLogService;
+    private final NutritionClient nutritionClient;
+
+    private final Duration sectionTimeout;
+    private final Duration nutritionTimeout;
+
+    // Virtual threads block cheaply on JDBC and HTTP, so one thread per section is fine
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public DashboardServiceImpl(ProfileService profileService,
+                                MeasurementService measurementService,
+                                WorkoutPlanService workoutPlanService,
+                                WorkoutLogService workoutLogService,
+                                NutritionClient nutritionClient,
+                                @Value("${app.dashboard.section-timeout-ms:2000}") long sectionTimeoutMs,
+                                @Value("${app.dashboard.nutrition-timeout-ms:3000}") long nutritionTimeoutMs) {
+        this.profileService = profileService;
+        this.measurementService = measurementService;
+        this.workoutPlanService = workoutPlanService;
+        this.workoutLogService = workoutLogService;
+        this.nutritionClient = nutritionClient;
+        this.sectionTimeout = Duration.ofMillis(sectionTimeoutMs);
+        this.nutritionTimeout = Duration.ofMillis(nutritionTimeoutMs);
+    }
+
+    @Override
+    public DashboardResponse getDashboard(String username, String authorization) {
+        long start = System.nanoTime();
+
+        // Submit everything before waiting on anything
+        var profile = submit(() -> profileService.getProfile(username));
+        var latestMeasurement = submit(() -> measurementService.getLatestMeasurement(username));
+        var plans = submit(() -> workoutPlanService.getMyPlans(username));
+        var workouts = submit(() -> workoutLogService.getRecentWorkouts(username, RECENT_WORKOUTS));
+        var meals = submit(() -> nutritionClient.getRecentMeals(RECENT_MEALS, authorization));
+
+        Map<String, String> failed = new LinkedHashMap<>();
+        return DashboardResponse.builder()
+                .profile(await("profile", profile, start, sectionTimeout, failed))
+                .latestMeasurement(await("latestMeasurement", latestMeasurement, start, sectionTimeout, failed))
+                .plans(await("plans", plans, start, sectionTimeout, failed))
+                .workouts(await("workouts", workouts, start, sectionTimeout, failed))
+                .meals(await("meals", meals, start, nutritionTimeout, failed))
+                .failedSections(failed)
+                .build();
+    }
+
+    private <T> Future<T> submit(Supplier<T> section) {
+        return executor.submit(section::get);
+    }
+
+    private <T> T await(String name, Future<T> future, long start, Duration timeout, Map<String, String> failed) {
+        long remaining = timeout.toNanos() - (System.nanoTime() - start);
+        try {
+            return future.get(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            failed.put(name, "timed out");
+        } catch (ExecutionException e) {
+            log.warn("Dashboard section {} failed: {}", name, e.getCause().toString());
+            failed.put(name, "unavailable");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            failed.put(name, "interrupted");
+        }
+        return null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
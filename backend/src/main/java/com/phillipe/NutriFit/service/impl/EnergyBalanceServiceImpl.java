@@ -0,0 +1,59 @@
+package com.phillipe.NutriFit.service.impl;
+
+import com.phillipe.NutriFit.dto.response.EnergyBalanceResponse;
+import com.phillipe.NutriFit.model.TrendResolution;
+import com.phillipe.NutriFit.model.entity.User;
+import com.phillipe.NutriFit.repository.EnergyBalanceRepository;
+import com.phillipe.NutriFit.repository.UserRepository;
+import com.phillipe.NutriFit.service.EnergyBalanceService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+@Service
+public class EnergyBalanceServiceImpl implements EnergyBalanceService {
+
+    static final int MAX_RANGE_DAYS = 731;
+
+    private final EnergyBalanceRepository balanceRepo;
+    private final UserRepository userRepo;
+
+    public EnergyBalanceServiceImpl(EnergyBalanceRepository balanceRepo, UserRepository userRepo) {
+        this.balanceRepo = balanceRepo;
+        this.userRepo = userRepo;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EnergyBalanceResponse> getBalance(String username, TrendResolution period,
+                                                  LocalDate from, LocalDate to, ZoneId zone) {
+        LocalDate end = to != null ? to : LocalDate.now(zone != null ? zone : ZoneOffset.UTC);
+        LocalDate start = from != null ? from : end;
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("Range must not exceed " + MAX_RANGE_DAYS + " days");
+        }
+
+        User user = userRepo.findByUsername(username);
+        if (user == null) {
+            throw new UsernameNotFoundException("Username " + username + " not found");
+        }
+
+        return balanceRepo.summarize(user.getId(), period != null ? period : TrendResolution.DAY, start, end).stream()
+                .map(p -> EnergyBalanceResponse.builder()
+                        .periodStart(p.periodStart())
+                        .caloriesIn(p.caloriesIn())
+                        .caloriesOut(p.caloriesOut())
+                        .balance(p.caloriesIn() - p.caloriesOut())
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,69 @@
+package com.phillipe.NutriFit.service.impl;
+
+import com.phillipe.NutriFit.model.entity.Exercise;
+import com.phillipe.NutriFit.repository.ExerciseRepository;
+import com.phillipe.NutriFit.service.ExerciseService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Resolves exercise names to dictionary rows, creating rows for custom names on first use.
+ * Dictionary rows never change once written, so resolved rows are kept in memory and
+ * repeat lookups ("Bench Press" on every workout) do not touch the database.
+ * <p>
+ * A row is only cached once the transaction that resolved it has committed: a custom name
+ * inserted by a workout that later rolls back must not leave behind the id of a row that
+ * doesn't exist. Custom names are user input, so the cache is bounded.
+ */
+@Service
+public class ExerciseServiceImpl implements ExerciseService {
+
+    private final ExerciseRepository exerciseRepo;
+    private final Cache<Key, Exercise> cache = Caffeine.newBuilder().maximumSize(10_000).build();
+
+    public ExerciseServiceImpl(ExerciseRepository exerciseRepo) {
+        this.exerciseRepo = exerciseRepo;
+    }
+
+    @Override
+    @Transactional
+    public Exercise resolve(String name, String category) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("exercise name is required");
+        }
+        Key key = new Key(name.trim(), category == null || category.isBlank() ? null : category.trim());
+
+        Exercise cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        Exercise exercise = exerciseRepo.findByNameAndCategory(key.name(), key.category())
+                .orElseGet(() -> {
+                    exerciseRepo.insertIfAbsent(key.name(), key.category());
+                    return exerciseRepo.findByNameAndCategory(key.name(), key.category())
+                            .orElseThrow(() -> new IllegalStateException("Failed to create exercise " + key.name()));
+                });
+        cacheOnCommit(key, exercise);
+        return exercise;
+    }
+
+    private void cacheOnCommit(Key key, Exercise exercise) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.put(key, exercise);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.put(key, exercise);
+            }
+        });
+    }
+
+    private record Key(String name, String category) {}
+}
@@ -1,35 +1,58 @@
 package com.phillipe.NutriFit.service.impl;
 
+import com.phillipe.NutriFit.config.CacheConfig;
 import com.phillipe.NutriFit.dto.request.MeasurementRequest;
 import com.phillipe.NutriFit.dto.response.MeasurementResponse;
+import com.phillipe.NutriFit.dto.response.MeasurementTrendResponse;
+import com.phillipe.NutriFit.model.MeasurementField;
+import com.phillipe.NutriFit.model.TrendResolution;
 import com.phillipe.NutriFit.model.entity.BodyMeasurement;
 import com.phillipe.NutriFit.model.entity.User;
 import com.phillipe.NutriFit.repository.BodyMeasurementRepository;
+import com.phillipe.NutriFit.repository.BodyMeasurementRepositoryCustom.TrendBucket;
 import com.phillipe.NutriFit.repository.UserRepository;
 import com.phillipe.NutriFit.service.ChangeHistoryService;
+import com.phillipe.NutriFit.service.ChangeHistoryService.FieldChange;
 import com.phillipe.NutriFit.service.MeasurementService;
+import com.phillipe.NutriFit.service.MeasurementStatsService;
+import com.phillipe.NutriFit.util.Lttb;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class MeasurementServiceImpl implements MeasurementService {
 
+    private static final int DEFAULT_TREND_WINDOW = 7;
+    private static final int MAX_TREND_WINDOW = 90;
+    private static final int MIN_TREND_POINTS = 3;
+    private static final int MAX_TREND_POINTS = 2000;
+
     private final BodyMeasurementRepository measurementRepo;
     private final UserRepository userRepo;
     private final ChangeHistoryService changeHistoryService;
+    private final MeasurementStatsService statsService;
 
     public MeasurementServiceImpl(BodyMeasurementRepository measurementRepo, UserRepository userRepo,
-                                  ChangeHistoryService changeHistoryService) {
+                                  ChangeHistoryService changeHistoryService,
+                                  MeasurementStatsService statsService) {
         this.measurementRepo = measurementRepo;
         this.userRepo = userRepo;
         this.changeHistoryService = changeHistoryService;
+        this.statsService = statsService;
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.LATEST_MEASUREMENTS, key = "#username")
     public MeasurementResponse createMeasurement(MeasurementRequest request, String username) {
         User user = findUser(username);
 
@@ -51,6 +74,7 @@ public class MeasurementServiceImpl implements MeasurementService {
                 .build();
 
         BodyMeasurement saved = measurementRepo.save(measurement);
+        statsService.record(saved);
 
         // Record initial values as changes (oldValue=null)
         recordMeasurementChanges(user, saved.getId(), null, saved);
@@ -70,6 +94,7 @@ public class MeasurementServiceImpl implements MeasurementService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.LATEST_MEASUREMENTS, key = "#username")
     public MeasurementResponse getLatestMeasurement(String username) {
         User user = findUser(username);
         return measurementRepo.findFirstByUserIdOrderByRecordedAtDesc(user.getId())
@@ -79,6 +104,7 @@ public class MeasurementServiceImpl implements MeasurementService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.LATEST_MEASUREMENTS, key = "#username")
     public void deleteMeasurement(Long id, String username) {
         User user = findUser(username);
         BodyMeasurement measurement = measurementRepo.findByIdAndUserId(id, user.getId())
@@ -87,51 +113,105 @@ public class MeasurementServiceImpl implements MeasurementService {
         // Record deletion (newValue=null)
         recordMeasurementChanges(user, id, measurement, null);
 
+        statsService.reverse(measurement);
         measurementRepo.delete(measurement);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public MeasurementTrendResponse getTrends(String username, List<String> fields, TrendResolution resolution,
+                                              Instant from, Instant to, Integer window, Integer maxPoints) {
+        User user = findUser(username);
+
+        List<MeasurementField> requested = fields == null || fields.isEmpty()
+                ? List.of(MeasurementField.WEIGHT_KG)
+                : fields.stream().map(MeasurementField::fromFieldName).distinct().toList();
+        TrendResolution res = resolution != null ? resolution : TrendResolution.DAY;
+        int win = window == null ? DEFAULT_TREND_WINDOW : Math.clamp(window, 1, MAX_TREND_WINDOW);
+
+        // Bucketing and moving averages run in Postgres; only the bucketed series comes back
+        Map<MeasurementField, List<MeasurementTrendResponse.Point>> byField = new EnumMap<>(MeasurementField.class);
+        for (TrendBucket bucket : measurementRepo.findTrend(user.getId(), requested, res, from, to, win)) {
+            byField.computeIfAbsent(bucket.field(), f -> new ArrayList<>())
+                    .add(MeasurementTrendResponse.Point.builder()
+                            .bucket(bucket.bucket())
+                            .value(bucket.value())
+                            .movingAverage(bucket.movingAverage())
+                            .samples(bucket.samples())
+                            .build());
+        }
+
+        List<MeasurementTrendResponse.Series> series = requested.stream()
+                .map(field -> {
+                    List<MeasurementTrendResponse.Point> points = byField.getOrDefault(field, List.of());
+                    List<MeasurementTrendResponse.Point> sampled = maxPoints == null
+                            ? points
+                            : Lttb.downsample(points, Math.clamp(maxPoints, MIN_TREND_POINTS, MAX_TREND_POINTS),
+                                    point -> point.getBucket().toEpochMilli(),
+                                    MeasurementTrendResponse.Point::getValue);
+                    return MeasurementTrendResponse.Series.builder()
+                            .field(field.getFieldName())
+                            .totalPoints(points.size())
+                            .points(sampled)
+                            .build();
+                })
+                .toList();
+
+        return MeasurementTrendResponse.builder()
+                .resolution(res)
+                .window(win)
+                .series(series)
+                .build();
+    }
+
     private void recordMeasurementChanges(User user, Long entityId, BodyMeasurement oldM, BodyMeasurement newM) {
-        recordFieldChange(user, entityId, "heightCm",
+        List<FieldChange> changes = new ArrayList<>();
+        addFieldChange(changes, "heightCm",
                 oldM != null ? oldM.getHeightCm() : null,
                 newM != null ? newM.getHeightCm() : null);
-        recordFieldChange(user, entityId, "weightKg",
+        addFieldChange(changes, "weightKg",
                 oldM != null ? oldM.getWeightKg() : null,
                 newM != null ? newM.getWeightKg() : null);
-        recordFieldChange(user, entityId, "bodyFatPercent",
+        addFieldChange(changes, "bodyFatPercent",
                 oldM != null ? oldM.getBodyFatPercent() : null,
                 newM != null ? newM.getBodyFatPercent() : null);
-        recordFieldChange(user, entityId, "neckCm",
+        addFieldChange(changes, "neckCm",
                 oldM != null ? oldM.getNeckCm() : null,
                 newM != null ? newM.getNeckCm() : null);
-        recordFieldChange(user, entityId, "shouldersCm",
+        addFieldChange(changes, "shouldersCm",
                 oldM != null ? oldM.getShouldersCm() : null,
                 newM != null ? newM.getShouldersCm() : null);
-        recordFieldChange(user, entityId, "chestCm",
+        addFieldChange(changes, "chestCm",
                 oldM != null ? oldM.getChestCm() : null,
                 newM != null ? newM.getChestCm() : null);
-        recordFieldChange(user, entityId, "bicepsCm",
+        addFieldChange(changes, "bicepsCm",
                 oldM != null ? oldM.getBicepsCm() : null,
                 newM != null ? newM.getBicepsCm() : null);
-        recordFieldChange(user, entityId, "forearmsCm",
+        addFieldChange(changes, "forearmsCm",
                 oldM != null ? oldM.getForearmsCm() : null,
                 newM != null ? newM.getForearmsCm() : null);
-        recordFieldChange(user, entityId, "waistCm",
+        addFieldChange(changes, "waistCm",
                 oldM != null ? oldM.getWaistCm() : null,
                 newM != null ? newM.getWaistCm() : null);
-        recordFieldChange(user, entityId, "hipsCm",
+        addFieldChange(changes, "hipsCm",
                 oldM != null ? oldM.getHipsCm() : null,
                 newM != null ? newM.getHipsCm() : null);
-        recordFieldChange(user, entityId, "thighsCm",
+        addFieldChange(changes, "thighsCm",
                 oldM != null ? oldM.getThighsCm() : null,
                 newM != null ? newM.getThighsCm() : null);
-        recordFieldChange(user, entityId, "calvesCm",
+        addFieldChange(changes, "calvesCm",
                 oldM != null ? oldM.getCalvesCm() : null,
                 newM != null ? newM.getCalvesCm() : null);
+
+        // One multi-row insert instead of a round trip per field
+        if (!changes.isEmpty()) {
+            changeHistoryService.recordChanges(user, "MEASUREMENT", entityId, changes);
+        }
     }
 
-    private void recordFieldChange(User user, Long entityId, String field, Object oldVal, Object newVal) {
+    private void addFieldChange(List<FieldChange> changes, String field, Object oldVal, Object newVal) {
         if (oldVal != null || newVal != null) {
-            changeHistoryService.recordChange(user, "MEASUREMENT", entityId, field, oldVal, newVal);
+            changes.add(new FieldChange(field, oldVal, newVal));
         }
     }
 
@@ -0,0 +1,198 @@
+package com.phillipe.NutriFit.service.impl;
+
+import com.phillipe.NutriFit.dto.response.MeasurementForecastResponse;
+import com.phillipe.NutriFit.model.MeasurementField;
+import com.phillipe.NutriFit.model.entity.BodyMeasurement;
+import com.phillipe.NutriFit.model.entity.MeasurementStats;
+import com.phillipe.NutriFit.model.entity.User;
+import com.phillipe.NutriFit.repository.MeasurementStatsRepository;
+import com.phillipe.NutriFit.repository.UserRepository;
+import com.phillipe.NutriFit.service.MeasurementStatsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class MeasurementStatsServiceImpl implements MeasurementStatsService {
+
+    /** Weight decay per day for a 14-day half-life; must match V14__add_measurement_stats.sql. */
+    private static final double LAMBDA = Math.log(2) / 14;
+
+    // exp(200) keeps every weighted product well inside double range; past it the origin moves
+    private static final double MAX_EXPONENT = 200;
+    private static final double SECONDS_PER_DAY = 86_400;
+    private static final double MAX_PROJECTION_DAYS = 5 * 365;
+
+    private final MeasurementStatsRepository statsRepo;
+    private final UserRepository userRepo;
+
+    public MeasurementStatsServiceImpl(MeasurementStatsRepository statsRepo, UserRepository userRepo) {
+        this.statsRepo = statsRepo;
+        this.userRepo = userRepo;
+    }
+
+    @Override
+    @Transactional
+    public void record(BodyMeasurement measurement) {
+        apply(measurement, 1);
+    }
+
+    @Override
+    @Transactional
+    public void reverse(BodyMeasurement measurement) {
+        apply(measurement, -1);
+    }
+
+    private void apply(BodyMeasurement measurement, int sign) {
+        Long userId = measurement.getUser().getId();
+        Map<MeasurementField, MeasurementStats> byField = new EnumMap<>(MeasurementField.class);
+        for (MeasurementStats stats : statsRepo.findByUserIdForUpdate(userId)) {
+            byField.put(stats.getField(), stats);
+        }
+
+        Instant now = Instant.now();
+        List<MeasurementStats> changed = new ArrayList<>();
+        List<MeasurementStats> emptied = new ArrayList<>();
+
+        for (MeasurementField field : MeasurementField.values()) {
+            Double value = field.extract(measurement);
+            if (value == null) {
+                continue;
+            }
+
+            MeasurementStats stats = byField.get(field);
+            if (stats == null) {
+                if (sign < 0) {
+                    continue;   // never recorded, nothing to reverse
+                }
+                stats = MeasurementStats.builder()
+                        .userId(userId)
+                        .field(field)
+                        .origin(measurement.getRecordedAt())
+                        .build();
+            }
+
+            double t = days(stats.getOrigin(), measurement.getRecordedAt());
+            if (LAMBDA * t > MAX_EXPONENT) {
+                rebase(stats, t);
+                stats.setOrigin(measurement.getRecordedAt());
+                t = 0;
+            }
+            add(stats, t, value, sign);
+            stats.setUpdatedAt(now);
+
+            if (stats.getN() <= 0) {
+                emptied.add(stats);
+            } else {
+                changed.add(stats);
+            }
+        }
+
+        statsRepo.saveAll(changed);
+        statsRepo.deleteAll(emptied);
+    }
+
+    private static void add(MeasurementStats s, double t, double y, int sign) {
+        double w = Math.exp(LAMBDA * t);
+        s.setN(s.getN() + sign);
+        s.setSumT(s.getSumT() + sign * t);
+        s.setSumY(s.getSumY() + sign * y);
+        s.setSumTT(s.getSumTT() + sign * t * t);
+        s.setSumTY(s.getSumTY() + sign * t * y);
+        s.setSumYY(s.getSumYY() + sign * y * y);
+        s.setWSum(s.getWSum() + sign * w);
+        s.setWT(s.getWT() + sign * w * t);
+        s.setWY(s.getWY() + sign * w * y);
+        s.setWTT(s.getWTT() + sign * w * t * t);
+        s.setWTY(s.getWTY() + sign * w * t * y);
+    }
+
+    /**
+     * Re-expresses every sum relative to an origin {@code d} days later (t' = t - d). Weights
+     * shrink by exp(-lambda * d), which is a common factor, so the fits are unchanged.
+     */
+    private static void rebase(MeasurementStats s, double d) {
+        double n = s.getN();
+        s.setSumTT(s.getSumTT() - 2 * d * s.getSumT() + d * d * n);
+        s.setSumTY(s.getSumTY() - d * s.getSumY());
+        s.setSumT(s.getSumT() - d * n);
+
+        double scale = Math.exp(-LAMBDA * d);
+        double wSum = s.getWSum();
+        double wT = s.getWT();
+        s.setWTT((s.getWTT() - 2 * d * wT + d * d * wSum) * scale);
+        s.setWTY((s.getWTY() - d * s.getWY()) * scale);
+        s.setWT((wT - d * wSum) * scale);
+        s.setWY(s.getWY() * scale);
+        s.setWSum(wSum * scale);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public MeasurementForecastResponse forecast(String username, String fieldName, Double target) {
+        User user = findUser(username);
+        MeasurementField field = fieldName != null ? MeasurementField.fromFieldName(fieldName) : MeasurementField.WEIGHT_KG;
+        Instant now = Instant.now();
+
+        MeasurementForecastResponse.MeasurementForecastResponseBuilder response = MeasurementForecastResponse.builder()
+                .field(field.getFieldName())
+                .asOf(now)
+                .target(target);
+
+        MeasurementStats s = statsRepo.findByUserIdAndField(user.getId(), field).orElse(null);
+        if (s == null || s.getN() == 0) {
+            return response.samples(0).build();
+        }
+        response.samples(s.getN()).recentAverage(s.getWY() / s.getWSum());
+
+        // Recency-weighted least squares: minimises sum of w * (y - a - b*t)^2
+        double wDen = s.getWSum() * s.getWTT() - s.getWT() * s.getWT();
+        if (s.getN() < 2 || wDen <= 1e-9 * s.getWSum() * s.getWSum()) {
+            // A single point in time has no slope
+            return response.current(s.getWY() / s.getWSum()).build();
+        }
+        double slope = (s.getWSum() * s.getWTY() - s.getWT() * s.getWY()) / wDen;
+        double intercept = (s.getWY() - slope * s.getWT()) / s.getWSum();
+        double tNow = days(s.getOrigin(), now);
+        double current = intercept + slope * tNow;
+        response.current(current).weeklyRate(slope * 7);
+
+        double n = s.getN();
+        double den = n * s.getSumTT() - s.getSumT() * s.getSumT();
+        if (den > 0) {
+            double cov = n * s.getSumTY() - s.getSumT() * s.getSumY();
+            double varY = n * s.getSumYY() - s.getSumY() * s.getSumY();
+            response.overallWeeklyRate(cov / den * 7);
+            if (varY > 0) {
+                response.rSquared(Math.min(1, cov * cov / (den * varY)));
+            }
+        }
+
+        if (target != null && slope != 0) {
+            double daysToTarget = (target - current) / slope;
+            if (daysToTarget >= 0 && daysToTarget <= MAX_PROJECTION_DAYS) {
+                response.projectedTargetDate(now.plusSeconds(Math.round(daysToTarget * SECONDS_PER_DAY)));
+            }
+        }
+        return response.build();
+    }
+
+    private static double days(Instant origin, Instant at) {
+        return Duration.between(origin, at).toMillis() / 1000.0 / SECONDS_PER_DAY;
+    }
+
+    private User findUser(String username) {
+        User user = userRepo.findByUsername(username);
+        if (user == null) {
+            throw new UsernameNotFoundException("Username " + username + " not found");
+        }
+        return user;
+    }
+}
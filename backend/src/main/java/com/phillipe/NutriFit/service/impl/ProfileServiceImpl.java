@@ -1,5 +1,6 @@
 package com.phillipe.NutriFit.service.impl;
 
+import com.phillipe.NutriFit.config.CacheConfig;
 import com.phillipe.NutriFit.dto.request.ProfileUpdateRequest;
 import com.phillipe.NutriFit.dto.response.ProfileResponse;
 import com.phillipe.NutriFit.model.entity.User;
@@ -7,11 +8,17 @@ import com.phillipe.NutriFit.model.entity.UserProfile;
 import com.phillipe.NutriFit.repository.UserProfileRepository;
 import com.phillipe.NutriFit.repository.UserRepository;
 import com.phillipe.NutriFit.service.ChangeHistoryService;
+import com.phillipe.NutriFit.service.ChangeHistoryService.FieldChange;
 import com.phillipe.NutriFit.service.ProfileService;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Service
 public class ProfileServiceImpl implements ProfileService {
 
@@ -27,37 +34,40 @@ public class ProfileServiceImpl implements ProfileService {
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.PROFILES, key = "#username")
     public ProfileResponse getProfile(String username) {
-        User user = findUser(username);
-        UserProfile profile = profileRepo.findByUserId(user.getId())
-                .orElseGet(() -> createDefaultProfile(user));
+        // Profiles are created with the user, so this is a single read and never writes
+        UserProfile profile = profileRepo.findByUserUsername(username)
+                .orElseGet(() -> defaultProfile(findUser(username)));
         return ProfileResponse.fromEntity(profile, username);
     }
 
     @Override
     @Transactional
+    @CachePut(cacheNames = CacheConfig.PROFILES, key = "#username")
     public ProfileResponse updateProfile(ProfileUpdateRequest request, String username) {
         User user = findUser(username);
         UserProfile profile = profileRepo.findByUserId(user.getId())
-                .orElseGet(() -> createDefaultProfile(user));
+                .orElseGet(() -> defaultProfile(user));
 
         // Record changes before updating
+        List<FieldChange> changes = new ArrayList<>();
         if (request.getBirthYear() != null) {
-            changeHistoryService.recordChange(user, "PROFILE", null, "birthYear",
-                    profile.getBirthYear(), request.getBirthYear());
+            changes.add(new FieldChange("birthYear", profile.getBirthYear(), request.getBirthYear()));
             profile.setBirthYear(request.getBirthYear());
         }
         if (request.getGender() != null) {
-            changeHistoryService.recordChange(user, "PROFILE", null, "gender",
-                    profile.getGender(), request.getGender());
+            changes.add(new FieldChange("gender", profile.getGender(), request.getGender()));
             profile.setGender(request.getGender());
         }
         if (request.getUnitPreference() != null) {
-            changeHistoryService.recordChange(user, "PROFILE", null, "unitPreference",
-                    profile.getUnitPreference(), request.getUnitPreference());
+            changes.add(new FieldChange("unitPreference", profile.getUnitPreference(), request.getUnitPreference()));
             profile.setUnitPreference(request.getUnitPreference());
         }
+        if (!changes.isEmpty()) {
+            changeHistoryService.recordChanges(user, "PROFILE", null, changes);
+        }
 
         UserProfile saved = profileRepo.save(profile);
         return ProfileResponse.fromEntity(saved, username);
@@ -71,10 +81,9 @@ public class ProfileServiceImpl implements ProfileService {
         return user;
     }
 
-    private UserProfile createDefaultProfile(User user) {
-        UserProfile profile = UserProfile.builder()
+    private UserProfile defaultProfile(User user) {
+        return UserProfile.builder()
                 .user(user)
                 .build();
-        return profileRepo.save(profile);
     }
 }
@@ -0,0 +1,260 @@
+package com.phillipe.NutriFit.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.phillipe.NutriFit.dto.request.SetItemRequest;
+import com.phillipe.NutriFit.model.embedded.WorkoutExerciseEntry;
+import com.phillipe.NutriFit.model.embedded.WorkoutPlanExercise;
+import com.phillipe.NutriFit.model.entity.ExerciseProgression;
+import com.phillipe.NutriFit.model.entity.WorkoutLog;
+import com.phillipe.NutriFit.model.entity.WorkoutPlanDay;
+import com.phillipe.NutriFit.repository.ExerciseProgressionRepository;
+import com.phillipe.NutriFit.repository.WorkoutLogRepository;
+import com.phillipe.NutriFit.service.ProgressionService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Double progression within a rep range, tracked against an Epley estimated 1RM.
+ * <ul>
+ *   <li>Every working set at the top of the range: add weight and drop back to the bottom of the range.</li>
+ *   <li>Otherwise: same weight, one more rep than the weakest working set managed.</li>
+ *   <li>{@value #STALLS_BEFORE_DELOAD} sessions in a row without a new best e1RM: deload by
+ *       {@value #DELOAD_PERCENT}% and restart at the bottom of the range.</li>
+ * </ul>
+ * Weight has no unit on the server, so increments are a percentage of the working weight.
+ */
+@Service
+public class ProgressionServiceImpl implements ProgressionService {
+
+    static final int REP_RANGE_SPAN = 4;
+    static final int DEFAULT_MIN_REPS = 8;
+    static final int STALLS_BEFORE_DELOAD = 3;
+    static final int DELOAD_PERCENT = 10;
+    static final double INCREMENT_FRACTION = 0.025;
+
+    private final ExerciseProgressionRepository progressionRepo;
+    private final WorkoutLogRepository workoutLogRepo;
+    private final ObjectMapper objectMapper;
+
+    public ProgressionServiceImpl(ExerciseProgressionRepository progressionRepo, WorkoutLogRepository workoutLogRepo,
+                                  ObjectMapper objectMapper) {
+        this.progressionRepo = progressionRepo;
+        this.workoutLogRepo = workoutLogRepo;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    @Transactional
+    public void recordSession(WorkoutLog workout) {
+        WorkoutPlanDay day = workout.getWorkoutPlanDay();
+        if (day == null) {
+            return;
+        }
+        Long userId = workout.getUser().getId();
+
+        Map<Integer, WorkoutPlanExercise> planned = planned(day);
+        Map<Integer, List<PerformedSet>> performed = performed(workout, planned);
+        if (performed.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, ExerciseProgression> states = lockStates(userId, planned, performed.keySet());
+        if (states.size() < performed.size()) {
+            // First session in this rep range: create the missing rows, then lock them too
+            for (Integer exerciseId : performed.keySet()) {
+                if (!states.containsKey(exerciseId)) {
+                    progressionRepo.insertIfAbsent(userId, exerciseId, minReps(planned.get(exerciseId)));
+                }
+            }
+            states = lockStates(userId, planned, performed.keySet());
+        }
+
+        List<ExerciseProgression> updated = new ArrayList<>();
+        for (Map.Entry<Integer, List<PerformedSet>> entry : performed.entrySet()) {
+            ExerciseProgression state = states.get(entry.getKey());
+            if (state == null) {
+                throw new IllegalStateException("No progression state for exercise " + entry.getKey());
+            }
+            advance(state, planned.get(entry.getKey()), entry.getValue());
+            updated.add(state);
+        }
+        progressionRepo.saveAll(updated);
+    }
+
+    @Override
+    @Transactional
+    public void rebuild(Long userId, Collection<Integer> exerciseIds) {
+        // Locked like recordSession, so a session logged meanwhile advances the replayed state
+        Map<ExerciseProgression.Key, ExerciseProgression> states = new HashMap<>();
+        for (ExerciseProgression state : progressionRepo.findByUserIdAndExerciseIdInForUpdate(userId, exerciseIds)) {
+            states.put(new ExerciseProgression.Key(userId, state.getExerciseId(), state.getMinReps()), reset(state));
+        }
+
+        for (WorkoutLog workout : workoutLogRepo.findPlanSessionsWithExercises(userId, exerciseIds)) {
+            Map<Integer, WorkoutPlanExercise> planned = planned(workout.getWorkoutPlanDay());
+            for (Map.Entry<Integer, List<PerformedSet>> entry : performed(workout, planned).entrySet()) {
+                Integer exerciseId = entry.getKey();
+                if (!exerciseIds.contains(exerciseId)) {
+                    continue;
+                }
+                WorkoutPlanExercise plan = planned.get(exerciseId);
+                ExerciseProgression state = states.computeIfAbsent(
+                        new ExerciseProgression.Key(userId, exerciseId, minReps(plan)),
+                        key -> ExerciseProgression.builder()
+                                .userId(userId)
+                                .exerciseId(exerciseId)
+                                .minReps(key.getMinReps())
+                                .build());
+                advance(state, plan, entry.getValue());
+            }
+        }
+
+        // A range whose only sessions are gone has nothing to recommend from
+        Map<Boolean, List<ExerciseProgression>> reached = states.values().stream()
+                .collect(Collectors.partitioningBy(state -> state.getSessions() > 0));
+        progressionRepo.deleteAll(reached.get(false));
+        progressionRepo.saveAll(reached.get(true));
+    }
+
+    private static Map<Integer, WorkoutPlanExercise> planned(WorkoutPlanDay day) {
+        return day.getExercises().stream()
+                .collect(Collectors.toMap(e -> e.getExercise().getId(), Function.identity(), (a, b) -> a));
+    }
+
+    // Exercises logged more than once in a session are judged on all of their sets together
+    private Map<Integer, List<PerformedSet>> performed(WorkoutLog workout, Map<Integer, WorkoutPlanExercise> planned) {
+        Map<Integer, List<PerformedSet>> performed = new LinkedHashMap<>();
+        for (WorkoutExerciseEntry entry : workout.getExercises()) {
+            Integer exerciseId = entry.getExercise().getId();
+            if (planned.containsKey(exerciseId)) {
+                performed.computeIfAbsent(exerciseId, id -> new ArrayList<>()).addAll(workingSets(entry));
+            }
+        }
+        performed.values().removeIf(List::isEmpty);
+        return performed;
+    }
+
+    private static ExerciseProgression reset(ExerciseProgression state) {
+        state.setSessions(0);
+        state.setBestE1rm(null);
+        state.setLastE1rm(null);
+        state.setStallCount(0);
+        state.setNextSets(null);
+        state.setNextReps(null);
+        state.setNextWeight(null);
+        state.setDeload(false);
+        return state;
+    }
+
+    // This user's state for each exercise, in the rep range the day plans it for
+    private Map<Integer, ExerciseProgression> lockStates(Long userId, Map<Integer, WorkoutPlanExercise> planned,
+                                                         Collection<Integer> exerciseIds) {
+        return progressionRepo.findByUserIdAndExerciseIdInForUpdate(userId, exerciseIds).stream()
+                .filter(state -> state.getMinReps() == minReps(planned.get(state.getExerciseId())))
+                .collect(Collectors.toMap(ExerciseProgression::getExerciseId, Function.identity()));
+    }
+
+    /** Bottom of the rep range a plan exercise prescribes; progression state is kept per range. */
+    static int minReps(WorkoutPlanExercise plan) {
+        return plan.getTargetReps() != null && plan.getTargetReps() > 0
+                ? plan.getTargetReps()
+                : DEFAULT_MIN_REPS;
+    }
+
+    void advance(ExerciseProgression state, WorkoutPlanExercise plan, List<PerformedSet> sets) {
+        int topWeight = sets.stream().mapToInt(PerformedSet::weight).max().orElse(0);
+        List<PerformedSet> working = sets.stream().filter(s -> s.weight() == topWeight).toList();
+        int weakestReps = working.stream().mapToInt(PerformedSet::reps).min().orElse(0);
+
+        int minReps = minReps(plan);
+        int maxReps = minReps + REP_RANGE_SPAN;
+        int nextSets = plan.getTargetSets() != null && plan.getTargetSets() > 0
+                ? plan.getTargetSets()
+                : working.size();
+
+        state.setSessions(state.getSessions() + 1);
+        state.setNextSets(nextSets);
+        state.setDeload(false);
+        state.setUpdatedAt(Instant.now());
+
+        // Bodyweight movements: no load to estimate a 1RM from, progress on reps alone
+        if (topWeight <= 0) {
+            state.setNextWeight(topWeight);
+            state.setNextReps(Math.max(minReps, weakestReps + 1));
+            return;
+        }
+
+        double e1rm = sets.stream().mapToDouble(s -> epley(s.weight(), s.reps())).max().orElse(0);
+        state.setLastE1rm(e1rm);
+        if (state.getBestE1rm() == null || e1rm > state.getBestE1rm()) {
+            state.setBestE1rm(e1rm);
+            state.setStallCount(0);
+        } else {
+            state.setStallCount(state.getStallCount() + 1);
+        }
+
+        if (state.getStallCount() >= STALLS_BEFORE_DELOAD) {
+            int deloadWeight = (int) Math.round(topWeight * (100 - DELOAD_PERCENT) / 100.0);
+            state.setNextWeight(deloadWeight);
+            state.setNextReps(minReps);
+            state.setDeload(true);
+            state.setStallCount(0);
+            // Measure the climb back from the deload, not against the old peak
+            state.setBestE1rm(epley(deloadWeight, minReps));
+        } else if (weakestReps >= maxReps) {
+            state.setNextWeight(topWeight + increment(topWeight));
+            state.setNextReps(minReps);
+        } else {
+            state.setNextWeight(topWeight);
+            state.setNextReps(Math.min(maxReps, Math.max(minReps, weakestReps + 1)));
+        }
+    }
+
+    static double epley(int weight, int reps) {
+        return reps <= 1 ? weight : weight * (1 + reps / 30.0);
+    }
+
+    static int increment(int weight) {
+        return Math.max(1, (int) Math.round(weight * INCREMENT_FRACTION));
+    }
+
+    private List<PerformedSet> workingSets(WorkoutExerciseEntry entry) {
+        String json = entry.getSetDetailsJson();
+        if (json != null && !json.isBlank()) {
+            try {
+                return objectMapper.readValue(json, new TypeReference<List<SetItemRequest>>() {}).stream()
+                        .filter(s -> !Boolean.FALSE.equals(s.getCompleted()))
+                        .filter(s -> s.getReps() != null && s.getReps() > 0)
+                        .map(s -> new PerformedSet(s.getWeight() != null ? s.getWeight() : 0, s.getReps()))
+                        .toList();
+            } catch (JsonProcessingException e) {
+                return List.of();
+            }
+        }
+
+        if (entry.getReps() == null || entry.getReps() <= 0) {
+            return List.of();
+        }
+        int count = entry.getSets() != null && entry.getSets() > 0 ? entry.getSets() : 1;
+        int weight = entry.getWeight() != null ? entry.getWeight() : 0;
+        List<PerformedSet> sets = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            sets.add(new PerformedSet(weight, entry.getReps()));
+        }
+        return sets;
+    }
+
+    record PerformedSet(int weight, int reps) {}
+}
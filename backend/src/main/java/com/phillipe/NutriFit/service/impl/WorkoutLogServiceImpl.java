@@ -12,17 +12,28 @@ import com.phillipe.NutriFit.dto.request.WorkoutLogRequest;
 import com.phillipe.NutriFit.dto.response.WorkoutLogResponse;
 import com.phillipe.NutriFit.model.embedded.WorkoutExerciseEntry;
 import com.phillipe.NutriFit.model.entity.WorkoutLog;
+import com.phillipe.NutriFit.model.entity.WorkoutEnergyEvent;
+import com.phillipe.NutriFit.repository.ExerciseLastPerformanceRepository;
+import com.phillipe.NutriFit.repository.WorkoutEnergyEventRepository;
 import com.phillipe.NutriFit.repository.WorkoutPlanDayRepository;
 import com.phillipe.NutriFit.dto.request.WorkoutLogFromPlanRequest;
 import com.phillipe.NutriFit.model.entity.WorkoutPlanDay;
+import com.phillipe.NutriFit.service.ExerciseService;
+import com.phillipe.NutriFit.service.ProgressionService;
 import com.phillipe.NutriFit.service.WorkoutLogService;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 public class WorkoutLogServiceImpl implements WorkoutLogService {
@@ -30,15 +41,27 @@ public class WorkoutLogServiceImpl implements WorkoutLogService {
     private final WorkoutLogRepository workoutLogRepo;
     private final WorkoutPlanDayRepository workoutPlanDayRepo;
     private final UserRepository userRepo;
+    private final ExerciseLastPerformanceRepository lastPerformanceRepo;
+    private final WorkoutEnergyEventRepository energyEventRepo;
+    private final ExerciseService exerciseService;
+    private final ProgressionService progressionService;
     private final ObjectMapper objectMapper;
 
     public WorkoutLogServiceImpl(WorkoutLogRepository workoutLogRepo,
                                   WorkoutPlanDayRepository workoutPlanDayRepo,
                                   UserRepository userRepo,
+                                  ExerciseLastPerformanceRepository lastPerformanceRepo,
+                                  WorkoutEnergyEventRepository energyEventRepo,
+                                  ExerciseService exerciseService,
+                                  ProgressionService progressionService,
                                   ObjectMapper objectMapper) {
         this.workoutLogRepo = workoutLogRepo;
         this.workoutPlanDayRepo = workoutPlanDayRepo;
         this.userRepo = userRepo;
+        this.lastPerformanceRepo = lastPerformanceRepo;
+        this.energyEventRepo = energyEventRepo;
+        this.exerciseService = exerciseService;
+        this.progressionService = progressionService;
         this.objectMapper = objectMapper;
     }
 
@@ -46,7 +69,7 @@ public class WorkoutLogServiceImpl implements WorkoutLogService {
 
     @Override
     @Transactional
-    public WorkoutLogResponse createWorkout(WorkoutLogRequest request, String username) {
+    public WorkoutLogResponse createWorkout(WorkoutLogRequest request, String username, ZoneId zone) {
         User user = userRepo.findByUsername(username);
         if (user == null) {
             throw new UsernameNotFoundException("Username " + username + " not found");
@@ -55,16 +78,19 @@ public class WorkoutLogServiceImpl implements WorkoutLogService {
         WorkoutLog workout = WorkoutLog.builder()
                 .user(user)
                 .build();
+        workout.setLocalDate(localDate(workout, zone));
 
         populateWorkoutFromExercises(workout, request.getExercises());
 
         WorkoutLog saved = workoutLogRepo.save(workout);
+        recordLastPerformance(saved);
+        recordEnergy(saved, saved.getTotalCaloriesBurned());
         return toResponse(saved);
     }
 
     @Override
     @Transactional
-    public WorkoutLogResponse createWorkoutFromPlan(WorkoutLogFromPlanRequest request, String username) {
+    public WorkoutLogResponse createWorkoutFromPlan(WorkoutLogFromPlanRequest request, String username, ZoneId zone) {
         User user = userRepo.findByUsername(username);
         if (user == null) {
             throw new UsernameNotFoundException("Username " + username + " not found");
@@ -78,10 +104,14 @@ public class WorkoutLogServiceImpl implements WorkoutLogService {
                 .user(user)
                 .workoutPlanDay(planDay)
                 .build();
+        workout.setLocalDate(localDate(workout, zone));
 
         populateWorkoutFromExercises(workout, request.getExercises());
 
         WorkoutLog saved = workoutLogRepo.save(workout);
+        recordLastPerformance(saved);
+        recordEnergy(saved, saved.getTotalCaloriesBurned());
+        progressionService.recordSession(saved);
         return toResponse(saved);
     }
 
@@ -111,8 +141,9 @@ public class WorkoutLogServiceImpl implements WorkoutLogService {
             }
 
             WorkoutExerciseEntry entry = WorkoutExerciseEntry.builder()
-                    .name(exercise.getName())
-                    .category(exercise.getCategory())
+                    .exercise(exerciseService.resolve(exercise.getName(), exercise.getCategory()))
+                    .userId(workout.getUser().getId())
+                    .createdAt(workout.getCreatedAt())
                     .durationMinutes(exercise.getDurationMinutes())
                     .sets(exercise.getSets())
                     .reps(exercise.getReps())
@@ -133,6 +164,37 @@ public class WorkoutLogServiceImpl implements WorkoutLogService {
         workout.setTotalReps(totalReps);
     }
 
+    static LocalDate localDate(WorkoutLog workout, ZoneId zone) {
+        return LocalDate.ofInstant(workout.getCreatedAt(), zone != null ? zone : ZoneOffset.UTC);
+    }
+
+    // Picked up by EnergyBalanceProjector; written here so it commits or rolls back with the workout
+    private void recordEnergy(WorkoutLog workout, int calories) {
+        if (calories == 0) {
+            return;
+        }
+        energyEventRepo.save(WorkoutEnergyEvent.builder()
+                .userId(workout.getUser().getId())
+                .localDate(workout.getLocalDate())
+                .calories(calories)
+                .build());
+    }
+
+    private void recordLastPerformance(WorkoutLog workout) {
+        for (WorkoutExerciseEntry e : workout.getExercises()) {
+            lastPerformanceRepo.upsert(
+                    e.getUserId(),
+                    e.getExercise().getId(),
+                    workout.getId(),
+                    e.getCreatedAt(),
+                    e.getDurationMinutes(),
+                    e.getSets(),
+                    e.getReps(),
+                    e.getWeight(),
+                    e.getSetDetailsJson());
+        }
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<WorkoutLogResponse> getMyWorkouts(String username) {
@@ -146,6 +208,19 @@ public class WorkoutLogServiceImpl implements WorkoutLogService {
                 .toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<WorkoutLogResponse> getRecentWorkouts(String username, int limit) {
+        User user = userRepo.findByUsername(username);
+        if (user == null) {
+            throw new UsernameNotFoundException("Username " + username + " not found");
+        }
+        return workoutLogRepo.findByUserIdOrderByCreatedAtDesc(user.getId(), Limit.of(limit))
+                .stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
     @Override
     @Transactional
     public void deleteWorkout(Long id, String username) {
@@ -155,7 +230,22 @@ public class WorkoutLogServiceImpl implements WorkoutLogService {
         }
         WorkoutLog workout = workoutLogRepo.findByIdAndUserId(id, user.getId())
                 .orElseThrow(() -> new IllegalArgumentException("Workout not found or access denied"));
+        Set<Integer> exerciseIds = workout.getExercises().stream()
+                .map(e -> e.getExercise().getId())
+                .collect(Collectors.toSet());
+        boolean fromPlan = workout.getWorkoutPlanDay() != null;
         workoutLogRepo.delete(workout);
+        recordEnergy(workout, -workout.getTotalCaloriesBurned());
+
+        // Rows pointing at this workout are removed by ON DELETE CASCADE; fall back to the previous entry
+        if (!exerciseIds.isEmpty()) {
+            workoutLogRepo.flush();
+            lastPerformanceRepo.rebuild(user.getId(), exerciseIds);
+            // Only workouts logged from a plan day advance progression
+            if (fromPlan) {
+                progressionService.rebuild(user.getId(), exerciseIds);
+            }
+        }
     }
 
     private WorkoutLogResponse toResponse(WorkoutLog workout) {
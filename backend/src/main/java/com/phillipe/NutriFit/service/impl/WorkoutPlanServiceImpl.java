@@ -1,5 +1,10 @@
 package com.phillipe.NutriFit.service.impl;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.phillipe.NutriFit.repository.ExerciseLastPerformanceRepository;
+import com.phillipe.NutriFit.repository.ExerciseProgressionRepository;
 import com.phillipe.NutriFit.repository.UserRepository;
 import com.phillipe.NutriFit.repository.WorkoutLogRepository;
 import com.phillipe.NutriFit.model.entity.User;
@@ -8,14 +13,20 @@ import com.phillipe.NutriFit.repository.WorkoutPlanRepository;
 import com.phillipe.NutriFit.dto.request.WorkoutPlanDayRequest;
 import com.phillipe.NutriFit.dto.request.WorkoutPlanExerciseRequest;
 import com.phillipe.NutriFit.dto.request.WorkoutPlanRequest;
+import com.phillipe.NutriFit.dto.request.SetItemRequest;
+import com.phillipe.NutriFit.dto.response.LastPerformanceResponse;
+import com.phillipe.NutriFit.dto.response.NextTargetResponse;
 import com.phillipe.NutriFit.dto.response.PredefinedExerciseResponse;
 import com.phillipe.NutriFit.dto.response.WorkoutPlanDayResponse;
 import com.phillipe.NutriFit.dto.response.WorkoutPlanExerciseResponse;
 import com.phillipe.NutriFit.dto.response.WorkoutPlanResponse;
 import com.phillipe.NutriFit.model.*;
 import com.phillipe.NutriFit.model.embedded.WorkoutPlanExercise;
+import com.phillipe.NutriFit.model.entity.ExerciseLastPerformance;
+import com.phillipe.NutriFit.model.entity.ExerciseProgression;
 import com.phillipe.NutriFit.model.entity.WorkoutPlan;
 import com.phillipe.NutriFit.model.entity.WorkoutPlanDay;
+import com.phillipe.NutriFit.service.ExerciseService;
 import com.phillipe.NutriFit.service.WorkoutPlanService;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -25,8 +36,14 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class WorkoutPlanServiceImpl implements WorkoutPlanService {
@@ -35,15 +52,27 @@ public class WorkoutPlanServiceImpl implements WorkoutPlanService {
     private final WorkoutPlanDayRepository workoutPlanDayRepo;
     private final WorkoutLogRepository workoutLogRepo;
     private final UserRepository userRepo;
+    private final ExerciseService exerciseService;
+    private final ExerciseLastPerformanceRepository lastPerformanceRepo;
+    private final ExerciseProgressionRepository progressionRepo;
+    private final ObjectMapper objectMapper;
 
     public WorkoutPlanServiceImpl(WorkoutPlanRepository workoutPlanRepo,
                                    WorkoutPlanDayRepository workoutPlanDayRepo,
                                    WorkoutLogRepository workoutLogRepo,
-                                   UserRepository userRepo) {
+                                   UserRepository userRepo,
+                                   ExerciseService exerciseService,
+                                   ExerciseLastPerformanceRepository lastPerformanceRepo,
+                                   ExerciseProgressionRepository progressionRepo,
+                                   ObjectMapper objectMapper) {
         this.workoutPlanRepo = workoutPlanRepo;
         this.workoutPlanDayRepo = workoutPlanDayRepo;
         this.workoutLogRepo = workoutLogRepo;
         this.userRepo = userRepo;
+        this.exerciseService = exerciseService;
+        this.lastPerformanceRepo = lastPerformanceRepo;
+        this.progressionRepo = progressionRepo;
+        this.objectMapper = objectMapper;
     }
 
     private User findUserOrThrow(String username) {
@@ -73,16 +102,19 @@ public class WorkoutPlanServiceImpl implements WorkoutPlanService {
         }
 
         WorkoutPlan saved = workoutPlanRepo.save(plan);
-        return toResponse(saved);
+        return toResponse(saved, loadProgression(user.getId(), saved.getDays()));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<WorkoutPlanResponse> getMyPlans(String username) {
         User user = findUserOrThrow(username);
-        return workoutPlanRepo.findByUserIdOrderByCreatedAtDesc(user.getId())
-                .stream()
-                .map(this::toResponse)
+        List<WorkoutPlan> plans = workoutPlanRepo.findByUserIdOrderByCreatedAtDesc(user.getId());
+        Map<RepRange, ExerciseProgression> progression = loadProgression(user.getId(), plans.stream()
+                .flatMap(plan -> plan.getDays().stream())
+                .toList());
+        return plans.stream()
+                .map(plan -> toResponse(plan, progression))
                 .toList();
     }
 
@@ -92,7 +124,7 @@ public class WorkoutPlanServiceImpl implements WorkoutPlanService {
         User user = findUserOrThrow(username);
         WorkoutPlan plan = workoutPlanRepo.findByIdAndUserId(id, user.getId())
                 .orElseThrow(() -> new EntityNotFoundException("Workout plan not found"));
-        return toResponse(plan);
+        return toResponse(plan, loadProgression(user.getId(), plan.getDays()));
     }
 
     @Override
@@ -125,7 +157,7 @@ public class WorkoutPlanServiceImpl implements WorkoutPlanService {
         }
 
         WorkoutPlan saved = workoutPlanRepo.save(plan);
-        return toResponse(saved);
+        return toResponse(saved, loadProgression(user.getId(), saved.getDays()));
     }
 
     @Override
@@ -153,7 +185,23 @@ public class WorkoutPlanServiceImpl implements WorkoutPlanService {
         User user = findUserOrThrow(username);
         WorkoutPlanDay day = workoutPlanDayRepo.findByIdAndWorkoutPlanUserId(dayId, user.getId())
                 .orElseThrow(() -> new EntityNotFoundException("Workout plan day not found"));
-        return toDayResponse(day);
+        return toDayResponse(day, Collections.emptyMap(), loadProgression(user.getId(), List.of(day)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public WorkoutPlanDayResponse startPlanDay(Long dayId, String username) {
+        User user = findUserOrThrow(username);
+        WorkoutPlanDay day = workoutPlanDayRepo.findByIdAndWorkoutPlanUserId(dayId, user.getId())
+                .orElseThrow(() -> new EntityNotFoundException("Workout plan day not found"));
+
+        Set<Integer> exerciseIds = exerciseIds(List.of(day));
+        Map<Integer, ExerciseLastPerformance> lastByExercise = exerciseIds.isEmpty()
+                ? Collections.emptyMap()
+                : lastPerformanceRepo.findByUserIdAndExerciseIdIn(user.getId(), exerciseIds).stream()
+                        .collect(Collectors.toMap(ExerciseLastPerformance::getExerciseId, Function.identity()));
+
+        return toDayResponse(day, lastByExercise, loadProgression(user.getId(), List.of(day)));
     }
 
     @Override
@@ -182,9 +230,11 @@ public class WorkoutPlanServiceImpl implements WorkoutPlanService {
 
         if (request.getExercises() != null) {
             for (WorkoutPlanExerciseRequest exerciseRequest : request.getExercises()) {
+                String category = exerciseRequest.getCategory() != null
+                        ? exerciseRequest.getCategory().name()
+                        : null;
                 WorkoutPlanExercise exercise = WorkoutPlanExercise.builder()
-                        .name(exerciseRequest.getName())
-                        .category(exerciseRequest.getCategory())
+                        .exercise(exerciseService.resolve(exerciseRequest.getName(), category))
                         .isCustom(exerciseRequest.getIsCustom() != null ? exerciseRequest.getIsCustom() : false)
                         .targetSets(exerciseRequest.getTargetSets())
                         .targetReps(exerciseRequest.getTargetReps())
@@ -197,10 +247,27 @@ public class WorkoutPlanServiceImpl implements WorkoutPlanService {
         return day;
     }
 
-    private WorkoutPlanResponse toResponse(WorkoutPlan plan) {
+    private Set<Integer> exerciseIds(Collection<WorkoutPlanDay> days) {
+        return days.stream()
+                .flatMap(day -> day.getExercises().stream())
+                .map(e -> e.getExercise().getId())
+                .collect(Collectors.toSet());
+    }
+
+    // One indexed read for every exercise in the plans being returned
+    private Map<RepRange, ExerciseProgression> loadProgression(Long userId, Collection<WorkoutPlanDay> days) {
+        Set<Integer> exerciseIds = exerciseIds(days);
+        if (exerciseIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return progressionRepo.findByUserIdAndExerciseIdIn(userId, exerciseIds).stream()
+                .collect(Collectors.toMap(p -> new RepRange(p.getExerciseId(), p.getMinReps()), Function.identity()));
+    }
+
+    private WorkoutPlanResponse toResponse(WorkoutPlan plan, Map<RepRange, ExerciseProgression> progression) {
         List<WorkoutPlanDayResponse> days = plan.getDays().stream()
                 .sorted(Comparator.comparing(WorkoutPlanDay::getDayNumber))
-                .map(this::toDayResponse)
+                .map(day -> toDayResponse(day, Collections.emptyMap(), progression))
                 .toList();
 
         return WorkoutPlanResponse.builder()
@@ -212,7 +279,9 @@ public class WorkoutPlanServiceImpl implements WorkoutPlanService {
                 .build();
     }
 
-    private WorkoutPlanDayResponse toDayResponse(WorkoutPlanDay day) {
+    private WorkoutPlanDayResponse toDayResponse(WorkoutPlanDay day,
+                                                 Map<Integer, ExerciseLastPerformance> lastByExercise,
+                                                 Map<RepRange, ExerciseProgression> progression) {
         List<WorkoutPlanExerciseResponse> exercises = day.getExercises().stream()
                 .map(e -> WorkoutPlanExerciseResponse.builder()
                         .name(e.getName())
@@ -221,6 +290,9 @@ public class WorkoutPlanServiceImpl implements WorkoutPlanService {
                         .targetSets(e.getTargetSets())
                         .targetReps(e.getTargetReps())
                         .targetWeight(e.getTargetWeight())
+                        .lastPerformance(toLastPerformanceResponse(lastByExercise.get(e.getExercise().getId())))
+                        .recommendation(toNextTargetResponse(progression.get(
+                                new RepRange(e.getExercise().getId(), ProgressionServiceImpl.minReps(e)))))
                         .build())
                 .toList();
 
@@ -231,4 +303,36 @@ public class WorkoutPlanServiceImpl implements WorkoutPlanService {
                 .exercises(exercises)
                 .build();
     }
+
+    private NextTargetResponse toNextTargetResponse(ExerciseProgression progression) {
+        return progression != null ? NextTargetResponse.fromEntity(progression) : null;
+    }
+
+    private LastPerformanceResponse toLastPerformanceResponse(ExerciseLastPerformance last) {
+        if (last == null) {
+            return null;
+        }
+
+        List<SetItemRequest> setDetails = null;
+        if (last.getSetDetailsJson() != null && !last.getSetDetailsJson().isBlank()) {
+            try {
+                setDetails = objectMapper.readValue(last.getSetDetailsJson(), new TypeReference<List<SetItemRequest>>() {});
+            } catch (JsonProcessingException ignored) {
+                // If deserialization fails, leave setDetails null
+            }
+        }
+
+        return LastPerformanceResponse.builder()
+                .workoutLogId(last.getWorkoutLogId())
+                .performedAt(last.getPerformedAt())
+                .durationMinutes(last.getDurationMinutes())
+                .sets(last.getSets())
+                .reps(last.getReps())
+                .weight(last.getWeight())
+                .setDetails(setDetails)
+                .build();
+    }
+
+    // Progression is kept per exercise and rep range
+    private record RepRange(Integer exerciseId, int minReps) {}
 }
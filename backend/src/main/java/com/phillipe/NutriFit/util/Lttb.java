@@ -0,0 +1,77 @@
+package com.phillipe.NutriFit.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Largest-Triangle-Three-Buckets downsampling (Steinarsson, 2013).
+ * <p>
+ * Keeps the first and last point and, from each of {@code threshold - 2} equal buckets in
+ * between, the point forming the largest triangle with the previously kept point and the
+ * average of the next bucket. Peaks and dips survive, unlike with plain averaging or striding.
+ */
+public final class Lttb {
+
+    private Lttb() {
+    }
+
+    /**
+     * Returns at most {@code threshold} points of {@code points}, which must be sorted by x.
+     * Lists already within the threshold, or thresholds below 3, are returned unchanged.
+     */
+    public static <T> List<T> downsample(List<T> points, int threshold,
+                                         ToDoubleFunction<T> x, ToDoubleFunction<T> y) {
+        int size = points.size();
+        if (threshold < 3 || size <= threshold) {
+            return points;
+        }
+
+        List<T> sampled = new ArrayList<>(threshold);
+        sampled.add(points.getFirst());
+
+        // Interior points are split into threshold - 2 buckets of fractional width
+        double bucketWidth = (double) (size - 2) / (threshold - 2);
+        int selected = 0;
+
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            int start = (int) Math.floor(bucket * bucketWidth) + 1;
+            int end = (int) Math.floor((bucket + 1) * bucketWidth) + 1;
+
+            // Average of the next bucket; the last bucket looks ahead to the final point
+            int nextStart = end;
+            int nextEnd = Math.min((int) Math.floor((bucket + 2) * bucketWidth) + 1, size);
+            double avgX = 0;
+            double avgY = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                avgX += x.applyAsDouble(points.get(i));
+                avgY += y.applyAsDouble(points.get(i));
+            }
+            int nextCount = nextEnd - nextStart;
+            avgX /= nextCount;
+            avgY /= nextCount;
+
+            double ax = x.applyAsDouble(points.get(selected));
+            double ay = y.applyAsDouble(points.get(selected));
+
+            double maxArea = -1;
+            int maxIndex = start;
+            for (int i = start; i < end; i++) {
+                double bx = x.applyAsDouble(points.get(i));
+                double by = y.applyAsDouble(points.get(i));
+                // Twice the triangle area; the factor doesn't change which point wins
+                double area = Math.abs((ax - avgX) * (by - ay) - (ax - bx) * (avgY - ay));
+                if (area > maxArea) {
+                    maxArea = area;
+                    maxIndex = i;
+                }
+            }
+
+            sampled.add(points.get(maxIndex));
+            selected = maxIndex;
+        }
+
+        sampled.add(points.getLast());
+        return sampled;
+    }
+}
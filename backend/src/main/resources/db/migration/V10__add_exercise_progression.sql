@@ -0,0 +1,16 @@
+-- Per (user, exercise) progression state, advanced each time a plan day is logged.
+-- next_* columns hold the precomputed recommendation so plan reads do no arithmetic over history.
+CREATE TABLE exercise_progression (
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    exercise_id INTEGER NOT NULL REFERENCES exercise(id),
+    sessions INTEGER NOT NULL DEFAULT 0,
+    best_e1rm DOUBLE PRECISION,
+    last_e1rm DOUBLE PRECISION,
+    stall_count INTEGER NOT NULL DEFAULT 0,
+    next_sets INTEGER,
+    next_reps INTEGER,
+    next_weight INTEGER,
+    deload BOOLEAN NOT NULL DEFAULT FALSE,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (user_id, exercise_id)
+);
@@ -0,0 +1,17 @@
+-- Audit events are written here in the request transaction and moved to
+-- user_change_history in batches by a background relay.
+CREATE TABLE change_history_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    entity_type VARCHAR(20) NOT NULL,
+    entity_id BIGINT,
+    changes TEXT NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    last_error TEXT
+);
+
+-- The relay only ever scans pending events in id order
+CREATE INDEX idx_change_history_outbox_pending ON change_history_outbox(id) WHERE status = 'PENDING';
@@ -0,0 +1,81 @@
+-- Range-partition user_change_history by month of changed_at.
+-- Reads are always scoped to one user and ordered by (changed_at, id), so partition pruning
+-- plus a per-partition (user_id, changed_at, id) index keeps them cheap as the table grows,
+-- and old months can be compacted or dropped without vacuuming one huge heap.
+
+ALTER TABLE user_change_history RENAME TO user_change_history_unpartitioned;
+ALTER SEQUENCE user_change_history_id_seq OWNED BY NONE;
+
+CREATE TABLE user_change_history (
+    id BIGINT NOT NULL DEFAULT nextval('user_change_history_id_seq'),
+    user_id BIGINT NOT NULL REFERENCES users(id),
+    entity_type VARCHAR(20) NOT NULL,
+    entity_id BIGINT,
+    field_name VARCHAR(50) NOT NULL,
+    old_value TEXT,
+    new_value TEXT,
+    changed_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (id, changed_at)
+) PARTITION BY RANGE (changed_at);
+
+ALTER SEQUENCE user_change_history_id_seq OWNED BY user_change_history.id;
+
+-- Catches rows outside any monthly partition so inserts never fail; should stay empty
+CREATE TABLE user_change_history_default PARTITION OF user_change_history DEFAULT;
+
+CREATE INDEX idx_user_change_history_user_changed
+    ON user_change_history(user_id, changed_at DESC, id DESC);
+
+-- Idempotently creates the partition covering the UTC month that contains p_month.
+-- Rows that already fell into the default partition for that month are moved into it,
+-- since Postgres refuses to create a partition that would overlap rows in the default.
+-- Called at startup and daily by ChangeHistoryPartitionMaintainer.
+CREATE OR REPLACE FUNCTION ensure_user_change_history_partition(p_month DATE)
+RETURNS VOID AS $$
+DECLARE
+    v_start TIMESTAMPTZ := date_trunc('month', p_month)::TIMESTAMP AT TIME ZONE 'UTC';
+    v_end TIMESTAMPTZ := (date_trunc('month', p_month) + INTERVAL '1 month')::TIMESTAMP AT TIME ZONE 'UTC';
+    v_name TEXT := 'user_change_history_' || to_char(p_month, 'YYYY_MM');
+BEGIN
+    IF to_regclass(v_name) IS NOT NULL THEN
+        RETURN;
+    END IF;
+
+    CREATE TEMP TABLE user_change_history_moved (LIKE user_change_history) ON COMMIT DROP;
+    WITH moved AS (
+        DELETE FROM user_change_history_default
+        WHERE changed_at >= v_start AND changed_at < v_end
+        RETURNING *
+    )
+    INSERT INTO user_change_history_moved SELECT * FROM moved;
+
+    EXECUTE format(
+        'CREATE TABLE %I PARTITION OF user_change_history FOR VALUES FROM (%L) TO (%L)',
+        v_name, v_start, v_end);
+
+    INSERT INTO user_change_history SELECT * FROM user_change_history_moved;
+    DROP TABLE user_change_history_moved;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Partitions for every month that already has history, plus the next few months
+DO $$
+DECLARE
+    v_month DATE;
+BEGIN
+    FOR v_month IN
+        SELECT generate_series(
+            date_trunc('month', COALESCE((SELECT MIN(changed_at) FROM user_change_history_unpartitioned), now()) AT TIME ZONE 'UTC'),
+            date_trunc('month', now() AT TIME ZONE 'UTC') + INTERVAL '3 months',
+            INTERVAL '1 month')::DATE
+    LOOP
+        PERFORM ensure_user_change_history_partition(v_month);
+    END LOOP;
+END;
+$$;
+
+INSERT INTO user_change_history (id, user_id, entity_type, entity_id, field_name, old_value, new_value, changed_at)
+SELECT id, user_id, entity_type, entity_id, field_name, old_value, new_value, changed_at
+FROM user_change_history_unpartitioned;
+
+DROP TABLE user_change_history_unpartitioned;
@@ -0,0 +1,6 @@
+-- Every measurement query is one user's rows ordered or filtered by time (history, latest, trends).
+-- The composite index serves all of them; the single-column indexes it replaces are redundant.
+CREATE INDEX idx_body_measurement_user_recorded ON body_measurement(user_id, recorded_at);
+
+DROP INDEX idx_body_measurement_user_id;
+DROP INDEX idx_body_measurement_recorded_at;
@@ -0,0 +1,58 @@
+-- Running sufficient statistics per (user, measurement field), kept in step with body_measurement.
+-- t is days since origin. Plain sums give an ordinary least-squares fit over all history; the w_*
+-- sums weight each point by exp(ln2/14 * t), a 14-day half-life, for a recency-weighted fit and
+-- average. Both sets are plain sums, so a measurement is added or removed in O(1).
+CREATE TABLE measurement_stats (
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    field VARCHAR(30) NOT NULL,
+    origin TIMESTAMP WITH TIME ZONE NOT NULL,
+    n BIGINT NOT NULL,
+    sum_t DOUBLE PRECISION NOT NULL,
+    sum_y DOUBLE PRECISION NOT NULL,
+    sum_tt DOUBLE PRECISION NOT NULL,
+    sum_ty DOUBLE PRECISION NOT NULL,
+    sum_yy DOUBLE PRECISION NOT NULL,
+    w_sum DOUBLE PRECISION NOT NULL,
+    w_t DOUBLE PRECISION NOT NULL,
+    w_y DOUBLE PRECISION NOT NULL,
+    w_tt DOUBLE PRECISION NOT NULL,
+    w_ty DOUBLE PRECISION NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (user_id, field)
+);
+
+-- Backfill with each user's latest measurement as origin, so existing weights are at most 1
+WITH points AS (
+    SELECT m.user_id, v.field, m.recorded_at, v.value AS y
+    FROM body_measurement m
+    CROSS JOIN LATERAL (VALUES
+        ('HEIGHT_CM', m.height_cm),
+        ('WEIGHT_KG', m.weight_kg),
+        ('BODY_FAT_PERCENT', m.body_fat_percent),
+        ('NECK_CM', m.neck_cm),
+        ('SHOULDERS_CM', m.shoulders_cm),
+        ('CHEST_CM', m.chest_cm),
+        ('BICEPS_CM', m.biceps_cm),
+        ('FOREARMS_CM', m.forearms_cm),
+        ('WAIST_CM', m.waist_cm),
+        ('HIPS_CM', m.hips_cm),
+        ('THIGHS_CM', m.thighs_cm),
+        ('CALVES_CM', m.calves_cm)
+    ) AS v(field, value)
+    WHERE v.value IS NOT NULL
+), origins AS (
+    SELECT user_id, MAX(recorded_at) AS origin FROM body_measurement GROUP BY user_id
+), timed AS (
+    SELECT p.user_id, p.field, o.origin, p.y,
+           EXTRACT(EPOCH FROM (p.recorded_at - o.origin)) / 86400.0 AS t
+    FROM points p
+    JOIN origins o ON o.user_id = p.user_id
+), weighted AS (
+    SELECT timed.*, exp(GREATEST(ln(2) / 14 * t, -700)) AS w FROM timed
+)
+INSERT INTO measurement_stats (user_id, field, origin, n, sum_t, sum_y, sum_tt, sum_ty, sum_yy,
+                               w_sum, w_t, w_y, w_tt, w_ty, updated_at)
+SELECT user_id, field, origin, COUNT(*), SUM(t), SUM(y), SUM(t * t), SUM(t * y), SUM(y * y),
+       SUM(w), SUM(w * t), SUM(w * y), SUM(w * t * t), SUM(w * t * y), NOW()
+FROM weighted
+GROUP BY user_id, field, origin;
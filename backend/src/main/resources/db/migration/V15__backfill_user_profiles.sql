@@ -0,0 +1,6 @@
+-- Profiles are now created with the user, so GET /profile never has to insert one.
+-- Give every existing user without a profile the default one it would have got on first read.
+INSERT INTO user_profile (user_id)
+SELECT u.id
+FROM users u
+WHERE NOT EXISTS (SELECT 1 FROM user_profile p WHERE p.user_id = u.id);
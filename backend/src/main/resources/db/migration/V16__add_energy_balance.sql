@@ -0,0 +1,38 @@
+-- Per-user daily energy balance: calories eaten (from nutrition-service's meal change feed)
+-- against calories burned (from workouts), maintained by EnergyBalanceProjector.
+
+-- Workouts count towards the day they were logged on in the user's zone; existing ones by UTC
+ALTER TABLE workout_log ADD COLUMN local_date DATE;
+UPDATE workout_log SET local_date = (created_at AT TIME ZONE 'UTC')::date;
+ALTER TABLE workout_log ALTER COLUMN local_date SET NOT NULL;
+
+-- Burned-calorie changes, written in the workout's transaction and projected in the background
+CREATE TABLE workout_energy_event (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    local_date DATE NOT NULL,
+    -- Negative when a workout is deleted
+    calories INTEGER NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE TABLE energy_balance_daily (
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    local_date DATE NOT NULL,
+    calories_in INTEGER NOT NULL DEFAULT 0,
+    calories_out INTEGER NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id, local_date)
+);
+
+-- Last event applied from each remote feed; advanced in the transaction that applies the events
+CREATE TABLE energy_feed_cursor (
+    source VARCHAR(20) PRIMARY KEY,
+    last_event_id BIGINT NOT NULL
+);
+
+INSERT INTO energy_feed_cursor (source, last_event_id) VALUES ('meals', 0);
+
+INSERT INTO energy_balance_daily (user_id, local_date, calories_out)
+SELECT user_id, local_date, SUM(total_calories_burned)
+FROM workout_log
+GROUP BY user_id, local_date;
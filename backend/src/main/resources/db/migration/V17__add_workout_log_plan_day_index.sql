@@ -0,0 +1,5 @@
+-- Unlinking workouts from the days of a deleted or edited plan (clearWorkoutPlanDayReferences),
+-- and the foreign key check when those days are deleted, look workouts up by plan day.
+-- Without this they scan every workout of every user. Most workouts are not logged from a plan.
+CREATE INDEX idx_workout_log_workout_plan_day_id ON workout_log(workout_plan_day_id)
+    WHERE workout_plan_day_id IS NOT NULL;
@@ -0,0 +1,30 @@
+-- Progression is tracked per rep range: the same exercise planned for 5 reps in one plan and
+-- 12 in another progresses separately. min_reps is the bottom of the range the state was
+-- advanced against (the plan exercise's target_reps, or 8 without one); the range spans 4 reps.
+ALTER TABLE exercise_progression ADD COLUMN min_reps INTEGER;
+ALTER TABLE exercise_progression DROP CONSTRAINT exercise_progression_pkey;
+
+-- Existing rows don't say which plan advanced them, so each range the user plans the exercise
+-- in starts from the shared state, its recommended reps moved into that range. States of
+-- exercises no plan holds any more can't be reached and are dropped.
+INSERT INTO exercise_progression (user_id, exercise_id, min_reps, sessions, best_e1rm, last_e1rm,
+                                  stall_count, next_sets, next_reps, next_weight, deload, updated_at)
+SELECT ep.user_id, ep.exercise_id, ranges.min_reps, ep.sessions, ep.best_e1rm, ep.last_e1rm,
+       ep.stall_count, ep.next_sets,
+       CASE WHEN ep.next_reps IS NULL THEN NULL
+            ELSE LEAST(GREATEST(ep.next_reps, ranges.min_reps), ranges.min_reps + 4) END,
+       ep.next_weight, ep.deload, ep.updated_at
+FROM exercise_progression ep
+JOIN (
+    SELECT DISTINCT wp.user_id, wpe.exercise_id,
+           CASE WHEN wpe.target_reps > 0 THEN wpe.target_reps ELSE 8 END AS min_reps
+    FROM workout_plan_day_exercises wpe
+    JOIN workout_plan_day d ON d.id = wpe.workout_plan_day_id
+    JOIN workout_plan wp ON wp.id = d.workout_plan_id
+) ranges ON ranges.user_id = ep.user_id AND ranges.exercise_id = ep.exercise_id
+WHERE ep.min_reps IS NULL;
+
+DELETE FROM exercise_progression WHERE min_reps IS NULL;
+
+ALTER TABLE exercise_progression ALTER COLUMN min_reps SET NOT NULL;
+ALTER TABLE exercise_progression ADD PRIMARY KEY (user_id, exercise_id, min_reps);
@@ -0,0 +1,7 @@
+-- Months of user_change_history that ChangeHistoryPartitionMaintainer has compacted, so each
+-- run compacts every older month it hasn't yet (after downtime, or when compact-after-months
+-- is lowered) and never rescans one it has.
+CREATE TABLE user_change_history_compacted_month (
+    month DATE PRIMARY KEY,
+    compacted_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW()
+);
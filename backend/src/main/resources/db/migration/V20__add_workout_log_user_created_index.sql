@@ -0,0 +1,5 @@
+-- Workouts are read per user newest first: the whole history, or only the latest few for the
+-- dashboard. Ordered by created_at in the index, the latter stops after those few rows instead
+-- of sorting every workout the user has. It also serves lookups by user_id alone.
+CREATE INDEX idx_workout_log_user_created ON workout_log(user_id, created_at DESC);
+DROP INDEX idx_workout_log_user_id;
@@ -0,0 +1,3 @@
+-- nutrition-service's meal feed is ordered by the writing transaction, then the event id. The
+-- events it had before are all at transaction 0, so a cursor at (0, last_event_id) stays where it was.
+ALTER TABLE energy_feed_cursor ADD COLUMN last_event_xact_id BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,201 @@
+-- Dictionary-encode exercise names and categories.
+-- workout_log_exercises and workout_plan_day_exercises used to repeat the exercise
+-- name/category as free text on every row; they now reference a shared exercise row.
+
+CREATE TABLE exercise (
+    id SERIAL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    category VARCHAR(255)
+);
+
+-- One dictionary row per (name, category); NULL categories compare equal
+CREATE UNIQUE INDEX exercise_name_category_idx ON exercise (name, COALESCE(category, ''));
+
+-- Seed from the predefined exercise catalog (PredefinedExercise enum)
+INSERT INTO exercise (name, category) VALUES
+    ('Bench Press', 'CHEST'),
+    ('Smith Machine Bench Press', 'CHEST'),
+    ('Incline Bench Press', 'CHEST'),
+    ('Smith Machine Incline Bench Press', 'CHEST'),
+    ('Decline Bench Press', 'CHEST'),
+    ('Smith Machine Decline Bench Press', 'CHEST'),
+    ('Dumbbell Press', 'CHEST'),
+    ('Incline Dumbbell Press', 'CHEST'),
+    ('Cable Press', 'CHEST'),
+    ('Incline Cable Press', 'CHEST'),
+    ('Dumbbell Pullover', 'CHEST'),
+    ('Push-up', 'CHEST'),
+    ('Chest Fly', 'CHEST'),
+    ('Cable Fly', 'CHEST'),
+    ('Machine Fly', 'CHEST'),
+    ('Cable Crossover', 'CHEST'),
+    ('Dip', 'CHEST'),
+    ('Pull-up', 'BACK'),
+    ('Chin-up', 'BACK'),
+    ('Lat Pulldown', 'BACK'),
+    ('Close-crip Lat Pulldown', 'BACK'),
+    ('Barbell Row', 'BACK'),
+    ('Dumbbell Row', 'BACK'),
+    ('Smith Machine Barbell Row', 'BACK'),
+    ('Smith Machine Deadlift', 'BACK'),
+    ('Chest-Supported Row', 'BACK'),
+    ('Cable Row', 'BACK'),
+    ('Deadlift', 'BACK'),
+    ('T-Bar Row', 'BACK'),
+    ('Face Pull', 'BACK'),
+    ('Neutral-Grip Pulldown', 'BACK'),
+    ('Straight-Arm Pulldown', 'BACK'),
+    ('Single-Arm Lat Pulldown', 'BACK'),
+    ('Inverted Row', 'BACK'),
+    ('Meadows Row', 'BACK'),
+    ('Back Extension', 'BACK'),
+    ('Barbell Curl', 'BICEPS'),
+    ('Dumbbell Curl', 'BICEPS'),
+    ('Hammer Curl', 'BICEPS'),
+    ('Preacher Curl', 'BICEPS'),
+    ('Concentration Curl', 'BICEPS'),
+    ('Cable Curl', 'BICEPS'),
+    ('Tricep Pushdown', 'TRICEPS'),
+    ('Skull Crusher', 'TRICEPS'),
+    ('Overhead Tricep Extension', 'TRICEPS'),
+    ('Close-Grip Bench Press', 'TRICEPS'),
+    ('Tricep Dip', 'TRICEPS'),
+    ('Tricep Kickback', 'TRICEPS'),
+    ('Overhead Press', 'SHOULDERS'),
+    ('Smith Machine Overhead Press', 'SHOULDERS'),
+    ('Machine Press', 'SHOULDERS'),
+    ('Dumbbell Shoulder Press', 'SHOULDERS'),
+    ('Lateral Raise', 'SHOULDERS'),
+    ('Front Raise', 'SHOULDERS'),
+    ('Rear Delt Fly', 'SHOULDERS'),
+    ('Arnold Press', 'SHOULDERS'),
+    ('Upright Row', 'SHOULDERS'),
+    ('Smith Machine Row', 'SHOULDERS'),
+    ('Shrug', 'SHOULDERS'),
+    ('Smith Machine Shrug', 'SHOULDERS'),
+    ('Romanian Deadlift', 'HAMSTRINGS'),
+    ('Smith Machine Romanian Deadlift', 'HAMSTRINGS'),
+    ('Single-Leg Romanian Deadlift', 'HAMSTRINGS'),
+    ('Single-Leg Deadlift', 'HAMSTRINGS'),
+    ('Stiff-Leg Deadlift', 'HAMSTRINGS'),
+    ('Smith Machine Stiff-Leg Deadlift', 'HAMSTRINGS'),
+    ('Seated Leg Curl', 'HAMSTRINGS'),
+    ('Good Morning', 'HAMSTRINGS'),
+    ('Smith Machine Good Morning', 'HAMSTRINGS'),
+    ('Nordic Curl', 'HAMSTRINGS'),
+    ('Squat', 'QUADS'),
+    ('Smith Machine Squat', 'QUADS'),
+    ('Front Squat', 'QUADS'),
+    ('Smith Machine Front Squat', 'QUADS'),
+    ('Leg Press', 'QUADS'),
+    ('Leg Extension', 'QUADS'),
+    ('Lunge', 'QUADS'),
+    ('Smith Machine Lunge', 'QUADS'),
+    ('Bulgarian Split Squat', 'QUADS'),
+    ('Smith Machine Bulgarian Split Squat', 'QUADS'),
+    ('Goblet Squat', 'QUADS'),
+    ('Hack Squat', 'QUADS'),
+    ('Hip Thrust', 'GLUTES'),
+    ('Smith Machine Hip Thrust', 'GLUTES'),
+    ('Glute Bridge', 'GLUTES'),
+    ('Smith Machine Glute Bridge', 'GLUTES'),
+    ('Cable Kickback', 'GLUTES'),
+    ('Sumo Deadlift', 'GLUTES'),
+    ('Smith Machine Sumo Deadlift', 'GLUTES'),
+    ('Calf Raise', 'CALVES'),
+    ('Seated Calf Raise', 'CALVES'),
+    ('Donkey Calf Raise', 'CALVES'),
+    ('Dumbbell Wrist Curl', 'FOREARMS'),
+    ('Barbell Wrist Curl', 'FOREARMS'),
+    ('Cable Wrist Curl', 'FOREARMS'),
+    ('Reverse Wrist Curl', 'FOREARMS'),
+    ('Dumbbell Reverse Wrist Curl', 'FOREARMS'),
+    ('Barbell Reverse Wrist Curl', 'FOREARMS'),
+    ('Cable Reverse Wrist Curl', 'FOREARMS'),
+    ('Reverse Curl', 'FOREARMS'),
+    ('Farmer''s Carry', 'FOREARMS'),
+    ('Suitcase Carry', 'FOREARMS'),
+    ('Plate Pinch Hold', 'FOREARMS'),
+    ('Dead Hang', 'FOREARMS'),
+    ('Fat Grip Dumbbell Hold', 'FOREARMS'),
+    ('Wrist Roller', 'FOREARMS'),
+    ('Pronation/Supination', 'FOREARMS'),
+    ('Dumbbell Pronation', 'FOREARMS'),
+    ('Dumbbell Supination', 'FOREARMS'),
+    ('Radial Deviation', 'FOREARMS'),
+    ('Ulnar Deviation', 'FOREARMS'),
+    ('Plank', 'CORE'),
+    ('Side Plank', 'CORE'),
+    ('Crunch', 'CORE'),
+    ('Crunch Machine', 'CORE'),
+    ('Cable Crunch', 'CORE'),
+    ('Leg Raise', 'CORE'),
+    ('Butter Fly Kicks', 'CORE'),
+    ('Scissor Kicks', 'CORE'),
+    ('Russian Twist', 'CORE'),
+    ('Ab Wheel Rollout', 'CORE'),
+    ('Dead Bug', 'CORE'),
+    ('Hanging Leg Raise', 'CORE'),
+    ('Ab Circuit', 'CORE'),
+    ('Running', 'CARDIO'),
+    ('Walking', 'CARDIO'),
+    ('Cycling', 'CARDIO'),
+    ('Rowing', 'CARDIO'),
+    ('Jump Rope', 'CARDIO'),
+    ('Stair Climber', 'CARDIO'),
+    ('Elliptical', 'CARDIO'),
+    ('Burpees', 'CARDIO'),
+    ('Jumping Jacks', 'CARDIO')
+ON CONFLICT DO NOTHING;
+
+-- Custom names already in use by logs and plans
+INSERT INTO exercise (name, category)
+SELECT DISTINCT name, category FROM workout_log_exercises
+ON CONFLICT DO NOTHING;
+
+INSERT INTO exercise (name, category)
+SELECT DISTINCT name, category FROM workout_plan_day_exercises
+ON CONFLICT DO NOTHING;
+
+-- Workout log exercises: reference the dictionary and carry the owning user and
+-- workout time so per-exercise history can be read from a single index
+ALTER TABLE workout_log_exercises ADD COLUMN exercise_id INTEGER REFERENCES exercise(id);
+ALTER TABLE workout_log_exercises ADD COLUMN user_id BIGINT;
+ALTER TABLE workout_log_exercises ADD COLUMN created_at TIMESTAMP WITH TIME ZONE;
+
+UPDATE workout_log_exercises wle
+SET exercise_id = e.id
+FROM exercise e
+WHERE e.name = wle.name
+  AND COALESCE(e.category, '') = COALESCE(wle.category, '');
+
+UPDATE workout_log_exercises wle
+SET user_id = wl.user_id,
+    created_at = wl.created_at
+FROM workout_log wl
+WHERE wl.id = wle.workout_log_id;
+
+ALTER TABLE workout_log_exercises ALTER COLUMN exercise_id SET NOT NULL;
+ALTER TABLE workout_log_exercises ALTER COLUMN user_id SET NOT NULL;
+ALTER TABLE workout_log_exercises ALTER COLUMN created_at SET NOT NULL;
+ALTER TABLE workout_log_exercises DROP COLUMN name;
+ALTER TABLE workout_log_exercises DROP COLUMN category;
+
+CREATE INDEX idx_workout_log_exercises_workout_log_id ON workout_log_exercises(workout_log_id);
+CREATE INDEX idx_workout_log_exercises_user_exercise
+    ON workout_log_exercises(user_id, exercise_id, created_at DESC);
+
+-- Workout plan day exercises: reference the dictionary
+ALTER TABLE workout_plan_day_exercises ADD COLUMN exercise_id INTEGER REFERENCES exercise(id);
+
+UPDATE workout_plan_day_exercises wpe
+SET exercise_id = e.id
+FROM exercise e
+WHERE e.name = wpe.name
+  AND COALESCE(e.category, '') = COALESCE(wpe.category, '');
+
+ALTER TABLE workout_plan_day_exercises ALTER COLUMN exercise_id SET NOT NULL;
+ALTER TABLE workout_plan_day_exercises DROP COLUMN name;
+ALTER TABLE workout_plan_day_exercises DROP COLUMN category;
+
+CREATE INDEX idx_workout_plan_day_exercises_day_id ON workout_plan_day_exercises(workout_plan_day_id);
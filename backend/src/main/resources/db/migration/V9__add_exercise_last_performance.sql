@@ -0,0 +1,25 @@
+-- Most recent logged performance per (user, exercise), kept current on workout writes
+-- so starting a workout from a plan day does not need to scan workout history.
+CREATE TABLE exercise_last_performance (
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    exercise_id INTEGER NOT NULL REFERENCES exercise(id),
+    workout_log_id BIGINT NOT NULL REFERENCES workout_log(id) ON DELETE CASCADE,
+    performed_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    duration_minutes INTEGER,
+    sets INTEGER,
+    reps INTEGER,
+    weight INTEGER,
+    set_details TEXT,
+    PRIMARY KEY (user_id, exercise_id)
+);
+
+CREATE INDEX idx_exercise_last_performance_workout_log_id ON exercise_last_performance(workout_log_id);
+
+-- Backfill from existing history
+INSERT INTO exercise_last_performance (user_id, exercise_id, workout_log_id, performed_at,
+                                       duration_minutes, sets, reps, weight, set_details)
+SELECT DISTINCT ON (user_id, exercise_id)
+       user_id, exercise_id, workout_log_id, created_at,
+       duration_minutes, sets, reps, weight, set_details
+FROM workout_log_exercises
+ORDER BY user_id, exercise_id, created_at DESC, workout_log_id DESC;
@@ -0,0 +1,153 @@
+package com.phillipe.NutriFit.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Runs the JMH benchmarks of this package with the GC profiler and compares them with
+ * jmh/baseline.json. Exits non-zero when a benchmark allocates more per operation than its
+ * baseline allows; allocation is stable across machines, so that check is strict. Times are
+ * only reported when they move by more than {@link #TIME_TOLERANCE}, since the baseline was
+ * recorded on one particular machine.
+ * <p>
+ * Not a unit test; surefire skips it. Run it through the {@code jmh} profile, which replaces
+ * the tests with it:
+ * <pre>
+ * ./mvnw test -Pjmh
+ * ./mvnw test -Pjmh -Djmh.args="--include=JwtServiceBenchmark"
+ * ./mvnw test -Pjmh -Djmh.args="--update-baseline"
+ * </pre>
+ * After an intended change, rewrite the baseline with {@code --update-baseline} and review its
+ * diff. Raw JMH results are written to target/jmh/results.json.
+ * <p>
+ * nutrition-service runs its benchmarks with a copy of this class. The services are separate
+ * builds, so the runner is duplicated on purpose; keep both copies identical apart from the
+ * package and the example above.
+ */
+public class JmhBenchmarks {
+
+    private static final Path BASELINE = Path.of("src/test/resources/jmh/baseline.json");
+    private static final Path RESULTS = Path.of("target/jmh/results.json");
+
+    // More bytes per operation than this, and at least MIN_ALLOCATION_GROWTH more, fails the run
+    private static final double ALLOCATION_TOLERANCE = 1.10;
+    private static final double MIN_ALLOCATION_GROWTH = 64;
+    // Time changes beyond this factor either way are reported
+    private static final double TIME_TOLERANCE = 1.25;
+
+    /** What the baseline keeps of a result: the time per operation and the bytes allocated by it. */
+    record Baseline(double score, double scoreError, String unit, double bytesPerOp) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        String include = JmhBenchmarks.class.getPackageName() + "\\..*("
+                + options.getOrDefault("include", ".*") + ").*";
+
+        Files.createDirectories(RESULTS.getParent());
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+                .include(include)
+                .addProfiler(GCProfiler.class)
+                .result(RESULTS.toString())
+                .resultFormat(ResultFormatType.JSON)
+                .build()).run();
+
+        Map<String, Baseline> current = new TreeMap<>();
+        for (RunResult result : results) {
+            Result<?> primary = result.getPrimaryResult();
+            Result<?> allocation = result.getSecondaryResults().get("gc.alloc.rate.norm");
+            current.put(key(result), new Baseline(round(primary.getScore()), round(primary.getScoreError()),
+                    primary.getScoreUnit(), allocation != null ? Math.round(allocation.getScore()) : 0));
+        }
+
+        ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        Map<String, Baseline> baseline = new HashMap<>();
+        if (Files.exists(BASELINE)) {
+            baseline.putAll(mapper.readValue(BASELINE.toFile(),
+                    mapper.getTypeFactory().constructMapType(Map.class, String.class, Baseline.class)));
+        }
+
+        if (options.containsKey("update-baseline")) {
+            // Benchmarks left out by --include keep their recorded values
+            Map<String, Baseline> updated = new TreeMap<>(baseline);
+            updated.putAll(current);
+            Files.createDirectories(BASELINE.getParent());
+            mapper.writeValue(BASELINE.toFile(), updated);
+            System.out.printf("Wrote %d results to %s%n", current.size(), BASELINE);
+            return;
+        }
+
+        List<String> regressions = new ArrayList<>();
+        System.out.printf("%n%-70s %14s %14s %12s %12s%n", "Benchmark", "Score", "Baseline", "B/op", "Baseline");
+        current.forEach((key, result) -> {
+            Baseline expected = baseline.get(key);
+            String note = "";
+            if (expected == null) {
+                note = "no baseline";
+            } else {
+                if (result.bytesPerOp() > expected.bytesPerOp() * ALLOCATION_TOLERANCE
+                        && result.bytesPerOp() - expected.bytesPerOp() >= MIN_ALLOCATION_GROWTH) {
+                    note = "ALLOCATES MORE";
+                    regressions.add("%s allocates %.0f B/op, baseline %.0f".formatted(
+                            key, result.bytesPerOp(), expected.bytesPerOp()));
+                } else if (result.score() > expected.score() * TIME_TOLERANCE) {
+                    note = "slower";
+                } else if (result.score() * TIME_TOLERANCE < expected.score()) {
+                    note = "faster";
+                }
+            }
+            System.out.printf("%-70s %9.3f %-4s %14s %12.0f %12s  %s%n", key, result.score(), result.unit(),
+                    expected != null ? "%.3f".formatted(expected.score()) : "-", result.bytesPerOp(),
+                    expected != null ? "%.0f".formatted(expected.bytesPerOp()) : "-", note);
+        });
+
+        if (!regressions.isEmpty()) {
+            System.out.println();
+            regressions.forEach(System.out::println);
+            System.out.println("Rerun with -Djmh.args=--update-baseline if the change is intended");
+            System.exit(1);
+        }
+    }
+
+    /** Benchmark method, with its parameters and thread count when they vary. */
+    private static String key(RunResult result) {
+        var params = result.getParams();
+        String name = params.getBenchmark().substring(JmhBenchmarks.class.getPackageName().length() + 1);
+        String values = params.getParamsKeys().stream()
+                .map(k -> k + "=" + params.getParam(k))
+                .collect(Collectors.joining(","));
+        if (params.getThreads() > 1) {
+            values = values.isEmpty() ? "threads=" + params.getThreads() : values + ",threads=" + params.getThreads();
+        }
+        return values.isEmpty() ? name : name + "[" + values + "]";
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] parts = arg.replaceFirst("^--", "").split("=", 2);
+            options.put(parts[0], parts.length > 1 ? parts[1] : "true");
+        }
+        return options;
+    }
+}
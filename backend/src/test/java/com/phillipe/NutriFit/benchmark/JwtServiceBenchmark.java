@@ -0,0 +1,61 @@
+package com.phillipe.NutriFit.benchmark;
+
+import com.phillipe.NutriFit.service.JwtService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue on login, and the checks JwtFilter makes on every authenticated request: the
+ * subject read, then validation, which parses and verifies the token twice more.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+
+    private JwtService jwtService;
+    private String token;
+    private UserDetails user;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService("benchmark-secret-key-that-is-long-enough-for-hs256");
+        token = jwtService.generateToken("benchmark-user", 42L);
+        user = User.withUsername("benchmark-user").password("unused").build();
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken("benchmark-user", 42L);
+    }
+
+    @Benchmark
+    public String extractUserName() {
+        return jwtService.extractUserName(token);
+    }
+
+    @Benchmark
+    public Long extractUserId() {
+        return jwtService.extractUserId(token);
+    }
+
+    @Benchmark
+    public boolean authenticateRequest() {
+        return jwtService.extractUserName(token) != null && jwtService.validateToken(token, user);
+    }
+}
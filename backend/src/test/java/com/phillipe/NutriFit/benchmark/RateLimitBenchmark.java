@@ -0,0 +1,108 @@
+package com.phillipe.NutriFit.benchmark;
+
+import com.phillipe.NutriFit.config.RateLimitConfig;
+import com.phillipe.NutriFit.config.filter.RateLimitFilter;
+import io.github.bucket4j.ConsumptionProbe;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bucket lookup and consumption by concurrent requests, for one user shared by every thread
+ * (all threads race on the same bucket) and for many users (threads mostly touch different
+ * buckets and contend only on the map). The limit is set high enough never to be reached, so
+ * every request takes the allowed path.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class RateLimitBenchmark {
+
+    private static final FilterChain CHAIN = (request, response) -> {
+    };
+
+    @Param({"1", "10000"})
+    public int users;
+
+    private RateLimitConfig config;
+    private RateLimitFilter filter;
+    private String[] keys;
+    private final AtomicInteger threads = new AtomicInteger();
+
+    @State(Scope.Thread)
+    public static class Caller {
+
+        private MockHttpServletRequest request;
+        private MockHttpServletResponse response;
+        private int index;
+
+        @Setup
+        public void setUp(RateLimitBenchmark benchmark) {
+            int thread = benchmark.threads.getAndIncrement();
+            index = thread;
+            request = new MockHttpServletRequest("GET", "/api/workouts/mine");
+            request.setRemoteAddr("10.0.0." + (thread + 1));
+            response = new MockHttpServletResponse();
+            // Setup runs on the benchmark thread, so the filter sees this thread's user
+            SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                    "user" + (thread % benchmark.users), null, List.of()));
+        }
+
+        @TearDown
+        public void tearDown() {
+            SecurityContextHolder.clearContext();
+        }
+
+        String nextKey(String[] keys) {
+            // Step through the users by a prime so consecutive calls hit different buckets
+            index = (index + 7919) % keys.length;
+            return keys[index];
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        config = new RateLimitConfig(Integer.MAX_VALUE);
+        filter = new RateLimitFilter(config);
+        keys = new String[users];
+        for (int i = 0; i < users; i++) {
+            keys[i] = "user:user" + i;
+            config.resolveGeneralBucket(keys[i]);
+        }
+    }
+
+    @Benchmark
+    public ConsumptionProbe resolveAndConsume(Caller caller) {
+        return config.resolveGeneralBucket(caller.nextKey(keys)).tryConsumeAndReturnRemaining(1);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse filterRequest(Caller caller) throws Exception {
+        caller.response.reset();
+        filter.doFilter(caller.request, caller.response, CHAIN);
+        return caller.response;
+    }
+}
@@ -0,0 +1,172 @@
+package com.phillipe.NutriFit.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.phillipe.NutriFit.dto.request.ExerciseItemRequest;
+import com.phillipe.NutriFit.dto.request.SetItemRequest;
+import com.phillipe.NutriFit.dto.request.WorkoutLogRequest;
+import com.phillipe.NutriFit.dto.response.WorkoutLogResponse;
+import com.phillipe.NutriFit.model.embedded.WorkoutExerciseEntry;
+import com.phillipe.NutriFit.model.entity.Exercise;
+import com.phillipe.NutriFit.model.entity.User;
+import com.phillipe.NutriFit.model.entity.WorkoutLog;
+import com.phillipe.NutriFit.repository.ExerciseLastPerformanceRepository;
+import com.phillipe.NutriFit.repository.UserRepository;
+import com.phillipe.NutriFit.repository.WorkoutEnergyEventRepository;
+import com.phillipe.NutriFit.repository.WorkoutLogRepository;
+import com.phillipe.NutriFit.repository.WorkoutPlanDayRepository;
+import com.phillipe.NutriFit.service.ExerciseService;
+import com.phillipe.NutriFit.service.ProgressionService;
+import com.phillipe.NutriFit.service.impl.WorkoutLogServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * WorkoutLogServiceImpl's in-memory work with the database stubbed out: logging a workout
+ * (totals, set details serialized to JSON, mapped back to the response) and listing a history
+ * of {@value #HISTORY} workouts (set details parsed back for every exercise). The stubs are
+ * stub-only Mockito mocks, which record no invocations, so they add a small constant cost.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WorkoutLogBenchmark {
+
+    static final int HISTORY = 30;
+
+    private static final String[][] EXERCISES = {
+            {"Bench Press", "CHEST"}, {"Barbell Row", "BACK"}, {"Overhead Press", "SHOULDERS"},
+            {"Barbell Curl", "BICEPS"}, {"Treadmill", "CARDIO"}};
+
+    private WorkoutLogServiceImpl service;
+    private WorkoutLogRequest request;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        User user = new User();
+        user.setId(42L);
+        user.setUsername("benchmark-user");
+
+        Map<String, Exercise> exercises = new HashMap<>();
+        for (int i = 0; i < EXERCISES.length; i++) {
+            exercises.put(EXERCISES[i][0], Exercise.builder()
+                    .id(i + 1)
+                    .name(EXERCISES[i][0])
+                    .category(EXERCISES[i][1])
+                    .build());
+        }
+
+        UserRepository userRepo = stub(UserRepository.class);
+        WorkoutLogRepository workoutLogRepo = stub(WorkoutLogRepository.class);
+        WorkoutEnergyEventRepository energyEventRepo = stub(WorkoutEnergyEventRepository.class);
+        ExerciseService exerciseService = stub(ExerciseService.class);
+        when(userRepo.findByUsername("benchmark-user")).thenReturn(user);
+        when(exerciseService.resolve(any(), any())).thenAnswer(invocation -> exercises.get(invocation.getArgument(0)));
+        when(workoutLogRepo.save(any())).thenAnswer(invocation -> {
+            WorkoutLog workout = invocation.getArgument(0);
+            workout.setId(1L);
+            return workout;
+        });
+        when(energyEventRepo.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        request = new WorkoutLogRequest(new ArrayList<>());
+        for (String[] exercise : EXERCISES) {
+            request.getExercises().add(exerciseRequest(exercise[0], exercise[1]));
+        }
+
+        List<WorkoutLog> history = new ArrayList<>();
+        Instant now = Instant.now();
+        for (int i = 0; i < HISTORY; i++) {
+            WorkoutLog workout = WorkoutLog.builder()
+                    .id((long) HISTORY - i)
+                    .user(user)
+                    .createdAt(now.minus(i * 2L, ChronoUnit.DAYS))
+                    .build();
+            for (ExerciseItemRequest exercise : request.getExercises()) {
+                workout.getExercises().add(WorkoutExerciseEntry.builder()
+                        .exercise(exercises.get(exercise.getName()))
+                        .userId(user.getId())
+                        .createdAt(workout.getCreatedAt())
+                        .durationMinutes(exercise.getDurationMinutes())
+                        .sets(exercise.getSets())
+                        .reps(exercise.getReps())
+                        .weight(exercise.getWeight())
+                        .caloriesBurned(exercise.getCaloriesBurned())
+                        .setDetailsJson(exercise.getSetDetails() != null
+                                ? objectMapper.writeValueAsString(exercise.getSetDetails()) : null)
+                        .build());
+            }
+            history.add(workout);
+        }
+        when(workoutLogRepo.findByUserIdOrderByCreatedAtDesc(42L)).thenReturn(history);
+
+        service = new WorkoutLogServiceImpl(workoutLogRepo, stub(WorkoutPlanDayRepository.class), userRepo,
+                stub(ExerciseLastPerformanceRepository.class), energyEventRepo, exerciseService,
+                stub(ProgressionService.class), objectMapper);
+    }
+
+    @Benchmark
+    public WorkoutLogResponse logWorkout() {
+        return service.createWorkout(request, "benchmark-user", ZoneId.of("Europe/Berlin"));
+    }
+
+    @Benchmark
+    public List<WorkoutLogResponse> listWorkouts() {
+        return service.getMyWorkouts("benchmark-user");
+    }
+
+    // Four logged sets per lift, tapering reps; cardio as duration only
+    private static ExerciseItemRequest exerciseRequest(String name, String category) {
+        if (category.equals("CARDIO")) {
+            return ExerciseItemRequest.builder()
+                    .name(name)
+                    .category(category)
+                    .durationMinutes(30)
+                    .caloriesBurned(300)
+                    .build();
+        }
+        List<SetItemRequest> sets = new ArrayList<>();
+        for (int set = 1; set <= 4; set++) {
+            sets.add(new SetItemRequest(set, 11 - set, 135, true, null));
+        }
+        return ExerciseItemRequest.builder()
+                .name(name)
+                .category(category)
+                .durationMinutes(12)
+                .sets(4)
+                .reps(10)
+                .weight(135)
+                .caloriesBurned(70)
+                .setDetails(sets)
+                .build();
+    }
+
+    static <T> T stub(Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+}
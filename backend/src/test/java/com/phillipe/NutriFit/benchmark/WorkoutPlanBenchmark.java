@@ -0,0 +1,169 @@
+package com.phillipe.NutriFit.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.phillipe.NutriFit.dto.request.SetItemRequest;
+import com.phillipe.NutriFit.dto.response.WorkoutPlanDayResponse;
+import com.phillipe.NutriFit.dto.response.WorkoutPlanResponse;
+import com.phillipe.NutriFit.model.ExerciseCategory;
+import com.phillipe.NutriFit.model.embedded.WorkoutPlanExercise;
+import com.phillipe.NutriFit.model.entity.Exercise;
+import com.phillipe.NutriFit.model.entity.ExerciseLastPerformance;
+import com.phillipe.NutriFit.model.entity.ExerciseProgression;
+import com.phillipe.NutriFit.model.entity.User;
+import com.phillipe.NutriFit.model.entity.WorkoutPlan;
+import com.phillipe.NutriFit.model.entity.WorkoutPlanDay;
+import com.phillipe.NutriFit.repository.ExerciseLastPerformanceRepository;
+import com.phillipe.NutriFit.repository.ExerciseProgressionRepository;
+import com.phillipe.NutriFit.repository.UserRepository;
+import com.phillipe.NutriFit.repository.WorkoutLogRepository;
+import com.phillipe.NutriFit.repository.WorkoutPlanDayRepository;
+import com.phillipe.NutriFit.repository.WorkoutPlanRepository;
+import com.phillipe.NutriFit.service.ExerciseService;
+import com.phillipe.NutriFit.service.impl.WorkoutPlanServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static com.phillipe.NutriFit.benchmark.WorkoutLogBenchmark.stub;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * WorkoutPlanServiceImpl's response mapping with the database stubbed out: the plan list
+ * ({@value #PLANS} plans of {@value #DAYS} days with {@value #EXERCISES} exercises each, every
+ * exercise with a progression recommendation) and starting a plan day, which also parses the
+ * last performance's set details for each exercise.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WorkoutPlanBenchmark {
+
+    static final int PLANS = 3;
+    static final int DAYS = 4;
+    static final int EXERCISES = 5;
+
+    private static final ExerciseCategory[] CATEGORIES = {
+            ExerciseCategory.CHEST, ExerciseCategory.BACK, ExerciseCategory.QUADS,
+            ExerciseCategory.SHOULDERS, ExerciseCategory.TRICEPS};
+
+    private WorkoutPlanServiceImpl service;
+    private Long dayId;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        User user = new User();
+        user.setId(42L);
+        user.setUsername("benchmark-user");
+
+        List<WorkoutPlan> plans = new ArrayList<>();
+        List<ExerciseProgression> progression = new ArrayList<>();
+        List<ExerciseLastPerformance> lastPerformances = new ArrayList<>();
+        Instant now = Instant.now();
+        int exerciseId = 0;
+        long nextDayId = 0;
+        for (int p = 0; p < PLANS; p++) {
+            WorkoutPlan plan = WorkoutPlan.builder()
+                    .id((long) p + 1)
+                    .user(user)
+                    .name("Plan " + (p + 1))
+                    .description("Four day split")
+                    .build();
+            for (int d = 1; d <= DAYS; d++) {
+                WorkoutPlanDay day = WorkoutPlanDay.builder()
+                        .id(++nextDayId)
+                        .dayNumber(d)
+                        .dayName("Day " + d)
+                        .build();
+                for (int e = 0; e < EXERCISES; e++) {
+                    Exercise exercise = Exercise.builder()
+                            .id(++exerciseId)
+                            .name("Exercise " + exerciseId)
+                            .category(CATEGORIES[e].name())
+                            .build();
+                    day.getExercises().add(WorkoutPlanExercise.builder()
+                            .exercise(exercise)
+                            .targetSets(4)
+                            .targetReps(8)
+                            .targetWeight(100 + 5 * e)
+                            .build());
+                    progression.add(ExerciseProgression.builder()
+                            .userId(user.getId())
+                            .exerciseId(exerciseId)
+                            .minReps(8)
+                            .sessions(12)
+                            .bestE1rm(130.0)
+                            .lastE1rm(126.7)
+                            .nextSets(4)
+                            .nextReps(9)
+                            .nextWeight(100 + 5 * e)
+                            .build());
+                    lastPerformances.add(ExerciseLastPerformance.builder()
+                            .userId(user.getId())
+                            .exerciseId(exerciseId)
+                            .workoutLogId(1L)
+                            .performedAt(now)
+                            .durationMinutes(12)
+                            .sets(4)
+                            .reps(8)
+                            .weight(100 + 5 * e)
+                            .setDetailsJson(objectMapper.writeValueAsString(List.of(
+                                    new SetItemRequest(1, 8, 100, true, null),
+                                    new SetItemRequest(2, 8, 100, true, null),
+                                    new SetItemRequest(3, 7, 100, true, null),
+                                    new SetItemRequest(4, 6, 100, true, "grinder"))))
+                            .build());
+                }
+                plan.addDay(day);
+            }
+            plans.add(plan);
+        }
+        WorkoutPlanDay started = plans.get(0).getDays().iterator().next();
+        dayId = started.getId();
+
+        UserRepository userRepo = stub(UserRepository.class);
+        WorkoutPlanRepository workoutPlanRepo = stub(WorkoutPlanRepository.class);
+        WorkoutPlanDayRepository workoutPlanDayRepo = stub(WorkoutPlanDayRepository.class);
+        ExerciseLastPerformanceRepository lastPerformanceRepo = stub(ExerciseLastPerformanceRepository.class);
+        ExerciseProgressionRepository progressionRepo = stub(ExerciseProgressionRepository.class);
+        when(userRepo.findByUsername("benchmark-user")).thenReturn(user);
+        when(workoutPlanRepo.findByUserIdOrderByCreatedAtDesc(42L)).thenReturn(plans);
+        when(workoutPlanDayRepo.findByIdAndWorkoutPlanUserId(anyLong(), eq(42L))).thenReturn(Optional.of(started));
+        // The service keys the results by exercise, so returning every user row is harmless
+        when(progressionRepo.findByUserIdAndExerciseIdIn(eq(42L), any())).thenReturn(progression);
+        when(lastPerformanceRepo.findByUserIdAndExerciseIdIn(eq(42L), any()))
+                .thenReturn(lastPerformances.subList(0, EXERCISES));
+
+        service = new WorkoutPlanServiceImpl(workoutPlanRepo, workoutPlanDayRepo, stub(WorkoutLogRepository.class),
+                userRepo, stub(ExerciseService.class), lastPerformanceRepo, progressionRepo, objectMapper);
+    }
+
+    @Benchmark
+    public List<WorkoutPlanResponse> listPlans() {
+        return service.getMyPlans("benchmark-user");
+    }
+
+    @Benchmark
+    public WorkoutPlanDayResponse startPlanDay() {
+        return service.startPlanDay(dayId, "benchmark-user");
+    }
+}
@@ -0,0 +1,201 @@
+package com.phillipe.NutriFit.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Closed-loop load generator for GET /workouts/mine and POST /workouts against a running
+ * backend, used to compare platform and virtual request threads
+ * ({@code VIRTUAL_THREADS_ENABLED=false|true}).
+ * <p>
+ * Not a unit test; surefire skips it. Run it with only the JDK on the classpath:
+ * <pre>
+ * ./mvnw test-compile
+ * java -cp target/test-classes com.phillipe.NutriFit.benchmark.WorkoutThroughputBenchmark \
+ *     --base-url=http://localhost:8080/api --concurrency=400 --duration=30 --write-percent=20
+ * </pre>
+ * Start the backend with {@code RATE_LIMIT_GENERAL_PER_MINUTE} raised well above the expected
+ * request count, otherwise the per-user rate limit is what gets measured. Each run registers a
+ * fresh user so the size of the workout list is comparable between runs.
+ */
+public class WorkoutThroughputBenchmark {
+
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+
+    private static final String WORKOUT_JSON = """
+            {"exercises":[{"name":"Bench Press","category":"CHEST","sets":3,"reps":10,"weight":135,
+              "setDetails":[{"setNumber":1,"reps":10,"weight":135},{"setNumber":2,"reps":10,"weight":135},
+                            {"setNumber":3,"reps":8,"weight":135}]}]}
+            """;
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        String baseUrl = options.getOrDefault("base-url", "http://localhost:8080/api");
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "400"));
+        int durationSeconds = Integer.parseInt(options.getOrDefault("duration", "30"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup", "10"));
+        int writePercent = Integer.parseInt(options.getOrDefault("write-percent", "20"));
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        String token = login(client, baseUrl);
+
+        System.out.printf("concurrency=%d duration=%ds warmup=%ds write-percent=%d%n",
+                concurrency, durationSeconds, warmupSeconds, writePercent);
+        run(client, baseUrl, token, concurrency, warmupSeconds, writePercent);
+        Stats read = new Stats();
+        Stats write = new Stats();
+        long elapsedNanos = run(client, baseUrl, token, concurrency, durationSeconds, writePercent, read, write);
+
+        double seconds = elapsedNanos / 1e9;
+        System.out.println(read.report("GET  /workouts/mine", seconds));
+        System.out.println(write.report("POST /workouts     ", seconds));
+        System.out.printf("total throughput: %.1f req/s%n", (read.count() + write.count()) / seconds);
+    }
+
+    private static void run(HttpClient client, String baseUrl, String token, int concurrency,
+                            int seconds, int writePercent) throws InterruptedException {
+        if (seconds > 0) {
+            run(client, baseUrl, token, concurrency, seconds, writePercent, new Stats(), new Stats());
+        }
+    }
+
+    private static long run(HttpClient client, String baseUrl, String token, int concurrency, int seconds,
+                            int writePercent, Stats read, Stats write) throws InterruptedException {
+        HttpRequest get = HttpRequest.newBuilder(URI.create(baseUrl + "/workouts/mine"))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        HttpRequest post = HttpRequest.newBuilder(URI.create(baseUrl + "/workouts"))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString(WORKOUT_JSON))
+                .build();
+
+        long start = System.nanoTime();
+        long deadline = start + Duration.ofSeconds(seconds).toNanos();
+        CountDownLatch done = new CountDownLatch(concurrency);
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                users.submit(() -> {
+                    try {
+                        while (System.nanoTime() < deadline) {
+                            boolean isWrite = ThreadLocalRandom.current().nextInt(100) < writePercent;
+                            (isWrite ? write : read).record(() -> client.send(isWrite ? post : get,
+                                    HttpResponse.BodyHandlers.discarding()).statusCode());
+                        }
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            done.await();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static String login(HttpClient client, String baseUrl) throws Exception {
+        String username = "bench" + System.currentTimeMillis();
+        String credentials = "{\"username\":\"" + username + "\",\"password\":\"benchmark123\"}";
+        for (String path : new String[]{"/register", "/login"}) {
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + path))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(credentials))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() >= 300) {
+                throw new IllegalStateException(path + " returned " + response.statusCode() + ": " + response.body());
+            }
+            Matcher matcher = TOKEN.matcher(response.body());
+            if (path.equals("/login") && matcher.find()) {
+                return matcher.group(1);
+            }
+        }
+        throw new IllegalStateException("Login response did not contain a token");
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new ConcurrentHashMap<>();
+        for (String arg : args) {
+            String[] parts = arg.replaceFirst("^--", "").split("=", 2);
+            options.put(parts[0], parts.length > 1 ? parts[1] : "true");
+        }
+        return options;
+    }
+
+    private interface Call {
+        int status() throws Exception;
+    }
+
+    /**
+     * Latencies in a fixed 1ms-resolution histogram up to 60s, so recording is lock-free.
+     */
+    private static class Stats {
+        private final AtomicLong[] histogram = new AtomicLong[60_001];
+        private final LongAdder ok = new LongAdder();
+        private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+        Stats() {
+            Arrays.setAll(histogram, i -> new AtomicLong());
+        }
+
+        void record(Call call) {
+            long start = System.nanoTime();
+            String error;
+            try {
+                int status = call.status();
+                error = status < 300 ? null : String.valueOf(status);
+            } catch (Exception e) {
+                error = e.getClass().getSimpleName();
+            }
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            histogram[(int) Math.min(millis, histogram.length - 1)].incrementAndGet();
+            if (error == null) {
+                ok.increment();
+            } else {
+                errors.computeIfAbsent(error, k -> new LongAdder()).increment();
+            }
+        }
+
+        long count() {
+            return ok.sum() + errors.values().stream().mapToLong(LongAdder::sum).sum();
+        }
+
+        String report(String label, double seconds) {
+            return String.format("%s %8.1f req/s  p50=%dms p90=%dms p99=%dms max=%dms  ok=%d errors=%s",
+                    label, count() / seconds, percentile(0.50), percentile(0.90), percentile(0.99),
+                    percentile(1.0), ok.sum(), errors);
+        }
+
+        private long percentile(double p) {
+            long total = count();
+            long target = Math.max(1, (long) Math.ceil(total * p));
+            long seen = 0;
+            for (int i = 0; i < histogram.length; i++) {
+                seen += histogram[i].get();
+                if (seen >= target) {
+                    return i;
+                }
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.phillipe.NutriFit.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ConcurrencyLimitingDataSourceTest {
+
+    private DataSource target;
+    private ConcurrencyLimitingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        dataSource = new ConcurrencyLimitingDataSource(target, 2, 50);
+    }
+
+    @Test
+    void getConnection_shouldFailFastWhenLimitReached() throws SQLException {
+        // arrange
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        // act & assert
+        assertThrows(SQLTransientConnectionException.class, () -> dataSource.getConnection());
+        verify(target, times(2)).getConnection();
+        assertEquals(2, dataSource.getActiveConnections());
+    }
+
+    @Test
+    void close_shouldReleasePermitOnlyOnce() throws SQLException {
+        // arrange
+        Connection first = dataSource.getConnection();
+        dataSource.getConnection();
+
+        // act
+        first.close();
+        first.close();
+
+        // assert
+        assertEquals(1, dataSource.getActiveConnections());
+        assertNotNull(dataSource.getConnection());
+        assertThrows(SQLTransientConnectionException.class, () -> dataSource.getConnection());
+    }
+
+    @Test
+    void close_shouldCloseUnderlyingConnection() throws SQLException {
+        // arrange
+        Connection raw = mock(Connection.class);
+        when(target.getConnection()).thenReturn(raw);
+
+        // act
+        Connection connection = dataSource.getConnection();
+        connection.setAutoCommit(false);
+        connection.close();
+
+        // assert
+        verify(raw).setAutoCommit(false);
+        verify(raw).close();
+        assertEquals(0, dataSource.getActiveConnections());
+    }
+
+    @Test
+    void getConnection_shouldReleasePermitWhenTargetFails() throws SQLException {
+        // arrange
+        when(target.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+        // act & assert
+        assertThrows(SQLException.class, () -> dataSource.getConnection());
+        assertEquals(0, dataSource.getActiveConnections());
+    }
+
+    @Test
+    void bindTo_shouldPublishLimitAndCheckedOutConnections() throws SQLException {
+        // arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        dataSource.bindTo(registry);
+
+        // act
+        dataSource.getConnection();
+
+        // assert
+        assertEquals(2, registry.get("nutrifit.db.concurrency.max").gauge().value());
+        assertEquals(1, registry.get("nutrifit.db.concurrency.active").gauge().value());
+        assertEquals(0, registry.get("nutrifit.db.concurrency.waiting").gauge().value());
+    }
+}
@@ -5,9 +5,11 @@ import com.phillipe.NutriFit.exception.DuplicateUsernameException;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -104,6 +106,21 @@ class GlobalExceptionHandlerTest {
         assertTrue(response.getBody().getMessage().contains("taken-user"));
     }
 
+    @Test
+    void handleDatabaseUnavailable_shouldReturnServiceUnavailableWithRetryAfter() {
+        // arrange
+        Exception ex = new CannotCreateTransactionException("Could not open JPA EntityManager for transaction");
+
+        // act
+        ResponseEntity<ErrorResponse> response = handler.handleDatabaseUnavailable(ex);
+
+        // assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertNotNull(response.getBody());
+        assertEquals("SERVICE_UNAVAILABLE", response.getBody().getError());
+    }
+
     @Test
     void handleGenericException_shouldReturnInternalServerError() {
         // arrange
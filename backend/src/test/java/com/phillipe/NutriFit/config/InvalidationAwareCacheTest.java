@@ -0,0 +1,132 @@
+package com.phillipe.NutriFit.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvalidationAwareCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private InvalidationAwareCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new InvalidationAwareCache("profiles", Caffeine.newBuilder().build(), true, nanos::get);
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void put_afterAMiss_shouldCacheTheValue() {
+        // arrange
+        assertNull(cache.get("alice"));
+
+        // act
+        cache.put("alice", "loaded");
+
+        // assert
+        assertEquals("loaded", cache.get("alice").get());
+    }
+
+    @Test
+    void put_readerThatMissedBeforeAnEviction_shouldBeDropped() {
+        // arrange
+        assertNull(cache.get("alice"));
+        onWriterThread(() -> cache.evict("alice"));
+
+        // act
+        cache.put("alice", "stale");
+
+        // assert
+        assertNull(cache.get("alice"));
+    }
+
+    @Test
+    void put_readerThatMissedBeforeAWritersPut_shouldKeepTheWritersValue() {
+        // arrange
+        assertNull(cache.get("alice"));
+        onWriterThread(() -> cache.put("alice", "updated"));
+
+        // act
+        cache.put("alice", "stale");
+
+        // assert
+        assertEquals("updated", cache.get("alice").get());
+    }
+
+    @Test
+    void put_readerThatMissedBeforeAClear_shouldBeDropped() {
+        // arrange
+        assertNull(cache.get("alice"));
+        onWriterThread(cache::clear);
+
+        // act
+        cache.put("alice", "stale");
+
+        // assert
+        assertNull(cache.get("alice"));
+    }
+
+    @Test
+    void put_evictionOfAnotherKey_shouldNotDropTheRead() {
+        // arrange
+        assertNull(cache.get("alice"));
+        onWriterThread(() -> cache.evict("bob"));
+
+        // act
+        cache.put("alice", "loaded");
+
+        // assert
+        assertEquals("loaded", cache.get("alice").get());
+    }
+
+    @Test
+    void put_readOutlivingTheRememberedInvalidations_shouldBeDropped() {
+        // arrange
+        assertNull(cache.get("alice"));
+        nanos.addAndGet(InvalidationAwareCache.INVALIDATIONS_KEPT.plus(Duration.ofSeconds(1)).toNanos());
+
+        // act
+        cache.put("alice", "loaded");
+
+        // assert
+        assertNull(cache.get("alice"));
+    }
+
+    @Test
+    void cacheManager_readerCommittingAfterAWritersEviction_shouldNotCacheTheOldRow() {
+        // arrange
+        Cache profiles = new CacheConfig().cacheManager("maximumSize=10,expireAfterWrite=30s")
+                .getCache(CacheConfig.PROFILES);
+        TransactionSynchronizationManager.initSynchronization();
+        assertNull(profiles.get("alice"));
+        profiles.put("alice", "old");  // waits for the reader's commit
+        onWriterThread(() -> profiles.evict("alice"));
+
+        // act
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // assert
+        assertNull(profiles.get("alice"));
+    }
+
+    private static void onWriterThread(Runnable write) {
+        CompletableFuture.runAsync(write).join();
+    }
+}
@@ -0,0 +1,25 @@
+package com.phillipe.NutriFit.config.db;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Fails a test whose body runs more Hibernate statements than {@link #value()}, counting every
+ * request it makes through MockMvc. On a class, applies to each test without its own budget.
+ * <pre>
+ * &#64;Test
+ * &#64;StatementBudget(3)
+ * void myWorkouts_shouldNotQueryPerWorkout() throws Exception { ... }
+ * </pre>
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(StatementBudgetExtension.class)
+public @interface StatementBudget {
+
+    int value();
+}
@@ -0,0 +1,34 @@
+package com.phillipe.NutriFit.config.db;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.Optional;
+
+/** Enforces {@link StatementBudget}; set-up and tear-down methods are not counted. */
+public class StatementBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(StatementBudgetExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(context.getUniqueId(), StatementStats.start());
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        StatementStats stats = context.getStore(NAMESPACE).remove(context.getUniqueId(), StatementStats.class);
+        stats.close();
+        Optional<StatementBudget> budget = AnnotationSupport.findAnnotation(context.getTestMethod(), StatementBudget.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getTestClass(), StatementBudget.class));
+        if (budget.isPresent() && stats.getStatements() > budget.get().value()) {
+            throw new AssertionFailedError("Expected at most " + budget.get().value() + " statements, but "
+                    + stats.getStatements() + " ran (" + stats.getTime().toMillis() + " ms)",
+                    budget.get().value(), stats.getStatements());
+        }
+    }
+}
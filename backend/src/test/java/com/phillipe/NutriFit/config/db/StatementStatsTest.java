@@ -0,0 +1,147 @@
+package com.phillipe.NutriFit.config.db;
+
+import com.phillipe.NutriFit.config.filter.DbStatementMetricsFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.testkit.engine.EngineExecutionResults;
+import org.junit.platform.testkit.engine.EngineTestKit;
+import org.opentest4j.AssertionFailedError;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.testkit.engine.EventConditions.*;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.*;
+
+class StatementStatsTest {
+
+    private final StatementCountingInspector inspector = new StatementCountingInspector(Duration.ofMillis(200));
+
+    @Test
+    void scope_shouldCountPreparedStatementsAndExecutionTime() {
+        // arrange
+        StatementTimingListener listener = new StatementTimingListener();
+
+        // act
+        try (StatementStats stats = StatementStats.start()) {
+            inspector.inspect("select u1_0.id from users u1_0 where u1_0.username=?");
+            listener.jdbcExecuteStatementStart();
+            listener.jdbcExecuteStatementEnd();
+            inspector.inspect("insert into workout_log (user_id) values (?)");
+            listener.jdbcExecuteBatchStart();
+            listener.jdbcExecuteBatchEnd();
+
+            // assert
+            assertEquals(2, stats.getStatements());
+            assertTrue(stats.getTime().toNanos() > 0);
+        }
+    }
+
+    @Test
+    void closedScope_shouldAddItsTotalsToTheEnclosingOne() {
+        try (StatementStats outer = StatementStats.start()) {
+            inspector.inspect("select 1");
+            try (StatementStats inner = StatementStats.start()) {
+                inspector.inspect("select 2");
+                inspector.inspect("select 3");
+                assertEquals(2, inner.getStatements());
+            }
+            assertEquals(3, outer.getStatements());
+        }
+    }
+
+    @Test
+    void statementsOutsideAnyScope_shouldBeIgnored() {
+        // act
+        inspector.inspect("select 1");
+
+        // assert
+        try (StatementStats stats = StatementStats.start()) {
+            assertEquals(0, stats.getStatements());
+        }
+    }
+
+    @Test
+    void redact_shouldMaskLiteralsButKeepIdentifiers() {
+        String sql = "select w1_0.id from workout_log w1_0 where w1_0.note = 'it''s mine' and w1_0.user_id = 42 limit ?";
+
+        assertEquals("select w1_0.id from workout_log w1_0 where w1_0.note = '?' and w1_0.user_id = ? limit ?",
+                StatementCountingInspector.redact(sql));
+    }
+
+    @Test
+    @StatementBudget(2)
+    void budget_shouldAllowStatementsUpToTheLimit() {
+        inspector.inspect("select 1");
+        inspector.inspect("select 2");
+    }
+
+    @Test
+    void budget_shouldFailATestThatRunsMoreStatements() {
+        // act
+        EngineExecutionResults results = EngineTestKit.engine("junit-jupiter")
+                .selectors(selectClass(OverBudget.class))
+                .execute();
+
+        // assert
+        results.testEvents().assertThatEvents().haveExactly(1, event(test("twoStatements"),
+                finishedWithFailure(instanceOf(AssertionFailedError.class),
+                        message(m -> m.startsWith("Expected at most 1 statements, but 2 ran")))));
+    }
+
+    // Run by budget_shouldFailATestThatRunsMoreStatements, not by the build, which skips nested classes
+    static class OverBudget {
+
+        @Test
+        @StatementBudget(1)
+        void twoStatements() {
+            StatementCountingInspector inspector = new StatementCountingInspector(Duration.ofMillis(200));
+            inspector.inspect("select 1");
+            inspector.inspect("select 2");
+        }
+    }
+
+    @Test
+    void filter_shouldReturnCountsAsHeadersAndRecordPerRoute() throws Exception {
+        // arrange
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("meterRegistry", meterRegistry);
+        DbStatementMetricsFilter filter =
+                new DbStatementMetricsFilter(beans.getBeanProvider(MeterRegistry.class), true);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/workouts/mine");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp)
+                    throws IOException {
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/workouts/mine");
+                inspector.inspect("select 1");
+                inspector.inspect("select 2");
+                resp.getWriter().write("[]");
+                resp.flushBuffer();
+            }
+        });
+
+        // act
+        filter.doFilter(request, response, chain);
+
+        // assert
+        assertEquals("2", response.getHeader(DbStatementMetricsFilter.STATEMENTS_HEADER));
+        assertNotNull(response.getHeader(DbStatementMetricsFilter.TIME_HEADER));
+        assertEquals(2.0, meterRegistry.get("nutrifit.db.statements")
+                .tag("uri", "/workouts/mine").summary().totalAmount());
+    }
+}
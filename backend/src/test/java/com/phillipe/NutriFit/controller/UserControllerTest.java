@@ -6,6 +6,7 @@ import com.phillipe.NutriFit.dto.request.RegisterRequest;
 import com.phillipe.NutriFit.exception.DuplicateUsernameException;
 import com.phillipe.NutriFit.model.entity.User;
 import com.phillipe.NutriFit.config.RateLimitConfig;
+import com.phillipe.NutriFit.security.UserPrincipal;
 import com.phillipe.NutriFit.service.JwtService;
 import com.phillipe.NutriFit.service.UserService;
 import org.junit.jupiter.api.Test;
@@ -134,12 +135,16 @@ class UserControllerTest {
                 .password("password123")
                 .build();
 
+        User user = new User();
+        user.setId(7L);
+        user.setUsername("testuser");
         Authentication authentication = mock(Authentication.class);
         when(authentication.isAuthenticated()).thenReturn(true);
         when(authentication.getName()).thenReturn("testuser");
+        when(authentication.getPrincipal()).thenReturn(new UserPrincipal(user));
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                 .thenReturn(authentication);
-        when(jwtService.generateToken("testuser")).thenReturn("jwt-token-123");
+        when(jwtService.generateToken("testuser", 7L)).thenReturn("jwt-token-123");
 
         mockMvc.perform(post("/login")
                         .with(csrf())
@@ -149,7 +154,7 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.token").value("jwt-token-123"));
 
         verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
-        verify(jwtService).generateToken("testuser");
+        verify(jwtService).generateToken("testuser", 7L);
     }
 
     @Test
@@ -187,7 +192,7 @@ class UserControllerTest {
                         .content(objectMapper.writeValueAsString(loginRequest)))
                 .andExpect(status().isUnauthorized());
 
-        verify(jwtService, never()).generateToken(any());
+        verify(jwtService, never()).generateToken(any(), any());
     }
 
     @Test
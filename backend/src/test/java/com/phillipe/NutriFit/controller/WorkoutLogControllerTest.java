@@ -92,7 +92,7 @@ class WorkoutLogControllerTest {
                 .exercises(List.of(exercise))
                 .build();
 
-        when(workoutLogService.createWorkout(any(WorkoutLogRequest.class), eq("testuser")))
+        when(workoutLogService.createWorkout(any(WorkoutLogRequest.class), eq("testuser"), any()))
                 .thenReturn(response);
 
         mockMvc.perform(post("/workouts")
@@ -106,7 +106,7 @@ class WorkoutLogControllerTest {
                 .andExpect(jsonPath("$.totalCaloriesBurned").value(100))
                 .andExpect(jsonPath("$.exercises[0].name").value("Bench Press"));
 
-        verify(workoutLogService).createWorkout(any(WorkoutLogRequest.class), eq("testuser"));
+        verify(workoutLogService).createWorkout(any(WorkoutLogRequest.class), eq("testuser"), any());
     }
 
     @Test
@@ -145,7 +145,7 @@ class WorkoutLogControllerTest {
                 .exercises(List.of(exercise1, exercise2))
                 .build();
 
-        when(workoutLogService.createWorkout(any(WorkoutLogRequest.class), eq("testuser")))
+        when(workoutLogService.createWorkout(any(WorkoutLogRequest.class), eq("testuser"), any()))
                 .thenReturn(response);
 
         mockMvc.perform(post("/workouts")
@@ -172,7 +172,7 @@ class WorkoutLogControllerTest {
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isBadRequest());
 
-        verify(workoutLogService, never()).createWorkout(any(), any());
+        verify(workoutLogService, never()).createWorkout(any(), any(), any());
     }
 
     @Test
@@ -194,7 +194,7 @@ class WorkoutLogControllerTest {
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isBadRequest());
 
-        verify(workoutLogService, never()).createWorkout(any(), any());
+        verify(workoutLogService, never()).createWorkout(any(), any(), any());
     }
 
     @Test
@@ -246,7 +246,7 @@ class WorkoutLogControllerTest {
                 .exercises(List.of(exercise))
                 .build();
 
-        when(workoutLogService.createWorkoutFromPlan(any(WorkoutLogFromPlanRequest.class), eq("testuser")))
+        when(workoutLogService.createWorkoutFromPlan(any(WorkoutLogFromPlanRequest.class), eq("testuser"), any()))
                 .thenReturn(response);
 
         mockMvc.perform(post("/workouts/from-plan")
@@ -259,7 +259,7 @@ class WorkoutLogControllerTest {
                 .andExpect(jsonPath("$.workoutPlanDayId").value(1L))
                 .andExpect(jsonPath("$.workoutPlanDayName").value("Pull Day"));
 
-        verify(workoutLogService).createWorkoutFromPlan(any(WorkoutLogFromPlanRequest.class), eq("testuser"));
+        verify(workoutLogService).createWorkoutFromPlan(any(WorkoutLogFromPlanRequest.class), eq("testuser"), any());
     }
 
     @Test
@@ -282,7 +282,7 @@ class WorkoutLogControllerTest {
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isBadRequest());
 
-        verify(workoutLogService, never()).createWorkoutFromPlan(any(), any());
+        verify(workoutLogService, never()).createWorkoutFromPlan(any(), any(), any());
     }
 
     @Test
@@ -299,7 +299,7 @@ class WorkoutLogControllerTest {
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isBadRequest());
 
-        verify(workoutLogService, never()).createWorkoutFromPlan(any(), any());
+        verify(workoutLogService, never()).createWorkoutFromPlan(any(), any(), any());
     }
 
     @Test
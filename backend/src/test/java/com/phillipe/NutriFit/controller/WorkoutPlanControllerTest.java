@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.phillipe.NutriFit.dto.request.WorkoutPlanDayRequest;
 import com.phillipe.NutriFit.dto.request.WorkoutPlanExerciseRequest;
 import com.phillipe.NutriFit.dto.request.WorkoutPlanRequest;
+import com.phillipe.NutriFit.dto.response.LastPerformanceResponse;
 import com.phillipe.NutriFit.dto.response.WorkoutPlanDayResponse;
 import com.phillipe.NutriFit.dto.response.WorkoutPlanExerciseResponse;
 import com.phillipe.NutriFit.dto.response.WorkoutPlanResponse;
@@ -481,4 +482,50 @@ class WorkoutPlanControllerTest {
         mockMvc.perform(get("/workout-plans/days/1"))
                 .andExpect(status().isUnauthorized());
     }
+
+    // ==================== START PLAN DAY TESTS ====================
+
+    @Test
+    void startPlanDay_success_shouldReturnDayWithLastPerformance() throws Exception {
+        WorkoutPlanExerciseResponse exerciseRes = WorkoutPlanExerciseResponse.builder()
+                .name("Squat")
+                .category(ExerciseCategory.QUADS)
+                .targetSets(5)
+                .targetReps(5)
+                .lastPerformance(LastPerformanceResponse.builder()
+                        .workoutLogId(42L)
+                        .sets(5)
+                        .reps(5)
+                        .weight(225)
+                        .build())
+                .build();
+
+        WorkoutPlanDayResponse response = WorkoutPlanDayResponse.builder()
+                .id(1L)
+                .dayNumber(1)
+                .dayName("Leg Day")
+                .exercises(List.of(exerciseRes))
+                .build();
+
+        when(workoutPlanService.startPlanDay(1L, "testuser")).thenReturn(response);
+
+        mockMvc.perform(get("/workout-plans/days/1/start")
+                        .with(user("testuser")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.exercises[0].name").value("Squat"))
+                .andExpect(jsonPath("$.exercises[0].lastPerformance.workoutLogId").value(42L))
+                .andExpect(jsonPath("$.exercises[0].lastPerformance.weight").value(225));
+
+        verify(workoutPlanService).startPlanDay(1L, "testuser");
+    }
+
+    @Test
+    void startPlanDay_notFound_shouldReturn404() throws Exception {
+        when(workoutPlanService.startPlanDay(999L, "testuser"))
+                .thenThrow(new EntityNotFoundException("Workout plan day not found"));
+
+        mockMvc.perform(get("/workout-plans/days/999/start")
+                        .with(user("testuser")))
+                .andExpect(status().isNotFound());
+    }
 }
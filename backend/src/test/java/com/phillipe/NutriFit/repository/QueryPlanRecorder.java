@@ -0,0 +1,178 @@
+package com.phillipe.NutriFit.repository;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Runs {@code EXPLAIN (ANALYZE, FORMAT JSON)} for every statement the current thread executes
+ * while {@link #record} is active, with the same parameters and on the same connection, just
+ * before the statement itself runs. The EXPLAIN executes inside a savepoint that is rolled back,
+ * so writes are not applied twice; recording therefore needs a transaction. Statements that
+ * cannot be explained (DDL, LOCK, function calls through CALL) are passed through unrecorded.
+ * <p>
+ * A copy of this class lives in nutrition-service's tests. The two services are separate
+ * builds with no shared test module, so the copies are deliberate and kept identical apart
+ * from the package: change both together.
+ */
+public class QueryPlanRecorder extends DelegatingDataSource {
+
+    /** One executed statement and its plan as returned by Postgres. */
+    public record Plan(String sql, String json) {
+    }
+
+    private static final ThreadLocal<List<Plan>> PLANS = new ThreadLocal<>();
+
+    private static final Pattern LEADING_COMMENTS = Pattern.compile("^(\\s|/\\*.*?\\*/|--[^\\n]*\\n)+", Pattern.DOTALL);
+
+    public QueryPlanRecorder(DataSource target) {
+        super(target);
+    }
+
+    /** Runs {@code work} and returns the plans of the statements it executed, in order. */
+    public static List<Plan> record(Runnable work) {
+        List<Plan> plans = new ArrayList<>();
+        List<Plan> previous = PLANS.get();
+        PLANS.set(plans);
+        try {
+            work.run();
+        } finally {
+            if (previous == null) {
+                PLANS.remove();
+            } else {
+                PLANS.set(previous);
+            }
+        }
+        return plans;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return recording(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return recording(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static Connection recording(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    return switch (method.getName()) {
+                        case "prepareStatement" -> statement(connection, (Statement) result, PreparedStatement.class, (String) args[0]);
+                        case "prepareCall" -> statement(connection, (Statement) result, CallableStatement.class, (String) args[0]);
+                        case "createStatement" -> statement(connection, (Statement) result, Statement.class, null);
+                        default -> result;
+                    };
+                });
+    }
+
+    /**
+     * Wraps a statement so its parameter bindings are remembered and replayed onto the EXPLAIN.
+     * {@code sql} is null for a plain statement, which is given its SQL on execution.
+     */
+    private static Statement statement(Connection connection, Statement statement, Class<? extends Statement> type,
+                                       String sql) {
+        List<Binding> bindings = new ArrayList<>();
+        List<List<Binding>> batch = new ArrayList<>();
+        List<String> plainBatch = new ArrayList<>();
+        return (Statement) Proxy.newProxyInstance(
+                type.getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.startsWith("set") && args != null && args.length >= 2
+                            && method.getParameterTypes()[0] == int.class) {
+                        bindings.add(new Binding(method, args));
+                    } else if (name.equals("clearParameters")) {
+                        bindings.clear();
+                    } else if (name.equals("addBatch")) {
+                        if (args == null) {
+                            batch.add(List.copyOf(bindings));
+                        } else {
+                            plainBatch.add((String) args[0]);
+                        }
+                    } else if (name.equals("clearBatch")) {
+                        batch.clear();
+                        plainBatch.clear();
+                    } else if (PLANS.get() != null && name.startsWith("execute")) {
+                        if (args != null && args.length > 0 && args[0] instanceof String plainSql) {
+                            explain(connection, plainSql, List.of());
+                        } else if (name.equals("executeBatch") || name.equals("executeLargeBatch")) {
+                            // Every entry of a batch shares one statement and so one plan
+                            if (!batch.isEmpty()) {
+                                explain(connection, sql, batch.getFirst());
+                            } else if (!plainBatch.isEmpty()) {
+                                explain(connection, plainBatch.getFirst(), List.of());
+                            }
+                        } else {
+                            explain(connection, sql, bindings);
+                        }
+                    }
+                    if (name.equals("executeBatch") || name.equals("executeLargeBatch")) {
+                        batch.clear();
+                        plainBatch.clear();
+                    }
+                    return invoke(statement, method, args);
+                });
+    }
+
+    private static void explain(Connection connection, String sql, List<Binding> bindings) throws SQLException {
+        if (sql == null || !explainable(sql)) {
+            return;
+        }
+        Savepoint savepoint = connection.setSavepoint();
+        try (PreparedStatement explain = connection.prepareStatement("EXPLAIN (ANALYZE, FORMAT JSON) " + sql)) {
+            for (Binding binding : bindings) {
+                invoke(explain, binding.method(), binding.args());
+            }
+            try (ResultSet rs = explain.executeQuery()) {
+                rs.next();
+                PLANS.get().add(new Plan(sql, rs.getString(1)));
+            }
+        } catch (SQLException e) {
+            throw new SQLException("Could not explain: " + sql, e);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Could not explain: " + sql, e);
+        } finally {
+            connection.rollback(savepoint);
+            connection.releaseSavepoint(savepoint);
+        }
+    }
+
+    static boolean explainable(String sql) {
+        String statement = LEADING_COMMENTS.matcher(sql).replaceFirst("").toLowerCase(Locale.ROOT);
+        return statement.startsWith("select") || statement.startsWith("with") || statement.startsWith("insert")
+                || statement.startsWith("update") || statement.startsWith("delete") || statement.startsWith("merge")
+                || statement.startsWith("values");
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private record Binding(Method method, Object[] args) {
+    }
+}
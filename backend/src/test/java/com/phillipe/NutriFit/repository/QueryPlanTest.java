@@ -0,0 +1,449 @@
+package com.phillipe.NutriFit.repository;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.phillipe.NutriFit.config.db.StatementBudget;
+import com.phillipe.NutriFit.model.MeasurementField;
+import com.phillipe.NutriFit.model.OutboxStatus;
+import com.phillipe.NutriFit.model.TrendResolution;
+import com.phillipe.NutriFit.model.entity.User;
+import com.phillipe.NutriFit.model.entity.UserChangeHistory;
+import com.phillipe.NutriFit.repository.EnergyBalanceRepositoryCustom.Delta;
+import com.phillipe.NutriFit.repository.EnergyBalanceRepositoryCustom.FeedPosition;
+import com.phillipe.NutriFit.service.JwtService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.phillipe.NutriFit.repository.UserChangeHistorySpecifications.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Query-plan regression suite. Seeds a Postgres with realistic volumes (query-plans/seed.sql),
+ * calls every repository method through the real Spring Data and JDBC beans, and runs
+ * {@code EXPLAIN (ANALYZE, FORMAT JSON)} for each statement they issue. A case fails when a
+ * plan sequentially scans a table with more than {@code query-plans.seq-scan-rows} rows
+ * (10,000) that the case does not expect to scan, when a statement's estimated total cost
+ * exceeds its entry in query-plans/baseline.json by more than {@code query-plans.cost-tolerance}
+ * (1.5x), or when it issues a different number of statements than the baseline records.
+ * <p>
+ * Endpoints whose statement count grows with the data are checked here too, with a
+ * {@link StatementBudget} on requests for a seeded user through the real security chain,
+ * services and repositories.
+ * <p>
+ * Excluded from the default build; run it with {@code ./mvnw test -Pquery-plans}. It starts
+ * a postgres:16-alpine container, or uses an empty database given as
+ * {@code -Dquery-plans.jdbc-url=... -Dquery-plans.username=... -Dquery-plans.password=...}.
+ * After an intended change in cost, rewrite the baseline with
+ * {@code -Dquery-plans.update-baseline=true} and review its diff.
+ */
+@Tag("query-plans")
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "app.scheduling.enabled=false"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanTest {
+
+    private static final String JDBC_URL = System.getProperty("query-plans.jdbc-url");
+    private static final long SEQ_SCAN_ROWS = Long.getLong("query-plans.seq-scan-rows", 10_000);
+    private static final double COST_TOLERANCE =
+            Double.parseDouble(System.getProperty("query-plans.cost-tolerance", "1.5"));
+    private static final boolean UPDATE_BASELINE = Boolean.getBoolean("query-plans.update-baseline");
+    // Below this a plan is a handful of index lookups, and differences between costs are noise
+    private static final double MIN_COMPARED_COST = 50;
+    private static final Path BASELINE = Path.of("src/test/resources/query-plans/baseline.json");
+
+    // A seeded user with the typical share of every table; ids follow from seed.sql
+    private static final long USER = 4242;
+    private static final String USERNAME = "user4242";
+    private static final int WORKOUTS_PER_USER = 20;
+    private static final long WORKOUT_LOG = (USER - 1) * WORKOUTS_PER_USER + 5;
+    private static final long WORKOUT_PLAN = (USER - 1) * 2 + 1;
+    private static final long WORKOUT_PLAN_DAY = (WORKOUT_PLAN - 1) * 3 + 1;
+    private static final Instant SEEDED_UNTIL = Instant.parse("2025-06-30T00:00:00Z");
+
+    private static PostgreSQLContainer<?> postgres;
+
+    // Migrated here rather than by the context, whose schema validation runs against it
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        if (JDBC_URL == null && postgres == null) {
+            postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+            postgres.start();
+        }
+        String url = JDBC_URL != null ? JDBC_URL : postgres.getJdbcUrl();
+        String username = JDBC_URL != null ? System.getProperty("query-plans.username", "postgres") : postgres.getUsername();
+        String password = JDBC_URL != null ? System.getProperty("query-plans.password", "") : postgres.getPassword();
+        Flyway.configure().dataSource(url, username, password).load().migrate();
+
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.datasource.url", () -> url);
+        registry.add("spring.datasource.username", () -> username);
+        registry.add("spring.datasource.password", () -> password);
+    }
+
+    @TestConfiguration
+    static class RecorderConfig {
+
+        @Bean
+        static BeanPostProcessor queryPlanRecorderPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                    if (!(bean instanceof DataSource dataSource) || bean instanceof QueryPlanRecorder) {
+                        return bean;
+                    }
+                    return new QueryPlanRecorder(dataSource);
+                }
+            };
+        }
+    }
+
+    @Autowired private ApplicationContext context;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private MockMvc mockMvc;
+    @Autowired private JwtService jwtService;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private BodyMeasurementRepository bodyMeasurementRepo;
+    @Autowired private ChangeHistoryOutboxRepository outboxRepo;
+    @Autowired private EnergyBalanceRepository energyBalanceRepo;
+    @Autowired private ExerciseLastPerformanceRepository lastPerformanceRepo;
+    @Autowired private ExerciseProgressionRepository progressionRepo;
+    @Autowired private ExerciseRepository exerciseRepo;
+    @Autowired private MeasurementStatsRepository measurementStatsRepo;
+    @Autowired private UserChangeHistoryRepository historyRepo;
+    @Autowired private UserProfileRepository profileRepo;
+    @Autowired private UserRepository userRepo;
+    @Autowired private WorkoutEnergyEventRepository energyEventRepo;
+    @Autowired private WorkoutLogRepository workoutLogRepo;
+    @Autowired private WorkoutPlanDayRepository planDayRepo;
+    @Autowired private WorkoutPlanRepository planRepo;
+
+    private final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final Map<String, List<Double>> costs = new TreeMap<>();
+    private Map<String, List<Double>> baseline = Map.of();
+    private final Map<String, Double> tableRows = new HashMap<>();
+    private final Map<String, String> partitionParents = new HashMap<>();
+
+    private long measurementId;
+    private long outboxId;
+    private List<Integer> exerciseIds;
+
+    @BeforeAll
+    void seed() throws IOException, SQLException {
+        Boolean seeded = jdbcTemplate.queryForObject("SELECT to_regclass('query_plan_seed') IS NOT NULL", Boolean.class);
+        if (!seeded) {
+            Integer users = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Integer.class);
+            if (users > 0) {
+                throw new IllegalStateException("Database already has data; the query-plan suite needs an empty one");
+            }
+            try (Connection connection = jdbcTemplate.getDataSource().getConnection()) {
+                ScriptUtils.executeSqlScript(connection, new ClassPathResource("query-plans/seed.sql"));
+            }
+        }
+        if (Files.exists(BASELINE)) {
+            baseline = mapper.readValue(BASELINE.toFile(), new TypeReference<>() {});
+        }
+
+        jdbcTemplate.query("SELECT relname, reltuples FROM pg_class WHERE relkind = 'r'",
+                rs -> { tableRows.put(rs.getString(1), rs.getDouble(2)); });
+        jdbcTemplate.query("""
+                SELECT c.relname, p.relname
+                FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                JOIN pg_class p ON p.oid = i.inhparent
+                """, rs -> { partitionParents.put(rs.getString(1), rs.getString(2)); });
+
+        measurementId = jdbcTemplate.queryForObject(
+                "SELECT MIN(id) FROM body_measurement WHERE user_id = ?", Long.class, USER);
+        outboxId = jdbcTemplate.queryForObject(
+                "SELECT MIN(id) FROM change_history_outbox WHERE status = 'PENDING'", Long.class);
+        exerciseIds = jdbcTemplate.queryForList(
+                "SELECT exercise_id FROM exercise_last_performance WHERE user_id = ? ORDER BY exercise_id LIMIT 3",
+                Integer.class, USER);
+    }
+
+    @AfterAll
+    void writeBaseline() throws IOException {
+        if (UPDATE_BASELINE) {
+            mapper.writeValue(BASELINE.toFile(), costs);
+        }
+    }
+
+    // The user, looked up by the token filter and the service, then one query for every workout
+    // with its plan day and exercises, however many there are
+    @Test
+    @StatementBudget(3)
+    void myWorkouts_shouldNotQueryPerWorkout() throws Exception {
+        mockMvc.perform(get("/workouts/mine")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtService.generateToken(USERNAME, USER)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(WORKOUTS_PER_USER));
+    }
+
+    @TestFactory
+    Stream<DynamicTest> repositoryQueries() {
+        return cases().stream().map(queryCase -> DynamicTest.dynamicTest(queryCase.name(), () -> check(queryCase)));
+    }
+
+    @Test
+    void everyRepositoryMethod_shouldHaveACase() {
+        Set<String> covered = cases().stream().map(QueryCase::name).collect(Collectors.toSet());
+        Repositories repositories = new Repositories(context);
+
+        List<String> missing = StreamSupport.stream(repositories.spliterator(), false)
+                .map(domainType -> repositories.getRequiredRepositoryInformation(domainType).getRepositoryInterface())
+                .flatMap(QueryPlanTest::declaredMethods)
+                .filter(name -> !covered.contains(name))
+                .sorted()
+                .toList();
+
+        assertTrue(missing.isEmpty(), "Repository methods without a query-plan case: " + missing);
+    }
+
+    private List<QueryCase> cases() {
+        LocalDate lastDay = LocalDate.of(2025, 6, 29);
+        User user = new User();
+        user.setId(USER);
+        List<UserChangeHistory> history = List.of(
+                UserChangeHistory.builder().user(user).entityType("MEASUREMENT").entityId(measurementId)
+                        .fieldName("weightKg").oldValue("80").newValue("79.5").changedAt(SEEDED_UNTIL).build(),
+                UserChangeHistory.builder().user(user).entityType("MEASUREMENT").entityId(measurementId)
+                        .fieldName("waistCm").oldValue("90").newValue("89").changedAt(SEEDED_UNTIL).build());
+        Specification<UserChangeHistory> historyPage = forUser(USER)
+                .and(hasEntityType("MEASUREMENT"))
+                .and(changedAtOrAfter(SEEDED_UNTIL.minusSeconds(90L * 86_400)))
+                .and(changedBefore(SEEDED_UNTIL))
+                .and(before(SEEDED_UNTIL.minusSeconds(30L * 86_400), Long.MAX_VALUE));
+
+        return List.of(
+                query("BodyMeasurementRepository.findByUserIdOrderByRecordedAtDesc",
+                        () -> bodyMeasurementRepo.findByUserIdOrderByRecordedAtDesc(USER)),
+                query("BodyMeasurementRepository.findFirstByUserIdOrderByRecordedAtDesc",
+                        () -> bodyMeasurementRepo.findFirstByUserIdOrderByRecordedAtDesc(USER)),
+                query("BodyMeasurementRepository.findByIdAndUserId",
+                        () -> bodyMeasurementRepo.findByIdAndUserId(measurementId, USER)),
+                query("BodyMeasurementRepository.findTrend",
+                        () -> bodyMeasurementRepo.findTrend(USER, List.of(MeasurementField.WEIGHT_KG, MeasurementField.WAIST_CM),
+                                TrendResolution.WEEK, SEEDED_UNTIL.minusSeconds(120L * 86_400), SEEDED_UNTIL, 4)),
+
+                query("ChangeHistoryOutboxRepository.claimBatch", () -> outboxRepo.claimBatch(100)),
+                query("ChangeHistoryOutboxRepository.claim", () -> outboxRepo.claim(outboxId)),
+                query("ChangeHistoryOutboxRepository.countByStatus", () -> outboxRepo.countByStatus(OutboxStatus.PENDING)),
+                query("ChangeHistoryOutboxRepository.findOldestCreatedAt",
+                        () -> outboxRepo.findOldestCreatedAt(OutboxStatus.PENDING)),
+
+                query("EnergyBalanceRepository.findCursor", () -> energyBalanceRepo.findCursor("meals")),
+                query("EnergyBalanceRepository.advanceCursor", () -> energyBalanceRepo.advanceCursor("meals",
+                        new FeedPosition(0, 0), new FeedPosition(1000, 1000))),
+                query("EnergyBalanceRepository.addAll",
+                        () -> energyBalanceRepo.addAll(List.of(new Delta(USER, lastDay, 650, 0), new Delta(USER, lastDay, 0, 320)))),
+                query("EnergyBalanceRepository.summarize",
+                        () -> energyBalanceRepo.summarize(USER, TrendResolution.WEEK, lastDay.minusDays(90), lastDay)),
+
+                query("ExerciseLastPerformanceRepository.findByUserIdAndExerciseIdIn",
+                        () -> lastPerformanceRepo.findByUserIdAndExerciseIdIn(USER, exerciseIds)),
+                query("ExerciseLastPerformanceRepository.upsert",
+                        () -> lastPerformanceRepo.upsert(USER, exerciseIds.getFirst(), WORKOUT_LOG, SEEDED_UNTIL,
+                                30, 3, 10, 100, "[]")),
+                query("ExerciseLastPerformanceRepository.rebuild", () -> lastPerformanceRepo.rebuild(USER, exerciseIds)),
+
+                query("ExerciseProgressionRepository.findByUserIdAndExerciseIdIn",
+                        () -> progressionRepo.findByUserIdAndExerciseIdIn(USER, exerciseIds)),
+                query("ExerciseProgressionRepository.findByUserIdAndExerciseIdInForUpdate",
+                        () -> progressionRepo.findByUserIdAndExerciseIdInForUpdate(USER, exerciseIds)),
+                query("ExerciseProgressionRepository.insertIfAbsent",
+                        () -> progressionRepo.insertIfAbsent(USER, exerciseIds.getFirst(), 5)),
+
+                query("ExerciseRepository.findByNameAndCategory",
+                        () -> exerciseRepo.findByNameAndCategory("Custom exercise 7", "CARDIO")),
+                query("ExerciseRepository.insertIfAbsent", () -> exerciseRepo.insertIfAbsent("Custom exercise 7", "CARDIO")),
+
+                query("MeasurementStatsRepository.findByUserIdForUpdate",
+                        () -> measurementStatsRepo.findByUserIdForUpdate(USER)),
+                query("MeasurementStatsRepository.findByUserIdAndField",
+                        () -> measurementStatsRepo.findByUserIdAndField(USER, MeasurementField.WEIGHT_KG)),
+
+                query("UserChangeHistoryRepository.findByUserIdOrderByChangedAtDescIdDesc",
+                        () -> historyRepo.findByUserIdOrderByChangedAtDescIdDesc(USER)),
+                query("UserChangeHistoryRepository.findBy(Specification)",
+                        () -> historyRepo.findBy(historyPage, q -> q
+                                .sortBy(Sort.by(Sort.Direction.DESC, "changedAt", "id")).limit(51).all())),
+                query("UserChangeHistoryRepository.insertAll", () -> historyRepo.insertAll(history)),
+                query("UserChangeHistoryRepository.ensurePartition",
+                        () -> historyRepo.ensurePartition(YearMonth.of(2025, 7))),
+                // Monthly maintenance reads the whole month by design
+                query("UserChangeHistoryRepository.compactMonth",
+                        () -> historyRepo.compactMonth(YearMonth.of(2025, 3)), "user_change_history"),
+                query("UserChangeHistoryRepository.findUncompactedMonthsThrough",
+                        () -> historyRepo.findUncompactedMonthsThrough(YearMonth.of(2025, 6))),
+                query("UserChangeHistoryRepository.dropPartitionsBefore",
+                        () -> historyRepo.dropPartitionsBefore(YearMonth.of(2025, 1))),
+
+                query("UserProfileRepository.findByUserId", () -> profileRepo.findByUserId(USER)),
+                query("UserProfileRepository.findByUserUsername", () -> profileRepo.findByUserUsername(USERNAME)),
+
+                query("UserRepository.findByUsername", () -> userRepo.findByUsername(USERNAME)),
+                query("UserRepository.existsByUsername", () -> userRepo.existsByUsername(USERNAME)),
+                query("UserRepository.findByProviderAndProviderId",
+                        () -> userRepo.findByProviderAndProviderId("GOOGLE", "google-4240")),
+
+                query("WorkoutEnergyEventRepository.claimBatch", () -> energyEventRepo.claimBatch(500)),
+                query("WorkoutEnergyEventRepository.findOldestCreatedAt", () -> energyEventRepo.findOldestCreatedAt()),
+
+                query("WorkoutLogRepository.findByUserIdOrderByCreatedAtDesc",
+                        () -> workoutLogRepo.findByUserIdOrderByCreatedAtDesc(USER)),
+                query("WorkoutLogRepository.findByUserIdOrderByCreatedAtDesc(Limit)",
+                        () -> workoutLogRepo.findByUserIdOrderByCreatedAtDesc(USER, Limit.of(1))),
+                query("WorkoutLogRepository.findByIdAndUserId", () -> workoutLogRepo.findByIdAndUserId(WORKOUT_LOG, USER)),
+                query("WorkoutLogRepository.findPlanSessionsWithExercises",
+                        () -> workoutLogRepo.findPlanSessionsWithExercises(USER, exerciseIds)),
+                query("WorkoutLogRepository.clearWorkoutPlanDayReferences",
+                        () -> workoutLogRepo.clearWorkoutPlanDayReferences(List.of(WORKOUT_PLAN_DAY, WORKOUT_PLAN_DAY + 1))),
+
+                query("WorkoutPlanDayRepository.findByIdAndWorkoutPlanUserId",
+                        () -> planDayRepo.findByIdAndWorkoutPlanUserId(WORKOUT_PLAN_DAY, USER)),
+
+                query("WorkoutPlanRepository.findByUserIdOrderByCreatedAtDesc",
+                        () -> planRepo.findByUserIdOrderByCreatedAtDesc(USER)),
+                query("WorkoutPlanRepository.findByIdAndUserId", () -> planRepo.findByIdAndUserId(WORKOUT_PLAN, USER)));
+    }
+
+    private void check(QueryCase queryCase) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        List<QueryPlanRecorder.Plan> plans = tx.execute(status -> {
+            status.setRollbackOnly();
+            return QueryPlanRecorder.record(queryCase.call());
+        });
+        assertFalse(plans.isEmpty(), queryCase.name() + " issued no statement");
+
+        List<Double> planCosts = new ArrayList<>();
+        List<String> failures = new ArrayList<>();
+        for (QueryPlanRecorder.Plan plan : plans) {
+            JsonNode root = readPlan(plan);
+            planCosts.add(root.path("Total Cost").asDouble());
+            for (JsonNode node : nodes(root)) {
+                String relation = node.path("Relation Name").asText();
+                if (node.path("Node Type").asText().equals("Seq Scan")
+                        && tableRows.getOrDefault(relation, 0.0) > SEQ_SCAN_ROWS
+                        && !queryCase.seqScansAllowed().contains(partitionParents.getOrDefault(relation, relation))) {
+                    failures.add("Seq Scan on %s (%.0f rows) in:%n%s".formatted(
+                            relation, tableRows.get(relation), plan.sql().strip()));
+                }
+            }
+        }
+        costs.put(queryCase.name(), planCosts);
+
+        List<Double> expected = baseline.get(queryCase.name());
+        if (!UPDATE_BASELINE) {
+            if (expected == null) {
+                failures.add("No baseline; rerun with -Dquery-plans.update-baseline=true");
+            } else if (expected.size() != planCosts.size()) {
+                failures.add("Issued %d statements, baseline has %d".formatted(planCosts.size(), expected.size()));
+            } else {
+                for (int i = 0; i < planCosts.size(); i++) {
+                    double limit = Math.max(expected.get(i), MIN_COMPARED_COST) * COST_TOLERANCE;
+                    if (planCosts.get(i) > limit) {
+                        failures.add("Cost %.2f exceeds baseline %.2f by more than %.1fx in:%n%s".formatted(
+                                planCosts.get(i), expected.get(i), COST_TOLERANCE, plans.get(i).sql().strip()));
+                    }
+                }
+            }
+        }
+        if (!failures.isEmpty()) {
+            fail(queryCase.name() + ":\n" + String.join("\n", failures));
+        }
+    }
+
+    private JsonNode readPlan(QueryPlanRecorder.Plan plan) {
+        try {
+            return mapper.readTree(plan.json()).path(0).path("Plan");
+        } catch (IOException e) {
+            throw new IllegalStateException("Unreadable plan for " + plan.sql(), e);
+        }
+    }
+
+    private static List<JsonNode> nodes(JsonNode root) {
+        List<JsonNode> nodes = new ArrayList<>();
+        nodes.add(root);
+        for (JsonNode child : root.path("Plans")) {
+            nodes.addAll(nodes(child));
+        }
+        return nodes;
+    }
+
+    /** "Repository.method" for the methods a repository interface and its custom fragments declare. */
+    private static Stream<String> declaredMethods(Class<?> repository) {
+        Stream<Class<?>> fragments = Arrays.stream(repository.getInterfaces())
+                .filter(type -> type.getPackageName().equals(repository.getPackageName()));
+        return Stream.concat(Stream.of(repository), fragments)
+                .flatMap(type -> Arrays.stream(type.getDeclaredMethods()))
+                .filter(method -> !method.isSynthetic() && !method.isDefault() && !Modifier.isStatic(method.getModifiers()))
+                .map(Method::getName)
+                .distinct()
+                .map(name -> repository.getSimpleName() + "." + name);
+    }
+
+    private static QueryCase query(String name, Runnable call, String... seqScansAllowed) {
+        return new QueryCase(name, call, Set.of(seqScansAllowed));
+    }
+
+    private record QueryCase(String name, Runnable call, Set<String> seqScansAllowed) {
+    }
+}
@@ -0,0 +1,197 @@
+package com.phillipe.NutriFit.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.phillipe.NutriFit.model.OutboxStatus;
+import com.phillipe.NutriFit.model.entity.ChangeHistoryOutbox;
+import com.phillipe.NutriFit.model.entity.UserChangeHistory;
+import com.phillipe.NutriFit.repository.ChangeHistoryOutboxRepository;
+import com.phillipe.NutriFit.repository.UserChangeHistoryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeHistoryOutboxRelayTest {
+
+    private static final String CHANGES = "[{\"field\":\"weightKg\",\"oldValue\":null,\"newValue\":\"80.0\"},"
+            + "{\"field\":\"waistCm\",\"oldValue\":null,\"newValue\":\"85.0\"}]";
+
+    @Mock
+    private ChangeHistoryOutboxRepository outboxRepo;
+
+    @Mock
+    private UserChangeHistoryRepository historyRepo;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ChangeHistoryOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new ChangeHistoryOutboxRelay(outboxRepo, historyRepo, new ObjectMapper(),
+                transactionManager, meterRegistry, 2, 5, 3, 15_000);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void relay_shouldCopyEventsIntoHistoryAndDeleteThem() {
+        // arrange
+        Instant createdAt = Instant.parse("2025-01-01T10:00:00Z");
+        ChangeHistoryOutbox event = event(7L, CHANGES);
+        event.setCreatedAt(createdAt);
+        when(outboxRepo.claimBatch(2)).thenReturn(List.of(event));
+
+        // act
+        relay.relay();
+
+        // assert
+        ArgumentCaptor<List<UserChangeHistory>> captor = ArgumentCaptor.forClass(List.class);
+        verify(historyRepo).insertAll(captor.capture());
+        List<UserChangeHistory> rows = captor.getValue();
+        assertEquals(2, rows.size());
+        assertEquals(1L, rows.get(0).getUser().getId());
+        assertEquals("weightKg", rows.get(0).getFieldName());
+        assertEquals("85.0", rows.get(1).getNewValue());
+        assertEquals(createdAt, rows.get(1).getChangedAt());
+        verify(outboxRepo).deleteAllByIdInBatch(List.of(7L));
+        assertEquals(1.0, meterRegistry.get("nutrifit.change_history.outbox.relayed").counter().count());
+    }
+
+    @Test
+    void relay_shouldKeepDrainingWhileBatchesAreFull() {
+        // arrange
+        when(outboxRepo.claimBatch(2))
+                .thenReturn(List.of(event(1L, CHANGES), event(2L, CHANGES)))
+                .thenReturn(List.of(event(3L, CHANGES)));
+
+        // act
+        relay.relay();
+
+        // assert
+        verify(outboxRepo, times(2)).claimBatch(2);
+        assertEquals(3.0, meterRegistry.get("nutrifit.change_history.outbox.relayed").counter().count());
+    }
+
+    @Test
+    void relay_shouldStopAfterMaxBatchesPerRun() {
+        // arrange
+        when(outboxRepo.claimBatch(2)).thenAnswer(invocation -> List.of(event(1L, CHANGES), event(2L, CHANGES)));
+
+        // act
+        relay.relay();
+
+        // assert
+        verify(outboxRepo, times(5)).claimBatch(2);
+    }
+
+    @Test
+    void relay_shouldIsolateAndRetryUnreadableEvent() {
+        // arrange
+        ChangeHistoryOutbox good = event(1L, CHANGES);
+        ChangeHistoryOutbox bad = event(2L, "not json");
+        when(outboxRepo.claimBatch(2)).thenReturn(List.of(good, bad)).thenReturn(List.of());
+        when(outboxRepo.claim(1L)).thenReturn(Optional.of(good));
+        when(outboxRepo.claim(2L)).thenReturn(Optional.of(bad));
+
+        // act
+        Instant before = Instant.now();
+        relay.relay();
+
+        // assert
+        verify(outboxRepo).deleteAllByIdInBatch(List.of(1L));
+        verify(outboxRepo).save(bad);
+        assertEquals(1, bad.getAttempts());
+        assertEquals(OutboxStatus.PENDING, bad.getStatus());
+        assertFalse(bad.getNextAttemptAt().isBefore(before.plusSeconds(1)));
+        assertNotNull(bad.getLastError());
+        assertEquals(1.0, meterRegistry.get("nutrifit.change_history.outbox.retried").counter().count());
+    }
+
+    @Test
+    void relay_shouldParkEventAfterMaxAttempts() {
+        // arrange
+        ChangeHistoryOutbox bad = event(2L, "not json");
+        bad.setAttempts(2);
+        when(outboxRepo.claimBatch(2)).thenReturn(List.of(bad));
+        when(outboxRepo.claim(2L)).thenReturn(Optional.of(bad));
+
+        // act
+        relay.relay();
+
+        // assert
+        assertEquals(OutboxStatus.FAILED, bad.getStatus());
+        assertEquals(3, bad.getAttempts());
+        verify(historyRepo, never()).insertAll(any());
+        assertEquals(1.0, meterRegistry.get("nutrifit.change_history.outbox.dead_lettered").counter().count());
+    }
+
+    @Test
+    void gauges_shouldReportBacklogAndLag() {
+        // arrange
+        when(outboxRepo.countByStatus(OutboxStatus.PENDING)).thenReturn(42L);
+        when(outboxRepo.countByStatus(OutboxStatus.FAILED)).thenReturn(1L);
+        when(outboxRepo.findOldestCreatedAt(OutboxStatus.PENDING))
+                .thenReturn(Optional.of(Instant.now().minusSeconds(30)));
+
+        // act
+        double pending = meterRegistry.get("nutrifit.change_history.outbox.pending").gauge().value();
+
+        // assert
+        assertEquals(42.0, pending);
+        assertEquals(1.0, meterRegistry.get("nutrifit.change_history.outbox.failed").gauge().value());
+        assertTrue(meterRegistry.get("nutrifit.change_history.outbox.lag").gauge().value() >= 30.0);
+    }
+
+    @Test
+    void gauges_shouldCountOutboxAtMostOncePerRefreshInterval() {
+        // arrange
+        when(outboxRepo.claimBatch(2)).thenReturn(List.of());
+        when(outboxRepo.findOldestCreatedAt(OutboxStatus.PENDING)).thenReturn(Optional.empty());
+
+        // act
+        relay.relay();
+        relay.relay();
+        meterRegistry.get("nutrifit.change_history.outbox.pending").gauge().value();
+        meterRegistry.get("nutrifit.change_history.outbox.pending").gauge().value();
+        meterRegistry.get("nutrifit.change_history.outbox.lag").gauge().value();
+
+        // assert
+        verify(outboxRepo, times(1)).countByStatus(OutboxStatus.PENDING);
+        verify(outboxRepo, times(1)).findOldestCreatedAt(OutboxStatus.PENDING);
+    }
+
+    @Test
+    void backoff_shouldGrowExponentiallyUpToCap() {
+        assertEquals(Duration.ofSeconds(1), ChangeHistoryOutboxRelay.backoff(1));
+        assertEquals(Duration.ofSeconds(8), ChangeHistoryOutboxRelay.backoff(4));
+        assertEquals(Duration.ofMinutes(5), ChangeHistoryOutboxRelay.backoff(30));
+    }
+
+    private ChangeHistoryOutbox event(Long id, String changes) {
+        return ChangeHistoryOutbox.builder()
+                .id(id)
+                .userId(1L)
+                .entityType("MEASUREMENT")
+                .entityId(5L)
+                .changes(changes)
+                .build();
+    }
+}
@@ -0,0 +1,98 @@
+package com.phillipe.NutriFit.service;
+
+import com.phillipe.NutriFit.repository.UserChangeHistoryRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeHistoryPartitionMaintainerTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-03-15T03:15:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    private UserChangeHistoryRepository historyRepo;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void maintain_shouldCreateCurrentAndUpcomingPartitions() {
+        // arrange
+        ChangeHistoryPartitionMaintainer maintainer =
+                new ChangeHistoryPartitionMaintainer(historyRepo, transactionManager, CLOCK, 2, 0, 0);
+
+        // act
+        maintainer.maintain();
+
+        // assert
+        verify(historyRepo).ensurePartition(YearMonth.of(2026, 3));
+        verify(historyRepo).ensurePartition(YearMonth.of(2026, 4));
+        verify(historyRepo).ensurePartition(YearMonth.of(2026, 5));
+        verify(historyRepo, never()).compactMonth(any());
+        verify(historyRepo, never()).dropPartitionsBefore(any());
+    }
+
+    @Test
+    void maintain_shouldApplyConfiguredRetention() {
+        // arrange
+        ChangeHistoryPartitionMaintainer maintainer =
+                new ChangeHistoryPartitionMaintainer(historyRepo, transactionManager, CLOCK, 0, 3, 24);
+        when(historyRepo.dropPartitionsBefore(any())).thenReturn(List.of());
+        when(historyRepo.findUncompactedMonthsThrough(YearMonth.of(2025, 12))).thenReturn(List.of(YearMonth.of(2025, 12)));
+
+        // act
+        maintainer.maintain();
+
+        // assert
+        InOrder inOrder = inOrder(historyRepo);
+        inOrder.verify(historyRepo).dropPartitionsBefore(YearMonth.of(2024, 3));
+        inOrder.verify(historyRepo).compactMonth(YearMonth.of(2025, 12));
+    }
+
+    @Test
+    void maintain_shouldCompactEveryMonthNotCompactedYet() {
+        // arrange
+        ChangeHistoryPartitionMaintainer maintainer =
+                new ChangeHistoryPartitionMaintainer(historyRepo, transactionManager, CLOCK, 0, 3, 0);
+        when(historyRepo.findUncompactedMonthsThrough(YearMonth.of(2025, 12)))
+                .thenReturn(List.of(YearMonth.of(2025, 9), YearMonth.of(2025, 11), YearMonth.of(2025, 12)));
+
+        // act
+        maintainer.maintain();
+
+        // assert
+        verify(historyRepo).compactMonth(YearMonth.of(2025, 9));
+        verify(historyRepo).compactMonth(YearMonth.of(2025, 11));
+        verify(historyRepo).compactMonth(YearMonth.of(2025, 12));
+        verify(historyRepo, times(3)).compactMonth(any());
+    }
+
+    @Test
+    void maintain_shouldNotThrowWhenSchemaIsNotPartitioned() {
+        // arrange
+        ChangeHistoryPartitionMaintainer maintainer =
+                new ChangeHistoryPartitionMaintainer(historyRepo, transactionManager, CLOCK, 2, 0, 0);
+        doThrow(new DataAccessResourceFailureException("function does not exist"))
+                .when(historyRepo).ensurePartition(any());
+
+        // act
+        maintainer.maintain();
+
+        // assert
+        verify(historyRepo, times(1)).ensurePartition(any());
+    }
+}
@@ -0,0 +1,153 @@
+package com.phillipe.NutriFit.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.phillipe.NutriFit.dto.response.UserChangeHistoryPageResponse;
+import com.phillipe.NutriFit.model.OutboxStatus;
+import com.phillipe.NutriFit.model.entity.ChangeHistoryOutbox;
+import com.phillipe.NutriFit.model.entity.User;
+import com.phillipe.NutriFit.model.entity.UserChangeHistory;
+import com.phillipe.NutriFit.repository.ChangeHistoryOutboxRepository;
+import com.phillipe.NutriFit.repository.UserChangeHistoryRepository;
+import com.phillipe.NutriFit.repository.UserRepository;
+import com.phillipe.NutriFit.service.ChangeHistoryService.FieldChange;
+import com.phillipe.NutriFit.service.impl.ChangeHistoryServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeHistoryServiceImplTest {
+
+    @Mock
+    private UserChangeHistoryRepository historyRepo;
+
+    @Mock
+    private ChangeHistoryOutboxRepository outboxRepo;
+
+    @Mock
+    private UserRepository userRepo;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ChangeHistoryServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ChangeHistoryServiceImpl(historyRepo, outboxRepo, userRepo, objectMapper);
+    }
+
+    @Test
+    void recordChanges_shouldWriteOneOutboxEventWithChangedFields() throws Exception {
+        // arrange
+        User user = new User();
+        user.setId(1L);
+
+        // act
+        service.recordChanges(user, "MEASUREMENT", 5L, List.of(
+                new FieldChange("weightKg", 80.0, 79.5),
+                new FieldChange("waistCm", 85.0, 85.0),
+                new FieldChange("neckCm", null, 38.0)));
+
+        // assert
+        ArgumentCaptor<ChangeHistoryOutbox> captor = ArgumentCaptor.forClass(ChangeHistoryOutbox.class);
+        verify(outboxRepo).save(captor.capture());
+        verifyNoInteractions(historyRepo);
+
+        ChangeHistoryOutbox event = captor.getValue();
+        assertEquals(1L, event.getUserId());
+        assertEquals("MEASUREMENT", event.getEntityType());
+        assertEquals(5L, event.getEntityId());
+        assertEquals(OutboxStatus.PENDING, event.getStatus());
+
+        List<FieldChange> changes = objectMapper.readValue(event.getChanges(), new TypeReference<>() {});
+        assertEquals(List.of(
+                new FieldChange("weightKg", "80.0", "79.5"),
+                new FieldChange("neckCm", null, "38.0")), changes);
+    }
+
+    @Test
+    void recordChange_shouldSkipUnchangedValue() {
+        // act
+        service.recordChange(new User(), "PROFILE", null, "birthYear", 1990, 1990);
+
+        // assert
+        verifyNoInteractions(outboxRepo, historyRepo);
+    }
+
+    @Test
+    void getHistoryPage_shouldReturnCursorWhenMoreRowsExist() {
+        // arrange
+        User user = new User();
+        user.setId(1L);
+        when(userRepo.findByUsername("alice")).thenReturn(user);
+
+        Instant t = Instant.parse("2026-03-01T10:00:00Z");
+        // limit 2 fetches 3 rows; the third only signals that another page follows
+        doReturn(List.of(history(30L, t), history(20L, t), history(10L, t.minusSeconds(60))))
+                .when(historyRepo).findBy(ArgumentMatchers.<Specification<UserChangeHistory>>any(), any());
+
+        // act
+        UserChangeHistoryPageResponse page = service.getHistoryPage("alice", "MEASUREMENT", null, null, null, null, 2);
+
+        // assert
+        assertEquals(List.of(30L, 20L), page.getItems().stream().map(item -> item.getId()).toList());
+        assertNotNull(page.getNextCursor());
+    }
+
+    @Test
+    void getHistoryPage_shouldReturnNoCursorOnLastPage() {
+        // arrange
+        User user = new User();
+        user.setId(1L);
+        when(userRepo.findByUsername("alice")).thenReturn(user);
+
+        Instant t = Instant.parse("2026-03-01T10:00:00Z");
+        doReturn(List.of(history(30L, t), history(20L, t), history(10L, t)))
+                .when(historyRepo).findBy(ArgumentMatchers.<Specification<UserChangeHistory>>any(), any());
+        String cursor = service.getHistoryPage("alice", null, null, null, null, null, 2).getNextCursor();
+
+        doReturn(List.of(history(10L, t))).when(historyRepo).findBy(ArgumentMatchers.<Specification<UserChangeHistory>>any(), any());
+
+        // act
+        UserChangeHistoryPageResponse page = service.getHistoryPage("alice", null, null, null, null, cursor, 2);
+
+        // assert
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getHistoryPage_shouldRejectMalformedCursor() {
+        // arrange
+        User user = new User();
+        user.setId(1L);
+        when(userRepo.findByUsername("alice")).thenReturn(user);
+
+        // act & assert
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getHistoryPage("alice", null, null, null, null, "not-a-cursor", null));
+        verifyNoInteractions(historyRepo);
+    }
+
+    private static UserChangeHistory history(Long id, Instant changedAt) {
+        return UserChangeHistory.builder()
+                .id(id)
+                .entityType("MEASUREMENT")
+                .fieldName("weightKg")
+                .newValue("80.0")
+                .changedAt(changedAt)
+                .build();
+    }
+}
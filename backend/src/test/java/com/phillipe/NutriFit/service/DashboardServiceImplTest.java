@@ -0,0 +1,130 @@
+package com.phillipe.NutriFit.service;
+
+import com.phillipe.NutriFit.dto.response.DashboardResponse;
+import com.phillipe.NutriFit.dto.response.MealResponse;
+import com.phillipe.NutriFit.dto.response.MeasurementResponse;
+import com.phillipe.NutriFit.dto.response.ProfileResponse;
+import com.phillipe.NutriFit.dto.response.WorkoutLogResponse;
+import com.phillipe.NutriFit.dto.response.WorkoutPlanResponse;
+import com.phillipe.NutriFit.exception.NutritionServiceException;
+import com.phillipe.NutriFit.service.impl.DashboardServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardServiceImplTest {
+
+    private static final String AUTH = "Bearer token";
+
+    @Mock
+    private ProfileService profileService;
+
+    @Mock
+    private MeasurementService measurementService;
+
+    @Mock
+    private WorkoutPlanService workoutPlanService;
+
+    @Mock
+    private WorkoutLogService workoutLogService;
+
+    @Mock
+    private NutritionClient nutritionClient;
+
+    private DashboardServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new DashboardServiceImpl(profileService, measurementService, workoutPlanService,
+                workoutLogService, nutritionClient, 500, 500);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void getDashboard_shouldReturnAllSections() {
+        // arrange
+        ProfileResponse profile = ProfileResponse.builder().id(1L).build();
+        MeasurementResponse measurement = MeasurementResponse.builder().id(2L).build();
+        List<WorkoutPlanResponse> plans = List.of(WorkoutPlanResponse.builder().id(3L).build());
+        List<WorkoutLogResponse> workouts = List.of(WorkoutLogResponse.builder().id(4L).build());
+        List<MealResponse> meals = List.of(MealResponse.builder().id(5L).build());
+
+        when(profileService.getProfile("testuser")).thenReturn(profile);
+        when(measurementService.getLatestMeasurement("testuser")).thenReturn(measurement);
+        when(workoutPlanService.getMyPlans("testuser")).thenReturn(plans);
+        when(workoutLogService.getRecentWorkouts("testuser", 1)).thenReturn(workouts);
+        when(nutritionClient.getRecentMeals(4, AUTH)).thenReturn(meals);
+
+        // act
+        DashboardResponse response = service.getDashboard("testuser", AUTH);
+
+        // assert
+        assertSame(profile, response.getProfile());
+        assertSame(measurement, response.getLatestMeasurement());
+        assertEquals(plans, response.getPlans());
+        assertEquals(workouts, response.getWorkouts());
+        assertEquals(meals, response.getMeals());
+        assertTrue(response.getFailedSections().isEmpty());
+    }
+
+    @Test
+    void getDashboard_shouldReturnPartialResultWhenSectionFails() {
+        // arrange
+        ProfileResponse profile = ProfileResponse.builder().id(1L).build();
+        when(profileService.getProfile("testuser")).thenReturn(profile);
+        when(measurementService.getLatestMeasurement("testuser")).thenReturn(null);
+        when(workoutPlanService.getMyPlans("testuser")).thenReturn(List.of());
+        when(workoutLogService.getRecentWorkouts("testuser", 1)).thenReturn(List.of());
+        when(nutritionClient.getRecentMeals(4, AUTH)).thenThrow(new NutritionServiceException("nutrition-service returned 503"));
+
+        // act
+        DashboardResponse response = service.getDashboard("testuser", AUTH);
+
+        // assert
+        assertSame(profile, response.getProfile());
+        assertNull(response.getLatestMeasurement());
+        assertNull(response.getMeals());
+        assertEquals(1, response.getFailedSections().size());
+        assertEquals("unavailable", response.getFailedSections().get("meals"));
+    }
+
+    @Test
+    void getDashboard_shouldNotWaitPastSectionTimeout() {
+        // arrange
+        CountDownLatch never = new CountDownLatch(1);
+        when(profileService.getProfile("testuser")).thenReturn(ProfileResponse.builder().id(1L).build());
+        when(measurementService.getLatestMeasurement("testuser")).thenReturn(null);
+        when(workoutPlanService.getMyPlans("testuser")).thenAnswer(invocation -> {
+            never.await();
+            return List.of();
+        });
+        when(workoutLogService.getRecentWorkouts("testuser", 1)).thenReturn(List.of());
+        when(nutritionClient.getRecentMeals(4, AUTH)).thenReturn(List.of());
+
+        // act
+        long start = System.nanoTime();
+        DashboardResponse response = service.getDashboard("testuser", AUTH);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // assert
+        assertTrue(elapsedMs < 2000, "took " + elapsedMs + "ms");
+        assertNull(response.getPlans());
+        assertNotNull(response.getProfile());
+        assertEquals(List.of(), response.getMeals());
+        assertEquals("timed out", response.getFailedSections().get("plans"));
+    }
+}
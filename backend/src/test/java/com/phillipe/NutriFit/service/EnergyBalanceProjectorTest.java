@@ -0,0 +1,163 @@
+package com.phillipe.NutriFit.service;
+
+import com.phillipe.NutriFit.dto.response.MealEventResponse;
+import com.phillipe.NutriFit.exception.NutritionServiceException;
+import com.phillipe.NutriFit.model.entity.WorkoutEnergyEvent;
+import com.phillipe.NutriFit.repository.EnergyBalanceRepository;
+import com.phillipe.NutriFit.repository.EnergyBalanceRepositoryCustom.Delta;
+import com.phillipe.NutriFit.repository.EnergyBalanceRepositoryCustom.FeedPosition;
+import com.phillipe.NutriFit.repository.WorkoutEnergyEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EnergyBalanceProjectorTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 14);
+
+    @Mock
+    private WorkoutEnergyEventRepository workoutEventRepo;
+
+    @Mock
+    private EnergyBalanceRepository balanceRepo;
+
+    @Mock
+    private NutritionClient nutritionClient;
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private EnergyBalanceProjector projector;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        projector = new EnergyBalanceProjector(workoutEventRepo, balanceRepo, nutritionClient, jwtService,
+                transactionManager, meterRegistry, 2, 5);
+        lenient().when(jwtService.generateServiceToken(NutritionClient.MEAL_EVENTS_SCOPE)).thenReturn("service");
+    }
+
+    @Test
+    void projectWorkouts_shouldAddBurnedCaloriesAndDeleteEvents() {
+        // arrange
+        when(workoutEventRepo.claimBatch(2)).thenReturn(List.of(workoutEvent(1L, 300), workoutEvent(2L, -100)))
+                .thenReturn(List.of());
+
+        // act
+        projector.projectWorkouts();
+
+        // assert
+        verify(balanceRepo).addAll(List.of(new Delta(1L, DAY, 0, 200)));
+        verify(workoutEventRepo).deleteAllByIdInBatch(List.of(1L, 2L));
+        assertEquals(2, meterRegistry.get("nutrifit.energy_balance.lag").tag("source", "workouts").timer().count());
+    }
+
+    @Test
+    void projectMeals_shouldApplyEventsAndAdvanceCursor() {
+        // arrange
+        when(balanceRepo.findCursor("meals")).thenReturn(new FeedPosition(5L, 10L), new FeedPosition(7L, 12L));
+        when(nutritionClient.getMealEvents(5L, 10L, 2, "Bearer service"))
+                .thenReturn(List.of(mealEvent(6L, 11L, 1L, 500), mealEvent(7L, 12L, 2L, 250)));
+        when(nutritionClient.getMealEvents(7L, 12L, 2, "Bearer service")).thenReturn(List.of());
+        when(balanceRepo.advanceCursor("meals", new FeedPosition(5L, 10L), new FeedPosition(7L, 12L))).thenReturn(true);
+
+        // act
+        projector.projectMeals();
+
+        // assert
+        InOrder inOrder = inOrder(nutritionClient, transactionManager, balanceRepo);
+        inOrder.verify(nutritionClient).getMealEvents(5L, 10L, 2, "Bearer service");
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(balanceRepo).advanceCursor("meals", new FeedPosition(5L, 10L), new FeedPosition(7L, 12L));
+        inOrder.verify(balanceRepo).addAll(List.of(new Delta(1L, DAY, 500, 0), new Delta(2L, DAY, 250, 0)));
+        inOrder.verify(transactionManager).commit(any());
+        verify(transactionManager, times(1)).getTransaction(any());
+    }
+
+    @Test
+    void projectMeals_shouldNotApplyAPageAnotherInstanceAppliedFirst() {
+        // arrange
+        when(balanceRepo.findCursor("meals")).thenReturn(new FeedPosition(5L, 10L));
+        when(nutritionClient.getMealEvents(5L, 10L, 2, "Bearer service"))
+                .thenReturn(List.of(mealEvent(6L, 11L, 1L, 500), mealEvent(7L, 12L, 2L, 250)));
+        when(balanceRepo.advanceCursor("meals", new FeedPosition(5L, 10L), new FeedPosition(7L, 12L))).thenReturn(false);
+
+        // act
+        projector.projectMeals();
+
+        // assert
+        verify(balanceRepo, never()).addAll(any());
+        verify(nutritionClient, times(1)).getMealEvents(anyLong(), anyLong(), anyInt(), anyString());
+    }
+
+    @Test
+    void projectMeals_shouldLeaveCursorWhenNutritionServiceFails() {
+        // arrange
+        when(balanceRepo.findCursor("meals")).thenReturn(new FeedPosition(5L, 10L));
+        when(nutritionClient.getMealEvents(anyLong(), anyLong(), anyInt(), anyString()))
+                .thenThrow(new NutritionServiceException("nutrition-service timed out"));
+
+        // act
+        projector.projectMeals();
+
+        // assert
+        verify(balanceRepo, never()).advanceCursor(anyString(), any(), any());
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    void merge_shouldSumPerUserAndDayInKeyOrder() {
+        // act
+        List<Delta> merged = EnergyBalanceProjector.merge(List.of(
+                new Delta(2L, DAY, 100, 0),
+                new Delta(1L, DAY.plusDays(1), 0, 50),
+                new Delta(2L, DAY, 0, 30),
+                new Delta(1L, DAY, 200, 0)));
+
+        // assert
+        assertEquals(List.of(
+                new Delta(1L, DAY, 200, 0),
+                new Delta(1L, DAY.plusDays(1), 0, 50),
+                new Delta(2L, DAY, 100, 30)), merged);
+    }
+
+    private static WorkoutEnergyEvent workoutEvent(Long id, int calories) {
+        return WorkoutEnergyEvent.builder()
+                .id(id)
+                .userId(1L)
+                .localDate(DAY)
+                .calories(calories)
+                .createdAt(Instant.now())
+                .build();
+    }
+
+    private static MealEventResponse mealEvent(Long xactId, Long id, Long userId, int calories) {
+        return MealEventResponse.builder()
+                .xactId(xactId)
+                .id(id)
+                .userId(userId)
+                .localDate(DAY)
+                .calories(calories)
+                .createdAt(Instant.now())
+                .build();
+    }
+}
@@ -0,0 +1,105 @@
+package com.phillipe.NutriFit.service;
+
+import com.phillipe.NutriFit.dto.response.EnergyBalanceResponse;
+import com.phillipe.NutriFit.model.TrendResolution;
+import com.phillipe.NutriFit.model.entity.User;
+import com.phillipe.NutriFit.repository.EnergyBalanceRepository;
+import com.phillipe.NutriFit.repository.EnergyBalanceRepositoryCustom.PeriodBalance;
+import com.phillipe.NutriFit.repository.UserRepository;
+import com.phillipe.NutriFit.service.impl.EnergyBalanceServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EnergyBalanceServiceImplTest {
+
+    @Mock
+    private EnergyBalanceRepository balanceRepo;
+
+    @Mock
+    private UserRepository userRepo;
+
+    @InjectMocks
+    private EnergyBalanceServiceImpl service;
+
+    @Test
+    void getBalance_shouldSummarizePeriodsWithBalance() {
+        // arrange
+        LocalDate from = LocalDate.of(2026, 3, 2);
+        LocalDate to = LocalDate.of(2026, 3, 15);
+        when(userRepo.findByUsername("testuser")).thenReturn(user());
+        when(balanceRepo.summarize(1L, TrendResolution.WEEK, from, to)).thenReturn(List.of(
+                new PeriodBalance(from, 14000, 2500),
+                new PeriodBalance(from.plusWeeks(1), 12000, 3000)));
+
+        // act
+        List<EnergyBalanceResponse> balance = service.getBalance("testuser", TrendResolution.WEEK, from, to, null);
+
+        // assert
+        assertEquals(2, balance.size());
+        assertEquals(from, balance.get(0).getPeriodStart());
+        assertEquals(11500, balance.get(0).getBalance());
+        assertEquals(9000, balance.get(1).getBalance());
+    }
+
+    @Test
+    void getBalance_shouldDefaultToTodayInTheUsersZone() {
+        // arrange
+        ZoneId zone = ZoneId.of("Pacific/Kiritimati");
+        LocalDate today = LocalDate.now(zone);
+        when(userRepo.findByUsername("testuser")).thenReturn(user());
+        when(balanceRepo.summarize(1L, TrendResolution.DAY, today, today)).thenReturn(List.of());
+
+        // act
+        List<EnergyBalanceResponse> balance = service.getBalance("testuser", null, null, null, zone);
+
+        // assert
+        assertTrue(balance.isEmpty());
+        verify(balanceRepo).summarize(1L, TrendResolution.DAY, today, today);
+    }
+
+    @Test
+    void getBalance_shouldRejectInvertedRange() {
+        // act & assert
+        assertThrows(IllegalArgumentException.class, () -> service.getBalance("testuser", TrendResolution.DAY,
+                LocalDate.of(2026, 3, 15), LocalDate.of(2026, 3, 1), null));
+        verifyNoInteractions(balanceRepo);
+    }
+
+    @Test
+    void getBalance_shouldRejectOverlongRange() {
+        // act & assert
+        assertThrows(IllegalArgumentException.class, () -> service.getBalance("testuser", TrendResolution.MONTH,
+                LocalDate.of(2020, 1, 1), LocalDate.of(2026, 1, 1), null));
+    }
+
+    @Test
+    void getBalance_shouldThrowWhenUserNotFound() {
+        // arrange
+        when(userRepo.findByUsername("unknownuser")).thenReturn(null);
+
+        // act & assert
+        assertThrows(UsernameNotFoundException.class,
+                () -> service.getBalance("unknownuser", null, null, null, null));
+        verify(balanceRepo, never()).summarize(any(), any(), any(), any());
+    }
+
+    private static User user() {
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("testuser");
+        return user;
+    }
+}
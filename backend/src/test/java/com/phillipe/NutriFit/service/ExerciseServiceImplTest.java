@@ -0,0 +1,123 @@
+package com.phillipe.NutriFit.service;
+
+import com.phillipe.NutriFit.model.entity.Exercise;
+import com.phillipe.NutriFit.repository.ExerciseRepository;
+import com.phillipe.NutriFit.service.impl.ExerciseServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExerciseServiceImplTest {
+
+    @Mock
+    private ExerciseRepository exerciseRepo;
+
+    @InjectMocks
+    private ExerciseServiceImpl service;
+
+    @Test
+    void resolve_shouldReturnExistingDictionaryRow() {
+        // arrange
+        Exercise bench = Exercise.builder().id(1).name("Bench Press").category("CHEST").build();
+        when(exerciseRepo.findByNameAndCategory("Bench Press", "CHEST")).thenReturn(Optional.of(bench));
+
+        // act
+        Exercise result = service.resolve("Bench Press", "CHEST");
+
+        // assert
+        assertSame(bench, result);
+        verify(exerciseRepo, never()).insertIfAbsent(any(), any());
+    }
+
+    @Test
+    void resolve_shouldCacheResolvedRows() {
+        // arrange
+        Exercise bench = Exercise.builder().id(1).name("Bench Press").category("CHEST").build();
+        when(exerciseRepo.findByNameAndCategory("Bench Press", "CHEST")).thenReturn(Optional.of(bench));
+
+        // act
+        service.resolve("Bench Press", "CHEST");
+        Exercise second = service.resolve(" Bench Press ", "CHEST");
+
+        // assert
+        assertSame(bench, second);
+        verify(exerciseRepo, times(1)).findByNameAndCategory("Bench Press", "CHEST");
+    }
+
+    @Test
+    void resolve_shouldCreateCustomExerciseOnFirstUse() {
+        // arrange
+        Exercise custom = Exercise.builder().id(200).name("Sled Push").build();
+        when(exerciseRepo.findByNameAndCategory("Sled Push", null))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(custom));
+
+        // act
+        Exercise result = service.resolve("Sled Push", "  ");
+
+        // assert
+        assertEquals(200, result.getId());
+        verify(exerciseRepo).insertIfAbsent("Sled Push", null);
+    }
+
+    @Test
+    void resolve_shouldCacheOnlyAfterCommit() {
+        // arrange
+        Exercise custom = Exercise.builder().id(200).name("Sled Push").build();
+        when(exerciseRepo.findByNameAndCategory("Sled Push", null)).thenReturn(Optional.of(custom));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // act: resolved twice inside the transaction, then committed
+            service.resolve("Sled Push", null);
+            service.resolve("Sled Push", null);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        service.resolve("Sled Push", null);
+
+        // assert: not cached before commit, cached after
+        verify(exerciseRepo, times(2)).findByNameAndCategory("Sled Push", null);
+    }
+
+    @Test
+    void resolve_shouldNotCacheRowsOfRolledBackTransaction() {
+        // arrange
+        Exercise custom = Exercise.builder().id(200).name("Sled Push").build();
+        when(exerciseRepo.findByNameAndCategory("Sled Push", null))
+                .thenReturn(Optional.empty(), Optional.of(custom), Optional.empty(), Optional.of(custom));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.resolve("Sled Push", null);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // act: the row was rolled back, so the next workout must insert it again
+        service.resolve("Sled Push", null);
+
+        // assert
+        verify(exerciseRepo, times(2)).insertIfAbsent("Sled Push", null);
+    }
+
+    @Test
+    void resolve_shouldRejectBlankName() {
+        assertThrows(IllegalArgumentException.class, () -> service.resolve(" ", "CHEST"));
+        verifyNoInteractions(exerciseRepo);
+    }
+}
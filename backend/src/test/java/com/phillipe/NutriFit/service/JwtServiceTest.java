@@ -23,7 +23,7 @@ class JwtServiceTest {
     @Test
     void generateToken_shouldReturnValidJwtFormat() {
         // act
-        String token = jwtService.generateToken("testuser");
+        String token = jwtService.generateToken("testuser", 1L);
 
         // assert
         assertNotNull(token);
@@ -35,7 +35,7 @@ class JwtServiceTest {
     @Test
     void extractUserName_shouldReturnCorrectUsername() {
         // arrange
-        String token = jwtService.generateToken("testuser");
+        String token = jwtService.generateToken("testuser", 1L);
 
         // act
         String extractedUsername = jwtService.extractUserName(token);
@@ -44,23 +44,45 @@ class JwtServiceTest {
         assertEquals("testuser", extractedUsername);
     }
 
+    @Test
+    void extractUserId_shouldReturnUserIdClaim() {
+        // arrange
+        String token = jwtService.generateToken("testuser", 42L);
+
+        // act
+        Long extractedUserId = jwtService.extractUserId(token);
+
+        // assert
+        assertEquals(42L, extractedUserId);
+    }
+
+    @Test
+    void generateServiceToken_shouldCarryScopeButNoUser() {
+        // act
+        String token = jwtService.generateServiceToken("meal-events");
+
+        // assert
+        assertNull(jwtService.extractUserName(token));
+        assertNull(jwtService.extractUserId(token));
+    }
+
     @Test
     void extractUserName_shouldWorkWithDifferentUsernames() {
         // arrange & act & assert
-        String token1 = jwtService.generateToken("user1");
+        String token1 = jwtService.generateToken("user1", 1L);
         assertEquals("user1", jwtService.extractUserName(token1));
 
-        String token2 = jwtService.generateToken("admin@example.com");
+        String token2 = jwtService.generateToken("admin@example.com", 1L);
         assertEquals("admin@example.com", jwtService.extractUserName(token2));
 
-        String token3 = jwtService.generateToken("user-with-dashes");
+        String token3 = jwtService.generateToken("user-with-dashes", 1L);
         assertEquals("user-with-dashes", jwtService.extractUserName(token3));
     }
 
     @Test
     void validateToken_shouldReturnTrueForValidTokenAndMatchingUser() {
         // arrange
-        String token = jwtService.generateToken("testuser");
+        String token = jwtService.generateToken("testuser", 1L);
         UserDetails userDetails = mock(UserDetails.class);
         when(userDetails.getUsername()).thenReturn("testuser");
 
@@ -74,7 +96,7 @@ class JwtServiceTest {
     @Test
     void validateToken_shouldReturnFalseForMismatchedUsername() {
         // arrange
-        String token = jwtService.generateToken("testuser");
+        String token = jwtService.generateToken("testuser", 1L);
         UserDetails userDetails = mock(UserDetails.class);
         when(userDetails.getUsername()).thenReturn("differentuser");
 
@@ -94,7 +116,7 @@ class JwtServiceTest {
         when(userDetails.getUsername()).thenReturn(username);
 
         // act - generate
-        String token = jwtService.generateToken(username);
+        String token = jwtService.generateToken(username, 1L);
         assertNotNull(token);
 
         // act - extract
@@ -129,7 +151,7 @@ class JwtServiceTest {
         JwtService service1 = new JwtService(TEST_SECRET);
         JwtService service2 = new JwtService(TEST_SECRET);
 
-        String token = service1.generateToken("testuser");
+        String token = service1.generateToken("testuser", 1L);
         UserDetails userDetails = mock(UserDetails.class);
         when(userDetails.getUsername()).thenReturn("testuser");
 
@@ -143,7 +165,7 @@ class JwtServiceTest {
         JwtService service1 = new JwtService(TEST_SECRET);
         JwtService service2 = new JwtService(DIFFERENT_SECRET);
 
-        String token = service1.generateToken("testuser");
+        String token = service1.generateToken("testuser", 1L);
         UserDetails userDetails = mock(UserDetails.class);
         when(userDetails.getUsername()).thenReturn("testuser");
 
@@ -2,9 +2,13 @@ package com.phillipe.NutriFit.service;
 
 import com.phillipe.NutriFit.dto.request.MeasurementRequest;
 import com.phillipe.NutriFit.dto.response.MeasurementResponse;
+import com.phillipe.NutriFit.dto.response.MeasurementTrendResponse;
+import com.phillipe.NutriFit.model.MeasurementField;
+import com.phillipe.NutriFit.model.TrendResolution;
 import com.phillipe.NutriFit.model.entity.BodyMeasurement;
 import com.phillipe.NutriFit.model.entity.User;
 import com.phillipe.NutriFit.repository.BodyMeasurementRepository;
+import com.phillipe.NutriFit.repository.BodyMeasurementRepositoryCustom.TrendBucket;
 import com.phillipe.NutriFit.repository.UserRepository;
 import com.phillipe.NutriFit.service.impl.MeasurementServiceImpl;
 import org.junit.jupiter.api.Test;
@@ -15,13 +19,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +43,9 @@ class MeasurementServiceImplTest {
     @Mock
     private ChangeHistoryService changeHistoryService;
 
+    @Mock
+    private MeasurementStatsService statsService;
+
     @InjectMocks
     private MeasurementServiceImpl service;
 
@@ -79,9 +89,45 @@ class MeasurementServiceImplTest {
 
         ArgumentCaptor<BodyMeasurement> captor = ArgumentCaptor.forClass(BodyMeasurement.class);
         verify(measurementRepo).save(captor.capture());
+        verify(statsService).record(any(BodyMeasurement.class));
         assertEquals(user, captor.getValue().getUser());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void createMeasurement_shouldRecordAllFieldChangesInOneCall() {
+        // arrange
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("testuser");
+
+        MeasurementRequest request = MeasurementRequest.builder()
+                .heightCm(178.0)
+                .weightKg(80.0)
+                .waistCm(85.0)
+                .build();
+
+        when(userRepo.findByUsername("testuser")).thenReturn(user);
+        when(measurementRepo.save(any(BodyMeasurement.class))).thenAnswer(invocation -> {
+            BodyMeasurement saved = invocation.getArgument(0);
+            saved.setId(1L);
+            return saved;
+        });
+
+        // act
+        service.createMeasurement(request, "testuser");
+
+        // assert
+        ArgumentCaptor<List<ChangeHistoryService.FieldChange>> captor = ArgumentCaptor.forClass(List.class);
+        verify(changeHistoryService).recordChanges(eq(user), eq("MEASUREMENT"), eq(1L), captor.capture());
+        verify(changeHistoryService, never()).recordChange(any(), any(), any(), any(), any(), any());
+        assertEquals(List.of(
+                new ChangeHistoryService.FieldChange("heightCm", null, 178.0),
+                new ChangeHistoryService.FieldChange("weightKg", null, 80.0),
+                new ChangeHistoryService.FieldChange("waistCm", null, 85.0)
+        ), captor.getValue());
+    }
+
     @Test
     void createMeasurement_shouldHandlePartialData() {
         // arrange
@@ -248,6 +294,7 @@ class MeasurementServiceImplTest {
         service.deleteMeasurement(1L, "testuser");
 
         // assert
+        verify(statsService).reverse(measurement);
         verify(measurementRepo).delete(measurement);
     }
 
@@ -287,4 +334,65 @@ class MeasurementServiceImplTest {
 
         verify(measurementRepo, never()).delete(any());
     }
+
+    @Test
+    void getTrends_shouldDefaultToDailyWeightAndDownsample() {
+        // arrange
+        User user = new User();
+        user.setId(1L);
+        when(userRepo.findByUsername("testuser")).thenReturn(user);
+
+        Instant start = Instant.parse("2025-01-01T00:00:00Z");
+        List<TrendBucket> buckets = IntStream.range(0, 365)
+                .mapToObj(i -> new TrendBucket(MeasurementField.WEIGHT_KG, start.plus(Duration.ofDays(i)),
+                        80 - i * 0.01, 80 - i * 0.01, 1))
+                .toList();
+        when(measurementRepo.findTrend(1L, List.of(MeasurementField.WEIGHT_KG), TrendResolution.DAY, null, null, 7))
+                .thenReturn(buckets);
+
+        // act
+        MeasurementTrendResponse response = service.getTrends("testuser", null, null, null, null, null, 50);
+
+        // assert
+        assertEquals(TrendResolution.DAY, response.getResolution());
+        assertEquals(1, response.getSeries().size());
+        MeasurementTrendResponse.Series series = response.getSeries().getFirst();
+        assertEquals("weightKg", series.getField());
+        assertEquals(365, series.getTotalPoints());
+        assertEquals(50, series.getPoints().size());
+        assertEquals(start, series.getPoints().getFirst().getBucket());
+    }
+
+    @Test
+    void getTrends_shouldReturnEmptySeriesForFieldWithoutData() {
+        // arrange
+        User user = new User();
+        user.setId(1L);
+        when(userRepo.findByUsername("testuser")).thenReturn(user);
+        when(measurementRepo.findTrend(any(), any(), any(), any(), any(), anyInt())).thenReturn(List.of(
+                new TrendBucket(MeasurementField.WEIGHT_KG, Instant.parse("2025-01-06T00:00:00Z"), 80, 80, 3)));
+
+        // act
+        MeasurementTrendResponse response = service.getTrends("testuser", List.of("weightKg", "waistCm"),
+                TrendResolution.WEEK, null, null, 4, null);
+
+        // assert
+        assertEquals(List.of("weightKg", "waistCm"),
+                response.getSeries().stream().map(MeasurementTrendResponse.Series::getField).toList());
+        assertEquals(1, response.getSeries().get(0).getPoints().size());
+        assertTrue(response.getSeries().get(1).getPoints().isEmpty());
+    }
+
+    @Test
+    void getTrends_shouldRejectUnknownField() {
+        // arrange
+        User user = new User();
+        user.setId(1L);
+        when(userRepo.findByUsername("testuser")).thenReturn(user);
+
+        // act & assert
+        assertThrows(IllegalArgumentException.class, () ->
+                service.getTrends("testuser", List.of("weight_kg; DROP TABLE users"), null, null, null, null, null));
+        verify(measurementRepo, never()).findTrend(any(), any(), any(), any(), any(), anyInt());
+    }
 }
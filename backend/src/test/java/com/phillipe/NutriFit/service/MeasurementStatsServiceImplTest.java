@@ -0,0 +1,172 @@
+package com.phillipe.NutriFit.service;
+
+import com.phillipe.NutriFit.dto.response.MeasurementForecastResponse;
+import com.phillipe.NutriFit.model.MeasurementField;
+import com.phillipe.NutriFit.model.entity.BodyMeasurement;
+import com.phillipe.NutriFit.model.entity.MeasurementStats;
+import com.phillipe.NutriFit.model.entity.User;
+import com.phillipe.NutriFit.repository.MeasurementStatsRepository;
+import com.phillipe.NutriFit.repository.UserRepository;
+import com.phillipe.NutriFit.service.impl.MeasurementStatsServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MeasurementStatsServiceImplTest {
+
+
+    @Mock
+    private MeasurementStatsRepository statsRepo;
+
+    @Mock
+    private UserRepository userRepo;
+
+    private MeasurementStatsServiceImpl service;
+
+    // Stands in for the measurement_stats table
+    private final List<MeasurementStats> table = new ArrayList<>();
+
+    private final User user = new User();
+
+    @BeforeEach
+    void setUp() {
+        service = new MeasurementStatsServiceImpl(statsRepo, userRepo);
+
+        user.setId(1L);
+        user.setUsername("testuser");
+
+        lenient().when(statsRepo.findByUserIdForUpdate(1L)).thenAnswer(invocation -> List.copyOf(table));
+        lenient().when(statsRepo.saveAll(anyIterable())).thenAnswer(invocation -> {
+            for (MeasurementStats stats : invocation.<Iterable<MeasurementStats>>getArgument(0)) {
+                if (!table.contains(stats)) {
+                    table.add(stats);
+                }
+            }
+            return null;
+        });
+        lenient().doAnswer(invocation -> {
+            invocation.<Iterable<MeasurementStats>>getArgument(0).forEach(table::remove);
+            return null;
+        }).when(statsRepo).deleteAll(anyIterable());
+        lenient().when(statsRepo.findByUserIdAndField(eq(1L), any())).thenAnswer(invocation -> table.stream()
+                .filter(stats -> stats.getField() == invocation.getArgument(1))
+                .findFirst());
+        lenient().when(userRepo.findByUsername("testuser")).thenReturn(user);
+    }
+
+    @Test
+    void forecast_shouldRecoverLinearTrendAndProjectTargetDate() {
+        // arrange: losing 0.1 kg per day over the last eight weeks
+        for (int day = -56; day <= 0; day += 2) {
+            service.record(measurement(day, 84 - 0.1 * day));
+        }
+
+        // act
+        MeasurementForecastResponse forecast = service.forecast("testuser", "weightKg", 80.0);
+
+        // assert
+        assertEquals(29, forecast.getSamples());
+        assertEquals(-0.7, forecast.getWeeklyRate(), 1e-6);
+        assertEquals(-0.7, forecast.getOverallWeeklyRate(), 1e-6);
+        assertEquals(1.0, forecast.getRSquared(), 1e-6);
+        assertEquals(84.0, forecast.getCurrent(), 1e-3);
+        // 4 kg to go at 0.1 kg/day
+        Instant expected = Instant.now().plus(Duration.ofDays(40));
+        assertTrue(Duration.between(forecast.getProjectedTargetDate(), expected).abs().toMinutes() < 5);
+    }
+
+    @Test
+    void reverse_shouldUndoRecord() {
+        // arrange
+        service.record(measurement(-20, 90));
+        service.record(measurement(-10, 88));
+        MeasurementForecastResponse before = service.forecast("testuser", "weightKg", null);
+        BodyMeasurement outlier = measurement(0, 70);
+        service.record(outlier);
+
+        // act
+        service.reverse(outlier);
+
+        // assert
+        MeasurementForecastResponse after = service.forecast("testuser", "weightKg", null);
+        assertEquals(before.getSamples(), after.getSamples());
+        assertEquals(before.getWeeklyRate(), after.getWeeklyRate(), 1e-9);
+        assertEquals(before.getCurrent(), after.getCurrent(), 1e-6);
+    }
+
+    @Test
+    void reverse_shouldDropStatsWhenLastMeasurementIsRemoved() {
+        // arrange
+        BodyMeasurement only = measurement(0, 90);
+        service.record(only);
+
+        // act
+        service.reverse(only);
+
+        // assert
+        assertTrue(table.isEmpty());
+        assertEquals(0, service.forecast("testuser", "weightKg", null).getSamples());
+    }
+
+    @Test
+    void forecast_shouldNotProjectWhenTrendMovesAwayFromTarget() {
+        // arrange
+        service.record(measurement(-30, 80));
+        service.record(measurement(0, 82));
+
+        // act
+        MeasurementForecastResponse forecast = service.forecast("testuser", "weightKg", 75.0);
+
+        // assert
+        assertTrue(forecast.getWeeklyRate() > 0);
+        assertNull(forecast.getProjectedTargetDate());
+    }
+
+    @Test
+    void forecast_shouldStayExactAcrossOriginRebase() {
+        // arrange: 12 years of a perfect line; weights past ~11 years force the origin forward
+        for (int day = -4400; day <= 0; day += 400) {
+            service.record(measurement(day, 100 + 0.002 * day));
+        }
+
+        // act
+        MeasurementForecastResponse forecast = service.forecast("testuser", "weightKg", null);
+
+        // assert
+        assertEquals(12, forecast.getSamples());
+        assertEquals(0.014, forecast.getWeeklyRate(), 1e-6);
+        assertEquals(0.014, forecast.getOverallWeeklyRate(), 1e-6);
+        assertEquals(100.0, forecast.getCurrent(), 1e-3);
+    }
+
+    @Test
+    void record_shouldSkipFieldsThatWereNotMeasured() {
+        // act
+        service.record(measurement(0, 90));
+
+        // assert
+        assertEquals(1, table.size());
+        assertEquals(MeasurementField.WEIGHT_KG, table.getFirst().getField());
+    }
+
+    private BodyMeasurement measurement(int day, double weightKg) {
+        return BodyMeasurement.builder()
+                .user(user)
+                .recordedAt(Instant.now().plus(Duration.ofDays(day)))
+                .weightKg(weightKg)
+                .build();
+    }
+}
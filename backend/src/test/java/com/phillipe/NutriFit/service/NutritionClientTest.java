@@ -0,0 +1,133 @@
+package com.phillipe.NutriFit.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.phillipe.NutriFit.dto.response.MealEventResponse;
+import com.phillipe.NutriFit.dto.response.MealResponse;
+import com.phillipe.NutriFit.exception.NutritionServiceException;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NutritionClientTest {
+
+    private HttpServer server;
+    private NutritionClient client;
+
+    private final AtomicReference<String> receivedAuth = new AtomicReference<>();
+    private final AtomicReference<String> receivedUri = new AtomicReference<>();
+    private volatile int status = 200;
+    private volatile String body = "[]";
+    private volatile long delayMs = 0;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api", exchange -> {
+            receivedAuth.set(exchange.getRequestHeaders().getFirst("Authorization"));
+            receivedUri.set(exchange.getRequestURI().toString());
+            try {
+                Thread.sleep(delayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/api";
+        client = new NutritionClient(objectMapper, baseUrl, 500, 500);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void getRecentMeals_shouldForwardAuthorizationAndParseMeals() {
+        // arrange
+        body = """
+                {"items": [{"id": 7, "createdAt": "2026-01-02T08:00:00Z", "totalCalories": 550,
+                  "totalProtein": 30, "totalCarbs": 60, "totalFats": 20, "someNewField": true,
+                  "foods": [{"type": "OATMEAL", "calories": 150, "protein": 5, "carbs": 27, "fats": 3}]}],
+                 "nextCursor": "MjAyNi0wMS0wMlQwODowMDowMFp8Nw"}
+                """;
+
+        // act
+        List<MealResponse> meals = client.getRecentMeals(4, "Bearer abc");
+
+        // assert
+        assertEquals("Bearer abc", receivedAuth.get());
+        assertEquals("/api/meals/mine/page?limit=4", receivedUri.get());
+        assertEquals(1, meals.size());
+        MealResponse meal = meals.get(0);
+        assertEquals(7L, meal.getId());
+        assertEquals(Instant.parse("2026-01-02T08:00:00Z"), meal.getCreatedAt());
+        assertEquals(550, meal.getTotalCalories());
+        assertEquals("OATMEAL", meal.getFoods().get(0).getType());
+    }
+
+    @Test
+    void getRecentMeals_shouldThrowOnErrorStatus() {
+        // arrange
+        status = 401;
+        body = "{\"error\": \"Unauthorized\"}";
+
+        // act & assert
+        NutritionServiceException ex = assertThrows(NutritionServiceException.class,
+                () -> client.getRecentMeals(4, "Bearer expired"));
+        assertTrue(ex.getMessage().contains("401"));
+    }
+
+    @Test
+    void getRecentMeals_shouldThrowOnTimeout() {
+        // arrange
+        delayMs = 2000;
+
+        // act & assert
+        NutritionServiceException ex = assertThrows(NutritionServiceException.class,
+                () -> client.getRecentMeals(4, "Bearer abc"));
+        assertEquals("nutrition-service timed out", ex.getMessage());
+    }
+
+    @Test
+    void getMealEvents_shouldRequestPageAfterCursor() {
+        // arrange
+        body = """
+                [{"xactId": 905, "id": 12, "userId": 3, "localDate": "2026-01-02", "calories": -400,
+                  "createdAt": "2026-01-02T08:00:00Z"}]
+                """;
+
+        // act
+        List<MealEventResponse> events = client.getMealEvents(900, 11, 100, "Bearer service");
+
+        // assert
+        assertEquals("/api/events/meals?afterXact=900&after=11&limit=100", receivedUri.get());
+        assertEquals("Bearer service", receivedAuth.get());
+        assertEquals(1, events.size());
+        assertEquals(905L, events.get(0).getXactId());
+        assertEquals(12L, events.get(0).getId());
+        assertEquals(3L, events.get(0).getUserId());
+        assertEquals(LocalDate.of(2026, 1, 2), events.get(0).getLocalDate());
+        assertEquals(-400, events.get(0).getCalories());
+    }
+}
@@ -52,8 +52,7 @@ class ProfileServiceImplTest {
                 .unitPreference(UnitPreference.IMPERIAL)
                 .build();
 
-        when(userRepo.findByUsername("testuser")).thenReturn(user);
-        when(profileRepo.findByUserId(1L)).thenReturn(Optional.of(profile));
+        when(profileRepo.findByUserUsername("testuser")).thenReturn(Optional.of(profile));
 
         // act
         ProfileResponse response = service.getProfile("testuser");
@@ -67,22 +66,18 @@ class ProfileServiceImplTest {
         assertEquals(UnitPreference.IMPERIAL, response.getUnitPreference());
 
         verify(profileRepo, never()).save(any());
+        verifyNoInteractions(userRepo);
     }
 
     @Test
-    void getProfile_shouldCreateDefaultProfileWhenNotExists() {
+    void getProfile_shouldReturnDefaultsWithoutSavingWhenProfileMissing() {
         // arrange
         User user = new User();
         user.setId(1L);
         user.setUsername("testuser");
 
+        when(profileRepo.findByUserUsername("testuser")).thenReturn(Optional.empty());
         when(userRepo.findByUsername("testuser")).thenReturn(user);
-        when(profileRepo.findByUserId(1L)).thenReturn(Optional.empty());
-        when(profileRepo.save(any(UserProfile.class))).thenAnswer(invocation -> {
-            UserProfile saved = invocation.getArgument(0);
-            saved.setId(1L);
-            return saved;
-        });
 
         // act
         ProfileResponse response = service.getProfile("testuser");
@@ -94,7 +89,8 @@ class ProfileServiceImplTest {
         assertNull(response.getBirthYear());
         assertNull(response.getGender());
 
-        verify(profileRepo).save(any(UserProfile.class));
+        // GET is read-only; profiles are created at registration
+        verify(profileRepo, never()).save(any());
     }
 
     @Test
@@ -113,8 +109,7 @@ class ProfileServiceImplTest {
                 .birthYear(birthYear)
                 .build();
 
-        when(userRepo.findByUsername("testuser")).thenReturn(user);
-        when(profileRepo.findByUserId(1L)).thenReturn(Optional.of(profile));
+        when(profileRepo.findByUserUsername("testuser")).thenReturn(Optional.of(profile));
 
         // act
         ProfileResponse response = service.getProfile("testuser");
@@ -128,12 +123,14 @@ class ProfileServiceImplTest {
         // arrange
         when(userRepo.findByUsername("unknownuser")).thenReturn(null);
 
+        when(profileRepo.findByUserUsername("unknownuser")).thenReturn(Optional.empty());
+
         // act & assert
         assertThrows(UsernameNotFoundException.class,
                 () -> service.getProfile("unknownuser"));
 
         verify(userRepo).findByUsername("unknownuser");
-        verifyNoInteractions(profileRepo);
+        verify(profileRepo, never()).save(any());
     }
 
     @Test
@@ -245,8 +242,8 @@ class ProfileServiceImplTest {
         assertEquals(2000, response.getBirthYear());
         assertEquals(Gender.OTHER, response.getGender());
 
-        // save is called twice: once for creation, once for update
-        verify(profileRepo, times(2)).save(any(UserProfile.class));
+        // the missing profile is created and updated in a single save
+        verify(profileRepo, times(1)).save(any(UserProfile.class));
     }
 
     @Test
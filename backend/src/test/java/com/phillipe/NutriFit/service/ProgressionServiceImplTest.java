@@ -0,0 +1,297 @@
+package com.phillipe.NutriFit.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.phillipe.NutriFit.model.embedded.WorkoutExerciseEntry;
+import com.phillipe.NutriFit.model.embedded.WorkoutPlanExercise;
+import com.phillipe.NutriFit.model.entity.Exercise;
+import com.phillipe.NutriFit.model.entity.ExerciseProgression;
+import com.phillipe.NutriFit.model.entity.User;
+import com.phillipe.NutriFit.model.entity.WorkoutLog;
+import com.phillipe.NutriFit.model.entity.WorkoutPlanDay;
+import com.phillipe.NutriFit.repository.ExerciseProgressionRepository;
+import com.phillipe.NutriFit.repository.WorkoutLogRepository;
+import com.phillipe.NutriFit.service.impl.ProgressionServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProgressionServiceImplTest {
+
+    @Mock
+    private ExerciseProgressionRepository progressionRepo;
+
+    @Mock
+    private WorkoutLogRepository workoutLogRepo;
+
+    private ProgressionServiceImpl service;
+
+    private final Exercise squat = Exercise.builder().id(1).name("Squats").category("QUADS").build();
+
+    @BeforeEach
+    void setUp() {
+        service = new ProgressionServiceImpl(progressionRepo, workoutLogRepo, new ObjectMapper());
+    }
+
+    @Test
+    void recordSession_shouldAddRepWhenTopOfRangeNotReached() {
+        when(progressionRepo.findByUserIdAndExerciseIdInForUpdate(1L, Set.of(1))).thenReturn(List.of(), List.of(newState()));
+
+        service.recordSession(workout(entry("[{\"setNumber\":1,\"reps\":9,\"weight\":200},"
+                + "{\"setNumber\":2,\"reps\":8,\"weight\":200},{\"setNumber\":3,\"reps\":8,\"weight\":200}]")));
+
+        ExerciseProgression state = savedState();
+        assertEquals(1, state.getSessions());
+        assertEquals(200, state.getNextWeight());
+        assertEquals(9, state.getNextReps());
+        assertEquals(3, state.getNextSets());
+        assertEquals(200 * (1 + 9 / 30.0), state.getBestE1rm(), 0.001);
+        assertFalse(state.getDeload());
+    }
+
+    @Test
+    void recordSession_shouldAddWeightWhenEveryWorkingSetHitsTopOfRange() {
+        when(progressionRepo.findByUserIdAndExerciseIdInForUpdate(1L, Set.of(1))).thenReturn(List.of(), List.of(newState()));
+
+        service.recordSession(workout(entry("[{\"setNumber\":1,\"reps\":12,\"weight\":200},"
+                + "{\"setNumber\":2,\"reps\":12,\"weight\":200},{\"setNumber\":3,\"reps\":13,\"weight\":200}]")));
+
+        ExerciseProgression state = savedState();
+        assertEquals(205, state.getNextWeight());
+        assertEquals(8, state.getNextReps());
+    }
+
+    @Test
+    void recordSession_shouldIgnoreSetsMarkedIncomplete() {
+        when(progressionRepo.findByUserIdAndExerciseIdInForUpdate(1L, Set.of(1))).thenReturn(List.of(), List.of(newState()));
+
+        service.recordSession(workout(entry("[{\"setNumber\":1,\"reps\":12,\"weight\":200},"
+                + "{\"setNumber\":2,\"reps\":3,\"weight\":220,\"completed\":false}]")));
+
+        ExerciseProgression state = savedState();
+        assertEquals(205, state.getNextWeight());
+    }
+
+    @Test
+    void recordSession_shouldDeloadAfterRepeatedStalls() {
+        ExerciseProgression existing = ExerciseProgression.builder()
+                .userId(1L)
+                .exerciseId(1)
+                .minReps(8)
+                .sessions(5)
+                .bestE1rm(400.0)
+                .stallCount(2)
+                .build();
+        when(progressionRepo.findByUserIdAndExerciseIdInForUpdate(1L, Set.of(1))).thenReturn(List.of(existing));
+
+        service.recordSession(workout(entry("[{\"setNumber\":1,\"reps\":8,\"weight\":200}]")));
+
+        ExerciseProgression state = savedState();
+        assertSame(existing, state);
+        assertTrue(state.getDeload());
+        assertEquals(180, state.getNextWeight());
+        assertEquals(8, state.getNextReps());
+        assertEquals(0, state.getStallCount());
+        assertEquals(6, state.getSessions());
+    }
+
+    @Test
+    void recordSession_shouldResetStallCountOnNewBest() {
+        ExerciseProgression existing = ExerciseProgression.builder()
+                .userId(1L)
+                .exerciseId(1)
+                .minReps(8)
+                .bestE1rm(200.0)
+                .stallCount(2)
+                .build();
+        when(progressionRepo.findByUserIdAndExerciseIdInForUpdate(1L, Set.of(1))).thenReturn(List.of(existing));
+
+        service.recordSession(workout(entry("[{\"setNumber\":1,\"reps\":8,\"weight\":200}]")));
+
+        ExerciseProgression state = savedState();
+        assertEquals(0, state.getStallCount());
+        assertFalse(state.getDeload());
+    }
+
+    @Test
+    void recordSession_shouldCreateStateOnFirstSessionInRange() {
+        when(progressionRepo.findByUserIdAndExerciseIdInForUpdate(1L, Set.of(1))).thenReturn(List.of(), List.of(newState()));
+
+        service.recordSession(workout(entry("[{\"setNumber\":1,\"reps\":8,\"weight\":200}]")));
+
+        verify(progressionRepo).insertIfAbsent(1L, 1, 8);
+        assertEquals(1, savedState().getSessions());
+    }
+
+    @Test
+    void recordSession_shouldKeepStateOfOtherRepRangesApart() {
+        // The same exercise, progressed by a plan that prescribes it for 5 reps
+        ExerciseProgression heavy = ExerciseProgression.builder()
+                .userId(1L)
+                .exerciseId(1)
+                .minReps(5)
+                .sessions(7)
+                .bestE1rm(400.0)
+                .stallCount(2)
+                .build();
+        ExerciseProgression fresh = newState();
+        when(progressionRepo.findByUserIdAndExerciseIdInForUpdate(1L, Set.of(1)))
+                .thenReturn(List.of(heavy), List.of(heavy, fresh));
+
+        service.recordSession(workout(entry("[{\"setNumber\":1,\"reps\":8,\"weight\":200}]")));
+
+        verify(progressionRepo).insertIfAbsent(1L, 1, 8);
+        assertSame(fresh, savedState());
+        assertEquals(7, heavy.getSessions());
+        assertEquals(2, heavy.getStallCount());
+    }
+
+    @Test
+    void recordSession_shouldUseScalarValuesWithoutSetDetails() {
+        when(progressionRepo.findByUserIdAndExerciseIdInForUpdate(1L, Set.of(1))).thenReturn(List.of(), List.of(newState()));
+
+        WorkoutExerciseEntry entry = WorkoutExerciseEntry.builder()
+                .exercise(squat)
+                .userId(1L)
+                .sets(3)
+                .reps(10)
+                .weight(100)
+                .build();
+        service.recordSession(workout(entry));
+
+        ExerciseProgression state = savedState();
+        assertEquals(100, state.getNextWeight());
+        assertEquals(11, state.getNextReps());
+    }
+
+    @Test
+    void recordSession_shouldIgnoreWorkoutsWithoutPlanDay() {
+        WorkoutLog workout = workout(entry("[{\"setNumber\":1,\"reps\":8,\"weight\":200}]"));
+        workout.setWorkoutPlanDay(null);
+
+        service.recordSession(workout);
+
+        verifyNoInteractions(progressionRepo);
+    }
+
+    @Test
+    void recordSession_shouldIgnoreExercisesNotInPlan() {
+        WorkoutExerciseEntry entry = WorkoutExerciseEntry.builder()
+                .exercise(Exercise.builder().id(2).name("Lunges").build())
+                .userId(1L)
+                .sets(3)
+                .reps(10)
+                .build();
+
+        service.recordSession(workout(entry));
+
+        verify(progressionRepo, never()).saveAll(any());
+    }
+
+    @Test
+    void rebuild_shouldReplayRemainingSessionsFromScratch() {
+        // Advanced by three sessions, one of which has been deleted
+        ExerciseProgression existing = ExerciseProgression.builder()
+                .userId(1L)
+                .exerciseId(1)
+                .minReps(8)
+                .sessions(3)
+                .bestE1rm(300.0)
+                .stallCount(1)
+                .nextWeight(230)
+                .build();
+        when(progressionRepo.findByUserIdAndExerciseIdInForUpdate(1L, Set.of(1))).thenReturn(List.of(existing));
+        when(workoutLogRepo.findPlanSessionsWithExercises(1L, Set.of(1))).thenReturn(List.of(
+                workout(entry("[{\"setNumber\":1,\"reps\":8,\"weight\":200}]")),
+                workout(entry("[{\"setNumber\":1,\"reps\":12,\"weight\":200}]"))));
+
+        service.rebuild(1L, Set.of(1));
+
+        ExerciseProgression state = savedState();
+        assertSame(existing, state);
+        assertEquals(2, state.getSessions());
+        assertEquals(0, state.getStallCount());
+        assertEquals(200 * (1 + 12 / 30.0), state.getBestE1rm(), 0.001);
+        assertEquals(205, state.getNextWeight());
+        assertEquals(8, state.getNextReps());
+        verify(progressionRepo).deleteAll(List.of());
+    }
+
+    @Test
+    void rebuild_shouldDropRangesWithoutSessionsLeft() {
+        ExerciseProgression existing = ExerciseProgression.builder()
+                .userId(1L)
+                .exerciseId(1)
+                .minReps(8)
+                .sessions(1)
+                .nextWeight(200)
+                .build();
+        when(progressionRepo.findByUserIdAndExerciseIdInForUpdate(1L, Set.of(1))).thenReturn(List.of(existing));
+        when(workoutLogRepo.findPlanSessionsWithExercises(1L, Set.of(1))).thenReturn(List.of());
+
+        service.rebuild(1L, Set.of(1));
+
+        verify(progressionRepo).deleteAll(List.of(existing));
+        verify(progressionRepo).saveAll(argThat(states -> !states.iterator().hasNext()));
+    }
+
+    // The row insertIfAbsent creates for the day's 8-rep target
+    private ExerciseProgression newState() {
+        return ExerciseProgression.builder()
+                .userId(1L)
+                .exerciseId(1)
+                .minReps(8)
+                .build();
+    }
+
+    private WorkoutExerciseEntry entry(String setDetailsJson) {
+        return WorkoutExerciseEntry.builder()
+                .exercise(squat)
+                .userId(1L)
+                .setDetailsJson(setDetailsJson)
+                .build();
+    }
+
+    private WorkoutLog workout(WorkoutExerciseEntry entry) {
+        User user = new User();
+        user.setId(1L);
+
+        WorkoutPlanDay day = WorkoutPlanDay.builder()
+                .id(10L)
+                .dayNumber(1)
+                .dayName("Leg Day")
+                .exercises(Set.of(WorkoutPlanExercise.builder()
+                        .exercise(squat)
+                        .targetSets(3)
+                        .targetReps(8)
+                        .build()))
+                .build();
+
+        return WorkoutLog.builder()
+                .id(5L)
+                .user(user)
+                .workoutPlanDay(day)
+                .exercises(new ArrayList<>(List.of(entry)))
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private ExerciseProgression savedState() {
+        ArgumentCaptor<List<ExerciseProgression>> captor = ArgumentCaptor.forClass(List.class);
+        verify(progressionRepo).saveAll(captor.capture());
+        assertEquals(1, captor.getValue().size());
+        return captor.getValue().get(0);
+    }
+}
@@ -1,6 +1,8 @@
 package com.phillipe.NutriFit.service;
 
 import com.phillipe.NutriFit.exception.DuplicateUsernameException;
+import com.phillipe.NutriFit.model.entity.UserProfile;
+import com.phillipe.NutriFit.repository.UserProfileRepository;
 import com.phillipe.NutriFit.repository.UserRepository;
 import com.phillipe.NutriFit.model.entity.User;
 import org.junit.jupiter.api.Test;
@@ -11,6 +13,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.Optional;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -21,6 +25,9 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepo;
 
+    @Mock
+    private UserProfileRepository profileRepo;
+
     @Mock
     private PasswordEncoder passwordEncoder;
 
@@ -114,4 +121,54 @@ class UserServiceTest {
         verify(userRepo, never()).save(any(User.class));
         verify(passwordEncoder, never()).encode(any());
     }
+
+    @Test
+    void saveUser_shouldCreateDefaultProfile() {
+        // arrange
+        User user = new User();
+        user.setUsername("testuser");
+        user.setPassword("plainPassword");
+
+        when(userRepo.existsByUsername("testuser")).thenReturn(false);
+        when(passwordEncoder.encode("plainPassword")).thenReturn("encoded");
+        when(userRepo.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // act
+        User savedUser = userService.saveUser(user);
+
+        // assert
+        ArgumentCaptor<UserProfile> captor = ArgumentCaptor.forClass(UserProfile.class);
+        verify(profileRepo).save(captor.capture());
+        assertSame(savedUser, captor.getValue().getUser());
+    }
+
+    @Test
+    void findOrCreateOAuthUser_shouldCreateUserWithDefaultProfile() {
+        // arrange
+        when(userRepo.findByProviderAndProviderId("google", "123")).thenReturn(Optional.empty());
+        when(userRepo.existsByUsername("jane")).thenReturn(false);
+        when(userRepo.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // act
+        User user = userService.findOrCreateOAuthUser("google", "123", "jane");
+
+        // assert
+        assertEquals("jane", user.getUsername());
+        verify(profileRepo).save(any(UserProfile.class));
+    }
+
+    @Test
+    void findOrCreateOAuthUser_shouldNotCreateProfileForReturningUser() {
+        // arrange
+        User existing = new User();
+        existing.setUsername("jane");
+        when(userRepo.findByProviderAndProviderId("google", "123")).thenReturn(Optional.of(existing));
+
+        // act
+        User user = userService.findOrCreateOAuthUser("google", "123", "jane");
+
+        // assert
+        assertSame(existing, user);
+        verifyNoInteractions(profileRepo);
+    }
 }
@@ -1,13 +1,17 @@
 package com.phillipe.NutriFit.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.phillipe.NutriFit.repository.ExerciseLastPerformanceRepository;
 import com.phillipe.NutriFit.repository.UserRepository;
+import com.phillipe.NutriFit.repository.WorkoutEnergyEventRepository;
 import com.phillipe.NutriFit.model.entity.User;
 import com.phillipe.NutriFit.repository.WorkoutLogRepository;
 import com.phillipe.NutriFit.dto.request.ExerciseItemRequest;
 import com.phillipe.NutriFit.dto.request.SetItemRequest;
 import com.phillipe.NutriFit.dto.request.WorkoutLogRequest;
 import com.phillipe.NutriFit.dto.response.WorkoutLogResponse;
+import com.phillipe.NutriFit.model.entity.Exercise;
+import com.phillipe.NutriFit.model.entity.WorkoutEnergyEvent;
 import com.phillipe.NutriFit.model.entity.WorkoutLog;
 import com.phillipe.NutriFit.model.embedded.WorkoutExerciseEntry;
 import com.phillipe.NutriFit.repository.WorkoutPlanDayRepository;
@@ -20,14 +24,19 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -45,6 +54,18 @@ class WorkoutLogServiceImplTest {
     @Mock
     private UserRepository userRepo;
 
+    @Mock
+    private ExerciseLastPerformanceRepository lastPerformanceRepo;
+
+    @Mock
+    private WorkoutEnergyEventRepository energyEventRepo;
+
+    @Mock
+    private ExerciseService exerciseService;
+
+    @Mock
+    private ProgressionService progressionService;
+
     private ObjectMapper objectMapper;
 
     private WorkoutLogServiceImpl service;
@@ -52,7 +73,11 @@ class WorkoutLogServiceImplTest {
     @BeforeEach
     void setUp() {
         objectMapper = new ObjectMapper();
-        service = new WorkoutLogServiceImpl(workoutLogRepo, workoutPlanDayRepo, userRepo, objectMapper);
+        service = new WorkoutLogServiceImpl(workoutLogRepo, workoutPlanDayRepo, userRepo, lastPerformanceRepo, energyEventRepo, exerciseService, progressionService, objectMapper);
+        lenient().when(exerciseService.resolve(any(), any())).thenAnswer(invocation -> Exercise.builder()
+                .name(invocation.getArgument(0))
+                .category(invocation.getArgument(1))
+                .build());
     }
 
     @Test
@@ -84,7 +109,7 @@ class WorkoutLogServiceImplTest {
         });
 
         // act
-        WorkoutLogResponse response = service.createWorkout(request, "testuser");
+        WorkoutLogResponse response = service.createWorkout(request, "testuser", null);
 
         // assert
         assertNotNull(response);
@@ -111,7 +136,7 @@ class WorkoutLogServiceImplTest {
 
         // act & assert
         assertThrows(UsernameNotFoundException.class,
-                () -> service.createWorkout(request, "unknownuser"));
+                () -> service.createWorkout(request, "unknownuser", null));
 
         verify(userRepo).findByUsername("unknownuser");
         verifyNoInteractions(workoutLogRepo);
@@ -146,7 +171,7 @@ class WorkoutLogServiceImplTest {
         });
 
         // act
-        WorkoutLogResponse response = service.createWorkout(request, "testuser");
+        WorkoutLogResponse response = service.createWorkout(request, "testuser", null);
 
         // assert
         assertEquals(0, response.getTotalDurationMinutes());
@@ -190,7 +215,7 @@ class WorkoutLogServiceImplTest {
         });
 
         // act
-        WorkoutLogResponse response = service.createWorkout(request, "testuser");
+        WorkoutLogResponse response = service.createWorkout(request, "testuser", null);
 
         // assert
         assertEquals(35, response.getTotalDurationMinutes()); // 15 + 20
@@ -270,6 +295,31 @@ class WorkoutLogServiceImplTest {
         verify(workoutLogRepo).findByUserIdOrderByCreatedAtDesc(1L);
     }
 
+    @Test
+    void getRecentWorkouts_shouldFetchOnlyTheNewest() {
+        // arrange
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("testuser");
+
+        WorkoutLog latest = WorkoutLog.builder()
+                .id(3L)
+                .user(user)
+                .createdAt(Instant.now())
+                .totalDurationMinutes(30)
+                .build();
+
+        when(userRepo.findByUsername("testuser")).thenReturn(user);
+        when(workoutLogRepo.findByUserIdOrderByCreatedAtDesc(1L, Limit.of(1))).thenReturn(List.of(latest));
+
+        // act
+        List<WorkoutLogResponse> responses = service.getRecentWorkouts("testuser", 1);
+
+        // assert
+        assertEquals(List.of(3L), responses.stream().map(WorkoutLogResponse::getId).toList());
+        verify(workoutLogRepo, never()).findByUserIdOrderByCreatedAtDesc(1L);
+    }
+
     @Test
     void getMyWorkouts_shouldThrowWhenUserNotFound() {
         // arrange
@@ -328,7 +378,7 @@ class WorkoutLogServiceImplTest {
         });
 
         // act
-        WorkoutLogResponse response = service.createWorkoutFromPlan(request, "testuser");
+        WorkoutLogResponse response = service.createWorkoutFromPlan(request, "testuser", null);
 
         // assert
         assertNotNull(response);
@@ -345,6 +395,7 @@ class WorkoutLogServiceImplTest {
         verify(workoutLogRepo).save(captor.capture());
         WorkoutLog savedWorkout = captor.getValue();
         assertEquals(planDay, savedWorkout.getWorkoutPlanDay());
+        verify(progressionService).recordSession(savedWorkout);
     }
 
     @Test
@@ -365,7 +416,7 @@ class WorkoutLogServiceImplTest {
 
         // act & assert
         assertThrows(EntityNotFoundException.class,
-                () -> service.createWorkoutFromPlan(request, "testuser"));
+                () -> service.createWorkoutFromPlan(request, "testuser", null));
 
         verify(workoutPlanDayRepo).findByIdAndWorkoutPlanUserId(999L, 1L);
         verifyNoInteractions(workoutLogRepo);
@@ -383,7 +434,7 @@ class WorkoutLogServiceImplTest {
 
         // act & assert
         assertThrows(UsernameNotFoundException.class,
-                () -> service.createWorkoutFromPlan(request, "unknownuser"));
+                () -> service.createWorkoutFromPlan(request, "unknownuser", null));
 
         verify(userRepo).findByUsername("unknownuser");
         verifyNoInteractions(workoutPlanDayRepo);
@@ -421,7 +472,7 @@ class WorkoutLogServiceImplTest {
         });
 
         // act
-        WorkoutLogResponse response = service.createWorkout(request, "testuser");
+        WorkoutLogResponse response = service.createWorkout(request, "testuser", null);
 
         // assert
         assertNotNull(response);
@@ -467,7 +518,7 @@ class WorkoutLogServiceImplTest {
         });
 
         // act
-        WorkoutLogResponse response = service.createWorkout(request, "testuser");
+        WorkoutLogResponse response = service.createWorkout(request, "testuser", null);
 
         // assert - verify setDetails are properly serialized
         ArgumentCaptor<WorkoutLog> captor = ArgumentCaptor.forClass(WorkoutLog.class);
@@ -527,7 +578,7 @@ class WorkoutLogServiceImplTest {
         });
 
         // act
-        WorkoutLogResponse response = service.createWorkout(request, "testuser");
+        WorkoutLogResponse response = service.createWorkout(request, "testuser", null);
 
         // assert
         assertEquals(3, response.getTotalSets()); // 2 from setDetails + 1 from scalar
@@ -571,10 +622,184 @@ class WorkoutLogServiceImplTest {
         });
 
         // act
-        WorkoutLogResponse response = service.createWorkout(request, "testuser");
+        WorkoutLogResponse response = service.createWorkout(request, "testuser", null);
 
         // assert - should use scalar values when setDetails is empty
         assertEquals(3, response.getTotalSets());
         assertEquals(5, response.getTotalReps());
     }
+
+    @Test
+    void createWorkout_shouldRecordLastPerformancePerExercise() {
+        // arrange
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("testuser");
+
+        when(exerciseService.resolve("Bench Press", "CHEST"))
+                .thenReturn(Exercise.builder().id(7).name("Bench Press").category("CHEST").build());
+
+        ExerciseItemRequest exercise = ExerciseItemRequest.builder()
+                .name("Bench Press")
+                .category("CHEST")
+                .sets(3)
+                .reps(8)
+                .weight(185)
+                .build();
+
+        WorkoutLogRequest request = WorkoutLogRequest.builder()
+                .exercises(List.of(exercise))
+                .build();
+
+        when(userRepo.findByUsername("testuser")).thenReturn(user);
+        when(workoutLogRepo.save(any(WorkoutLog.class))).thenAnswer(invocation -> {
+            WorkoutLog saved = invocation.getArgument(0);
+            saved.setId(5L);
+            return saved;
+        });
+
+        // act
+        service.createWorkout(request, "testuser", null);
+
+        // assert
+        verify(lastPerformanceRepo).upsert(eq(1L), eq(7), eq(5L), any(Instant.class),
+                isNull(), eq(3), eq(8), eq(185), isNull());
+    }
+
+    @Test
+    void createWorkout_shouldRecordBurnedCaloriesOnTheUsersLocalDay() {
+        // arrange
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("testuser");
+
+        WorkoutLogRequest request = WorkoutLogRequest.builder()
+                .exercises(List.of(ExerciseItemRequest.builder().name("Running").caloriesBurned(300).build()))
+                .build();
+        ZoneId zone = ZoneId.of("Pacific/Kiritimati");
+
+        when(userRepo.findByUsername("testuser")).thenReturn(user);
+        when(workoutLogRepo.save(any(WorkoutLog.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // act
+        service.createWorkout(request, "testuser", zone);
+
+        // assert
+        ArgumentCaptor<WorkoutEnergyEvent> captor = ArgumentCaptor.forClass(WorkoutEnergyEvent.class);
+        verify(energyEventRepo).save(captor.capture());
+        WorkoutEnergyEvent event = captor.getValue();
+        assertEquals(1L, event.getUserId());
+        assertEquals(300, event.getCalories());
+        assertEquals(LocalDate.now(zone), event.getLocalDate());
+    }
+
+    @Test
+    void createWorkout_withoutCalories_shouldNotRecordEnergy() {
+        // arrange
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("testuser");
+
+        WorkoutLogRequest request = WorkoutLogRequest.builder()
+                .exercises(List.of(ExerciseItemRequest.builder().name("Plank").build()))
+                .build();
+
+        when(userRepo.findByUsername("testuser")).thenReturn(user);
+        when(workoutLogRepo.save(any(WorkoutLog.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // act
+        service.createWorkout(request, "testuser", null);
+
+        // assert
+        verifyNoInteractions(energyEventRepo);
+    }
+
+    @Test
+    void deleteWorkout_shouldRecordNegativeBurnedCalories() {
+        // arrange
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("testuser");
+
+        WorkoutLog workout = WorkoutLog.builder()
+                .id(5L)
+                .user(user)
+                .localDate(LocalDate.of(2026, 3, 14))
+                .totalCaloriesBurned(250)
+                .build();
+
+        when(userRepo.findByUsername("testuser")).thenReturn(user);
+        when(workoutLogRepo.findByIdAndUserId(5L, 1L)).thenReturn(Optional.of(workout));
+
+        // act
+        service.deleteWorkout(5L, "testuser");
+
+        // assert
+        ArgumentCaptor<WorkoutEnergyEvent> captor = ArgumentCaptor.forClass(WorkoutEnergyEvent.class);
+        verify(energyEventRepo).save(captor.capture());
+        assertEquals(-250, captor.getValue().getCalories());
+        assertEquals(LocalDate.of(2026, 3, 14), captor.getValue().getLocalDate());
+    }
+
+    @Test
+    void deleteWorkout_shouldRebuildLastPerformanceForItsExercises() {
+        // arrange
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("testuser");
+
+        WorkoutLog workout = WorkoutLog.builder()
+                .id(5L)
+                .user(user)
+                .build();
+        workout.getExercises().add(WorkoutExerciseEntry.builder()
+                .exercise(Exercise.builder().id(7).name("Bench Press").build())
+                .userId(1L)
+                .createdAt(workout.getCreatedAt())
+                .build());
+
+        when(userRepo.findByUsername("testuser")).thenReturn(user);
+        when(workoutLogRepo.findByIdAndUserId(5L, 1L)).thenReturn(Optional.of(workout));
+
+        // act
+        service.deleteWorkout(5L, "testuser");
+
+        // assert
+        InOrder inOrder = inOrder(workoutLogRepo, lastPerformanceRepo);
+        inOrder.verify(workoutLogRepo).delete(workout);
+        inOrder.verify(workoutLogRepo).flush();
+        inOrder.verify(lastPerformanceRepo).rebuild(1L, Set.of(7));
+        verify(progressionService, never()).rebuild(any(), any());
+    }
+
+    @Test
+    void deleteWorkout_fromPlanDay_shouldRebuildProgressionForItsExercises() {
+        // arrange
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("testuser");
+
+        WorkoutLog workout = WorkoutLog.builder()
+                .id(5L)
+                .user(user)
+                .workoutPlanDay(WorkoutPlanDay.builder().id(10L).build())
+                .build();
+        workout.getExercises().add(WorkoutExerciseEntry.builder()
+                .exercise(Exercise.builder().id(7).name("Bench Press").build())
+                .userId(1L)
+                .createdAt(workout.getCreatedAt())
+                .build());
+
+        when(userRepo.findByUsername("testuser")).thenReturn(user);
+        when(workoutLogRepo.findByIdAndUserId(5L, 1L)).thenReturn(Optional.of(workout));
+
+        // act
+        service.deleteWorkout(5L, "testuser");
+
+        // assert
+        InOrder inOrder = inOrder(workoutLogRepo, progressionService);
+        inOrder.verify(workoutLogRepo).delete(workout);
+        inOrder.verify(workoutLogRepo).flush();
+        inOrder.verify(progressionService).rebuild(1L, Set.of(7));
+    }
 }
@@ -1,5 +1,8 @@
 package com.phillipe.NutriFit.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.phillipe.NutriFit.repository.ExerciseLastPerformanceRepository;
+import com.phillipe.NutriFit.repository.ExerciseProgressionRepository;
 import com.phillipe.NutriFit.repository.UserRepository;
 import com.phillipe.NutriFit.model.entity.User;
 import com.phillipe.NutriFit.repository.WorkoutPlanDayRepository;
@@ -12,15 +15,20 @@ import com.phillipe.NutriFit.dto.response.WorkoutPlanDayResponse;
 import com.phillipe.NutriFit.dto.response.WorkoutPlanResponse;
 import com.phillipe.NutriFit.model.*;
 import com.phillipe.NutriFit.model.embedded.WorkoutPlanExercise;
+import com.phillipe.NutriFit.model.entity.Exercise;
+import com.phillipe.NutriFit.model.entity.ExerciseLastPerformance;
+import com.phillipe.NutriFit.model.entity.ExerciseProgression;
 import com.phillipe.NutriFit.model.entity.WorkoutPlan;
 import com.phillipe.NutriFit.model.entity.WorkoutPlanDay;
 import com.phillipe.NutriFit.service.impl.WorkoutPlanServiceImpl;
 import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
@@ -47,9 +55,29 @@ class WorkoutPlanServiceImplTest {
     @Mock
     private UserRepository userRepo;
 
+    @Mock
+    private ExerciseService exerciseService;
+
+    @Mock
+    private ExerciseLastPerformanceRepository lastPerformanceRepo;
+
+    @Mock
+    private ExerciseProgressionRepository progressionRepo;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
     @InjectMocks
     private WorkoutPlanServiceImpl service;
 
+    @BeforeEach
+    void setUp() {
+        lenient().when(exerciseService.resolve(any(), any())).thenAnswer(invocation -> Exercise.builder()
+                .name(invocation.getArgument(0))
+                .category(invocation.getArgument(1))
+                .build());
+    }
+
     @Test
     void createPlan_shouldPersistPlanWithDaysAndExercises() {
         // arrange
@@ -329,8 +357,7 @@ class WorkoutPlanServiceImplTest {
                 .build();
 
         WorkoutPlanExercise exercise = WorkoutPlanExercise.builder()
-                .name("Squats")
-                .category(ExerciseCategory.QUADS)
+                .exercise(Exercise.builder().id(1).name("Squats").category("QUADS").build())
                 .targetSets(4)
                 .targetReps(8)
                 .build();
@@ -358,6 +385,133 @@ class WorkoutPlanServiceImplTest {
         assertEquals("Squats", response.getExercises().get(0).getName());
     }
 
+    @Test
+    void startPlanDay_shouldAttachLastPerformanceToExercises() {
+        // arrange
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("testuser");
+
+        WorkoutPlan plan = WorkoutPlan.builder()
+                .id(1L)
+                .user(user)
+                .name("Test Plan")
+                .build();
+
+        WorkoutPlanExercise squats = WorkoutPlanExercise.builder()
+                .exercise(Exercise.builder().id(1).name("Squats").category("QUADS").build())
+                .targetSets(4)
+                .targetReps(8)
+                .build();
+
+        WorkoutPlanDay day = WorkoutPlanDay.builder()
+                .id(10L)
+                .workoutPlan(plan)
+                .dayNumber(1)
+                .dayName("Leg Day")
+                .exercises(Set.of(squats))
+                .build();
+
+        ExerciseLastPerformance last = ExerciseLastPerformance.builder()
+                .userId(1L)
+                .exerciseId(1)
+                .workoutLogId(42L)
+                .performedAt(Instant.parse("2025-01-01T10:00:00Z"))
+                .setDetailsJson("[{\"setNumber\":1,\"reps\":8,\"weight\":225}]")
+                .build();
+
+        when(userRepo.findByUsername("testuser")).thenReturn(user);
+        when(workoutPlanDayRepo.findByIdAndWorkoutPlanUserId(10L, 1L))
+                .thenReturn(Optional.of(day));
+        when(lastPerformanceRepo.findByUserIdAndExerciseIdIn(1L, Set.of(1)))
+                .thenReturn(List.of(last));
+
+        // act
+        WorkoutPlanDayResponse response = service.startPlanDay(10L, "testuser");
+
+        // assert
+        assertEquals(1, response.getExercises().size());
+        assertNotNull(response.getExercises().get(0).getLastPerformance());
+        assertEquals(42L, response.getExercises().get(0).getLastPerformance().getWorkoutLogId());
+        assertEquals(225, response.getExercises().get(0).getLastPerformance().getSetDetails().get(0).getWeight());
+    }
+
+    @Test
+    void startPlanDay_shouldLeaveLastPerformanceNullWhenNeverPerformed() {
+        // arrange
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("testuser");
+
+        WorkoutPlanDay day = WorkoutPlanDay.builder()
+                .id(10L)
+                .workoutPlan(WorkoutPlan.builder().id(1L).user(user).name("Test Plan").build())
+                .dayNumber(1)
+                .dayName("Leg Day")
+                .exercises(Set.of(WorkoutPlanExercise.builder()
+                        .exercise(Exercise.builder().id(1).name("Squats").category("QUADS").build())
+                        .build()))
+                .build();
+
+        when(userRepo.findByUsername("testuser")).thenReturn(user);
+        when(workoutPlanDayRepo.findByIdAndWorkoutPlanUserId(10L, 1L))
+                .thenReturn(Optional.of(day));
+        when(lastPerformanceRepo.findByUserIdAndExerciseIdIn(1L, Set.of(1)))
+                .thenReturn(List.of());
+
+        // act
+        WorkoutPlanDayResponse response = service.startPlanDay(10L, "testuser");
+
+        // assert
+        assertNull(response.getExercises().get(0).getLastPerformance());
+    }
+
+    @Test
+    void getPlanDayById_shouldAttachStoredRecommendation() {
+        // arrange
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("testuser");
+
+        WorkoutPlanDay day = WorkoutPlanDay.builder()
+                .id(10L)
+                .workoutPlan(WorkoutPlan.builder().id(1L).user(user).name("Test Plan").build())
+                .dayNumber(1)
+                .dayName("Leg Day")
+                .exercises(Set.of(WorkoutPlanExercise.builder()
+                        .exercise(Exercise.builder().id(1).name("Squats").category("QUADS").build())
+                        .targetSets(3)
+                        .targetReps(8)
+                        .targetWeight(225)
+                        .build()))
+                .build();
+
+        ExerciseProgression progression = ExerciseProgression.builder()
+                .userId(1L)
+                .exerciseId(1)
+                .minReps(8)
+                .nextSets(3)
+                .nextReps(8)
+                .nextWeight(231)
+                .bestE1rm(300.0)
+                .build();
+
+        when(userRepo.findByUsername("testuser")).thenReturn(user);
+        when(workoutPlanDayRepo.findByIdAndWorkoutPlanUserId(10L, 1L))
+                .thenReturn(Optional.of(day));
+        when(progressionRepo.findByUserIdAndExerciseIdIn(1L, Set.of(1)))
+                .thenReturn(List.of(progression));
+
+        // act
+        WorkoutPlanDayResponse response = service.getPlanDayById(10L, "testuser");
+
+        // assert
+        assertEquals(225, response.getExercises().get(0).getTargetWeight());
+        assertEquals(231, response.getExercises().get(0).getRecommendation().getWeight());
+        assertEquals(8, response.getExercises().get(0).getRecommendation().getReps());
+        assertFalse(response.getExercises().get(0).getRecommendation().getDeload());
+    }
+
     @Test
     void getPlanDayById_shouldThrowWhenDayNotFound() {
         // arrange
@@ -0,0 +1,58 @@
+package com.phillipe.NutriFit.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LttbTest {
+
+    private record Point(double x, double y) {}
+
+    @Test
+    void downsample_shouldReturnInputWhenWithinThreshold() {
+        // arrange
+        List<Point> points = List.of(new Point(0, 1), new Point(1, 2), new Point(2, 3));
+
+        // act
+        List<Point> sampled = Lttb.downsample(points, 5, Point::x, Point::y);
+
+        // assert
+        assertSame(points, sampled);
+    }
+
+    @Test
+    void downsample_shouldKeepEndpointsAndHonourThreshold() {
+        // arrange
+        List<Point> points = IntStream.range(0, 1000)
+                .mapToObj(i -> new Point(i, Math.sin(i / 50.0)))
+                .toList();
+
+        // act
+        List<Point> sampled = Lttb.downsample(points, 100, Point::x, Point::y);
+
+        // assert
+        assertEquals(100, sampled.size());
+        assertEquals(points.getFirst(), sampled.getFirst());
+        assertEquals(points.getLast(), sampled.getLast());
+        for (int i = 1; i < sampled.size(); i++) {
+            assertTrue(sampled.get(i).x() > sampled.get(i - 1).x());
+        }
+    }
+
+    @Test
+    void downsample_shouldKeepSpike() {
+        // arrange
+        List<Point> points = IntStream.range(0, 200)
+                .mapToObj(i -> new Point(i, i == 123 ? 50 : 10))
+                .toList();
+
+        // act
+        List<Point> sampled = Lttb.downsample(points, 10, Point::x, Point::y);
+
+        // assert
+        assertTrue(sampled.contains(new Point(123, 50)));
+    }
+}
@@ -0,0 +1,130 @@
+-- Deterministic data for QueryPlanTest: 5,000 users with six months of activity up to
+-- 2025-06-30, sized so the per-user tables are far past the point where a sequential scan is
+-- cheaper than an index. Queue tables (outbox, energy events) stay small, as they are drained.
+-- Plan costs in baseline.json depend on these volumes; regenerate it after changing them.
+
+INSERT INTO users (id, username, password, provider, provider_id)
+SELECT u, 'user' || u,
+       CASE WHEN u % 10 = 0 THEN NULL ELSE '$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z5bGzqJYxY2WmYvE8o9h3u2W' END,
+       CASE WHEN u % 10 = 0 THEN 'GOOGLE' ELSE 'LOCAL' END,
+       CASE WHEN u % 10 = 0 THEN 'google-' || u END
+FROM generate_series(1, 5000) u;
+
+INSERT INTO user_profile (user_id, birth_year, gender, unit_preference, created_at, updated_at)
+SELECT u, 1960 + u % 45, (ARRAY['MALE', 'FEMALE', 'OTHER', 'PREFER_NOT_TO_SAY'])[1 + u % 4],
+       CASE WHEN u % 3 = 0 THEN 'IMPERIAL' ELSE 'METRIC' END,
+       TIMESTAMPTZ '2025-01-01 00:00:00+00' + u * INTERVAL '1 minute',
+       TIMESTAMPTZ '2025-01-01 00:00:00+00' + u * INTERVAL '1 minute'
+FROM generate_series(1, 5000) u;
+
+-- 150 custom exercises next to the predefined dictionary
+INSERT INTO exercise (name, category)
+SELECT 'Custom exercise ' || e,
+       (ARRAY['BACK', 'CHEST', 'BICEPS', 'TRICEPS', 'SHOULDERS', 'QUADS', 'CORE', 'CARDIO'])[1 + e % 8]
+FROM generate_series(1, 150) e;
+
+CREATE TEMP TABLE seed_exercise AS
+SELECT row_number() OVER (ORDER BY id) - 1 AS n, id
+FROM exercise;
+
+-- Two plans per user, three days each, three exercises per day
+INSERT INTO workout_plan (id, user_id, name, description, created_at)
+SELECT (u - 1) * 2 + p, u, 'Plan ' || p, 'Seeded plan',
+       TIMESTAMPTZ '2025-01-01 00:00:00+00' + ((u * 7 + p * 11) % 150) * INTERVAL '1 day'
+FROM generate_series(1, 5000) u, generate_series(1, 2) p;
+
+INSERT INTO workout_plan_day (id, workout_plan_id, day_number, day_name, uuid)
+SELECT (plan - 1) * 3 + d, plan, d, 'Day ' || d, md5(plan || '-' || d)::uuid::text
+FROM generate_series(1, 10000) plan, generate_series(1, 3) d;
+
+INSERT INTO workout_plan_day_exercises (workout_plan_day_id, is_custom, target_sets, target_reps, target_weight,
+                                        exercise_id)
+SELECT day, false, 3 + x, 8 + x * 2, 40 + (day % 20) * 5, se.id
+FROM generate_series(1, 30000) day
+CROSS JOIN generate_series(0, 2) x
+JOIN seed_exercise se ON se.n = (day * 7 + x * 13) % (SELECT COUNT(*) FROM seed_exercise);
+
+-- Twenty workouts per user, every other one logged from a plan day; three exercises each
+INSERT INTO workout_log (id, user_id, workout_plan_day_id, created_at, local_date, total_duration_minutes,
+                         total_calories_burned, total_sets, total_reps)
+SELECT (u - 1) * 20 + w, u, CASE WHEN w % 2 = 0 THEN ((u - 1) * 2) * 3 + 1 + w % 3 END,
+       t.created_at, (t.created_at AT TIME ZONE 'UTC')::date, 30 + (u + w) % 60, 150 + (u * w) % 400, 9, 90
+FROM generate_series(1, 5000) u
+CROSS JOIN generate_series(1, 20) w
+CROSS JOIN LATERAL (
+    SELECT TIMESTAMPTZ '2025-06-30 00:00:00+00' - ((u * 3 + w * 9) % 180) * INTERVAL '1 day'
+           - (u % 600) * INTERVAL '1 minute' AS created_at
+) t;
+
+INSERT INTO workout_log_exercises (workout_log_id, user_id, created_at, exercise_id, duration_minutes, sets, reps,
+                                   weight, calories_burned, set_details)
+SELECT l.id, l.user_id, l.created_at, se.id, 10 + x, 3, 10, 40 + (l.id % 30) * 5, 50 + x * 10,
+       '[{"setNumber":1,"reps":10,"weight":' || (40 + (l.id % 30) * 5) || '}]'
+FROM workout_log l
+CROSS JOIN generate_series(0, 2) x
+JOIN seed_exercise se ON se.n = (l.user_id * 11 + (l.id % 20) * 3 + x * 29) % (SELECT COUNT(*) FROM seed_exercise);
+
+INSERT INTO exercise_last_performance (user_id, exercise_id, workout_log_id, performed_at, duration_minutes, sets,
+                                       reps, weight, set_details)
+SELECT DISTINCT ON (user_id, exercise_id)
+       user_id, exercise_id, workout_log_id, created_at, duration_minutes, sets, reps, weight, set_details
+FROM workout_log_exercises
+ORDER BY user_id, exercise_id, created_at DESC, workout_log_id DESC;
+
+INSERT INTO exercise_progression (user_id, exercise_id, min_reps, sessions, best_e1rm, last_e1rm, stall_count,
+                                  next_sets, next_reps, next_weight, deload, updated_at)
+SELECT user_id, exercise_id, 8, 3, weight * 1.33, weight * 1.3, 0, sets, reps, weight + 5, false, performed_at
+FROM exercise_last_performance;
+
+-- Twenty measurements per user, weight on each and the tape measurements on every fourth
+INSERT INTO body_measurement (user_id, recorded_at, height_cm, weight_kg, body_fat_percent, waist_cm, hips_cm)
+SELECT u, TIMESTAMPTZ '2025-06-30 00:00:00+00' - m * INTERVAL '9 days' - u * INTERVAL '1 second',
+       150 + u % 50, 55 + u % 50 + m * 0.2, 12 + u % 20 + m * 0.05,
+       CASE WHEN m % 4 = 0 THEN 70 + u % 30 END, CASE WHEN m % 4 = 0 THEN 85 + u % 30 END
+FROM generate_series(1, 5000) u, generate_series(0, 19) m;
+
+INSERT INTO measurement_stats (user_id, field, origin, n, sum_t, sum_y, sum_tt, sum_ty, sum_yy, w_sum, w_t, w_y,
+                               w_tt, w_ty, updated_at)
+SELECT u, f, TIMESTAMPTZ '2025-01-01 00:00:00+00', 20, 190, 1500, 2470, 14000, 113000, 8.5, 80, 640, 760, 6000,
+       TIMESTAMPTZ '2025-06-30 00:00:00+00'
+FROM generate_series(1, 5000) u, unnest(ARRAY['HEIGHT_CM', 'WEIGHT_KG', 'BODY_FAT_PERCENT']) f;
+
+SELECT ensure_user_change_history_partition(month::date)
+FROM generate_series(DATE '2025-01-01', DATE '2025-06-01', INTERVAL '1 month') month;
+
+-- Thirty audit rows per user across the six monthly partitions
+INSERT INTO user_change_history (user_id, entity_type, entity_id, field_name, old_value, new_value, changed_at)
+SELECT u, CASE WHEN c % 3 = 0 THEN 'PROFILE' ELSE 'MEASUREMENT' END,
+       CASE WHEN c % 3 = 0 THEN NULL ELSE u * 100 + c END,
+       (ARRAY['weightKg', 'bodyFatPercent', 'birthYear', 'waistCm'])[1 + c % 4], (60 + c)::text, (61 + c)::text,
+       TIMESTAMPTZ '2025-06-30 00:00:00+00' - ((u + c * 5) % 180) * INTERVAL '1 day' - c * INTERVAL '1 minute'
+FROM generate_series(1, 5000) u, generate_series(1, 30) c;
+
+INSERT INTO change_history_outbox (user_id, entity_type, entity_id, changes, created_at, status, attempts,
+                                   next_attempt_at)
+SELECT 1 + i * 17 % 5000, 'MEASUREMENT', i, '[{"field":"weightKg","oldValue":"80","newValue":"81"}]',
+       TIMESTAMPTZ '2025-06-29 23:00:00+00' + i * INTERVAL '1 second',
+       CASE WHEN i % 6 = 0 THEN 'FAILED' ELSE 'PENDING' END, CASE WHEN i % 6 = 0 THEN 5 ELSE 0 END,
+       TIMESTAMPTZ '2025-06-29 23:00:00+00' + i * INTERVAL '1 second'
+FROM generate_series(1, 300) i;
+
+INSERT INTO workout_energy_event (user_id, local_date, calories, created_at)
+SELECT user_id, local_date, total_calories_burned, created_at
+FROM workout_log
+WHERE id % 400 = 0;
+
+INSERT INTO energy_balance_daily (user_id, local_date, calories_in, calories_out)
+SELECT user_id, local_date, 2000 + user_id % 800, SUM(total_calories_burned)
+FROM workout_log
+GROUP BY user_id, local_date;
+
+SELECT setval(pg_get_serial_sequence('users', 'id'), (SELECT MAX(id) FROM users));
+SELECT setval(pg_get_serial_sequence('workout_plan', 'id'), (SELECT MAX(id) FROM workout_plan));
+SELECT setval(pg_get_serial_sequence('workout_plan_day', 'id'), (SELECT MAX(id) FROM workout_plan_day));
+SELECT setval(pg_get_serial_sequence('workout_log', 'id'), (SELECT MAX(id) FROM workout_log));
+
+-- Marks the database as seeded, so later runs against it skip straight to the checks
+CREATE TABLE query_plan_seed (seeded_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now());
+INSERT INTO query_plan_seed DEFAULT VALUES;
+
+VACUUM ANALYZE;
@@ -0,0 +1,150 @@
+package com.phillipe.nutrifit.datagen;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Encodes rows in Postgres' COPY text format (tab-separated, {@code \N} for null) onto a
+ * stream, normally a {@code PGCopyOutputStream} feeding {@code COPY table (...) FROM STDIN}.
+ * Rows are encoded into a reused buffer, so writing allocates almost nothing per value.
+ */
+final class CopyWriter implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final OutputStream out;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private boolean rowStarted;
+    private long rows;
+
+    CopyWriter(OutputStream out) {
+        this.out = out;
+    }
+
+    CopyWriter value(long value) {
+        separate();
+        return ascii(Long.toString(value));
+    }
+
+    CopyWriter value(double value) {
+        separate();
+        return ascii(Double.toString(value));
+    }
+
+    CopyWriter value(boolean value) {
+        separate();
+        return ascii(value ? "t" : "f");
+    }
+
+    CopyWriter value(Integer value) {
+        return value == null ? nullValue() : value((long) value);
+    }
+
+    CopyWriter value(Long value) {
+        return value == null ? nullValue() : value((long) value);
+    }
+
+    CopyWriter value(Double value) {
+        return value == null ? nullValue() : value((double) value);
+    }
+
+    CopyWriter value(Instant value) {
+        if (value == null) {
+            return nullValue();
+        }
+        separate();
+        return ascii(value.toString());
+    }
+
+    CopyWriter value(LocalDate value) {
+        if (value == null) {
+            return nullValue();
+        }
+        separate();
+        return ascii(value.toString());
+    }
+
+    CopyWriter value(String value) {
+        if (value == null) {
+            return nullValue();
+        }
+        separate();
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        for (byte b : bytes) {
+            switch (b) {
+                case '\\' -> put('\\', '\\');
+                case '\t' -> put('\\', 't');
+                case '\n' -> put('\\', 'n');
+                case '\r' -> put('\\', 'r');
+                default -> put(b);
+            }
+        }
+        return this;
+    }
+
+    CopyWriter nullValue() {
+        separate();
+        put('\\', 'N');
+        return this;
+    }
+
+    void endRow() {
+        put((byte) '\n');
+        rowStarted = false;
+        rows++;
+    }
+
+    long rows() {
+        return rows;
+    }
+
+    @Override
+    public void close() {
+        try {
+            flush();
+            out.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void separate() {
+        if (rowStarted) {
+            put((byte) '\t');
+        }
+        rowStarted = true;
+    }
+
+    private CopyWriter ascii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            put((byte) text.charAt(i));
+        }
+        return this;
+    }
+
+    private void put(char escape, char code) {
+        put((byte) escape);
+        put((byte) code);
+    }
+
+    private void put(byte b) {
+        if (position == buffer.length) {
+            flush();
+        }
+        buffer[position++] = b;
+    }
+
+    private void flush() {
+        try {
+            out.write(buffer, 0, position);
+            position = 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
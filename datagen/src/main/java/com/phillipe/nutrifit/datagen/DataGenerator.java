@@ -0,0 +1,222 @@
+package com.phillipe.nutrifit.datagen;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Fills the backend and nutrition-service databases with a synthetic population for scale
+ * testing. Rows are streamed straight into COPY, one table per connection and several tables
+ * at a time, in stages that respect the foreign keys; the derived tables the services keep
+ * (last performance, progression, measurement stats, daily totals, recent foods, energy
+ * balance) are then rebuilt from them in SQL. Both databases must already be migrated.
+ *
+ * <pre>
+ * ./mvnw spring-boot:run -Dspring-boot.run.arguments="--users=100000 --truncate"
+ * </pre>
+ * With {@code --local-users-file=PATH} it only writes the usernames of the accounts that log
+ * in with {@code --user-password}, one per line, for the same users and seed; the rest are
+ * Google accounts. The load test signs in as those.
+ */
+public final class DataGenerator {
+
+    private static final List<String> BACKEND_TABLES = List.of("users", "user_profile", "workout_plan",
+            "workout_plan_day", "workout_plan_day_exercises", "workout_log", "workout_log_exercises",
+            "body_measurement", "user_change_history", "user_change_history_compacted_month", "change_history_outbox",
+            "exercise_last_performance", "exercise_progression", "measurement_stats", "workout_energy_event",
+            "energy_balance_daily");
+    private static final List<String> NUTRITION_TABLES = List.of("meal_log", "meal_log_foods",
+            "nutrition_daily_total", "recipe", "recipe_ingredient", "meal_template", "meal_template_foods",
+            "recent_food", "meal_event");
+
+    // Tables loaded with explicit ids, whose sequences have to be moved past them
+    private static final List<String> BACKEND_SEQUENCED = List.of("users", "workout_plan", "workout_plan_day",
+            "workout_log", "body_measurement");
+    private static final List<String> NUTRITION_SEQUENCED = List.of("meal_log", "recipe", "meal_template");
+
+    /** A step that reports how many rows it wrote. */
+    @FunctionalInterface
+    interface Step {
+        long run() throws Exception;
+    }
+
+    /** One COPY into one table. */
+    private record Load(String url, String table, String columns, Consumer<CopyWriter> rows) {
+    }
+
+    private final GeneratorOptions options;
+
+    private DataGenerator(GeneratorOptions options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        GeneratorOptions options = GeneratorOptions.parse(args);
+        if (options.localUsersFile() != null) {
+            writeLocalUsers(options);
+        } else {
+            new DataGenerator(options).run();
+        }
+    }
+
+    private static void writeLocalUsers(GeneratorOptions options) throws IOException {
+        // Accounts follow from the seed alone; no plan is built, so no exercises are needed
+        List<String> usernames = new UserRows(new Population(options, null)).localUsernames();
+        Path file = options.localUsersFile().toAbsolutePath();
+        Files.createDirectories(file.getParent());
+        Files.write(file, usernames);
+        System.out.printf("%d local accounts of %d users written to %s%n", usernames.size(), options.users(), file);
+    }
+
+    private void run() throws Exception {
+        long started = System.nanoTime();
+        try (Connection backend = connect(options.backendUrl());
+             Connection nutrition = connect(options.nutritionUrl())) {
+            prepare(backend, BACKEND_TABLES, "users");
+            prepare(nutrition, NUTRITION_TABLES, "meal_log");
+            createHistoryPartitions(backend);
+
+            ExerciseDictionary exercises = ExerciseDictionary.load(backend);
+            FoodCatalog catalog = FoodCatalog.load(options.foodsCsv(), options.seed());
+            Population population = new Population(options, exercises);
+            System.out.printf("%d users over %d days: %d plans with %d days%n",
+                    population.size(), population.days(), population.planCount(), population.planDayCount());
+
+            String passwordHash = new BCryptPasswordEncoder().encode(options.userPassword());
+            UserRows users = new UserRows(population);
+            PlanRows plans = new PlanRows(population);
+            WorkoutRows workouts = new WorkoutRows(population);
+            MeasurementRows measurements = new MeasurementRows(population);
+            MealRows meals = new MealRows(population, catalog);
+            RecipeRows recipes = new RecipeRows(population, meals);
+            TemplateRows templates = new TemplateRows(population, meals);
+
+            String b = options.backendUrl();
+            String n = options.nutritionUrl();
+            ExecutorService pool = Executors.newFixedThreadPool(options.threads());
+            try {
+                // Parents before children; the nutrition tables only reference each other
+                stage(pool,
+                        new Load(b, "users", UserRows.USER_COLUMNS, out -> users.users(out, passwordHash)),
+                        new Load(n, "meal_log", MealRows.MEAL_COLUMNS, meals::meals),
+                        new Load(n, "recipe", RecipeRows.RECIPE_COLUMNS, recipes::recipes),
+                        new Load(n, "meal_template", TemplateRows.TEMPLATE_COLUMNS, templates::templates));
+                stage(pool,
+                        new Load(b, "user_profile", UserRows.PROFILE_COLUMNS, users::profiles),
+                        new Load(b, "workout_plan", PlanRows.PLAN_COLUMNS, plans::plans),
+                        new Load(b, "body_measurement", MeasurementRows.MEASUREMENT_COLUMNS,
+                                measurements::measurements),
+                        new Load(b, "user_change_history", MeasurementRows.HISTORY_COLUMNS, measurements::history),
+                        new Load(n, "meal_log_foods", MealRows.FOOD_COLUMNS, meals::foods),
+                        new Load(n, "recipe_ingredient", RecipeRows.INGREDIENT_COLUMNS, recipes::ingredients),
+                        new Load(n, "meal_template_foods", TemplateRows.FOOD_COLUMNS, templates::foods));
+                stage(pool,
+                        new Load(b, "workout_plan_day", PlanRows.DAY_COLUMNS, plans::days));
+                stage(pool,
+                        new Load(b, "workout_plan_day_exercises", PlanRows.EXERCISE_COLUMNS, plans::exercises),
+                        new Load(b, "workout_log", WorkoutRows.LOG_COLUMNS, workouts::logs));
+                stage(pool,
+                        new Load(b, "workout_log_exercises", WorkoutRows.EXERCISE_COLUMNS, workouts::exercises));
+            } finally {
+                pool.shutdownNow();
+            }
+
+            ReadModels.rebuild(backend, nutrition, options.endDate().atStartOfDay(ZoneOffset.UTC).toInstant());
+            resetSequences(backend, BACKEND_SEQUENCED);
+            resetSequences(nutrition, NUTRITION_SEQUENCED);
+            timed("VACUUM ANALYZE backend", () -> ReadModels.execute(backend, "VACUUM ANALYZE"));
+            timed("VACUUM ANALYZE nutrition", () -> ReadModels.execute(nutrition, "VACUUM ANALYZE"));
+        }
+        System.out.printf("Done in %.1f s%n", (System.nanoTime() - started) / 1e9);
+    }
+
+    private Connection connect(String url) throws SQLException {
+        return DriverManager.getConnection(url, options.dbUser(), options.dbPassword());
+    }
+
+    /** Empties the generated tables with --truncate; otherwise refuses to load over existing data. */
+    private void prepare(Connection connection, List<String> tables, String guard) throws SQLException {
+        if (options.truncate()) {
+            ReadModels.execute(connection, "TRUNCATE " + String.join(", ", tables) + " RESTART IDENTITY CASCADE");
+            return;
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT EXISTS (SELECT 1 FROM " + guard + ")")) {
+            rs.next();
+            if (rs.getBoolean(1)) {
+                throw new IllegalStateException(guard + " in " + connection.getMetaData().getURL()
+                        + " is not empty; pass --truncate to replace its data");
+            }
+        }
+    }
+
+    /** Monthly partitions for the whole window, so history rows don't pile up in the default one. */
+    private void createHistoryPartitions(Connection backend) throws SQLException {
+        LocalDate month = options.endDate().minusDays(options.days()).withDayOfMonth(1);
+        while (month.isBefore(options.endDate())) {
+            ReadModels.execute(backend, "SELECT ensure_user_change_history_partition(DATE '" + month + "')");
+            month = month.plusMonths(1);
+        }
+    }
+
+    private void stage(ExecutorService pool, Load... loads) throws Exception {
+        List<Future<?>> running = new ArrayList<>();
+        for (Load load : loads) {
+            running.add(pool.submit(() -> {
+                timed(load.table(), () -> copy(load));
+                return null;
+            }));
+        }
+        for (Future<?> future : running) {
+            future.get();
+        }
+    }
+
+    private long copy(Load load) throws SQLException {
+        try (Connection connection = connect(load.url())) {
+            String sql = "COPY " + load.table() + " (" + load.columns() + ") FROM STDIN";
+            try (CopyWriter out = new CopyWriter(new PGCopyOutputStream(connection.unwrap(PGConnection.class), sql))) {
+                load.rows().accept(out);
+                return out.rows();
+            }
+        }
+    }
+
+    private static void resetSequences(Connection connection, List<String> tables) throws SQLException {
+        for (String table : tables) {
+            ReadModels.execute(connection, "SELECT setval(pg_get_serial_sequence('" + table + "', 'id'), "
+                    + "COALESCE((SELECT MAX(id) FROM " + table + "), 0) + 1, false)");
+        }
+    }
+
+    static void timed(String label, Step step) throws SQLException {
+        long started = System.nanoTime();
+        long rows;
+        try {
+            rows = step.run();
+        } catch (SQLException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new SQLException(label + " failed", e);
+        }
+        double seconds = (System.nanoTime() - started) / 1e9;
+        System.out.printf("%-40s %,12d rows %8.1f s %,12.0f rows/s%n", label, rows, seconds, rows / seconds);
+    }
+}
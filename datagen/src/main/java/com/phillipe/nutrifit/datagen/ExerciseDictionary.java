@@ -0,0 +1,60 @@
+package com.phillipe.nutrifit.datagen;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The backend's exercise table by category, as seeded from PredefinedExercise by V8.
+ * Generated plans and workouts only use existing exercises, so the dictionary is not touched.
+ */
+final class ExerciseDictionary {
+
+    private final Map<String, int[]> byCategory;
+    private final Map<Integer, String> categories = new HashMap<>();
+    private final int[] all;
+
+    ExerciseDictionary(Map<String, int[]> byCategory) {
+        this.byCategory = byCategory;
+        byCategory.forEach((category, ids) -> Arrays.stream(ids).forEach(id -> categories.put(id, category)));
+        this.all = categories.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+        if (all.length == 0) {
+            throw new IllegalStateException("The exercise table is empty; run the backend's migrations first");
+        }
+    }
+
+    static ExerciseDictionary load(Connection connection) throws SQLException {
+        Map<String, List<Integer>> ids = new LinkedHashMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT id, category FROM exercise ORDER BY id")) {
+            while (rs.next()) {
+                String category = rs.getString(2) != null ? rs.getString(2) : "OTHER";
+                ids.computeIfAbsent(category, c -> new ArrayList<>()).add(rs.getInt(1));
+            }
+        }
+        Map<String, int[]> byCategory = new LinkedHashMap<>();
+        ids.forEach((category, list) -> byCategory.put(category, list.stream().mapToInt(Integer::intValue).toArray()));
+        return new ExerciseDictionary(byCategory);
+    }
+
+    /** An exercise of the category, or of any category when the dictionary has none of it. */
+    int pick(Rng rng, String category) {
+        int[] ids = byCategory.getOrDefault(category, all);
+        return ids[rng.nextInt(ids.length)];
+    }
+
+    int pickAny(Rng rng) {
+        return all[rng.nextInt(all.length)];
+    }
+
+    String category(int id) {
+        return categories.getOrDefault(id, "OTHER");
+    }
+}
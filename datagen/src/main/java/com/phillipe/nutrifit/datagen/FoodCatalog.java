@@ -0,0 +1,113 @@
+package com.phillipe.nutrifit.datagen;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The nutrition service's food catalog CSV ({@code id,name,calories,protein,carbs,fats} per
+ * 100 g), so generated meals reference foods the service can resolve. Popularity follows a
+ * Zipf distribution over a seeded shuffle of the catalog: a few staples make up most logs.
+ */
+final class FoodCatalog {
+
+    record Food(int id, String name, double calories, double protein, double carbs, double fats) {
+
+        /** Same rounding as the service's Food.portion. */
+        static int portion(double per100g, int grams) {
+            return (int) Math.round(per100g * grams / 100.0);
+        }
+    }
+
+    private static final double ZIPF_EXPONENT = 1.1;
+
+    private final List<Food> byPopularity;
+    private final double[] cumulative;
+
+    FoodCatalog(List<Food> foods, long seed) {
+        if (foods.isEmpty()) {
+            throw new IllegalStateException("The food catalog is empty");
+        }
+        List<Food> shuffled = new ArrayList<>(foods);
+        Rng rng = Rng.of(seed, Rng.Channel.MEALS, 0, -1);
+        for (int i = shuffled.size() - 1; i > 0; i--) {
+            int j = rng.nextInt(i + 1);
+            shuffled.set(i, shuffled.set(j, shuffled.get(i)));
+        }
+        this.byPopularity = List.copyOf(shuffled);
+        this.cumulative = new double[shuffled.size()];
+        double total = 0;
+        for (int rank = 0; rank < cumulative.length; rank++) {
+            total += 1 / Math.pow(rank + 1, ZIPF_EXPONENT);
+            cumulative[rank] = total;
+        }
+        for (int rank = 0; rank < cumulative.length; rank++) {
+            cumulative[rank] /= total;
+        }
+    }
+
+    static FoodCatalog load(Path csv, long seed) throws IOException {
+        List<Food> foods = new ArrayList<>();
+        List<String> lines = Files.readAllLines(csv);
+        for (String line : lines.subList(1, lines.size())) {
+            if (line.isBlank()) {
+                continue;
+            }
+            List<String> fields = fields(line);
+            foods.add(new Food(Integer.parseInt(fields.get(0)), fields.get(1), Double.parseDouble(fields.get(2)),
+                    Double.parseDouble(fields.get(3)), Double.parseDouble(fields.get(4)),
+                    Double.parseDouble(fields.get(5))));
+        }
+        return new FoodCatalog(foods, seed);
+    }
+
+    int size() {
+        return byPopularity.size();
+    }
+
+    /** The food of the given popularity rank, 0 being the most logged. */
+    Food byRank(int rank) {
+        return byPopularity.get(rank);
+    }
+
+    Food popular(Rng rng) {
+        double draw = rng.nextDouble();
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulative[mid] < draw) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return byPopularity.get(low);
+    }
+
+    private static List<String> fields(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                if (quoted && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (c == ',' && !quoted) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
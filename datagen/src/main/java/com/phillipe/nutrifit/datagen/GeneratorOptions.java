@@ -0,0 +1,64 @@
+package com.phillipe.nutrifit.datagen;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Command-line options, as {@code --name=value}. Defaults match the databases of the root
+ * docker-compose.yml. The same users, days, end date and seed always produce the same rows.
+ */
+record GeneratorOptions(
+        int users,
+        int days,
+        // Exclusive: the generated history ends the day before
+        LocalDate endDate,
+        long seed,
+        int threads,
+        String backendUrl,
+        String nutritionUrl,
+        String dbUser,
+        String dbPassword,
+        // Login password of every generated local account
+        String userPassword,
+        Path foodsCsv,
+        boolean truncate,
+        // When set, only the usernames of the local accounts are written there; no database is touched
+        Path localUsersFile
+) {
+
+    private static final Set<String> NAMES = Set.of("users", "days", "end-date", "seed", "threads", "backend-url",
+            "nutrition-url", "db-user", "db-password", "user-password", "foods-csv", "truncate", "local-users-file");
+
+    static GeneratorOptions parse(String... args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] parts = arg.replaceFirst("^--", "").split("=", 2);
+            if (!NAMES.contains(parts[0])) {
+                throw new IllegalArgumentException("Unknown option " + arg + "; expected one of " + NAMES);
+            }
+            options.put(parts[0], parts.length > 1 ? parts[1] : "true");
+        }
+
+        GeneratorOptions parsed = new GeneratorOptions(
+                Integer.parseInt(options.getOrDefault("users", "10000")),
+                Integer.parseInt(options.getOrDefault("days", "365")),
+                LocalDate.parse(options.getOrDefault("end-date", "2025-07-01")),
+                Long.parseLong(options.getOrDefault("seed", "42")),
+                Integer.parseInt(options.getOrDefault("threads", "4")),
+                options.getOrDefault("backend-url", "jdbc:postgresql://localhost:5432/nutrifit"),
+                options.getOrDefault("nutrition-url", "jdbc:postgresql://localhost:5432/nutrifit_nutrition"),
+                options.getOrDefault("db-user", "nutrifit"),
+                options.getOrDefault("db-password", "nutrifit"),
+                options.getOrDefault("user-password", "password123"),
+                Path.of(options.getOrDefault("foods-csv", "../nutrition-service/src/main/resources/foods/foods.csv")),
+                Boolean.parseBoolean(options.getOrDefault("truncate", "false")),
+                options.containsKey("local-users-file") ? Path.of(options.get("local-users-file")) : null);
+        if (parsed.users() < 1 || parsed.days() < 1 || parsed.threads() < 1) {
+            throw new IllegalArgumentException("--users, --days and --threads must be positive");
+        }
+        return parsed;
+    }
+}
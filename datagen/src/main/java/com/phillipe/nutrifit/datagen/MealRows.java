@@ -0,0 +1,148 @@
+package com.phillipe.nutrifit.datagen;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * meal_log and meal_log_foods, generated day by day. Users log on a share of their active days,
+ * at their usual meal times, mostly from a dozen personal staples and otherwise from the
+ * catalog's popularity curve; one food in twelve is typed by hand without a catalog id.
+ */
+final class MealRows {
+
+    static final String MEAL_COLUMNS =
+            "id, user_id, created_at, local_date, total_calories, total_protein, total_carbs, total_fats";
+    static final String FOOD_COLUMNS = "meal_log_id, type, calories, protein, carbs, fats, food_id, grams";
+
+    // Local meal times in hours, for two to six meals a day
+    private static final double[][] MEAL_TIMES = {
+            {8, 19}, {8, 12.5, 19}, {8, 12.5, 16, 19.5}, {7.5, 10.5, 13, 16.5, 19.5}, {7, 10, 12.5, 15.5, 19, 21.5}};
+    private static final int FAVORITES = 12;
+
+    /** A hand-typed food, with the macros its user entered. */
+    record TypedFood(String type, int calories, int protein, int carbs, int fats) {
+    }
+
+    private static final TypedFood[] TYPED_FOODS = {
+            new TypedFood("Protein shake", 160, 30, 6, 3),
+            new TypedFood("Coffee with milk", 40, 2, 4, 2),
+            new TypedFood("Homemade soup", 220, 9, 24, 9),
+            new TypedFood("Pizza slice", 285, 12, 36, 10),
+            new TypedFood("Granola bar", 190, 4, 29, 7),
+            new TypedFood("Restaurant burrito", 690, 32, 80, 24)};
+
+    /** One logged food; foodId and grams are null for typed foods. */
+    record MealFood(String type, int calories, int protein, int carbs, int fats, Integer foodId, Integer grams) {
+    }
+
+    record Meal(long id, long userId, Instant createdAt, LocalDate localDate, List<MealFood> foods) {
+
+        int calories() {
+            return foods.stream().mapToInt(MealFood::calories).sum();
+        }
+
+        int protein() {
+            return foods.stream().mapToInt(MealFood::protein).sum();
+        }
+
+        int carbs() {
+            return foods.stream().mapToInt(MealFood::carbs).sum();
+        }
+
+        int fats() {
+            return foods.stream().mapToInt(MealFood::fats).sum();
+        }
+    }
+
+    private final Population population;
+    private final FoodCatalog catalog;
+
+    MealRows(Population population, FoodCatalog catalog) {
+        this.population = population;
+        this.catalog = catalog;
+    }
+
+    void meals(CopyWriter out) {
+        generate(meal -> out.value(meal.id())
+                .value(meal.userId())
+                .value(meal.createdAt())
+                .value(meal.localDate())
+                .value(meal.calories())
+                .value(meal.protein())
+                .value(meal.carbs())
+                .value(meal.fats())
+                .endRow());
+    }
+
+    void foods(CopyWriter out) {
+        generate(meal -> {
+            for (MealFood food : meal.foods()) {
+                write(out, meal.id(), food);
+            }
+        });
+    }
+
+    static void write(CopyWriter out, long ownerId, MealFood food) {
+        out.value(ownerId)
+                .value(food.type())
+                .value(food.calories())
+                .value(food.protein())
+                .value(food.carbs())
+                .value(food.fats())
+                .value(food.foodId())
+                .value(food.grams())
+                .endRow();
+    }
+
+    void generate(Consumer<Meal> sink) {
+        long id = 0;
+        for (int day = 0; day < population.days(); day++) {
+            LocalDate date = population.date(day);
+            for (long userId = 1; userId <= population.signedUpBy(day); userId++) {
+                UserTraits user = population.user(userId);
+                if (!user.activeOn(day) || user.mealAdherence() == 0) {
+                    continue;
+                }
+                Rng rng = population.rng(Rng.Channel.MEALS, userId, day);
+                if (!rng.chance(user.mealAdherence())) {
+                    continue;
+                }
+                int count = Math.min(6, Math.max(2, user.mealsPerDay() + rng.between(-1, 1)));
+                for (double hour : MEAL_TIMES[count - 2]) {
+                    int second = (int) Math.min(86_399, Math.max(0, rng.gaussian(hour, 0.5) * 3600));
+                    List<MealFood> foods = foods(rng, userId, 1 + rng.weighted(25, 35, 25, 10, 5));
+                    sink.accept(new Meal(++id, userId, population.at(user, day, second), date, foods));
+                }
+            }
+        }
+    }
+
+    /** Foods as the user would pick them: staples first, then the catalog, occasionally typed. */
+    List<MealFood> foods(Rng rng, long userId, int count) {
+        List<MealFood> foods = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (rng.chance(1 / 12.0)) {
+                TypedFood typed = rng.pick(TYPED_FOODS);
+                foods.add(new MealFood(typed.type(), typed.calories(), typed.protein(), typed.carbs(), typed.fats(),
+                        null, null));
+                continue;
+            }
+            FoodCatalog.Food food = rng.chance(0.6) ? favorite(userId, rng.nextInt(FAVORITES)) : catalog.popular(rng);
+            int grams = rng.between(5, 30) * 10;
+            foods.add(new MealFood(food.name(),
+                    FoodCatalog.Food.portion(food.calories(), grams),
+                    FoodCatalog.Food.portion(food.protein(), grams),
+                    FoodCatalog.Food.portion(food.carbs(), grams),
+                    FoodCatalog.Food.portion(food.fats(), grams),
+                    food.id(), grams));
+        }
+        return foods;
+    }
+
+    private FoodCatalog.Food favorite(long userId, int index) {
+        return catalog.popular(population.rng(Rng.Channel.MEALS, userId, -2 - index));
+    }
+}
@@ -0,0 +1,111 @@
+package com.phillipe.nutrifit.datagen;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * body_measurement and the user_change_history rows its creation leaves, generated day by day.
+ * Weight follows the user's trend with day-to-day noise; body fat is logged by half of the
+ * users who measure, and tape measurements on every fourth measurement half of the time.
+ * History rows carry the field names and values MeasurementServiceImpl records for a new
+ * measurement (old value null), as the outbox relay would have copied them.
+ */
+final class MeasurementRows {
+
+    static final String MEASUREMENT_COLUMNS = "id, user_id, recorded_at, height_cm, weight_kg, body_fat_percent, "
+            + "neck_cm, shoulders_cm, chest_cm, biceps_cm, forearms_cm, waist_cm, hips_cm, thighs_cm, calves_cm, notes";
+    static final String HISTORY_COLUMNS =
+            "user_id, entity_type, entity_id, field_name, old_value, new_value, changed_at";
+
+    private static final String[] NOTES = {"After vacation", "Morning, fasted", "New scale", "Post-holiday"};
+
+    /** One measurement; fields in body_measurement's column order, keyed by their history names. */
+    record Measurement(long id, long userId, Instant recordedAt, Map<String, Double> fields, String notes) {
+    }
+
+    private final Population population;
+
+    MeasurementRows(Population population) {
+        this.population = population;
+    }
+
+    void measurements(CopyWriter out) {
+        generate(measurement -> {
+            out.value(measurement.id()).value(measurement.userId()).value(measurement.recordedAt());
+            for (Double value : measurement.fields().values()) {
+                out.value(value);
+            }
+            out.value(measurement.notes()).endRow();
+        });
+    }
+
+    void history(CopyWriter out) {
+        generate(measurement -> measurement.fields().forEach((field, value) -> {
+            if (value != null) {
+                out.value(measurement.userId())
+                        .value("MEASUREMENT")
+                        .value(measurement.id())
+                        .value(field)
+                        .nullValue()
+                        .value(String.valueOf(value))
+                        .value(measurement.recordedAt())
+                        .endRow();
+            }
+        }));
+    }
+
+    void generate(Consumer<Measurement> sink) {
+        int[] taken = new int[population.size()];
+        long id = 0;
+        for (int day = 0; day < population.days(); day++) {
+            for (long userId = 1; userId <= population.signedUpBy(day); userId++) {
+                UserTraits user = population.user(userId);
+                if (!user.activeOn(day) || user.measurementChance() == 0) {
+                    continue;
+                }
+                Rng rng = population.rng(Rng.Channel.MEASUREMENTS, userId, day);
+                int u = (int) userId - 1;
+                // Most users who measure at all do so when they sign up
+                if (!rng.chance(taken[u] == 0 && day == user.signupDay() ? 0.7 : user.measurementChance())) {
+                    continue;
+                }
+                boolean first = taken[u]++ == 0;
+                boolean tape = taken[u] % 4 == 0 && rng.chance(0.5);
+
+                int daysIn = day - user.signupDay();
+                // Trends flatten out: at most a fifth of the starting weight is gained or lost
+                double trend = Math.max(-0.2, Math.min(0.2, user.weightTrendKgPerDay() * daysIn / user.startWeightKg()));
+                double weight = user.startWeightKg() * (1 + trend) + rng.gaussian(0, 0.4);
+                double bodyFat = user.bodyFatPercent() * (1 + trend * 0.8) + rng.gaussian(0, 0.5);
+                double waist = weight * 0.95 + rng.gaussian(0, 1);
+
+                Map<String, Double> fields = new LinkedHashMap<>();
+                fields.put("heightCm", first || rng.chance(0.02) ? round(user.heightCm(), 1) : null);
+                fields.put("weightKg", round(weight, 0.1));
+                fields.put("bodyFatPercent", user.tracksBodyFat() ? round(bodyFat, 0.1) : null);
+                fields.put("neckCm", tape ? round(weight * 0.45 + 5, 0.5) : null);
+                fields.put("shouldersCm", tape ? round(weight * 1.3 + 15, 0.5) : null);
+                fields.put("chestCm", tape ? round(weight * 1.1 + 10, 0.5) : null);
+                fields.put("bicepsCm", tape ? round(weight * 0.35 + 6, 0.5) : null);
+                fields.put("forearmsCm", tape ? round(weight * 0.25 + 8, 0.5) : null);
+                fields.put("waistCm", tape ? round(waist, 0.5) : null);
+                fields.put("hipsCm", tape ? round(waist * 1.1 + 8, 0.5) : null);
+                fields.put("thighsCm", tape ? round(weight * 0.6 + 10, 0.5) : null);
+                fields.put("calvesCm", tape ? round(weight * 0.35 + 10, 0.5) : null);
+
+                // Morning weigh-ins
+                int second = (int) Math.max(5 * 3600, rng.gaussian(7.5, 1) * 3600);
+                String notes = rng.chance(0.03) ? rng.pick(NOTES) : null;
+                sink.accept(new Measurement(++id, userId, population.at(user, day, second), fields, notes));
+            }
+        }
+    }
+
+    /** To the nearest step, printing as the user typed it (82.3, not 82.30000000000001). */
+    private static double round(double value, double step) {
+        double perUnit = Math.rint(1 / step);
+        return Math.round(value * perUnit) / perUnit;
+    }
+}
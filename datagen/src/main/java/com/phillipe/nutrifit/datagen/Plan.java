@@ -0,0 +1,44 @@
+package com.phillipe.nutrifit.datagen;
+
+/**
+ * A generated workout plan. Its days are numbered from 1 and have consecutive ids from
+ * {@code firstDayId}; the user works out from their newest plan once it exists.
+ */
+record Plan(long id, long userId, int index, Split split, String name, String description, int createdDay,
+            long firstDayId, int dayCount) {
+
+    /** Muscle groups trained on each day of the rotation, by exercise category. */
+    enum Split {
+        FULL_BODY("Full Body", new String[][]{
+                {"QUADS", "CHEST", "BACK", "SHOULDERS", "CORE"}}),
+        UPPER_LOWER("Upper / Lower", new String[][]{
+                {"CHEST", "BACK", "SHOULDERS", "BICEPS", "TRICEPS"},
+                {"QUADS", "HAMSTRINGS", "GLUTES", "CALVES", "CORE"}}),
+        PUSH_PULL_LEGS("Push Pull Legs", new String[][]{
+                {"CHEST", "SHOULDERS", "TRICEPS", "CHEST"},
+                {"BACK", "BICEPS", "BACK", "FOREARMS"},
+                {"QUADS", "HAMSTRINGS", "GLUTES", "CALVES"}}),
+        STRENGTH("5x5 Strength", new String[][]{
+                {"QUADS", "CHEST", "BACK"},
+                {"QUADS", "SHOULDERS", "HAMSTRINGS"}}),
+        CONDITIONING("Conditioning", new String[][]{
+                {"CARDIO", "CORE", "QUADS"},
+                {"CARDIO", "CORE", "SHOULDERS"}});
+
+        final String title;
+        final String[][] focus;
+
+        Split(String title, String[][] focus) {
+            this.title = title;
+            this.focus = focus;
+        }
+    }
+
+    long dayId(int dayNumber) {
+        return firstDayId + dayNumber - 1;
+    }
+
+    String[] focus(int dayNumber) {
+        return split.focus[(dayNumber - 1) % split.focus.length];
+    }
+}
@@ -0,0 +1,87 @@
+package com.phillipe.nutrifit.datagen;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/** workout_plan, workout_plan_day and workout_plan_day_exercises, as laid out by Population. */
+final class PlanRows {
+
+    static final String PLAN_COLUMNS = "id, user_id, name, description, created_at";
+    static final String DAY_COLUMNS = "id, workout_plan_id, day_number, day_name, uuid";
+    static final String EXERCISE_COLUMNS =
+            "workout_plan_day_id, is_custom, target_sets, target_reps, target_weight, exercise_id";
+
+    private static final String[] PUSH_PULL_LEGS = {"Push", "Pull", "Legs"};
+
+    private final Population population;
+
+    PlanRows(Population population) {
+        this.population = population;
+    }
+
+    void plans(CopyWriter out) {
+        forEachPlan(plan -> out.value(plan.id())
+                .value(plan.userId())
+                .value(plan.name())
+                .value(plan.description())
+                .value(population.at(population.user(plan.userId()), plan.createdDay(), 20 * 3600))
+                .endRow());
+    }
+
+    void days(CopyWriter out) {
+        forEachPlan(plan -> {
+            for (int day = 1; day <= plan.dayCount(); day++) {
+                Rng rng = population.rng(Rng.Channel.PLAN_DAYS, plan.dayId(day), 1);
+                out.value(plan.dayId(day))
+                        .value(plan.id())
+                        .value(day)
+                        .value(dayName(plan, day))
+                        .value(uuid(rng).toString())
+                        .endRow();
+            }
+        });
+    }
+
+    void exercises(CopyWriter out) {
+        forEachPlan(plan -> {
+            UserTraits user = population.user(plan.userId());
+            for (int day = 1; day <= plan.dayCount(); day++) {
+                for (Population.PlannedExercise exercise : population.plannedExercises(user, plan, day)) {
+                    out.value(plan.dayId(day))
+                            .value(false)
+                            .value(exercise.targetSets())
+                            .value(exercise.targetReps())
+                            .value(exercise.targetWeight())
+                            .value(exercise.exerciseId())
+                            .endRow();
+                }
+            }
+        });
+    }
+
+    private void forEachPlan(Consumer<Plan> action) {
+        for (long id = 1; id <= population.size(); id++) {
+            UserTraits user = population.user(id);
+            for (int p = 0; p < user.planCount(); p++) {
+                action.accept(population.plan(user, p));
+            }
+        }
+    }
+
+    private static String dayName(Plan plan, int day) {
+        return switch (plan.split()) {
+            case FULL_BODY -> "Full Body " + (char) ('A' + day - 1);
+            case UPPER_LOWER -> day % 2 == 1 ? "Upper" : "Lower";
+            case PUSH_PULL_LEGS -> PUSH_PULL_LEGS[(day - 1) % 3];
+            case STRENGTH -> day % 2 == 1 ? "Workout A" : "Workout B";
+            case CONDITIONING -> "Day " + day;
+        };
+    }
+
+    private static UUID uuid(Rng rng) {
+        // Random (version 4, IETF variant), as the backend's UUID.randomUUID()
+        long most = rng.nextLong() & ~0xf000L | 0x4000L;
+        long least = rng.nextLong() & ~(0xcL << 60) | 0x8L << 60;
+        return new UUID(most, least);
+    }
+}
@@ -0,0 +1,248 @@
+package com.phillipe.nutrifit.datagen;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The generated users and their plans. Ids run in signup order and signups grow over the
+ * window (the n-th user joins at sqrt(n / users) of it), so like production the newest days
+ * have the most active users. Everything else is drawn per user from their own stream:
+ * <ul>
+ *   <li>activity: a third stay to the end of the window, the rest churn after an exponential
+ *       lifetime of three months on average;</li>
+ *   <li>workouts: a quarter never log one, the rest a log-normal 2.8 a week;</li>
+ *   <li>meals: a fifth never log one, the rest on a share of their active days, 2-5 a day;</li>
+ *   <li>measurements: two in five never take one, the rest weekly to daily.</li>
+ * </ul>
+ */
+final class Population {
+
+    /** An exercise on a plan day, with the targets the plan sets for it. */
+    record PlannedExercise(int exerciseId, String category, int targetSets, int targetReps, int targetWeight) {
+    }
+
+    private static final String[] GENDERS = {"MALE", "FEMALE", "OTHER", "PREFER_NOT_TO_SAY"};
+    private static final int[] UTC_OFFSETS = {-480, -420, -360, -300, 0, 60, 120, 330, 480, 540, 600};
+    private static final double[] UTC_OFFSET_WEIGHTS = {12, 4, 10, 22, 8, 18, 6, 6, 5, 4, 5};
+    private static final int[] WORKOUT_HOURS = {6, 7, 12, 17, 18, 19, 20};
+    private static final double[] WORKOUT_HOUR_WEIGHTS = {10, 12, 8, 20, 25, 17, 8};
+    private static final String[] PLAN_DESCRIPTIONS = {null, null, "Main program", "Off-season block",
+            "From my coach", "Trying this for 8 weeks"};
+    private static final int[] REP_TARGETS = {6, 8, 8, 10, 12};
+
+    private final GeneratorOptions options;
+    private final ExerciseDictionary exercises;
+    private final LocalDate firstDate;
+    private final UserTraits[] users;
+    private final int[] signedUpBy;
+    private final long[] firstPlanIds;
+    private final long[] firstPlanDayIds;
+    private final long planCount;
+    private final long planDayCount;
+
+    Population(GeneratorOptions options, ExerciseDictionary exercises) {
+        this.options = options;
+        this.exercises = exercises;
+        this.firstDate = options.endDate().minusDays(options.days());
+        this.users = new UserTraits[options.users()];
+        this.signedUpBy = new int[options.days()];
+        this.firstPlanIds = new long[options.users()];
+        this.firstPlanDayIds = new long[options.users()];
+
+        long nextPlanId = 1;
+        long nextPlanDayId = 1;
+        for (int i = 0; i < users.length; i++) {
+            UserTraits user = traits(i + 1);
+            users[i] = user;
+            signedUpBy[user.signupDay()]++;
+            firstPlanIds[i] = nextPlanId;
+            firstPlanDayIds[i] = nextPlanDayId;
+            for (int p = 0; p < user.planCount(); p++) {
+                nextPlanDayId += planDays(user, p);
+            }
+            nextPlanId += user.planCount();
+        }
+        for (int day = 1; day < signedUpBy.length; day++) {
+            signedUpBy[day] += signedUpBy[day - 1];
+        }
+        this.planCount = nextPlanId - 1;
+        this.planDayCount = nextPlanDayId - 1;
+    }
+
+    GeneratorOptions options() {
+        return options;
+    }
+
+    ExerciseDictionary exercises() {
+        return exercises;
+    }
+
+    int size() {
+        return users.length;
+    }
+
+    int days() {
+        return options.days();
+    }
+
+    UserTraits user(long id) {
+        return users[(int) id - 1];
+    }
+
+    /** Number of users who signed up on or before the day; they are users 1 to that number. */
+    int signedUpBy(int day) {
+        return signedUpBy[day];
+    }
+
+    long planCount() {
+        return planCount;
+    }
+
+    long planDayCount() {
+        return planDayCount;
+    }
+
+    Rng rng(Rng.Channel channel, long subject, long index) {
+        return Rng.of(options.seed(), channel, subject, index);
+    }
+
+    LocalDate date(int day) {
+        return firstDate.plusDays(day);
+    }
+
+    /** The instant of a time on the user's own calendar day. */
+    Instant at(UserTraits user, int day, int secondOfDay) {
+        long epochSecond = date(day).toEpochSecond(LocalTime.MIDNIGHT, ZoneOffset.UTC)
+                + secondOfDay - user.utcOffsetMinutes() * 60L;
+        return Instant.ofEpochSecond(epochSecond);
+    }
+
+    Plan plan(UserTraits user, int index) {
+        Rng rng = rng(Rng.Channel.PLANS, user.id(), index);
+        Plan.Split split = rng.pick(Plan.Split.values());
+        int createdDay = user.signupDay();
+        // Later plans replace earlier ones after a few weeks to a few months each
+        for (int p = 0; p < index; p++) {
+            createdDay += 14 + (int) rng(Rng.Channel.PLANS, user.id(), -1 - p).exponential(60);
+        }
+        // Plans are made while the user is around; late ones all land on their last day
+        createdDay = Math.min(createdDay, user.churnDay() - 1);
+        long firstDayId = firstPlanDayIds[(int) user.id() - 1];
+        for (int p = 0; p < index; p++) {
+            firstDayId += planDays(user, p);
+        }
+        String name = index == 0 ? split.title : split.title + " " + (index + 1);
+        return new Plan(firstPlanIds[(int) user.id() - 1] + index, user.id(), index, split, name,
+                rng.pick(PLAN_DESCRIPTIONS), createdDay, firstDayId, planDays(user, index));
+    }
+
+    /** The user's newest plan created by the day, or null. */
+    Plan activePlan(UserTraits user, int day) {
+        Plan active = null;
+        for (int p = 0; p < user.planCount(); p++) {
+            Plan plan = plan(user, p);
+            if (plan.createdDay() > day) {
+                break;
+            }
+            active = plan;
+        }
+        return active;
+    }
+
+    List<PlannedExercise> plannedExercises(UserTraits user, Plan plan, int dayNumber) {
+        Rng rng = rng(Rng.Channel.PLAN_DAYS, plan.dayId(dayNumber), 0);
+        String[] focus = plan.focus(dayNumber);
+        boolean strength = plan.split() == Plan.Split.STRENGTH;
+        int count = strength ? focus.length : focus.length + rng.nextInt(2);
+        List<PlannedExercise> planned = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String category = focus[i % focus.length];
+            int exerciseId = exercises.pick(rng, category);
+            int sets = strength ? 5 : rng.between(3, 4);
+            int reps = strength ? 5 : REP_TARGETS[rng.nextInt(REP_TARGETS.length)];
+            planned.add(new PlannedExercise(exerciseId, category, sets, reps,
+                    roundToFive(baseWeight(category) * user.strength())));
+        }
+        return planned;
+    }
+
+    /** Typical working weight for a trained beginner, in the user's unit of choice. */
+    static double baseWeight(String category) {
+        return switch (category) {
+            case "QUADS" -> 185;
+            case "GLUTES" -> 155;
+            case "CHEST", "HAMSTRINGS" -> 135;
+            case "BACK", "CALVES" -> 120;
+            case "SHOULDERS" -> 85;
+            case "TRICEPS" -> 40;
+            case "BICEPS" -> 30;
+            case "FOREARMS" -> 25;
+            case "CORE", "CARDIO" -> 0;
+            default -> 50;
+        };
+    }
+
+    static int roundToFive(double weight) {
+        return (int) Math.round(weight / 5) * 5;
+    }
+
+    private int planDays(UserTraits user, int index) {
+        Rng rng = rng(Rng.Channel.PLANS, user.id(), index);
+        Plan.Split split = rng.pick(Plan.Split.values());
+        // One pass through the rotation, or two for short rotations
+        return split.focus.length == 1 ? rng.between(2, 3) : split.focus.length * rng.between(1, 2);
+    }
+
+    private UserTraits traits(long id) {
+        Rng rng = rng(Rng.Channel.TRAITS, id, 0);
+        int days = options.days();
+        int signupDay = Math.min(days - 1, (int) (days * Math.sqrt((id - 0.5) / options.users())));
+        int churnDay = rng.chance(0.35) ? days : Math.min(days, signupDay + 1 + (int) rng.exponential(90));
+
+        boolean google = rng.chance(0.12);
+        boolean profileFilled = rng.chance(0.85);
+        String gender = profileFilled ? GENDERS[rng.weighted(52, 44, 2, 2)] : null;
+        Integer birthYear = profileFilled
+                ? options.endDate().getYear() - (int) Math.min(80, Math.max(16, rng.logNormal(32, 0.3)))
+                : null;
+
+        double workoutsPerWeek = rng.chance(0.25) ? 0 : Math.min(7, Math.max(0.5, rng.logNormal(2.8, 0.45)));
+        int planCount = workoutsPerWeek == 0 ? 0 : rng.weighted(30, 45, 18, 7);
+
+        double mealAdherence = rng.chance(0.2) ? 0 : 0.15 + 0.8 * Math.pow(rng.nextDouble(), 0.7);
+        int mealsPerDay = 2 + rng.weighted(15, 45, 30, 10);
+        int recipeCount = switch (rng.weighted(55, 30, 15)) {
+            case 0 -> 0;
+            case 1 -> rng.between(1, 3);
+            default -> rng.between(4, 12);
+        };
+        int templateCount = switch (rng.weighted(60, 25, 15)) {
+            case 0 -> 0;
+            case 1 -> rng.between(1, 2);
+            default -> rng.between(3, 6);
+        };
+
+        double measurementChance = switch (rng.weighted(40, 30, 20, 10)) {
+            case 0 -> 0;
+            case 1 -> 1 / 7.0;
+            case 2 -> 3 / 7.0;
+            default -> 0.85;
+        };
+        boolean female = "FEMALE".equals(gender) || gender == null && rng.chance(0.45);
+        double heightCm = female ? rng.gaussian(163, 6.5) : rng.gaussian(176, 7);
+        double bmi = Math.min(45, Math.max(17, rng.logNormal(26, 0.15)));
+        double startWeight = bmi * heightCm * heightCm / 10_000;
+        double bodyFat = Math.min(50, Math.max(6, female ? rng.gaussian(30, 6) : rng.gaussian(22, 6)));
+
+        return new UserTraits(id, signupDay, churnDay, UTC_OFFSETS[rng.weighted(UTC_OFFSET_WEIGHTS)], google,
+                birthYear, gender, rng.chance(0.45),
+                workoutsPerWeek, WORKOUT_HOURS[rng.weighted(WORKOUT_HOUR_WEIGHTS)],
+                Math.min(1.8, Math.max(0.4, rng.logNormal(female ? 0.75 : 1, 0.25))), planCount,
+                mealAdherence, mealsPerDay, recipeCount, templateCount,
+                measurementChance, rng.chance(0.5), heightCm, startWeight, rng.gaussian(-0.02, 0.03), bodyFat);
+    }
+}
@@ -0,0 +1,196 @@
+package com.phillipe.nutrifit.datagen;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyInputStream;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Rebuilds the tables the services derive from the logged rows, in bulk instead of one write
+ * at a time: the same results the services would have reached, except exercise_progression,
+ * which is summarised from each exercise's history rather than replayed session by session.
+ */
+final class ReadModels {
+
+    /** A derived table and the statement that fills it. */
+    private record Rebuild(String table, String sql) {
+    }
+
+    private static final List<Rebuild> BACKEND = List.of(
+            new Rebuild("exercise_last_performance", """
+            INSERT INTO exercise_last_performance (user_id, exercise_id, workout_log_id, performed_at,
+                                                   duration_minutes, sets, reps, weight, set_details)
+            SELECT DISTINCT ON (user_id, exercise_id)
+                   user_id, exercise_id, workout_log_id, created_at, duration_minutes, sets, reps, weight, set_details
+            FROM workout_log_exercises
+            ORDER BY user_id, exercise_id, created_at DESC, workout_log_id DESC
+            """),
+            // Plan-day sessions only, as ProgressionServiceImpl records, per rep range the day plans the
+            // exercise in; Epley e1RM of the logged top set
+            new Rebuild("exercise_progression", """
+            INSERT INTO exercise_progression (user_id, exercise_id, min_reps, sessions, best_e1rm, last_e1rm, stall_count,
+                                              next_sets, next_reps, next_weight, deload, updated_at)
+            SELECT DISTINCT ON (user_id, exercise_id, min_reps)
+                   user_id, exercise_id, min_reps, COUNT(*) OVER w, MAX(e1rm) OVER w, e1rm, 0,
+                   sets, LEAST(GREATEST(reps + 1, min_reps), min_reps + 4), weight, false, created_at
+            FROM (
+                SELECT e.user_id, e.exercise_id, e.created_at, e.sets, e.reps, e.weight, planned.min_reps,
+                       CASE WHEN e.weight > 0 AND e.reps > 1 THEN e.weight * (1 + e.reps / 30.0) ELSE e.weight END AS e1rm
+                FROM workout_log_exercises e
+                JOIN workout_log l ON l.id = e.workout_log_id
+                JOIN LATERAL (
+                    SELECT MIN(CASE WHEN p.target_reps > 0 THEN p.target_reps ELSE 8 END) AS min_reps
+                    FROM workout_plan_day_exercises p
+                    WHERE p.workout_plan_day_id = l.workout_plan_day_id AND p.exercise_id = e.exercise_id
+                ) planned ON planned.min_reps IS NOT NULL
+                WHERE l.workout_plan_day_id IS NOT NULL AND e.reps IS NOT NULL
+            ) performed
+            WINDOW w AS (PARTITION BY user_id, exercise_id, min_reps)
+            ORDER BY user_id, exercise_id, min_reps, created_at DESC
+            """),
+            // Same sufficient statistics as the V14 backfill
+            new Rebuild("measurement_stats", """
+            WITH points AS (
+                SELECT m.user_id, v.field, m.recorded_at, v.value AS y
+                FROM body_measurement m
+                CROSS JOIN LATERAL (VALUES
+                    ('HEIGHT_CM', m.height_cm),
+                    ('WEIGHT_KG', m.weight_kg),
+                    ('BODY_FAT_PERCENT', m.body_fat_percent),
+                    ('NECK_CM', m.neck_cm),
+                    ('SHOULDERS_CM', m.shoulders_cm),
+                    ('CHEST_CM', m.chest_cm),
+                    ('BICEPS_CM', m.biceps_cm),
+                    ('FOREARMS_CM', m.forearms_cm),
+                    ('WAIST_CM', m.waist_cm),
+                    ('HIPS_CM', m.hips_cm),
+                    ('THIGHS_CM', m.thighs_cm),
+                    ('CALVES_CM', m.calves_cm)
+                ) AS v(field, value)
+                WHERE v.value IS NOT NULL
+            ), origins AS (
+                SELECT user_id, MAX(recorded_at) AS origin FROM body_measurement GROUP BY user_id
+            ), timed AS (
+                SELECT p.user_id, p.field, o.origin, p.y,
+                       EXTRACT(EPOCH FROM (p.recorded_at - o.origin)) / 86400.0 AS t
+                FROM points p
+                JOIN origins o ON o.user_id = p.user_id
+            ), weighted AS (
+                SELECT timed.*, exp(GREATEST(ln(2) / 14 * t, -700)) AS w FROM timed
+            )
+            INSERT INTO measurement_stats (user_id, field, origin, n, sum_t, sum_y, sum_tt, sum_ty, sum_yy,
+                                           w_sum, w_t, w_y, w_tt, w_ty, updated_at)
+            SELECT user_id, field, origin, COUNT(*), SUM(t), SUM(y), SUM(t * t), SUM(t * y), SUM(y * y),
+                   SUM(w), SUM(w * t), SUM(w * y), SUM(w * t * t), SUM(w * t * y), NOW()
+            FROM weighted
+            GROUP BY user_id, field, origin
+            """),
+            new Rebuild("energy_balance_daily calories_out", """
+            INSERT INTO energy_balance_daily (user_id, local_date, calories_out)
+            SELECT user_id, local_date, SUM(total_calories_burned)
+            FROM workout_log
+            GROUP BY user_id, local_date
+            """));
+
+    private static final List<Rebuild> NUTRITION = List.of(
+            new Rebuild("nutrition_daily_total", """
+            INSERT INTO nutrition_daily_total (user_id, local_date, total_calories, total_protein, total_carbs,
+                                               total_fats, meal_count)
+            SELECT user_id, local_date, SUM(total_calories), SUM(total_protein), SUM(total_carbs), SUM(total_fats),
+                   COUNT(*)
+            FROM meal_log
+            GROUP BY user_id, local_date
+            """),
+            // As V7 seeded it: the last 30 days of meals, kept to the newest 100 foods per user
+            new Rebuild("recent_food", """
+            INSERT INTO recent_food (user_id, food_key, type, calories, protein, carbs, fats, food_id, grams,
+                                     recipe_id, servings, use_count, last_used_at)
+            SELECT user_id, food_key, type, calories, protein, carbs, fats, food_id, grams, recipe_id, servings,
+                   use_count, created_at
+            FROM (
+                SELECT *, ROW_NUMBER() OVER (PARTITION BY user_id ORDER BY created_at DESC) AS recency
+                FROM (
+                    SELECT DISTINCT ON (user_id, food_key)
+                           user_id, food_key, type, calories, protein, carbs, fats, food_id, grams, recipe_id,
+                           servings, COUNT(*) OVER (PARTITION BY user_id, food_key) AS use_count, created_at
+                    FROM (
+                        SELECT m.user_id, m.created_at, f.*,
+                               CASE WHEN f.recipe_id IS NOT NULL THEN 'r:' || f.recipe_id
+                                    WHEN f.food_id IS NOT NULL THEN 'f:' || f.food_id
+                                    ELSE 't:' || lower(btrim(f.type)) END AS food_key
+                        FROM meal_log m
+                        JOIN meal_log_foods f ON f.meal_log_id = m.id
+                        WHERE m.created_at >= ?::timestamptz - INTERVAL '30 days'
+                    ) used
+                    ORDER BY user_id, food_key, created_at DESC
+                ) latest
+            ) ranked
+            WHERE recency <= 100
+            """));
+
+    private ReadModels() {
+    }
+
+    static void rebuild(Connection backend, Connection nutrition, Instant end) throws SQLException {
+        for (Rebuild rebuild : BACKEND) {
+            DataGenerator.timed(rebuild.table(), () -> execute(backend, rebuild.sql()));
+        }
+        for (Rebuild rebuild : NUTRITION) {
+            DataGenerator.timed(rebuild.table(), () -> {
+                try (PreparedStatement statement = nutrition.prepareStatement(rebuild.sql())) {
+                    if (rebuild.sql().contains("?")) {
+                        statement.setString(1, end.toString());
+                    }
+                    return statement.executeUpdate();
+                }
+            });
+        }
+
+        // Calories eaten, as EnergyBalanceProjector would have applied them from the meal feed
+        DataGenerator.timed("energy_balance_daily calories_in", () -> {
+            execute(backend, "CREATE TEMP TABLE meal_calories (user_id BIGINT, local_date DATE, calories INTEGER)");
+            try (PGCopyInputStream in = new PGCopyInputStream(nutrition.unwrap(PGConnection.class),
+                    "COPY (SELECT user_id, local_date, total_calories FROM nutrition_daily_total) TO STDOUT")) {
+                backend.unwrap(PGConnection.class).getCopyAPI().copyIn("COPY meal_calories FROM STDIN", in);
+            } catch (IOException e) {
+                throw new SQLException("Could not copy daily calories", e);
+            }
+            int applied = execute(backend, """
+                    INSERT INTO energy_balance_daily (user_id, local_date, calories_in)
+                    SELECT user_id, local_date, calories FROM meal_calories
+                    ON CONFLICT (user_id, local_date) DO UPDATE SET calories_in = EXCLUDED.calories_in
+                    """);
+            execute(backend, "DROP TABLE meal_calories");
+            return applied;
+        });
+
+        // The loaded meals' feed events are already counted above; start the projection after them
+        long lastXact = 0;
+        long lastMealEvent = 0;
+        try (Statement statement = nutrition.createStatement();
+             ResultSet rs = statement.executeQuery(
+                     "SELECT xact_id, id FROM meal_event ORDER BY xact_id DESC, id DESC LIMIT 1")) {
+            if (rs.next()) {
+                lastXact = rs.getLong(1);
+                lastMealEvent = rs.getLong(2);
+            }
+        }
+        execute(backend, "UPDATE energy_feed_cursor SET last_event_xact_id = " + lastXact
+                + ", last_event_id = " + lastMealEvent + " WHERE source = 'meals'");
+    }
+
+    static int execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            // execute rather than executeUpdate, so function calls that return a row work too
+            statement.execute(sql);
+            return Math.max(0, statement.getUpdateCount());
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.phillipe.nutrifit.datagen;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * recipe and recipe_ingredient. Recipe totals are the sums of their ingredients, as
+ * RecipeServiceImpl stores them; most users have none and a few have a dozen.
+ */
+final class RecipeRows {
+
+    static final String RECIPE_COLUMNS = "id, user_id, name, servings, total_calories, total_protein, total_carbs, "
+            + "total_fats, created_at, updated_at";
+    static final String INGREDIENT_COLUMNS = "recipe_id, position, type, calories, protein, carbs, fats, food_id, grams";
+
+    private static final String[] NAMES = {"Chicken stir fry", "Overnight oats", "Chili", "Lentil curry",
+            "Banana bread", "Protein pancakes", "Pasta bake", "Burrito bowl", "Tuna salad", "Shakshuka"};
+
+    record Recipe(long id, long userId, String name, int servings, Instant createdAt,
+                  List<MealRows.MealFood> ingredients) {
+
+        int total(ToIntFunction<MealRows.MealFood> macro) {
+            return ingredients.stream().mapToInt(macro).sum();
+        }
+    }
+
+    private final Population population;
+    private final MealRows meals;
+
+    RecipeRows(Population population, MealRows meals) {
+        this.population = population;
+        this.meals = meals;
+    }
+
+    void recipes(CopyWriter out) {
+        generate(recipe -> out.value(recipe.id())
+                .value(recipe.userId())
+                .value(recipe.name())
+                .value(recipe.servings())
+                .value(recipe.total(MealRows.MealFood::calories))
+                .value(recipe.total(MealRows.MealFood::protein))
+                .value(recipe.total(MealRows.MealFood::carbs))
+                .value(recipe.total(MealRows.MealFood::fats))
+                .value(recipe.createdAt())
+                .value(recipe.createdAt())
+                .endRow());
+    }
+
+    void ingredients(CopyWriter out) {
+        generate(recipe -> {
+            for (int position = 0; position < recipe.ingredients().size(); position++) {
+                MealRows.MealFood food = recipe.ingredients().get(position);
+                out.value(recipe.id())
+                        .value(position)
+                        .value(food.type())
+                        .value(food.calories())
+                        .value(food.protein())
+                        .value(food.carbs())
+                        .value(food.fats())
+                        .value(food.foodId())
+                        .value(food.grams())
+                        .endRow();
+            }
+        });
+    }
+
+    void generate(Consumer<Recipe> sink) {
+        long id = 0;
+        for (long userId = 1; userId <= population.size(); userId++) {
+            UserTraits user = population.user(userId);
+            for (int r = 0; r < user.recipeCount(); r++) {
+                Rng rng = population.rng(Rng.Channel.RECIPES, userId, r);
+                int day = Math.min(user.churnDay() - 1, user.signupDay() + (int) rng.exponential(30));
+                List<MealRows.MealFood> ingredients = meals.foods(rng, userId, rng.between(2, 8));
+                String name = r < NAMES.length ? NAMES[(int) ((userId + r) % NAMES.length)] : rng.pick(NAMES) + " " + r;
+                sink.accept(new Recipe(++id, userId, name, rng.between(1, 6),
+                        population.at(user, day, 18 * 3600), ingredients));
+            }
+        }
+    }
+}
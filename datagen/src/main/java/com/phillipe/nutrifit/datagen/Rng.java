@@ -0,0 +1,99 @@
+package com.phillipe.nutrifit.datagen;
+
+/**
+ * SplitMix64 stream keyed by (seed, channel, subject, index), so every user, day or entity
+ * draws the same numbers no matter in which order, on which thread or in which pass it is
+ * generated. Generators rely on this to walk the same population once per table.
+ */
+final class Rng {
+
+    /** What a stream is drawn for; keeps streams of one subject independent of each other. */
+    enum Channel {
+        TRAITS, PLANS, PLAN_DAYS, WORKOUTS, MEASUREMENTS, MEALS, RECIPES, TEMPLATES
+    }
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private long state;
+
+    private Rng(long state) {
+        this.state = state;
+    }
+
+    static Rng of(long seed, Channel channel, long subject, long index) {
+        long state = mix(seed + GOLDEN_GAMMA);
+        state = mix(state ^ (channel.ordinal() + 1) * GOLDEN_GAMMA);
+        state = mix(state ^ subject);
+        state = mix(state ^ index * GOLDEN_GAMMA);
+        return new Rng(state);
+    }
+
+    long nextLong() {
+        state += GOLDEN_GAMMA;
+        return mix(state);
+    }
+
+    /** Uniform in [0, 1). */
+    double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    /** Uniform in [0, bound). */
+    int nextInt(int bound) {
+        return (int) (nextDouble() * bound);
+    }
+
+    /** Uniform in [min, max]. */
+    int between(int min, int max) {
+        return min + nextInt(max - min + 1);
+    }
+
+    boolean chance(double probability) {
+        return nextDouble() < probability;
+    }
+
+    double gaussian() {
+        // Box-Muller; the second value is dropped so draws stay one-to-one with calls
+        double u = 1 - nextDouble();
+        return Math.sqrt(-2 * Math.log(u)) * Math.cos(2 * Math.PI * nextDouble());
+    }
+
+    double gaussian(double mean, double deviation) {
+        return mean + gaussian() * deviation;
+    }
+
+    /** Log-normal with the given median; {@code spread} is the deviation of its logarithm. */
+    double logNormal(double median, double spread) {
+        return median * Math.exp(gaussian() * spread);
+    }
+
+    double exponential(double mean) {
+        return -mean * Math.log(1 - nextDouble());
+    }
+
+    /** Index into {@code weights}, drawn in proportion to them. */
+    int weighted(double... weights) {
+        double total = 0;
+        for (double weight : weights) {
+            total += weight;
+        }
+        double draw = nextDouble() * total;
+        for (int i = 0; i < weights.length - 1; i++) {
+            draw -= weights[i];
+            if (draw < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    <T> T pick(T[] values) {
+        return values[nextInt(values.length)];
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,60 @@
+package com.phillipe.nutrifit.datagen;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Consumer;
+
+/** meal_template and meal_template_foods: a user's usual meals, saved for one-tap logging. */
+final class TemplateRows {
+
+    static final String TEMPLATE_COLUMNS =
+            "id, user_id, name, total_calories, total_protein, total_carbs, total_fats, created_at";
+    static final String FOOD_COLUMNS = "meal_template_id, type, calories, protein, carbs, fats, food_id, grams";
+
+    private static final String[] NAMES = {"Usual breakfast", "Post-workout", "Work lunch", "Afternoon snack",
+            "Quick dinner", "Weekend brunch"};
+
+    record Template(long id, long userId, String name, Instant createdAt, List<MealRows.MealFood> foods) {
+    }
+
+    private final Population population;
+    private final MealRows meals;
+
+    TemplateRows(Population population, MealRows meals) {
+        this.population = population;
+        this.meals = meals;
+    }
+
+    void templates(CopyWriter out) {
+        generate(template -> out.value(template.id())
+                .value(template.userId())
+                .value(template.name())
+                .value(template.foods().stream().mapToInt(MealRows.MealFood::calories).sum())
+                .value(template.foods().stream().mapToInt(MealRows.MealFood::protein).sum())
+                .value(template.foods().stream().mapToInt(MealRows.MealFood::carbs).sum())
+                .value(template.foods().stream().mapToInt(MealRows.MealFood::fats).sum())
+                .value(template.createdAt())
+                .endRow());
+    }
+
+    void foods(CopyWriter out) {
+        generate(template -> {
+            for (MealRows.MealFood food : template.foods()) {
+                MealRows.write(out, template.id(), food);
+            }
+        });
+    }
+
+    void generate(Consumer<Template> sink) {
+        long id = 0;
+        for (long userId = 1; userId <= population.size(); userId++) {
+            UserTraits user = population.user(userId);
+            for (int t = 0; t < user.templateCount(); t++) {
+                Rng rng = population.rng(Rng.Channel.TEMPLATES, userId, t);
+                int day = Math.min(user.churnDay() - 1, user.signupDay() + (int) rng.exponential(20));
+                sink.accept(new Template(++id, userId, NAMES[t % NAMES.length],
+                        population.at(user, day, 13 * 3600), meals.foods(rng, userId, rng.between(2, 5))));
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.phillipe.nutrifit.datagen;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * users and user_profile. Usernames are {@code user<id>}, so load tests can log in as any
+ * generated local account with the one password all of them share.
+ */
+final class UserRows {
+
+    static final String USER_COLUMNS = "id, username, password, provider, provider_id";
+    static final String PROFILE_COLUMNS = "user_id, birth_year, gender, unit_preference, created_at, updated_at";
+
+    private final Population population;
+
+    UserRows(Population population) {
+        this.population = population;
+    }
+
+    static String username(long id) {
+        return "user" + id;
+    }
+
+    /** Usernames of the accounts that log in with the password, in id order; the others use Google. */
+    List<String> localUsernames() {
+        List<String> usernames = new ArrayList<>();
+        for (long id = 1; id <= population.size(); id++) {
+            if (!population.user(id).google()) {
+                usernames.add(username(id));
+            }
+        }
+        return usernames;
+    }
+
+    void users(CopyWriter out, String passwordHash) {
+        for (long id = 1; id <= population.size(); id++) {
+            UserTraits user = population.user(id);
+            out.value(id).value(username(id));
+            if (user.google()) {
+                out.nullValue().value("GOOGLE").value("google-" + (100_000_000_000_000_000L + id));
+            } else {
+                out.value(passwordHash).value("LOCAL").nullValue();
+            }
+            out.endRow();
+        }
+    }
+
+    void profiles(CopyWriter out) {
+        for (long id = 1; id <= population.size(); id++) {
+            UserTraits user = population.user(id);
+            Instant signedUp = population.at(user, user.signupDay(), 12 * 3600);
+            out.value(id)
+                    .value(user.birthYear())
+                    .value(user.gender())
+                    .value(user.metric() ? "METRIC" : "IMPERIAL")
+                    .value(signedUp)
+                    .value(signedUp)
+                    .endRow();
+        }
+    }
+}
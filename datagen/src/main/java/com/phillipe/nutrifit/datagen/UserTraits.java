@@ -0,0 +1,46 @@
+package com.phillipe.nutrifit.datagen;
+
+/**
+ * Who a generated user is and how they use the app; every row generated for them follows
+ * from these and the per-day random streams. Days are indexes into the generated window.
+ */
+record UserTraits(
+        long id,
+        int signupDay,
+        // Exclusive; the window's length for users still active at its end
+        int churnDay,
+        int utcOffsetMinutes,
+        boolean google,
+        Integer birthYear,
+        String gender,
+        boolean metric,
+
+        // Zero for users who never log a workout
+        double workoutsPerWeek,
+        int workoutHour,
+        double strength,
+        int planCount,
+
+        // Chance of logging meals on an active day; zero for users who never do
+        double mealAdherence,
+        int mealsPerDay,
+        int recipeCount,
+        int templateCount,
+
+        // Chance of a measurement on an active day; zero for users who never take one
+        double measurementChance,
+        boolean tracksBodyFat,
+        double heightCm,
+        double startWeightKg,
+        double weightTrendKgPerDay,
+        double bodyFatPercent
+) {
+
+    boolean activeOn(int day) {
+        return day >= signupDay && day < churnDay;
+    }
+
+    boolean female() {
+        return "FEMALE".equals(gender);
+    }
+}
@@ -0,0 +1,184 @@
+package com.phillipe.nutrifit.datagen;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * workout_log and workout_log_exercises, generated day by day so ids and physical order follow
+ * time as they do in production. Three in four workouts of a user with a plan follow its days
+ * in rotation; the rest are freeform. Working weights climb over a user's first months of
+ * sessions and sets carry per-set JSON as the backend stores it, except on one in ten freeform
+ * exercises logged with totals only.
+ */
+final class WorkoutRows {
+
+    static final String LOG_COLUMNS = "id, user_id, workout_plan_day_id, created_at, local_date, "
+            + "total_duration_minutes, total_calories_burned, total_sets, total_reps";
+    static final String EXERCISE_COLUMNS = "workout_log_id, user_id, created_at, exercise_id, duration_minutes, "
+            + "sets, reps, weight, calories_burned, set_details";
+
+    // Monday first; gyms are busiest early in the week
+    private static final double[] WEEKDAY_FACTORS = {1.2, 1.15, 1.1, 1.05, 0.85, 0.8, 0.85};
+    private static final String[] FREEFORM_CATEGORIES = {"CHEST", "BACK", "QUADS", "SHOULDERS", "BICEPS",
+            "TRICEPS", "HAMSTRINGS", "GLUTES", "CORE", "CARDIO"};
+
+    record Entry(int exerciseId, int durationMinutes, Integer sets, Integer reps, Integer weight,
+                 int caloriesBurned, String setDetails, int totalSets, int totalReps) {
+    }
+
+    record Workout(long id, long userId, Long planDayId, Instant createdAt, LocalDate localDate, List<Entry> entries) {
+
+        int duration() {
+            return entries.stream().mapToInt(Entry::durationMinutes).sum();
+        }
+
+        int calories() {
+            return entries.stream().mapToInt(Entry::caloriesBurned).sum();
+        }
+
+        int sets() {
+            return entries.stream().mapToInt(Entry::totalSets).sum();
+        }
+
+        int reps() {
+            return entries.stream().mapToInt(Entry::totalReps).sum();
+        }
+    }
+
+    private final Population population;
+
+    WorkoutRows(Population population) {
+        this.population = population;
+    }
+
+    void logs(CopyWriter out) {
+        generate(workout -> out.value(workout.id())
+                .value(workout.userId())
+                .value(workout.planDayId())
+                .value(workout.createdAt())
+                .value(workout.localDate())
+                .value(workout.duration())
+                .value(workout.calories())
+                .value(workout.sets())
+                .value(workout.reps())
+                .endRow());
+    }
+
+    void exercises(CopyWriter out) {
+        generate(workout -> {
+            for (Entry entry : workout.entries()) {
+                out.value(workout.id())
+                        .value(workout.userId())
+                        .value(workout.createdAt())
+                        .value(entry.exerciseId())
+                        .value(entry.durationMinutes())
+                        .value(entry.sets())
+                        .value(entry.reps())
+                        .value(entry.weight())
+                        .value(entry.caloriesBurned())
+                        .value(entry.setDetails())
+                        .endRow();
+            }
+        });
+    }
+
+    void generate(Consumer<Workout> sink) {
+        // Per-user position in the walk; the walk's order is fixed, so these replay identically
+        int[] sessions = new int[population.size()];
+        int[] planSessions = new int[population.size()];
+        long[] sessionPlan = new long[population.size()];
+        long id = 0;
+        for (int day = 0; day < population.days(); day++) {
+            LocalDate date = population.date(day);
+            double weekday = WEEKDAY_FACTORS[date.getDayOfWeek().ordinal()];
+            for (long userId = 1; userId <= population.signedUpBy(day); userId++) {
+                UserTraits user = population.user(userId);
+                if (!user.activeOn(day) || user.workoutsPerWeek() == 0) {
+                    continue;
+                }
+                Rng rng = population.rng(Rng.Channel.WORKOUTS, userId, day);
+                if (!rng.chance(user.workoutsPerWeek() / 7 * weekday)) {
+                    continue;
+                }
+                int u = (int) userId - 1;
+                double progress = 1 + 0.25 * (1 - Math.exp(-sessions[u]++ / 40.0));
+                int second = (int) Math.min(23 * 3600, Math.max(5 * 3600,
+                        rng.gaussian(user.workoutHour() + 0.5, 1) * 3600));
+
+                Plan plan = population.activePlan(user, day);
+                Long planDayId = null;
+                List<Entry> entries;
+                if (plan != null && rng.chance(0.75)) {
+                    if (sessionPlan[u] != plan.id()) {
+                        sessionPlan[u] = plan.id();
+                        planSessions[u] = 0;
+                    }
+                    int dayNumber = planSessions[u]++ % plan.dayCount() + 1;
+                    planDayId = plan.dayId(dayNumber);
+                    entries = new ArrayList<>();
+                    for (Population.PlannedExercise planned : population.plannedExercises(user, plan, dayNumber)) {
+                        entries.add(entry(rng, planned.exerciseId(), planned.category(), planned.targetSets(),
+                                planned.targetReps(), planned.targetWeight() * progress, true));
+                    }
+                } else {
+                    entries = freeform(rng, user, progress);
+                }
+                sink.accept(new Workout(++id, userId, planDayId, population.at(user, day, second), date, entries));
+            }
+        }
+    }
+
+    private List<Entry> freeform(Rng rng, UserTraits user, double progress) {
+        // One in five freeform sessions is a single cardio activity
+        if (rng.chance(0.2)) {
+            return List.of(entry(rng, population.exercises().pick(rng, "CARDIO"), "CARDIO", 1, 0, 0, false));
+        }
+        int count = rng.between(3, 6);
+        List<Entry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String category = rng.pick(FREEFORM_CATEGORIES);
+            int sets = rng.between(3, 4);
+            int reps = rng.between(8, 12);
+            double weight = Population.baseWeight(category) * user.strength() * progress;
+            entries.add(entry(rng, population.exercises().pick(rng, category), category, sets, reps, weight,
+                    !rng.chance(0.1)));
+        }
+        return entries;
+    }
+
+    private static Entry entry(Rng rng, int exerciseId, String category, int sets, int reps, double weight,
+                               boolean detailed) {
+        if (category.equals("CARDIO")) {
+            int duration = rng.between(20, 45);
+            return new Entry(exerciseId, duration, null, null, null, duration * 10, null, 0, 0);
+        }
+        int load = Population.roundToFive(weight);
+        int duration = sets * 3 + rng.nextInt(5);
+        int calories = duration * 6;
+        if (!detailed) {
+            return new Entry(exerciseId, duration, sets, reps, load, calories, null, sets, sets * reps);
+        }
+
+        StringBuilder json = new StringBuilder("[");
+        int totalReps = 0;
+        for (int set = 1; set <= sets; set++) {
+            // Fresh on the first set, fading on the later ones
+            int done = Math.max(1, reps + (set == 1 ? 1 : 0) - (set - 1) / 2 + rng.between(-1, 1));
+            boolean completed = set < sets || !rng.chance(0.05);
+            totalReps += done;
+            if (set > 1) {
+                json.append(',');
+            }
+            json.append("{\"setNumber\":").append(set)
+                    .append(",\"reps\":").append(done)
+                    .append(",\"weight\":").append(load)
+                    .append(",\"completed\":").append(completed)
+                    .append(",\"notes\":null}");
+        }
+        json.append(']');
+        return new Entry(exerciseId, duration, sets, reps, load, calories, json.toString(), sets, totalReps);
+    }
+}
@@ -0,0 +1,47 @@
+package com.phillipe.nutrifit.datagen;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CopyWriterTest {
+
+    @Test
+    void writesTabSeparatedRowsWithNulls() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (CopyWriter out = new CopyWriter(bytes)) {
+            out.value(7L).value((Integer) null).value(true).value(82.5).endRow();
+            out.value(Instant.parse("2025-03-01T07:30:00Z")).value(LocalDate.of(2025, 3, 1)).endRow();
+            assertEquals(2, out.rows());
+        }
+
+        assertEquals("7\t\\N\tt\t82.5\n2025-03-01T07:30:00Z\t2025-03-01\n",
+                bytes.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void escapesText() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (CopyWriter out = new CopyWriter(bytes)) {
+            out.value("a\tb\nc\\d\re").value("Crème fraîche").endRow();
+        }
+
+        assertEquals("a\\tb\\nc\\\\d\\re\tCrème fraîche\n", bytes.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void flushesRowsLargerThanTheBuffer() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        String longText = "x".repeat(200_000);
+        try (CopyWriter out = new CopyWriter(bytes)) {
+            out.value(longText).endRow();
+        }
+
+        assertEquals(longText + "\n", bytes.toString(StandardCharsets.UTF_8));
+    }
+}
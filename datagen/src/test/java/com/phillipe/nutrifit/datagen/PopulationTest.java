@@ -0,0 +1,123 @@
+package com.phillipe.nutrifit.datagen;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PopulationTest {
+
+    private static final ExerciseDictionary EXERCISES = new ExerciseDictionary(Map.of(
+            "CHEST", new int[]{1, 2}, "BACK", new int[]{3, 4}, "QUADS", new int[]{5}, "SHOULDERS", new int[]{6},
+            "BICEPS", new int[]{7}, "TRICEPS", new int[]{8}, "HAMSTRINGS", new int[]{9}, "GLUTES", new int[]{10},
+            "CORE", new int[]{11}, "CARDIO", new int[]{12, 13}));
+
+    private static final FoodCatalog CATALOG = new FoodCatalog(List.of(
+            new FoodCatalog.Food(1, "Oats", 389, 16.9, 66.3, 6.9),
+            new FoodCatalog.Food(2, "Chicken breast", 165, 31, 0, 3.6),
+            new FoodCatalog.Food(3, "Rice, white, cooked", 130, 2.7, 28.2, 0.3),
+            new FoodCatalog.Food(4, "Banana", 89, 1.1, 22.8, 0.3)), 42);
+
+    @Test
+    void sameSeedGivesSameRows() {
+        assertArrayEquals(tables("--seed=7"), tables("--seed=7"));
+    }
+
+    @Test
+    void differentSeedGivesDifferentRows() {
+        assertFalse(new String(tables("--seed=7")).equals(new String(tables("--seed=8"))));
+    }
+
+    @Test
+    void usersSignUpInIdOrder() {
+        Population population = population("--seed=7");
+
+        for (long id = 2; id <= population.size(); id++) {
+            assertTrue(population.user(id - 1).signupDay() <= population.user(id).signupDay());
+        }
+        assertEquals(population.size(), population.signedUpBy(population.days() - 1));
+    }
+
+    @Test
+    void workoutsFollowTheUsersOwnPlans() {
+        Population population = population("--seed=7");
+        long[] planOwners = new long[(int) population.planDayCount() + 1];
+        for (long userId = 1; userId <= population.size(); userId++) {
+            UserTraits user = population.user(userId);
+            for (int p = 0; p < user.planCount(); p++) {
+                Plan plan = population.plan(user, p);
+                for (int day = 1; day <= plan.dayCount(); day++) {
+                    planOwners[(int) plan.dayId(day)] = userId;
+                }
+            }
+        }
+
+        new WorkoutRows(population).generate(workout -> {
+            assertTrue(population.user(workout.userId()).activeOn((int) (workout.localDate().toEpochDay()
+                    - population.date(0).toEpochDay())));
+            if (workout.planDayId() != null) {
+                assertEquals(workout.userId(), planOwners[workout.planDayId().intValue()]);
+            }
+        });
+    }
+
+    @Test
+    void mealTotalsAreTheSumOfTheirFoods() {
+        Population population = population("--seed=7");
+
+        new MealRows(population, CATALOG).generate(meal -> {
+            assertFalse(meal.foods().isEmpty());
+            assertEquals(meal.foods().stream().mapToInt(MealRows.MealFood::calories).sum(), meal.calories());
+        });
+    }
+
+    @Test
+    void localUsernamesAreTheAccountsWithoutGoogle() {
+        Population population = population("--seed=7");
+
+        // Listed without an exercise dictionary, as --local-users-file does
+        List<String> local = new UserRows(
+                new Population(GeneratorOptions.parse("--users=300", "--days=60", "--seed=7"), null)).localUsernames();
+
+        for (long id = 1; id <= population.size(); id++) {
+            assertEquals(!population.user(id).google(), local.contains(UserRows.username(id)));
+        }
+        assertTrue(local.size() < population.size());
+    }
+
+    private static Population population(String seed) {
+        return new Population(GeneratorOptions.parse("--users=300", "--days=60", seed), EXERCISES);
+    }
+
+    /** Every table the generator writes, concatenated. */
+    private static byte[] tables(String seed) {
+        Population population = population(seed);
+        UserRows users = new UserRows(population);
+        PlanRows plans = new PlanRows(population);
+        WorkoutRows workouts = new WorkoutRows(population);
+        MeasurementRows measurements = new MeasurementRows(population);
+        MealRows meals = new MealRows(population, CATALOG);
+        RecipeRows recipes = new RecipeRows(population, meals);
+        TemplateRows templates = new TemplateRows(population, meals);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        List<Consumer<CopyWriter>> writers = List.of(out -> users.users(out, "hash"), users::profiles,
+                plans::plans, plans::days, plans::exercises, workouts::logs, workouts::exercises,
+                measurements::measurements, measurements::history, meals::meals, meals::foods,
+                recipes::recipes, recipes::ingredients, templates::templates, templates::foods);
+        for (Consumer<CopyWriter> writer : writers) {
+            // Closing a ByteArrayOutputStream has no effect, so every table can close it
+            try (CopyWriter out = new CopyWriter(bytes)) {
+                writer.accept(out);
+            }
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -12,6 +12,8 @@ api.interceptors.request.use((config) => {
   if (token) {
     config.headers.Authorization = `Bearer ${token}`;
   }
+  // Lets the nutrition service count meals towards the user's local day
+  config.headers['X-Time-Zone'] = Intl.DateTimeFormat().resolvedOptions().timeZone;
   return config;
 });
 
@@ -0,0 +1,7 @@
+import api from './axios';
+import type { DashboardResponse } from '../types';
+
+export const getDashboard = async (): Promise<DashboardResponse> => {
+  const response = await api.get<DashboardResponse>('/dashboard');
+  return response.data;
+};
@@ -1,5 +1,17 @@
 import { describe, it, expect } from 'vitest';
-import { createMeal, getMyMeals } from './meals';
+import {
+  applyMealTemplate,
+  copyMealsFromDay,
+  createMeal,
+  createRecipe,
+  getFood,
+  getMyMealTemplates,
+  getMyMeals,
+  getMyRecipes,
+  getRecentFoods,
+  getRecipe,
+  searchFoods,
+} from './meals';
 
 describe('meals API', () => {
   describe('getMyMeals', () => {
@@ -172,4 +184,91 @@ describe('meals API', () => {
       expect(response.createdAt).toMatch(/^\d{4}-\d{2}-\d{2}T\d{2}:\d{2}:\d{2}/);
     });
   });
+
+  describe('searchFoods', () => {
+    it('returns catalog foods matching the query', async () => {
+      const foods = await searchFoods('chicken');
+
+      expect(foods).toHaveLength(2);
+      expect(foods[0]).toHaveProperty('id');
+      expect(foods[0]).toHaveProperty('calories');
+    });
+  });
+
+  describe('getRecentFoods', () => {
+    it('returns the last logged foods first by default', async () => {
+      const foods = await getRecentFoods();
+
+      expect(foods[0].foodId).toBe(15);
+      expect(foods[0].grams).toBe(150);
+    });
+
+    it('returns the most often logged foods first when asked', async () => {
+      const foods = await getRecentFoods('FREQUENT', 1);
+
+      expect(foods).toHaveLength(1);
+      expect(foods[0].type).toBe('Oatmeal');
+    });
+  });
+
+  describe('getFood', () => {
+    it('returns the catalog food with per-100 g macros', async () => {
+      const food = await getFood(40);
+
+      expect(food.name).toBe('White rice, cooked');
+      expect(food.carbs).toBe(28.2);
+    });
+  });
+
+  describe('createRecipe', () => {
+    it('returns the recipe with per-serving macros', async () => {
+      const recipe = await createRecipe({
+        name: 'Overnight oats',
+        servings: 2,
+        ingredients: [{ type: 'Oats', calories: 380, protein: 13, carbs: 68, fats: 7 }],
+      });
+
+      expect(recipe.id).toBeDefined();
+      expect(recipe.totalCalories).toBe(380);
+      expect(recipe.caloriesPerServing).toBe(190);
+    });
+  });
+
+  describe('getMyRecipes', () => {
+    it('returns array of recipes', async () => {
+      const recipes = await getMyRecipes();
+
+      expect(recipes).toHaveLength(1);
+      expect(recipes[0].ingredients.length).toBeGreaterThan(0);
+    });
+  });
+
+  describe('getRecipe', () => {
+    it('rejects for an unknown recipe', async () => {
+      await expect(getRecipe(404)).rejects.toThrow();
+    });
+  });
+
+  describe('copyMealsFromDay', () => {
+    it('returns the copied meals', async () => {
+      const meals = await copyMealsFromDay('2026-01-28');
+
+      expect(meals.length).toBeGreaterThan(0);
+      expect(meals[0]).toHaveProperty('foods');
+    });
+  });
+
+  describe('meal templates', () => {
+    it('lists templates and applies one as a new meal', async () => {
+      const templates = await getMyMealTemplates();
+      const meal = await applyMealTemplate(templates[0].id);
+
+      expect(meal.totalCalories).toBe(templates[0].totalCalories);
+      expect(meal.foods).toHaveLength(templates[0].foods.length);
+    });
+
+    it('rejects for an unknown template', async () => {
+      await expect(applyMealTemplate(404)).rejects.toThrow();
+    });
+  });
 });
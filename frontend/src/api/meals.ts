@@ -1,16 +1,107 @@
 import api from './axios';
-import type { MealLogRequest, MealLogResponse } from '../types';
+import type {
+  FoodResponse,
+  MealLogPageResponse,
+  MealLogRequest,
+  MealLogResponse,
+  MealQueryParams,
+  MealTemplateResponse,
+  NutritionSummaryParams,
+  NutritionTotalsResponse,
+  RecentFoodResponse,
+  RecipeRequest,
+  RecipeResponse,
+} from '../types';
 
 export const createMeal = async (data: MealLogRequest): Promise<MealLogResponse> => {
   const response = await api.post<MealLogResponse>('/meals', data);
   return response.data;
 };
 
-export const getMyMeals = async (): Promise<MealLogResponse[]> => {
-  const response = await api.get<MealLogResponse[]>('/meals/mine');
+export const getMyMeals = async (params?: MealQueryParams): Promise<MealLogResponse[]> => {
+  const response = await api.get<MealLogResponse[]>('/meals/mine', { params });
+  return response.data;
+};
+
+export const getMyMealsPage = async (
+  params?: MealQueryParams & { cursor?: string; limit?: number },
+): Promise<MealLogPageResponse> => {
+  const response = await api.get<MealLogPageResponse>('/meals/mine/page', { params });
+  return response.data;
+};
+
+export const getNutritionSummary = async (params?: NutritionSummaryParams): Promise<NutritionTotalsResponse[]> => {
+  const response = await api.get<NutritionTotalsResponse[]>('/meals/summary', { params });
   return response.data;
 };
 
 export const deleteMeal = async (id: number): Promise<void> => {
   await api.delete(`/meals/${id}`);
 };
+
+// Copies every meal of day `from` to day `to` (today if omitted); dates are YYYY-MM-DD
+export const copyMealsFromDay = async (from: string, to?: string): Promise<MealLogResponse[]> => {
+  const response = await api.post<MealLogResponse[]>('/meals/copy', null, { params: { from, to } });
+  return response.data;
+};
+
+export const createMealTemplate = async (name: string, mealId: number): Promise<MealTemplateResponse> => {
+  const response = await api.post<MealTemplateResponse>('/meals/templates', { name, mealId });
+  return response.data;
+};
+
+export const getMyMealTemplates = async (): Promise<MealTemplateResponse[]> => {
+  const response = await api.get<MealTemplateResponse[]>('/meals/templates/mine');
+  return response.data;
+};
+
+export const applyMealTemplate = async (id: number): Promise<MealLogResponse> => {
+  const response = await api.post<MealLogResponse>(`/meals/templates/${id}/apply`);
+  return response.data;
+};
+
+export const deleteMealTemplate = async (id: number): Promise<void> => {
+  await api.delete(`/meals/templates/${id}`);
+};
+
+export const searchFoods = async (q: string, limit?: number): Promise<FoodResponse[]> => {
+  const response = await api.get<FoodResponse[]>('/foods/search', { params: { q, limit } });
+  return response.data;
+};
+
+export const getRecentFoods = async (
+  order: 'RECENT' | 'FREQUENT' = 'RECENT',
+  limit?: number
+): Promise<RecentFoodResponse[]> => {
+  const response = await api.get<RecentFoodResponse[]>('/foods/recent', { params: { order, limit } });
+  return response.data;
+};
+
+export const getFood = async (id: number): Promise<FoodResponse> => {
+  const response = await api.get<FoodResponse>(`/foods/${id}`);
+  return response.data;
+};
+
+export const createRecipe = async (data: RecipeRequest): Promise<RecipeResponse> => {
+  const response = await api.post<RecipeResponse>('/recipes', data);
+  return response.data;
+};
+
+export const getMyRecipes = async (): Promise<RecipeResponse[]> => {
+  const response = await api.get<RecipeResponse[]>('/recipes/mine');
+  return response.data;
+};
+
+export const getRecipe = async (id: number): Promise<RecipeResponse> => {
+  const response = await api.get<RecipeResponse>(`/recipes/${id}`);
+  return response.data;
+};
+
+export const updateRecipe = async (id: number, data: RecipeRequest): Promise<RecipeResponse> => {
+  const response = await api.put<RecipeResponse>(`/recipes/${id}`, data);
+  return response.data;
+};
+
+export const deleteRecipe = async (id: number): Promise<void> => {
+  await api.delete(`/recipes/${id}`);
+};
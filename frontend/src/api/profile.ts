@@ -3,7 +3,11 @@ import type {
   ProfileResponse,
   ProfileUpdateRequest,
   MeasurementRequest,
+  MeasurementForecastResponse,
   MeasurementResponse,
+  MeasurementTrendParams,
+  MeasurementTrendResponse,
+  MeasurementField,
   UserChangeHistoryResponse,
 } from '../types';
 
@@ -38,6 +42,25 @@ export const getLatestMeasurement = async (): Promise<MeasurementResponse | null
   return response.data;
 };
 
+export const getMeasurementTrends = async (
+  params: MeasurementTrendParams = {}
+): Promise<MeasurementTrendResponse> => {
+  const response = await api.get<MeasurementTrendResponse>('/measurements/trends', {
+    params: { ...params, fields: params.fields?.join(',') },
+  });
+  return response.data;
+};
+
+export const getMeasurementForecast = async (
+  field: MeasurementField = 'weightKg',
+  target?: number
+): Promise<MeasurementForecastResponse> => {
+  const response = await api.get<MeasurementForecastResponse>('/measurements/forecast', {
+    params: { field, target },
+  });
+  return response.data;
+};
+
 export const deleteMeasurement = async (id: number): Promise<void> => {
   await api.delete(`/measurements/${id}`);
 };
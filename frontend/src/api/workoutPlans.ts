@@ -43,6 +43,11 @@ export const getWorkoutPlanDay = async (dayId: number): Promise<WorkoutPlanDay>
   return response.data;
 };
 
+export const startWorkoutPlanDay = async (dayId: number): Promise<WorkoutPlanDay> => {
+  const response = await api.get<WorkoutPlanDay>(`/workout-plans/days/${dayId}/start`);
+  return response.data;
+};
+
 export const getPredefinedExercises = async (
   category?: ExerciseCategory
 ): Promise<PredefinedExercise[]> => {
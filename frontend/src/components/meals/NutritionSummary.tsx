@@ -1,29 +1,18 @@
-import type { MealLogResponse } from '../../types';
+import { useNutritionSummary } from '../../hooks/useMeals';
 import StatCard from '../ui/StatCard';
 import MacroBar from '../ui/MacroBar';
 
-function isToday(dateStr: string): boolean {
-  const meal = new Date(dateStr);
-  const now = new Date();
-  return meal.toDateString() === now.toDateString();
-}
-
-interface NutritionSummaryProps {
-  meals: MealLogResponse[];
-}
-
-export default function NutritionSummary({ meals }: NutritionSummaryProps) {
-  const todayMeals = meals.filter((m) => isToday(m.createdAt));
-
-  const totals = todayMeals.reduce(
-    (acc, m) => ({
-      calories: acc.calories + m.totalCalories,
-      protein: acc.protein + m.totalProtein,
-      carbs: acc.carbs + m.totalCarbs,
-      fats: acc.fats + m.totalFats,
-    }),
-    { calories: 0, protein: 0, carbs: 0, fats: 0 },
-  );
+export default function NutritionSummary() {
+  // No range means today in the browser's time zone; the service answers from its daily rollup
+  const { data } = useNutritionSummary();
+  const today = data?.[0];
+  const totals = {
+    calories: today?.totalCalories ?? 0,
+    protein: today?.totalProtein ?? 0,
+    carbs: today?.totalCarbs ?? 0,
+    fats: today?.totalFats ?? 0,
+  };
+  const mealCount = today?.mealCount ?? 0;
 
   return (
     <div className="space-y-4">
@@ -36,7 +25,7 @@ export default function NutritionSummary({ meals }: NutritionSummaryProps) {
       </div>
       <MacroBar protein={totals.protein} carbs={totals.carbs} fats={totals.fats} />
       <p className="text-sm text-gray-500">
-        {todayMeals.length} meal{todayMeals.length !== 1 ? 's' : ''} logged today
+        {mealCount} meal{mealCount !== 1 ? 's' : ''} logged today
       </p>
     </div>
   );
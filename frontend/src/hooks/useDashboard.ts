@@ -0,0 +1,9 @@
+import { useQuery } from '@tanstack/react-query';
+import { getDashboard } from '../api/dashboard';
+
+export function useDashboard() {
+  return useQuery({
+    queryKey: ['dashboard'],
+    queryFn: getDashboard,
+  });
+}
@@ -1,6 +1,6 @@
-import { useQuery, useMutation, useQueryClient } from '@tanstack/react-query';
-import { createMeal, getMyMeals, deleteMeal } from '../api/meals';
-import type { MealLogRequest } from '../types';
+import { useQuery, useInfiniteQuery, useMutation, useQueryClient } from '@tanstack/react-query';
+import { createMeal, getMyMeals, getMyMealsPage, getNutritionSummary, deleteMeal } from '../api/meals';
+import type { MealLogRequest, NutritionSummaryParams } from '../types';
 
 export function useMyMeals() {
   return useQuery({
@@ -9,12 +9,28 @@ export function useMyMeals() {
   });
 }
 
+export function useMyMealsPages(limit = 20) {
+  return useInfiniteQuery({
+    queryKey: ['meals', 'mine', 'pages', limit],
+    queryFn: ({ pageParam }) => getMyMealsPage({ cursor: pageParam, limit }),
+    initialPageParam: undefined as string | undefined,
+    getNextPageParam: (lastPage) => lastPage.nextCursor ?? undefined,
+  });
+}
+
+export function useNutritionSummary(params: NutritionSummaryParams = {}) {
+  return useQuery({
+    queryKey: ['meals', 'summary', params],
+    queryFn: () => getNutritionSummary(params),
+  });
+}
+
 export function useCreateMeal() {
   const queryClient = useQueryClient();
   return useMutation({
     mutationFn: (data: MealLogRequest) => createMeal(data),
     onSuccess: () => {
-      queryClient.invalidateQueries({ queryKey: ['meals', 'mine'] });
+      queryClient.invalidateQueries({ queryKey: ['meals'] });
     },
   });
 }
@@ -24,7 +40,7 @@ export function useDeleteMeal() {
   return useMutation({
     mutationFn: (id: number) => deleteMeal(id),
     onSuccess: () => {
-      queryClient.invalidateQueries({ queryKey: ['meals', 'mine'] });
+      queryClient.invalidateQueries({ queryKey: ['meals'] });
     },
   });
 }
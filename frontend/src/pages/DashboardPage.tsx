@@ -1,7 +1,6 @@
 import { Link } from 'react-router-dom';
 import { useAuth } from '../hooks/useAuth';
-import { useMyMeals } from '../hooks/useMeals';
-import { useMyWorkouts } from '../hooks/useWorkouts';
+import { useDashboard } from '../hooks/useDashboard';
 import NutritionSummary from '../components/meals/NutritionSummary';
 import MealCard from '../components/meals/MealCard';
 import WorkoutCard from '../components/workouts/WorkoutCard';
@@ -10,10 +9,10 @@ import LoadingSpinner from '../components/ui/LoadingSpinner';
 
 export default function DashboardPage() {
   const { username } = useAuth();
-  const { data: meals, isLoading: mealsLoading } = useMyMeals();
-  const { data: workouts, isLoading: workoutsLoading } = useMyWorkouts();
-
-  const isLoading = mealsLoading || workoutsLoading;
+  // One request for the whole page; sections the server couldn't load come back null
+  const { data: dashboard, isLoading } = useDashboard();
+  const meals = dashboard?.meals;
+  const workouts = dashboard?.workouts;
   const mostRecentWorkout = workouts?.[0];
 
   return (
@@ -61,7 +60,7 @@ export default function DashboardPage() {
             </Link>
           </div>
 
-          <NutritionSummary meals={meals || []} />
+          <NutritionSummary />
 
           {/* Recent Workouts */}
           <div>
@@ -1,12 +1,14 @@
 import { useState } from 'react';
 import { Link } from 'react-router-dom';
-import { useMyMeals, useDeleteMeal } from '../hooks/useMeals';
+import { useMyMealsPages, useDeleteMeal } from '../hooks/useMeals';
 import MealTable from '../components/meals/MealTable';
 import LoadingSpinner from '../components/ui/LoadingSpinner';
+import Button from '../components/ui/Button';
 import ConfirmModal from '../components/ui/ConfirmModal';
 
 export default function MealHistoryPage() {
-  const { data: meals, isLoading } = useMyMeals();
+  const { data, isLoading, hasNextPage, fetchNextPage, isFetchingNextPage } = useMyMealsPages();
+  const meals = data?.pages.flatMap((page) => page.items);
   const deleteMeal = useDeleteMeal();
   const [deleteConfirm, setDeleteConfirm] = useState<number | null>(null);
 
@@ -27,7 +29,9 @@ export default function MealHistoryPage() {
       <div>
         <h1 className="text-2xl font-bold text-white">Meal History</h1>
         <p className="text-gray-400 mt-1">
-          {meals ? `${meals.length} meal${meals.length !== 1 ? 's' : ''} logged` : 'Loading...'}
+          {meals
+            ? `${meals.length}${hasNextPage ? '+' : ''} meal${meals.length !== 1 ? 's' : ''} logged`
+            : 'Loading...'}
         </p>
       </div>
 
@@ -53,6 +57,14 @@ export default function MealHistoryPage() {
         />
       )}
 
+      {hasNextPage && (
+        <div className="flex justify-center">
+          <Button variant="secondary" onClick={() => fetchNextPage()} isLoading={isFetchingNextPage}>
+            Load more
+          </Button>
+        </div>
+      )}
+
       <ConfirmModal
         isOpen={deleteConfirm !== null}
         onClose={() => setDeleteConfirm(null)}
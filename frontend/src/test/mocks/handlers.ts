@@ -9,6 +9,11 @@ import type {
   WorkoutLogFromPlanRequest,
   MealLogResponse,
   MealLogRequest,
+  MealTemplateResponse,
+  FoodResponse,
+  RecentFoodResponse,
+  RecipeRequest,
+  RecipeResponse,
   LoginRequest,
   RegisterRequest,
   User,
@@ -16,6 +21,7 @@ import type {
   ProfileUpdateRequest,
   MeasurementResponse,
   MeasurementRequest,
+  DashboardResponse,
 } from '../../types';
 
 const mockWorkouts: WorkoutLogResponse[] = [
@@ -189,6 +195,73 @@ const createMockToken = (username: string): string => {
   return `${header}.${payload}.mock-signature`;
 };
 
+const mockFoods: FoodResponse[] = [
+  { id: 15, name: 'Chicken, breast, roasted, meat only', calories: 165, protein: 31, carbs: 0, fats: 3.6 },
+  { id: 16, name: 'Chicken, thigh, roasted, meat only', calories: 209, protein: 26, carbs: 0, fats: 10.9 },
+  { id: 40, name: 'White rice, cooked', calories: 130, protein: 2.7, carbs: 28.2, fats: 0.3 },
+];
+
+const mockRecentFoods: RecentFoodResponse[] = [
+  {
+    type: 'Chicken, breast, roasted, meat only',
+    calories: 248,
+    protein: 47,
+    carbs: 0,
+    fats: 5,
+    foodId: 15,
+    grams: 150,
+    useCount: 3,
+    lastUsedAt: '2024-01-15T12:30:00Z',
+  },
+  {
+    type: 'Oatmeal',
+    calories: 150,
+    protein: 5,
+    carbs: 27,
+    fats: 3,
+    useCount: 9,
+    lastUsedAt: '2024-01-15T08:00:00Z',
+  },
+];
+
+const mockMealTemplates: MealTemplateResponse[] = [
+  {
+    id: 7,
+    name: 'Usual breakfast',
+    totalCalories: 450,
+    totalProtein: 35,
+    totalCarbs: 45,
+    totalFats: 15,
+    createdAt: '2026-01-28T09:00:00Z',
+    foods: [
+      { type: 'Oatmeal', calories: 150, protein: 5, carbs: 27, fats: 3 },
+      { type: 'Eggs', calories: 200, protein: 24, carbs: 2, fats: 10 },
+      { type: 'Banana', calories: 100, protein: 6, carbs: 16, fats: 2 },
+    ],
+  },
+];
+
+const mockRecipes: RecipeResponse[] = [
+  {
+    id: 3,
+    name: 'Chicken and rice',
+    servings: 2,
+    totalCalories: 590,
+    totalProtein: 67,
+    totalCarbs: 56,
+    totalFats: 8,
+    caloriesPerServing: 295,
+    proteinPerServing: 34,
+    carbsPerServing: 28,
+    fatsPerServing: 4,
+    updatedAt: '2024-01-15T12:00:00Z',
+    ingredients: [
+      { type: 'Chicken, breast, roasted, meat only', calories: 330, protein: 62, carbs: 0, fats: 7, foodId: 15, grams: 200 },
+      { type: 'White rice, cooked', calories: 260, protein: 5, carbs: 56, fats: 1, foodId: 40, grams: 200 },
+    ],
+  },
+];
+
 const mockMeals: MealLogResponse[] = [
   {
     id: 1,
@@ -352,6 +425,119 @@ export const handlers = [
     return HttpResponse.json(mockMeals);
   }),
 
+  http.get('*/api/meals/summary', () => {
+    const totals = mockMeals.reduce(
+      (acc, m) => ({
+        ...acc,
+        totalCalories: acc.totalCalories + m.totalCalories,
+        totalProtein: acc.totalProtein + m.totalProtein,
+        totalCarbs: acc.totalCarbs + m.totalCarbs,
+        totalFats: acc.totalFats + m.totalFats,
+        mealCount: acc.mealCount + 1,
+      }),
+      {
+        periodStart: new Date().toISOString().slice(0, 10),
+        totalCalories: 0,
+        totalProtein: 0,
+        totalCarbs: 0,
+        totalFats: 0,
+        mealCount: 0,
+      },
+    );
+    return HttpResponse.json(totals.mealCount > 0 ? [totals] : []);
+  }),
+
+  http.get('*/api/foods/search', ({ request }) => {
+    const q = (new URL(request.url).searchParams.get('q') ?? '').toLowerCase();
+    return HttpResponse.json(mockFoods.filter((f) => f.name.toLowerCase().includes(q)));
+  }),
+
+  http.get('*/api/foods/recent', ({ request }) => {
+    const params = new URL(request.url).searchParams;
+    const foods = params.get('order') === 'FREQUENT'
+      ? [...mockRecentFoods].sort((a, b) => b.useCount - a.useCount)
+      : mockRecentFoods;
+    return HttpResponse.json(foods.slice(0, Number(params.get('limit') ?? 20)));
+  }),
+
+  http.get('*/api/foods/:id', ({ params }) => {
+    const food = mockFoods.find((f) => f.id === Number(params.id));
+    if (!food) {
+      return new HttpResponse(null, { status: 404 });
+    }
+    return HttpResponse.json(food);
+  }),
+
+  http.post('*/api/meals/copy', () => {
+    return HttpResponse.json(mockMeals.map((meal, idx) => ({ ...meal, id: Date.now() + idx })));
+  }),
+
+  http.get('*/api/meals/templates/mine', () => {
+    return HttpResponse.json(mockMealTemplates);
+  }),
+
+  http.post('*/api/meals/templates/:id/apply', ({ params }) => {
+    const template = mockMealTemplates.find((t) => t.id === Number(params.id));
+    if (!template) {
+      return new HttpResponse(null, { status: 404 });
+    }
+    const response: MealLogResponse = {
+      id: Date.now(),
+      createdAt: new Date().toISOString(),
+      totalCalories: template.totalCalories,
+      totalProtein: template.totalProtein,
+      totalCarbs: template.totalCarbs,
+      totalFats: template.totalFats,
+      foods: template.foods,
+    };
+    return HttpResponse.json(response);
+  }),
+
+  http.get('*/api/recipes/mine', () => {
+    return HttpResponse.json(mockRecipes);
+  }),
+
+  http.get('*/api/recipes/:id', ({ params }) => {
+    const recipe = mockRecipes.find((r) => r.id === Number(params.id));
+    if (!recipe) {
+      return new HttpResponse(null, { status: 404 });
+    }
+    return HttpResponse.json(recipe);
+  }),
+
+  http.post('*/api/recipes', async ({ request }) => {
+    const body = (await request.json()) as RecipeRequest;
+    const totalCalories = body.ingredients.reduce((sum, food) => sum + (food.calories ?? 0), 0);
+    const totalProtein = body.ingredients.reduce((sum, food) => sum + (food.protein ?? 0), 0);
+    const totalCarbs = body.ingredients.reduce((sum, food) => sum + (food.carbs ?? 0), 0);
+    const totalFats = body.ingredients.reduce((sum, food) => sum + (food.fats ?? 0), 0);
+
+    const response: RecipeResponse = {
+      id: Date.now(),
+      name: body.name,
+      servings: body.servings,
+      totalCalories,
+      totalProtein,
+      totalCarbs,
+      totalFats,
+      caloriesPerServing: Math.round(totalCalories / body.servings),
+      proteinPerServing: Math.round(totalProtein / body.servings),
+      carbsPerServing: Math.round(totalCarbs / body.servings),
+      fatsPerServing: Math.round(totalFats / body.servings),
+      updatedAt: new Date().toISOString(),
+      ingredients: body.ingredients,
+    };
+    return HttpResponse.json(response);
+  }),
+
+  http.delete('*/api/recipes/:id', () => {
+    return new HttpResponse(null, { status: 204 });
+  }),
+
+  http.get('*/api/meals/mine/page', () => {
+    return HttpResponse.json({ items: mockMeals, nextCursor: null });
+  }),
+
   http.post('*/api/meals', async ({ request }) => {
     const body = (await request.json()) as MealLogRequest;
 
@@ -518,6 +704,19 @@ export const handlers = [
     return HttpResponse.json(mockCategories);
   }),
 
+  // Dashboard
+  http.get('*/api/dashboard', () => {
+    const dashboard: DashboardResponse = {
+      profile: mockProfile,
+      latestMeasurement: mockMeasurements[0] ?? null,
+      plans: mockWorkoutPlans,
+      workouts: mockWorkouts,
+      meals: mockMeals,
+      failedSections: {},
+    };
+    return HttpResponse.json(dashboard);
+  }),
+
   // Profile
   http.get('*/api/profile', () => {
     return HttpResponse.json(mockProfile);
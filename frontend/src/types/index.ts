@@ -28,6 +28,62 @@ export interface FoodItem {
   protein: number | null;
   carbs: number | null;
   fats: number | null;
+  // Set for foods picked from the catalog; the server then computes the macros from the portion
+  foodId?: number | null;
+  grams?: number | null;
+  // Set for servings of a saved recipe; the server uses the recipe's cached totals
+  recipeId?: number | null;
+  servings?: number | null;
+}
+
+// A food the user logs, as last logged; its FoodItem fields can be logged again as is
+export interface RecentFoodResponse extends Omit<FoodItem, 'id'> {
+  useCount: number;
+  lastUsedAt: string;
+}
+
+// Catalog entry; macros are per 100 g
+export interface FoodResponse {
+  id: number;
+  name: string;
+  calories: number;
+  protein: number;
+  carbs: number;
+  fats: number;
+}
+
+export interface RecipeRequest {
+  name: string;
+  servings: number;
+  ingredients: FoodItem[];
+}
+
+export interface RecipeResponse {
+  id: number;
+  name: string;
+  servings: number;
+  totalCalories: number;
+  totalProtein: number;
+  totalCarbs: number;
+  totalFats: number;
+  caloriesPerServing: number;
+  proteinPerServing: number;
+  carbsPerServing: number;
+  fatsPerServing: number;
+  updatedAt: string;
+  ingredients: FoodItem[];
+}
+
+// A saved copy of a logged meal's foods, re-logged in one call with applyMealTemplate
+export interface MealTemplateResponse {
+  id: number;
+  name: string;
+  totalCalories: number;
+  totalProtein: number;
+  totalCarbs: number;
+  totalFats: number;
+  createdAt: string;
+  foods: FoodItem[];
 }
 
 export interface MealLogRequest {
@@ -44,6 +100,33 @@ export interface MealLogResponse {
   foods: FoodItem[];
 }
 
+export interface MealLogPageResponse {
+  items: MealLogResponse[];
+  nextCursor: string | null;
+}
+
+export type SummaryPeriod = 'DAY' | 'WEEK' | 'MONTH';
+
+export interface NutritionTotalsResponse {
+  periodStart: string;
+  totalCalories: number;
+  totalProtein: number;
+  totalCarbs: number;
+  totalFats: number;
+  mealCount: number;
+}
+
+export interface NutritionSummaryParams {
+  period?: SummaryPeriod;
+  from?: string;
+  to?: string;
+}
+
+export interface MealQueryParams {
+  from?: string;
+  to?: string;
+}
+
 // === Workouts ===
 
 export interface SetItem {
@@ -113,6 +196,27 @@ export interface WorkoutPlanExercise {
   targetSets: number | null;
   targetReps: number | null;
   targetWeight: number | null;
+  lastPerformance?: LastPerformance | null;
+  recommendation?: NextTarget | null;
+}
+
+export interface NextTarget {
+  sets: number | null;
+  reps: number | null;
+  weight: number | null;
+  estimatedOneRepMax: number | null;
+  deload: boolean;
+  stallCount: number;
+}
+
+export interface LastPerformance {
+  workoutLogId: number;
+  performedAt: string;
+  durationMinutes: number | null;
+  sets: number | null;
+  reps: number | null;
+  weight: number | null;
+  setDetails: SetItem[] | null;
 }
 
 export interface WorkoutPlanDay {
@@ -201,6 +305,51 @@ export interface MeasurementResponse {
   notes: string | null;
 }
 
+export type MeasurementField = Exclude<keyof MeasurementRequest, 'notes'>;
+
+export type TrendResolution = 'DAY' | 'WEEK' | 'MONTH';
+
+export interface MeasurementTrendParams {
+  fields?: MeasurementField[];
+  resolution?: TrendResolution;
+  from?: string;
+  to?: string;
+  window?: number;
+  points?: number;
+}
+
+export interface MeasurementTrendPoint {
+  bucket: string;
+  value: number;
+  movingAverage: number;
+  samples: number;
+}
+
+export interface MeasurementTrendSeries {
+  field: MeasurementField;
+  totalPoints: number;
+  points: MeasurementTrendPoint[];
+}
+
+export interface MeasurementTrendResponse {
+  resolution: TrendResolution;
+  window: number;
+  series: MeasurementTrendSeries[];
+}
+
+export interface MeasurementForecastResponse {
+  field: MeasurementField;
+  samples: number;
+  asOf: string;
+  current: number | null;
+  recentAverage: number | null;
+  weeklyRate: number | null;
+  overallWeeklyRate: number | null;
+  rSquared: number | null;
+  target: number | null;
+  projectedTargetDate: string | null;
+}
+
 // === Change History ===
 
 export interface UserChangeHistoryResponse {
@@ -212,3 +361,16 @@ export interface UserChangeHistoryResponse {
   newValue: string | null;
   changedAt: string;
 }
+
+// === Dashboard ===
+
+export type DashboardSection = 'profile' | 'latestMeasurement' | 'plans' | 'workouts' | 'meals';
+
+export interface DashboardResponse {
+  profile: ProfileResponse | null;
+  latestMeasurement: MeasurementResponse | null;
+  plans: WorkoutPlanResponse[] | null;
+  workouts: WorkoutLogResponse[] | null;
+  meals: MealLogResponse[] | null;
+  failedSections: Partial<Record<DashboardSection, string>>;
+}
@@ -11,6 +11,14 @@ export default defineConfig({
         target: 'http://localhost:8081',
         changeOrigin: true,
       },
+      '/api/foods': {
+        target: 'http://localhost:8081',
+        changeOrigin: true,
+      },
+      '/api/recipes': {
+        target: 'http://localhost:8081',
+        changeOrigin: true,
+      },
       // main backend (auth, fitness, profile, OAuth2)
       '/api': {
         target: 'http://localhost:8080',
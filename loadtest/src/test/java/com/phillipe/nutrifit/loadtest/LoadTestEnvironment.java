@@ -0,0 +1,202 @@
+package com.phillipe.nutrifit.loadtest;
+
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.NginxContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.output.Slf4jLogConsumer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.images.builder.ImageFromDockerfile;
+import org.testcontainers.images.builder.Transferable;
+import org.testcontainers.utility.MountableFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * The stack under test: Postgres with both databases, the backend and nutrition-service images
+ * built from their Dockerfiles, and nginx routing between them with the rules of
+ * nginx/nginx.conf. Once both services have migrated their schemas, datagen fills the
+ * databases. Images are kept after the run, so only changed sources are rebuilt next time.
+ */
+final class LoadTestEnvironment implements AutoCloseable {
+
+    private static final Path ROOT = Path.of("..").toAbsolutePath().normalize();
+    private static final String JWT_SECRET = "loadtest-secret-key-that-is-long-enough-for-hs256";
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(5);
+    private static final Path LOCAL_USERS = Path.of("target", "loadtest", "local-users.txt");
+
+    private final String baseUrl;
+    private final String backendMetricsUrl;
+    private final String nutritionMetricsUrl;
+    private final List<GenericContainer<?>> containers;
+    private final Network network;
+
+    private LoadTestEnvironment(String baseUrl, String backendMetricsUrl, String nutritionMetricsUrl,
+                                List<GenericContainer<?>> containers, Network network) {
+        this.baseUrl = baseUrl;
+        this.backendMetricsUrl = backendMetricsUrl;
+        this.nutritionMetricsUrl = nutritionMetricsUrl;
+        this.containers = containers;
+        this.network = network;
+    }
+
+    static LoadTestEnvironment start(LoadTestOptions options) {
+        if (options.external()) {
+            return new LoadTestEnvironment(options.baseUrl(), options.backendMetricsUrl(),
+                    options.nutritionMetricsUrl(), List.of(), null);
+        }
+
+        Network network = Network.newNetwork();
+        PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+                .withDatabaseName("nutrifit")
+                .withUsername("nutrifit")
+                .withPassword("nutrifit")
+                .withCopyFileToContainer(MountableFile.forHostPath(ROOT.resolve("backend/scripts/init-multiple-dbs.sh")),
+                        "/docker-entrypoint-initdb.d/init-dbs.sh")
+                .withNetwork(network)
+                .withNetworkAliases("postgres");
+        postgres.start();
+
+        String poolSize = String.valueOf(options.poolSize());
+        GenericContainer<?> nutrition = service("nutrition-service", 8081, network, "nutrition", Map.of(
+                "SPRING_DATASOURCE_URL", "jdbc:postgresql://postgres:5432/nutrifit_nutrition",
+                "SPRING_DATASOURCE_HIKARI_MAXIMUM_POOL_SIZE", poolSize,
+                "SPRING_DATASOURCE_HIKARI_MINIMUM_IDLE", poolSize));
+        GenericContainer<?> backend = service("backend", 8080, network, "backend", Map.of(
+                "SPRING_DATASOURCE_URL", "jdbc:postgresql://postgres:5432/nutrifit",
+                "DB_POOL_SIZE", poolSize,
+                "NUTRITION_BASE_URL", "http://nutrition:8081/api",
+                // Every visit is one user; the limit would otherwise throttle the busiest of them
+                "RATE_LIMIT_GENERAL_PER_MINUTE", "1000000",
+                // OAuth login isn't exercised, but the client registration must not be empty
+                "GOOGLE_CLIENT_ID", "loadtest",
+                "GOOGLE_CLIENT_SECRET", "loadtest"));
+        nutrition.start();
+        backend.start();
+
+        NginxContainer<?> nginx = new NginxContainer<>("nginx:1.27-alpine")
+                .withCopyToContainer(Transferable.of(routing()), "/etc/nginx/conf.d/default.conf")
+                .withNetwork(network)
+                .waitingFor(Wait.forHttp("/api/health").forStatusCode(200));
+        nginx.start();
+
+        seed(options, postgres);
+
+        return new LoadTestEnvironment(
+                "http://" + nginx.getHost() + ":" + nginx.getMappedPort(80),
+                metricsUrl(backend, 8080),
+                metricsUrl(nutrition, 8081),
+                List.of(nginx, backend, nutrition, postgres),
+                network);
+    }
+
+    String baseUrl() {
+        return baseUrl;
+    }
+
+    String backendMetricsUrl() {
+        return backendMetricsUrl;
+    }
+
+    String nutritionMetricsUrl() {
+        return nutritionMetricsUrl;
+    }
+
+    @Override
+    public void close() {
+        containers.forEach(GenericContainer::stop);
+        if (network != null) {
+            network.close();
+        }
+    }
+
+    private static GenericContainer<?> service(String module, int port, Network network, String alias,
+                                               Map<String, String> env) {
+        return new GenericContainer<>(new ImageFromDockerfile("nutrifit-" + module + "-loadtest", false)
+                .withFileFromPath(".", ROOT.resolve(module)))
+                .withEnv(env)
+                .withEnv("SPRING_DATASOURCE_USERNAME", "nutrifit")
+                .withEnv("SPRING_DATASOURCE_PASSWORD", "nutrifit")
+                .withEnv("JWT_SECRET", JWT_SECRET)
+                .withEnv("CORS_ALLOWED_ORIGINS", "http://localhost")
+                // Pool gauges for PoolSampler
+                .withEnv("MANAGEMENT_ENDPOINTS_WEB_EXPOSURE_INCLUDE", "health,metrics")
+                .withExposedPorts(port)
+                .withNetwork(network)
+                .withNetworkAliases(alias)
+                .withLogConsumer(new Slf4jLogConsumer(LoggerFactory.getLogger(module)))
+                .waitingFor(Wait.forHttp("/api/actuator/health").forStatusCode(200)
+                        .withStartupTimeout(STARTUP_TIMEOUT));
+    }
+
+    // The repo's routing rules, pointed at the service containers instead of the Docker host
+    private static String routing() {
+        try {
+            return Files.readString(ROOT.resolve("nginx/nginx.conf"))
+                    .replace("host.docker.internal:8080", "backend:8080")
+                    .replace("host.docker.internal:8081", "nutrition:8081");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String metricsUrl(GenericContainer<?> service, int port) {
+        return "http://" + service.getHost() + ":" + service.getMappedPort(port) + "/api/actuator/metrics";
+    }
+
+    /** Runs datagen against the migrated databases, with history up to today. */
+    private static void seed(LoadTestOptions options, PostgreSQLContainer<?> postgres) {
+        String jdbc = "jdbc:postgresql://" + postgres.getHost() + ":" + postgres.getMappedPort(5432) + "/";
+        datagen(options,
+                "--end-date=" + LocalDate.now(),
+                "--backend-url=" + jdbc + "nutrifit",
+                "--nutrition-url=" + jdbc + "nutrifit_nutrition",
+                "--user-password=" + options.password());
+    }
+
+    /**
+     * Usernames of the generated accounts that log in with the password, as datagen lists them
+     * for the options' users and seed; the others are Google accounts.
+     */
+    static List<String> localUsers(LoadTestOptions options) {
+        Path file = LOCAL_USERS.toAbsolutePath();
+        datagen(options, "--local-users-file=" + file);
+        try {
+            return Files.readAllLines(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void datagen(LoadTestOptions options, String... arguments) {
+        String mvnw = System.getProperty("os.name").startsWith("Windows") ? "mvnw.cmd" : "./mvnw";
+        String allArguments = String.join(" ", Stream.concat(Stream.of(
+                "--users=" + options.users(),
+                "--days=" + options.days(),
+                "--seed=" + options.seed()), Stream.of(arguments)).toList());
+        try {
+            Process datagen = new ProcessBuilder(mvnw, "-B", "-q", "spring-boot:run",
+                    "-Dspring-boot.run.arguments=" + allArguments)
+                    .directory(ROOT.resolve("datagen").toFile())
+                    .inheritIO()
+                    .start();
+            if (datagen.waitFor() != 0) {
+                throw new IllegalStateException("datagen exited with " + datagen.exitValue());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while running datagen", e);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.phillipe.nutrifit.loadtest;
+
+/**
+ * Options, as {@code -Dloadtest.<name>=value} system properties on the Maven command line:
+ * <pre>
+ * ./mvnw verify -Dloadtest.rate=50 -Dloadtest.duration=600
+ * </pre>
+ * Without {@code base-url} the whole stack is started in containers and seeded with
+ * {@code users} generated users. With it, an already running stack is tested instead, e.g. the
+ * root docker-compose.yml behind nginx, whose users must have been generated by datagen with
+ * the same {@code users}, {@code password} and {@code seed}; pool saturation is then only
+ * sampled when the metrics URLs are given and reachable. Either way the visits sign in as the
+ * generated accounts that have a password, which datagen lists for the seed.
+ */
+record LoadTestOptions(
+        // nginx entry point of a running stack; empty starts one in containers
+        String baseUrl,
+        // Actuator metrics endpoints, e.g. http://localhost:8080/api/actuator/metrics
+        String backendMetricsUrl,
+        String nutritionMetricsUrl,
+        // Generated users the visits are spread over: user1 .. user<users>
+        int users,
+        String password,
+        // datagen's seed, which decides among other things which users are Google accounts
+        long seed,
+        // Days of history generated per user
+        int days,
+        // New visits per second once ramped up, and how long that rate is held
+        double rate,
+        int rampSeconds,
+        int durationSeconds,
+        // Hikari pool size of each service started in containers
+        int poolSize
+) {
+
+    static LoadTestOptions fromSystemProperties() {
+        LoadTestOptions options = new LoadTestOptions(
+                property("base-url", ""),
+                property("backend-metrics-url", ""),
+                property("nutrition-metrics-url", ""),
+                Integer.parseInt(property("users", "1000")),
+                property("password", "password123"),
+                Long.parseLong(property("seed", "42")),
+                Integer.parseInt(property("days", "90")),
+                Double.parseDouble(property("rate", "10")),
+                Integer.parseInt(property("ramp", "60")),
+                Integer.parseInt(property("duration", "300")),
+                Integer.parseInt(property("pool-size", "10")));
+        if (options.users() < 1 || options.rate() <= 0 || options.durationSeconds() < 1 || options.poolSize() < 1) {
+            throw new IllegalArgumentException("loadtest.users, rate, duration and pool-size must be positive");
+        }
+        return options;
+    }
+
+    boolean external() {
+        return !baseUrl.isBlank();
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+}
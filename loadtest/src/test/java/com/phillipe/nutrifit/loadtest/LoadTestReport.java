@@ -0,0 +1,135 @@
+package com.phillipe.nutrifit.loadtest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Sums up a run in target/loadtest/summary.json so runs can be compared: per endpoint, the
+ * requests that succeeded and failed, throughput and response-time percentiles from the newest
+ * Gatling report, next to the pool samples the simulation wrote. Runs after the simulation and
+ * fails the build when it crashed or when {@value #MAX_FAILED_PERCENT}% of requests or more
+ * failed; Gatling itself doesn't, so that failed runs get a summary too.
+ */
+public final class LoadTestReport {
+
+    static final double MAX_FAILED_PERCENT = 1.0;
+    static final String ALL_REQUESTS = "All Requests";
+
+    private static final Path GATLING = Path.of("target", "gatling");
+    private static final Path OUTPUT = Path.of("target", "loadtest");
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    // Rows of the statistics table in the report's index.html: the request name, then a cell per column
+    private static final Pattern ROW = Pattern.compile("class=\"ellipsed-name\">([^<]*)</span>(.*?)</tr>", Pattern.DOTALL);
+    private static final Pattern CELL = Pattern.compile("<td class=\"value [^\"]*\">([^<]*)</td>");
+    private static final List<String> COLUMNS = List.of(
+            "requests", "ok", "ko", "koPercent", "throughput", "min", "p50", "p75", "p95", "p99", "max", "mean", "stdDev");
+    private static final List<String> SUMMARIZED = List.of("requests", "ok", "ko", "throughput", "p50", "p95", "p99", "max");
+
+    private LoadTestReport() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path pools = OUTPUT.resolve("pools.json");
+        if (!Files.exists(pools)) {
+            throw new IllegalStateException("The simulation didn't finish; see its output above");
+        }
+        Path report = reportAfter(pools).resolve("index.html");
+        Map<String, Map<String, Double>> requests = requests(Files.readString(report));
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("report", report.toAbsolutePath().toString());
+        summary.put("options", LoadTestOptions.fromSystemProperties());
+        summary.put("requests", requests);
+        summary.put("pools", Files.exists(pools)
+                ? MAPPER.readValue(pools.toFile(), new TypeReference<Map<String, Object>>() { })
+                : Map.of());
+        Files.createDirectories(OUTPUT);
+        MAPPER.writeValue(OUTPUT.resolve("summary.json").toFile(), summary);
+
+        System.out.printf("%-40s %9s %7s %8s %7s %7s %7s %7s%n", "Request", "Count", "KO", "req/s", "p50", "p95", "p99", "max");
+        requests.forEach((name, stats) -> System.out.printf("%-40s %9.0f %7.0f %8.2f %7.0f %7.0f %7.0f %7.0f%n", name,
+                stats.get("requests"), stats.get("ko"), stats.get("throughput"),
+                stats.get("p50"), stats.get("p95"), stats.get("p99"), stats.get("max")));
+        System.out.println("Summary written to " + OUTPUT.resolve("summary.json").toAbsolutePath());
+
+        Map<String, Double> all = requests.get(ALL_REQUESTS);
+        double failedPercent = all == null || all.get("requests") == 0 ? 0 : 100 * all.get("ko") / all.get("requests");
+        if (failedPercent >= MAX_FAILED_PERCENT) {
+            throw new IllegalStateException(String.format("%.2f%% of requests failed, at most %.2f%% may",
+                    failedPercent, MAX_FAILED_PERCENT));
+        }
+    }
+
+    /** Clears the previous run's output when the simulation starts. */
+    static void startRun() {
+        try {
+            Files.deleteIfExists(OUTPUT.resolve("pools.json"));
+            Files.deleteIfExists(OUTPUT.resolve("summary.json"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Written by the simulation when it ends, before Gatling has generated its report. */
+    static void writePools(Map<String, Map<String, Object>> pools) {
+        try {
+            Files.createDirectories(OUTPUT);
+            MAPPER.writeValue(OUTPUT.resolve("pools.json").toFile(), pools);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Statistics of each request name in a report's index.html, All Requests first, times in ms. */
+    static Map<String, Map<String, Double>> requests(String indexHtml) {
+        Map<String, Map<String, Double>> requests = new LinkedHashMap<>();
+        Matcher row = ROW.matcher(indexHtml);
+        while (row.find()) {
+            Map<String, Double> columns = new LinkedHashMap<>();
+            Matcher cell = CELL.matcher(row.group(2));
+            for (int i = 0; i < COLUMNS.size() && cell.find(); i++) {
+                columns.put(COLUMNS.get(i), number(cell.group(1)));
+            }
+            Map<String, Double> stats = new LinkedHashMap<>();
+            SUMMARIZED.forEach(column -> stats.put(column, columns.getOrDefault(column, 0.0)));
+            requests.put(unescape(row.group(1)), stats);
+        }
+        return requests;
+    }
+
+    // The report of this run; a crashed run has none, and an older report must not stand in for it
+    private static Path reportAfter(Path pools) throws IOException {
+        long ended = pools.toFile().lastModified();
+        try (Stream<Path> runs = Files.isDirectory(GATLING) ? Files.list(GATLING) : Stream.empty()) {
+            return runs.filter(run -> run.resolve("index.html").toFile().lastModified() >= ended)
+                    .max(Comparator.comparing(run -> run.toFile().lastModified()))
+                    .orElseThrow(() -> new IllegalStateException("No Gatling report for this run in "
+                            + GATLING.toAbsolutePath() + "; see the simulation's output above"));
+        }
+    }
+
+    // Empty columns are shown as "-"
+    private static double number(String cell) {
+        String value = cell.strip().replace(",", "");
+        return value.isEmpty() || value.equals("-") ? 0 : Double.parseDouble(value);
+    }
+
+    private static String unescape(String html) {
+        return html.replace("&lt;", "<").replace("&gt;", ">").replace("&quot;", "\"")
+                .replace("&#39;", "'").replace("&amp;", "&");
+    }
+}
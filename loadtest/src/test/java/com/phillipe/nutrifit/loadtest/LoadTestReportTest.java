@@ -0,0 +1,44 @@
+package com.phillipe.nutrifit.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LoadTestReportTest {
+
+    @Test
+    void readsEachRequestOfTheStatisticsTable() throws IOException {
+        Map<String, Map<String, Double>> requests = LoadTestReport.requests(fixture());
+
+        assertEquals(List.of(LoadTestReport.ALL_REQUESTS, "POST /login"), List.copyOf(requests.keySet()));
+        assertEquals(Map.of("requests", 203.0, "ok", 201.0, "ko", 2.0, "throughput", 3.69,
+                "p50", 41.0, "p95", 547.0, "p99", 796.0, "max", 947.0), requests.get(LoadTestReport.ALL_REQUESTS));
+        assertEquals(Map.of("requests", 53.0, "ok", 51.0, "ko", 2.0, "throughput", 0.96,
+                "p50", 440.0, "p95", 609.0, "p99", 758.0, "max", 760.0), requests.get("POST /login"));
+    }
+
+    @Test
+    void readsMissingValuesAsZero() {
+        String html = "<span class=\"ellipsed-name\">GET /foods/search?q=a&amp;b</span>"
+                + "<td class=\"value total col-2\">1,204</td><td class=\"value ok col-3\">1,204</td>"
+                + "<td class=\"value ko col-4\">-</td></tr>";
+
+        Map<String, Double> stats = LoadTestReport.requests(html).get("GET /foods/search?q=a&b");
+
+        assertEquals(1204.0, stats.get("requests"));
+        assertEquals(0.0, stats.get("ko"));
+        assertEquals(0.0, stats.get("p99"));
+    }
+
+    private static String fixture() throws IOException {
+        try (InputStream in = LoadTestReportTest.class.getResourceAsStream("/gatling-index.html")) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
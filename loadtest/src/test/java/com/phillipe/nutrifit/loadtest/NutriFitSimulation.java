@@ -0,0 +1,261 @@
+package com.phillipe.nutrifit.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gatling.javaapi.core.ChainBuilder;
+import io.gatling.javaapi.core.OpenInjectionStep;
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Session;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpRequestActionBuilder;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.*;
+
+/**
+ * Visits by generated users, arriving at {@code loadtest.rate} per second after a linear ramp.
+ * A visit signs in unless the user still holds a token from an earlier visit, then does one
+ * of the following, picked by weight:
+ * <ul>
+ *   <li>5% signs in again, as when the app is reopened</li>
+ *   <li>20% logs a workout from a plan day: lists the plans, starts a day, logs it with the
+ *       recommended targets</li>
+ *   <li>35% browses history: dashboard, workouts, two pages of meals, measurement trends</li>
+ *   <li>30% logs a meal: recent foods, a food search, a meal of the results</li>
+ *   <li>10% records a measurement: latest, a new one, trends</li>
+ * </ul>
+ * Requests are named by endpoint, so the report has one row per endpoint however many
+ * scenarios call it. Each user is sent from its own X-Forwarded-For address, as clients behind
+ * a load balancer would be, so the per-IP login limit applies per user rather than to the
+ * whole test. Only the users datagen gave a password are picked, as it lists them for the
+ * seed, so every sign-in must succeed. Less than {@value LoadTestReport#MAX_FAILED_PERCENT}%
+ * of requests may fail.
+ */
+public class NutriFitSimulation extends Simulation {
+
+    private static final LoadTestOptions OPTIONS = LoadTestOptions.fromSystemProperties();
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final List<String> FOOD_QUERIES = List.of(
+            "chicken", "rice", "egg", "oat", "banana", "apple", "beef", "yogurt", "salmon", "bread");
+
+    // Tokens outlive a visit, as they do in the app
+    private static final Map<String, String> TOKENS = new ConcurrentHashMap<>();
+
+    private final LoadTestEnvironment environment;
+    private final PoolSampler sampler;
+
+    public NutriFitSimulation() {
+        LoadTestReport.startRun();
+        List<String> localUsers = LoadTestEnvironment.localUsers(OPTIONS);
+        if (localUsers.isEmpty()) {
+            throw new IllegalStateException("datagen generated no user that logs in with a password");
+        }
+        environment = LoadTestEnvironment.start(OPTIONS);
+        sampler = new PoolSampler(environment.backendMetricsUrl(), environment.nutritionMetricsUrl());
+
+        List<OpenInjectionStep> arrivals = new ArrayList<>();
+        if (OPTIONS.rampSeconds() > 0) {
+            arrivals.add(rampUsersPerSec(1).to(OPTIONS.rate()).during(OPTIONS.rampSeconds()));
+        }
+        arrivals.add(constantUsersPerSec(OPTIONS.rate()).during(OPTIONS.durationSeconds()));
+
+        setUp(visits(localUsers).injectOpen(arrivals))
+                .protocols(http.baseUrl(environment.baseUrl())
+                        .acceptHeader("application/json")
+                        .contentTypeHeader("application/json")
+                        .header("X-Time-Zone", "Europe/Berlin")
+                        .header("X-Forwarded-For", "#{clientIp}"))
+                .assertions(global().failedRequests().percent().lt(LoadTestReport.MAX_FAILED_PERCENT));
+    }
+
+    @Override
+    public void before() {
+        sampler.start();
+    }
+
+    @Override
+    public void after() {
+        try {
+            LoadTestReport.writePools(sampler.stop());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            environment.close();
+        }
+    }
+
+    private static ScenarioBuilder visits(List<String> localUsers) {
+        return scenario("Visits")
+                .feed(users(localUsers))
+                .exec(authenticate())
+                .exitHereIfFailed()
+                .pause(1, 3)
+                .randomSwitch().on(
+                        percent(5.0).then(signIn()),
+                        percent(20.0).then(logWorkoutFromPlan()),
+                        percent(35.0).then(browseHistory()),
+                        percent(30.0).then(logMeal()),
+                        percent(10.0).then(recordMeasurement()));
+    }
+
+    // Usernames are datagen's "user<id>"; the address is derived from the id
+    private static Iterator<Map<String, Object>> users(List<String> localUsers) {
+        return Stream.generate(() -> {
+            String username = pick(localUsers);
+            int id = Integer.parseInt(username.substring("user".length()));
+            return Map.<String, Object>of(
+                    "username", username,
+                    "clientIp", "10." + (id >> 16 & 255) + "." + (id >> 8 & 255) + "." + (id & 255));
+        }).iterator();
+    }
+
+    private static ChainBuilder authenticate() {
+        return exec(session -> {
+            String token = TOKENS.get(session.getString("username"));
+            return token != null ? session.set("token", token) : session;
+        }).doIf(session -> !session.contains("token")).then(signIn());
+    }
+
+    private static ChainBuilder signIn() {
+        return exec(http("POST /login").post("/api/login")
+                .body(StringBody(session -> json(Map.of(
+                        "username", session.getString("username"),
+                        "password", OPTIONS.password()))))
+                .check(status().is(200), jmesPath("token").saveAs("token")))
+                .exec(session -> {
+                    TOKENS.put(session.getString("username"), session.getString("token"));
+                    return session;
+                });
+    }
+
+    private static ChainBuilder logWorkoutFromPlan() {
+        return exec(get("GET /workout-plans/mine", "/api/workout-plans/mine")
+                .check(jmesPath("[].days[].id").ofList().saveAs("dayIds")))
+                .doIf(session -> !session.getList("dayIds").isEmpty()).then(
+                        exec(session -> session.set("dayId", pick(session.getList("dayIds"))))
+                                .pause(1, 3)
+                                .exec(get("GET /workout-plans/days/{id}/start", "/api/workout-plans/days/#{dayId}/start")
+                                        .check(jmesPath("exercises").ofList().saveAs("exercises")))
+                                .pause(5, 15)
+                                .exec(post("POST /workouts/from-plan", "/api/workouts/from-plan",
+                                        NutriFitSimulation::workoutFromPlan)
+                                        .check(status().is(201))));
+    }
+
+    private static ChainBuilder browseHistory() {
+        return exec(get("GET /dashboard", "/api/dashboard"))
+                .pause(1, 3)
+                .exec(get("GET /workouts/mine", "/api/workouts/mine"))
+                .pause(1, 3)
+                .exec(get("GET /meals/mine/page", "/api/meals/mine/page?limit=20")
+                        .check(jmesPath("nextCursor").optional().saveAs("cursor")))
+                .doIf(session -> session.contains("cursor")).then(
+                        pause(1, 3)
+                                .exec(get("GET /meals/mine/page", "/api/meals/mine/page?limit=20&cursor=#{cursor}")))
+                .pause(1, 3)
+                .exec(get("GET /measurements/trends", "/api/measurements/trends"));
+    }
+
+    private static ChainBuilder logMeal() {
+        return exec(get("GET /foods/recent", "/api/foods/recent?limit=20"))
+                .pause(1, 3)
+                .exec(session -> session.set("query", pick(FOOD_QUERIES)))
+                .exec(get("GET /foods/search", "/api/foods/search?q=#{query}&limit=10")
+                        .check(jmesPath("[].id").ofList().saveAs("foodIds")))
+                .pause(2, 5)
+                .exec(post("POST /meals", "/api/meals", NutriFitSimulation::meal));
+    }
+
+    private static ChainBuilder recordMeasurement() {
+        return exec(get("GET /measurements/latest", "/api/measurements/latest")
+                .check(status().in(200, 204)))
+                .pause(2, 5)
+                .exec(post("POST /measurements", "/api/measurements", session -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    return json(Map.of(
+                            "weightKg", Math.round(random.nextDouble(55, 110) * 10) / 10.0,
+                            "waistCm", Math.round(random.nextDouble(65, 110) * 10) / 10.0));
+                }))
+                .pause(1, 3)
+                .exec(get("GET /measurements/trends", "/api/measurements/trends"));
+    }
+
+    // The day's exercises at their recommended targets where there is one, every set completed
+    private static String workoutFromPlan(Session session) {
+        List<Map<String, Object>> exercises = new ArrayList<>();
+        for (Object item : session.getList("exercises")) {
+            Map<?, ?> exercise = (Map<?, ?>) item;
+            Map<?, ?> next = (Map<?, ?>) exercise.get("recommendation");
+            Object sets = next != null ? next.get("sets") : exercise.get("targetSets");
+            Object reps = next != null ? next.get("reps") : exercise.get("targetReps");
+            Object weight = next != null ? next.get("weight") : exercise.get("targetWeight");
+
+            Map<String, Object> logged = new LinkedHashMap<>();
+            logged.put("name", exercise.get("name"));
+            logged.put("category", exercise.get("category"));
+            logged.put("sets", sets);
+            logged.put("reps", reps);
+            logged.put("weight", weight);
+            if (sets instanceof Number count) {
+                logged.put("durationMinutes", 3 * count.intValue());
+                List<Map<String, Object>> setDetails = new ArrayList<>();
+                for (int set = 1; set <= count.intValue(); set++) {
+                    Map<String, Object> detail = new LinkedHashMap<>();
+                    detail.put("setNumber", set);
+                    detail.put("reps", reps);
+                    detail.put("weight", weight);
+                    detail.put("completed", true);
+                    setDetails.add(detail);
+                }
+                logged.put("setDetails", setDetails);
+            } else {
+                logged.put("durationMinutes", 20);
+            }
+            exercises.add(logged);
+        }
+        return json(Map.<String, Object>of("workoutPlanDayId", session.getInt("dayId"), "exercises", exercises));
+    }
+
+    // Up to two of the foods found, by weight, and a typed entry
+    private static String meal(Session session) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<Map<String, Object>> foods = new ArrayList<>();
+        List<Object> found = session.getList("foodIds");
+        for (int i = 0; i < Math.min(2, found.size()); i++) {
+            foods.add(Map.of("foodId", pick(found), "grams", random.nextInt(80, 251)));
+        }
+        foods.add(Map.of("type", "Coffee with milk", "calories", 40, "protein", 2, "carbs", 4, "fats", 2));
+        return json(Map.of("foods", foods));
+    }
+
+    private static HttpRequestActionBuilder get(String name, String url) {
+        return http(name).get(url).header("Authorization", "Bearer #{token}");
+    }
+
+    private static HttpRequestActionBuilder post(String name, String url, Function<Session, String> body) {
+        return http(name).post(url).header("Authorization", "Bearer #{token}").body(StringBody(body));
+    }
+
+    private static <T> T pick(List<T> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+
+    private static String json(Object value) {
+        try {
+            return MAPPER.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.phillipe.nutrifit.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples each service's connection pool once a second through its actuator metrics while
+ * the simulation runs: connections in use against the pool size, requests waiting for one
+ * (in Hikari, and in the backend's concurrency limiter in front of it) and the mean time to
+ * get one. A service whose metrics can't be read is left out of the result.
+ */
+final class PoolSampler {
+
+    private static final Duration INTERVAL = Duration.ofSeconds(1);
+
+    /** Running aggregates of one service's gauges. */
+    static final class Pool {
+        private final String metricsUrl;
+        private int samples;
+        private int saturatedSamples;
+        private double maxSize;
+        private double activeSum;
+        private double activeMax;
+        private double waitingSum;
+        private double waitingMax;
+        private double acquireCountStart = Double.NaN;
+        private double acquireTimeStart;
+        private double acquireCount;
+        private double acquireTime;
+
+        Pool(String metricsUrl) {
+            this.metricsUrl = metricsUrl;
+        }
+
+        void record(double size, double active, double waiting, double acquiredCount, double acquiredSeconds) {
+            samples++;
+            maxSize = Math.max(maxSize, size);
+            activeSum += active;
+            activeMax = Math.max(activeMax, active);
+            waitingSum += waiting;
+            waitingMax = Math.max(waitingMax, waiting);
+            if (active >= size) {
+                saturatedSamples++;
+            }
+            if (Double.isNaN(acquireCountStart)) {
+                acquireCountStart = acquiredCount;
+                acquireTimeStart = acquiredSeconds;
+            }
+            acquireCount = acquiredCount;
+            acquireTime = acquiredSeconds;
+        }
+
+        Map<String, Object> summary() {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("samples", samples);
+            summary.put("poolSize", (int) maxSize);
+            summary.put("activeMean", round(samples > 0 ? activeSum / samples : 0));
+            summary.put("activeMax", (int) activeMax);
+            summary.put("waitingMean", round(samples > 0 ? waitingSum / samples : 0));
+            summary.put("waitingMax", (int) waitingMax);
+            // Share of samples with every connection checked out
+            summary.put("saturatedShare", round(samples > 0 ? (double) saturatedSamples / samples : 0));
+            double acquired = acquireCount - acquireCountStart;
+            summary.put("acquireMeanMs", round(acquired > 0 ? (acquireTime - acquireTimeStart) * 1000 / acquired : 0));
+            return summary;
+        }
+    }
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(INTERVAL).build();
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Map<String, Pool> pools = new LinkedHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    PoolSampler(String backendMetricsUrl, String nutritionMetricsUrl) {
+        if (!backendMetricsUrl.isBlank()) {
+            pools.put("backend", new Pool(backendMetricsUrl));
+        }
+        if (!nutritionMetricsUrl.isBlank()) {
+            pools.put("nutrition", new Pool(nutritionMetricsUrl));
+        }
+    }
+
+    void start() {
+        scheduler.scheduleAtFixedRate(this::sample, 0, INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /** Stops sampling and returns each sampled service's aggregates. */
+    Map<String, Map<String, Object>> stop() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        pools.forEach((service, pool) -> {
+            if (pool.samples > 0) {
+                result.put(service, pool.summary());
+            }
+        });
+        return result;
+    }
+
+    private void sample() {
+        pools.forEach((service, pool) -> {
+            try {
+                double active = measurements(pool.metricsUrl, "hikaricp.connections.active").get("VALUE");
+                double pending = measurements(pool.metricsUrl, "hikaricp.connections.pending").get("VALUE");
+                double size = measurements(pool.metricsUrl, "hikaricp.connections.max").get("VALUE");
+                Map<String, Double> acquire = measurements(pool.metricsUrl, "hikaricp.connections.acquire");
+                // Behind the backend's limiter requests wait there; Hikari's pending stays at zero
+                double limited = measurements(pool.metricsUrl, "nutrifit.db.concurrency.waiting").getOrDefault("VALUE", 0.0);
+                pool.record(size, active, pending + limited, acquire.get("COUNT"), acquire.get("TOTAL_TIME"));
+            } catch (Exception e) {
+                // A missed sample; the service may be restarting or not expose metrics at all
+            }
+        });
+    }
+
+    /** A metric's statistics by name; empty when the service doesn't publish it. */
+    private Map<String, Double> measurements(String metricsUrl, String metric) throws Exception {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(metricsUrl + "/" + metric))
+                .timeout(INTERVAL)
+                .build(), HttpResponse.BodyHandlers.ofString());
+        Map<String, Double> values = new HashMap<>();
+        if (response.statusCode() == 200) {
+            for (JsonNode measurement : mapper.readTree(response.body()).path("measurements")) {
+                values.put(measurement.path("statistic").asText(), measurement.path("value").asDouble());
+            }
+        }
+        return values;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
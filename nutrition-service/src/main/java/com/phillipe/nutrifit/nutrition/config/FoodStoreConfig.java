@@ -0,0 +1,76 @@
+package com.phillipe.nutrifit.nutrition.config;
+
+import com.phillipe.nutrifit.nutrition.repository.FoodStore;
+import com.phillipe.nutrifit.nutrition.repository.FoodStoreWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Opens the food catalog. With {@code foods.csv-path} set, the store is rebuilt only when that
+ * file's size or modification time no longer match the existing store, so restarts against a
+ * large dataset just map the file again. Without it, the small bundled sample is used.
+ */
+@Configuration
+public class FoodStoreConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(FoodStoreConfig.class);
+
+    private static final String BUNDLED_CSV = "foods/foods.csv";
+
+    @Bean
+    public FoodStore foodStore(@Value("${foods.csv-path:}") String csvPath,
+                               @Value("${foods.store-path:${java.io.tmpdir}/nutrifit-foods.bin}") String storePath)
+            throws IOException {
+        long started = System.nanoTime();
+        Path store = Path.of(storePath);
+        Files.createDirectories(store.toAbsolutePath().getParent());
+
+        if (csvPath.isBlank()) {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    new ClassPathResource(BUNDLED_CSV).getInputStream(), StandardCharsets.UTF_8))) {
+                FoodStoreWriter.write(reader, -1, -1, store);
+            }
+            return opened(FoodStore.open(store), "bundled sample", started);
+        }
+
+        Path csv = Path.of(csvPath);
+        long size = Files.size(csv);
+        long modified = Files.getLastModifiedTime(csv).toMillis();
+        if (Files.exists(store)) {
+            FoodStore existing = openQuietly(store);
+            if (existing != null && existing.isBuiltFrom(size, modified)) {
+                return opened(existing, store.toString(), started);
+            }
+        }
+        try (BufferedReader reader = Files.newBufferedReader(csv, StandardCharsets.UTF_8)) {
+            FoodStoreWriter.write(reader, size, modified, store);
+        }
+        return opened(FoodStore.open(store), csv.toString(), started);
+    }
+
+    private static FoodStore openQuietly(Path store) {
+        try {
+            return FoodStore.open(store);
+        } catch (IOException | IllegalStateException e) {
+            log.info("Rebuilding food store {}: {}", store, e.getMessage());
+            return null;
+        }
+    }
+
+    private static FoodStore opened(FoodStore store, String source, long started) {
+        log.info("Food catalog ready: {} foods from {} in {} ms",
+                store.size(), source, (System.nanoTime() - started) / 1_000_000);
+        return store;
+    }
+}
@@ -4,15 +4,24 @@ import com.phillipe.nutrifit.nutrition.dto.response.ErrorResponse;
 import jakarta.persistence.EntityNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.MethodParameter;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebInputException;
 
 import java.util.List;
 
@@ -23,23 +32,40 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationException(MethodArgumentNotValidException ex) {
-        List<ErrorResponse.FieldError> fieldErrors = ex.getBindingResult()
-                .getFieldErrors()
-                .stream()
-                .map(error -> ErrorResponse.FieldError.builder()
-                        .field(error.getField())
-                        .message(error.getDefaultMessage())
-                        .build())
-                .toList();
+        return validationError(ex.getBindingResult());
+    }
 
-        ErrorResponse response = ErrorResponse.withFieldErrors(
-                "VALIDATION_ERROR",
-                "One or more fields failed validation",
-                fieldErrors
-        );
+    // Reactive build: @Valid failures and unreadable bodies surface as these instead
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleWebExchangeBindException(WebExchangeBindException ex) {
+        return validationError(ex.getBindingResult());
+    }
+
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorResponse> handleServerWebInput(ServerWebInputException ex) {
+        MethodParameter parameter = ex.getMethodParameter();
+        String name = null;
+        if (parameter != null && parameter.hasParameterAnnotation(RequestParam.class)) {
+            name = parameter.getParameterName();
+        } else if (parameter != null && parameter.hasParameterAnnotation(RequestHeader.class)) {
+            name = parameter.getParameterAnnotation(RequestHeader.class).value();
+        }
+        String message = name != null
+                ? "Invalid value for parameter '" + name + "'"
+                : "Invalid or missing request body";
+        ErrorResponse response = ErrorResponse.of("BAD_REQUEST", message);
         return ResponseEntity.badRequest().body(response);
     }
 
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ErrorResponse> handleResponseStatus(ResponseStatusException ex) {
+        HttpStatus status = HttpStatus.resolve(ex.getStatusCode().value());
+        String error = status != null ? status.name() : "ERROR";
+        String message = ex.getReason() != null ? ex.getReason()
+                : status != null ? status.getReasonPhrase() : ex.getMessage();
+        return ResponseEntity.status(ex.getStatusCode()).body(ErrorResponse.of(error, message));
+    }
+
     @ExceptionHandler(UsernameNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleUsernameNotFound(UsernameNotFoundException ex) {
         ErrorResponse response = ErrorResponse.of("USER_NOT_FOUND", ex.getMessage());
@@ -70,6 +96,18 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(response);
     }
 
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleTypeMismatch(MethodArgumentTypeMismatchException ex) {
+        ErrorResponse response = ErrorResponse.of("BAD_REQUEST", "Invalid value for parameter '" + ex.getName() + "'");
+        return ResponseEntity.badRequest().body(response);
+    }
+
+    @ExceptionHandler(MissingServletRequestParameterException.class)
+    public ResponseEntity<ErrorResponse> handleMissingParameter(MissingServletRequestParameterException ex) {
+        ErrorResponse response = ErrorResponse.of("BAD_REQUEST", "Missing required parameter '" + ex.getParameterName() + "'");
+        return ResponseEntity.badRequest().body(response);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleIllegalArgument(IllegalArgumentException ex) {
         ErrorResponse response = ErrorResponse.of("BAD_REQUEST", ex.getMessage());
@@ -85,4 +123,22 @@ public class GlobalExceptionHandler {
         );
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
     }
+
+    private ResponseEntity<ErrorResponse> validationError(BindingResult bindingResult) {
+        List<ErrorResponse.FieldError> fieldErrors = bindingResult
+                .getFieldErrors()
+                .stream()
+                .map(error -> ErrorResponse.FieldError.builder()
+                        .field(error.getField())
+                        .message(error.getDefaultMessage())
+                        .build())
+                .toList();
+
+        ErrorResponse response = ErrorResponse.withFieldErrors(
+                "VALIDATION_ERROR",
+                "One or more fields failed validation",
+                fieldErrors
+        );
+        return ResponseEntity.badRequest().body(response);
+    }
 }
@@ -7,6 +7,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -18,6 +19,7 @@ import java.io.IOException;
 import java.util.List;
 
 @Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class JwtFilter extends OncePerRequestFilter {
 
     private static final Logger log = LoggerFactory.getLogger(JwtFilter.class);
@@ -40,12 +42,14 @@ public class JwtFilter extends OncePerRequestFilter {
 
         String authHeader = request.getHeader("Authorization");
         String token = null;
-        String username = null;
+        Long userId = null;
+        String scope = null;
 
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             token = authHeader.substring(7);
             try {
-                username = jwtService.extractUserName(token);
+                userId = jwtService.extractUserId(token);
+                scope = userId == null ? jwtService.extractScope(token) : null;
             } catch (io.jsonwebtoken.ExpiredJwtException e) {
                 log.debug("JWT token expired for request to {}", request.getRequestURI());
             } catch (io.jsonwebtoken.MalformedJwtException e) {
@@ -57,15 +61,30 @@ public class JwtFilter extends OncePerRequestFilter {
             }
         }
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null
+        UsernamePasswordAuthenticationToken auth = authentication(userId, scope);
+        if (auth != null && SecurityContextHolder.getContext().getAuthentication() == null
                 && !jwtService.isTokenExpired(token)) {
-            UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
-                    username, null, List.of(new SimpleGrantedAuthority("ROLE_USER"))
-            );
             auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
             SecurityContextHolder.getContext().setAuthentication(auth);
         }
 
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * A user token authenticates as its user id with ROLE_USER; a service token with the
+     * meal-events scope as ROLE_SERVICE. Null for anything else, such as user tokens issued
+     * before the user id claim existed.
+     */
+    static UsernamePasswordAuthenticationToken authentication(Long userId, String scope) {
+        if (userId != null) {
+            return new UsernamePasswordAuthenticationToken(
+                    userId, null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        }
+        if (JwtService.MEAL_EVENTS_SCOPE.equals(scope)) {
+            return new UsernamePasswordAuthenticationToken(
+                    scope, null, List.of(new SimpleGrantedAuthority("ROLE_SERVICE")));
+        }
+        return null;
+    }
 }
\ No newline at end of file
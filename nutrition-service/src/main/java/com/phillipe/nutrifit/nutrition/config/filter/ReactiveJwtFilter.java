@@ -0,0 +1,61 @@
+package com.phillipe.nutrifit.nutrition.config.filter;
+
+import com.phillipe.nutrifit.nutrition.service.JwtService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux counterpart of {@link JwtFilter}: same token checks, but the authentication is put
+ * into the Reactor context instead of a thread-local. Registered only through
+ * {@code ReactiveSecurityConfig}, not as a bean, so it doesn't also run outside the security chain.
+ */
+public class ReactiveJwtFilter implements WebFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveJwtFilter.class);
+
+    private final JwtService jwtService;
+
+    public ReactiveJwtFilter(JwtService jwtService) {
+        this.jwtService = jwtService;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            return chain.filter(exchange);
+        }
+
+        String token = authHeader.substring(7);
+        String path = exchange.getRequest().getPath().value();
+        Long userId = null;
+        String scope = null;
+        try {
+            userId = jwtService.extractUserId(token);
+            scope = userId == null ? jwtService.extractScope(token) : null;
+        } catch (io.jsonwebtoken.ExpiredJwtException e) {
+            log.debug("JWT token expired for request to {}", path);
+        } catch (io.jsonwebtoken.MalformedJwtException e) {
+            log.warn("Malformed JWT token for request to {}", path);
+        } catch (io.jsonwebtoken.security.SignatureException e) {
+            log.warn("Invalid JWT signature for request to {}", path);
+        } catch (Exception e) {
+            log.warn("JWT validation failed for request to {}: {}", path, e.getClass().getSimpleName());
+        }
+
+        UsernamePasswordAuthenticationToken auth = JwtFilter.authentication(userId, scope);
+        if (auth == null || jwtService.isTokenExpired(token)) {
+            return chain.filter(exchange);
+        }
+
+        return chain.filter(exchange)
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(auth));
+    }
+}
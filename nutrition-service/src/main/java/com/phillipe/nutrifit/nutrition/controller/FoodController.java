@@ -0,0 +1,32 @@
+package com.phillipe.nutrifit.nutrition.controller;
+
+import com.phillipe.nutrifit.nutrition.dto.response.FoodResponse;
+import com.phillipe.nutrifit.nutrition.service.FoodService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+// Plain return types work unchanged under both Spring MVC and WebFlux, so one controller serves both builds
+@RestController
+@RequestMapping("/foods")
+@RequiredArgsConstructor
+public class FoodController {
+
+    private final FoodService foodService;
+
+    @GetMapping("/search")
+    public List<FoodResponse> search(@RequestParam("q") String query,
+                                     @RequestParam(required = false) Integer limit) {
+        return foodService.search(query, limit);
+    }
+
+    @GetMapping("/{id}")
+    public FoodResponse getFood(@PathVariable int id) {
+        return foodService.getFood(id);
+    }
+}
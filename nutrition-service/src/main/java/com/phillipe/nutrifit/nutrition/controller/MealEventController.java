@@ -0,0 +1,36 @@
+package com.phillipe.nutrifit.nutrition.controller;
+
+import com.phillipe.nutrifit.nutrition.dto.response.MealEventResponse;
+import com.phillipe.nutrifit.nutrition.service.MealEventService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Change feed of logged calories for other services; needs a service token with the
+ * meal-events scope rather than a user's token.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/events")
+@RequiredArgsConstructor
+public class MealEventController {
+
+    private final MealEventService mealEventService;
+
+    /**
+     * Committed events after the position {@code (afterXact, after)}, oldest first; pass the
+     * last event's xactId and id to continue.
+     */
+    @GetMapping("/meals")
+    public List<MealEventResponse> mealEvents(@RequestParam(defaultValue = "0") long afterXact,
+                                              @RequestParam(defaultValue = "0") long after,
+                                              @RequestParam(required = false) Integer limit) {
+        return mealEventService.getEvents(afterXact, after, limit);
+    }
+}
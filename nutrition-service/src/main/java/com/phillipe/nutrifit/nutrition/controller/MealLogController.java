@@ -1,46 +1,91 @@
 package com.phillipe.nutrifit.nutrition.controller;
 
 import com.phillipe.nutrifit.nutrition.dto.request.MealLogRequest;
+import com.phillipe.nutrifit.nutrition.dto.response.MealLogPageResponse;
 import com.phillipe.nutrifit.nutrition.dto.response.MealLogResponse;
+import com.phillipe.nutrifit.nutrition.dto.response.NutritionTotalsResponse;
+import com.phillipe.nutrifit.nutrition.model.SummaryPeriod;
 import com.phillipe.nutrifit.nutrition.service.MealLogService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.List;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/meals")
 @RequiredArgsConstructor
 public class MealLogController {
 
+    /** IANA zone of the client, e.g. Europe/Berlin; decides which day a meal counts towards. UTC if absent. */
+    public static final String TIME_ZONE_HEADER = "X-Time-Zone";
+
     private final MealLogService mealLogService;
 
     @PostMapping
     public MealLogResponse createMeal(@Valid @RequestBody MealLogRequest request,
-                                      Authentication authentication) {
-        String username = authentication.getName();
-        return mealLogService.createMeal(request, username);
+                                      @RequestHeader(value = TIME_ZONE_HEADER, required = false) ZoneId zone,
+                                      @AuthenticationPrincipal Long userId) {
+        return mealLogService.createMeal(request, userId, zone);
     }
 
     @GetMapping("/mine")
-    public List<MealLogResponse> myMeals(Authentication authentication) {
-        String username = authentication.getName();
-        return mealLogService.getMyMeals(username);
+    public List<MealLogResponse> myMeals(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @AuthenticationPrincipal Long userId) {
+        return mealLogService.getMyMeals(userId, from, to);
+    }
+
+    @GetMapping("/mine/page")
+    public MealLogPageResponse myMealsPage(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @AuthenticationPrincipal Long userId) {
+        return mealLogService.getMyMealsPage(userId, from, to, cursor, limit);
+    }
+
+    @GetMapping("/summary")
+    public List<NutritionTotalsResponse> summary(
+            @RequestParam(defaultValue = "DAY") SummaryPeriod period,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestHeader(value = TIME_ZONE_HEADER, required = false) ZoneId zone,
+            @AuthenticationPrincipal Long userId) {
+        return mealLogService.getSummary(userId, period, from, to, zone);
+    }
+
+    /** Copies every meal of day {@code from} to day {@code to} (today if absent), keeping their times of day. */
+    @PostMapping("/copy")
+    public List<MealLogResponse> copyDay(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestHeader(value = TIME_ZONE_HEADER, required = false) ZoneId zone,
+            @AuthenticationPrincipal Long userId) {
+        return mealLogService.copyDay(userId, from, to, zone);
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteMeal(@PathVariable Long id, Authentication authentication) {
-        String username = authentication.getName();
-        mealLogService.deleteMeal(id, username);
+    public ResponseEntity<Void> deleteMeal(@PathVariable Long id, @AuthenticationPrincipal Long userId) {
+        mealLogService.deleteMeal(id, userId);
         return ResponseEntity.noContent().build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.phillipe.nutrifit.nutrition.controller;
+
+import com.phillipe.nutrifit.nutrition.dto.request.MealTemplateRequest;
+import com.phillipe.nutrifit.nutrition.dto.response.MealLogResponse;
+import com.phillipe.nutrifit.nutrition.dto.response.MealTemplateResponse;
+import com.phillipe.nutrifit.nutrition.service.MealTemplateService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.ZoneId;
+import java.util.List;
+
+import static com.phillipe.nutrifit.nutrition.controller.MealLogController.TIME_ZONE_HEADER;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/meals/templates")
+@RequiredArgsConstructor
+public class MealTemplateController {
+
+    private final MealTemplateService templateService;
+
+    @PostMapping
+    public MealTemplateResponse createTemplate(@Valid @RequestBody MealTemplateRequest request,
+                                               @AuthenticationPrincipal Long userId) {
+        return templateService.createTemplate(request, userId);
+    }
+
+    @GetMapping("/mine")
+    public List<MealTemplateResponse> myTemplates(@AuthenticationPrincipal Long userId) {
+        return templateService.getMyTemplates(userId);
+    }
+
+    /** Logs the template's foods as a new meal, now. */
+    @PostMapping("/{id}/apply")
+    public MealLogResponse applyTemplate(@PathVariable Long id,
+                                         @RequestHeader(value = TIME_ZONE_HEADER, required = false) ZoneId zone,
+                                         @AuthenticationPrincipal Long userId) {
+        return templateService.applyTemplate(id, userId, zone);
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteTemplate(@PathVariable Long id, @AuthenticationPrincipal Long userId) {
+        templateService.deleteTemplate(id, userId);
+        return ResponseEntity.noContent().build();
+    }
+}
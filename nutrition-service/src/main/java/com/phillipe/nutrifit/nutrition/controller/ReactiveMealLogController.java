@@ -0,0 +1,96 @@
+package com.phillipe.nutrifit.nutrition.controller;
+
+import com.phillipe.nutrifit.nutrition.dto.request.MealLogRequest;
+import com.phillipe.nutrifit.nutrition.dto.response.MealLogPageResponse;
+import com.phillipe.nutrifit.nutrition.dto.response.MealLogResponse;
+import com.phillipe.nutrifit.nutrition.dto.response.NutritionTotalsResponse;
+import com.phillipe.nutrifit.nutrition.model.SummaryPeriod;
+import com.phillipe.nutrifit.nutrition.service.ReactiveMealLogService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import static com.phillipe.nutrifit.nutrition.controller.MealLogController.TIME_ZONE_HEADER;
+
+/**
+ * Same contract as {@link MealLogController}, served by the reactive build.
+ * {@code /meals/mine} is written out as meals are read, as a JSON array by default or as
+ * newline-delimited JSON when the client accepts {@code application/x-ndjson}.
+ */
+@RestController
+@RequestMapping("/meals")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveMealLogController {
+
+    private final ReactiveMealLogService mealLogService;
+
+    @PostMapping
+    public Mono<MealLogResponse> createMeal(@Valid @RequestBody MealLogRequest request,
+                                            @RequestHeader(value = TIME_ZONE_HEADER, required = false) ZoneId zone,
+                                            @AuthenticationPrincipal Long userId) {
+        return mealLogService.createMeal(request, userId, zone);
+    }
+
+    @GetMapping("/mine")
+    public Flux<MealLogResponse> myMeals(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @AuthenticationPrincipal Long userId) {
+        return mealLogService.getMyMeals(userId, from, to);
+    }
+
+    @GetMapping("/mine/page")
+    public Mono<MealLogPageResponse> myMealsPage(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @AuthenticationPrincipal Long userId) {
+        return mealLogService.getMyMealsPage(userId, from, to, cursor, limit);
+    }
+
+    @GetMapping("/summary")
+    public Mono<List<NutritionTotalsResponse>> summary(
+            @RequestParam(defaultValue = "DAY") SummaryPeriod period,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestHeader(value = TIME_ZONE_HEADER, required = false) ZoneId zone,
+            @AuthenticationPrincipal Long userId) {
+        return mealLogService.getSummary(userId, period, from, to, zone);
+    }
+
+    @PostMapping("/copy")
+    public Flux<MealLogResponse> copyDay(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestHeader(value = TIME_ZONE_HEADER, required = false) ZoneId zone,
+            @AuthenticationPrincipal Long userId) {
+        return mealLogService.copyDay(userId, from, to, zone);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteMeal(@PathVariable Long id, @AuthenticationPrincipal Long userId) {
+        return mealLogService.deleteMeal(id, userId)
+                .then(Mono.just(ResponseEntity.noContent().build()));
+    }
+}
@@ -0,0 +1,31 @@
+package com.phillipe.nutrifit.nutrition.controller;
+
+import com.phillipe.nutrifit.nutrition.dto.response.RecentFoodResponse;
+import com.phillipe.nutrifit.nutrition.model.RecentFoodOrder;
+import com.phillipe.nutrifit.nutrition.service.RecentFoodService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/foods")
+@RequiredArgsConstructor
+public class RecentFoodController {
+
+    private final RecentFoodService recentFoodService;
+
+    /** The foods the user logs, for quick-add: last logged or most often logged first. */
+    @GetMapping("/recent")
+    public List<RecentFoodResponse> recentFoods(@RequestParam(defaultValue = "RECENT") RecentFoodOrder order,
+                                                @RequestParam(required = false) Integer limit,
+                                                @AuthenticationPrincipal Long userId) {
+        return recentFoodService.getRecentFoods(userId, order, limit);
+    }
+}
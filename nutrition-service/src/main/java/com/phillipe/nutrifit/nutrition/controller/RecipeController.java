@@ -0,0 +1,56 @@
+package com.phillipe.nutrifit.nutrition.controller;
+
+import com.phillipe.nutrifit.nutrition.dto.request.RecipeRequest;
+import com.phillipe.nutrifit.nutrition.dto.response.RecipeResponse;
+import com.phillipe.nutrifit.nutrition.service.RecipeService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/recipes")
+@RequiredArgsConstructor
+public class RecipeController {
+
+    private final RecipeService recipeService;
+
+    @PostMapping
+    public RecipeResponse createRecipe(@Valid @RequestBody RecipeRequest request, @AuthenticationPrincipal Long userId) {
+        return recipeService.createRecipe(request, userId);
+    }
+
+    @GetMapping("/mine")
+    public List<RecipeResponse> myRecipes(@AuthenticationPrincipal Long userId) {
+        return recipeService.getMyRecipes(userId);
+    }
+
+    @GetMapping("/{id}")
+    public RecipeResponse getRecipe(@PathVariable Long id, @AuthenticationPrincipal Long userId) {
+        return recipeService.getRecipe(id, userId);
+    }
+
+    @PutMapping("/{id}")
+    public RecipeResponse updateRecipe(@PathVariable Long id, @Valid @RequestBody RecipeRequest request,
+                                       @AuthenticationPrincipal Long userId) {
+        return recipeService.updateRecipe(id, request, userId);
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteRecipe(@PathVariable Long id, @AuthenticationPrincipal Long userId) {
+        recipeService.deleteRecipe(id, userId);
+        return ResponseEntity.noContent().build();
+    }
+}
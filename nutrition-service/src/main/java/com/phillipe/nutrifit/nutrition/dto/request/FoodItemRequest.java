@@ -1,7 +1,9 @@
 package com.phillipe.nutrifit.nutrition.dto.request;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.Min;
-import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -13,7 +15,7 @@ import lombok.NoArgsConstructor;
 @Builder
 public class FoodItemRequest {
 
-    @NotBlank(message = "type is required")
+    // Defaults to the catalog or recipe name when foodId or recipeId is set
     private String type;
 
     @Min(value = 0, message = "calories must be non-negative")
@@ -27,4 +29,34 @@ public class FoodItemRequest {
 
     @Min(value = 0, message = "fats must be non-negative")
     private Integer fats;
+
+    // A catalog food and portion; when set, the macros above are ignored and computed from the catalog
+    private Integer foodId;
+
+    @Min(value = 1, message = "grams must be positive")
+    private Integer grams;
+
+    // A serving of one of the user's recipes, from its cached totals; servings defaults to 1
+    private Long recipeId;
+
+    @Positive(message = "servings must be positive")
+    private Double servings;
+
+    @JsonIgnore
+    @AssertTrue(message = "type is required unless foodId or recipeId is set")
+    public boolean isTypeOrSourcePresent() {
+        return foodId != null || recipeId != null || (type != null && !type.isBlank());
+    }
+
+    @JsonIgnore
+    @AssertTrue(message = "foodId and recipeId cannot both be set")
+    public boolean isSingleSource() {
+        return foodId == null || recipeId == null;
+    }
+
+    @JsonIgnore
+    @AssertTrue(message = "grams is required with foodId")
+    public boolean isGramsPresentForFood() {
+        return foodId == null || grams != null;
+    }
 }
\ No newline at end of file
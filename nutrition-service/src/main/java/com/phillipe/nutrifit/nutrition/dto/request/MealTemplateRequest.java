@@ -0,0 +1,22 @@
+package com.phillipe.nutrifit.nutrition.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MealTemplateRequest {
+
+    @NotBlank(message = "name is required")
+    private String name;
+
+    // The logged meal whose foods the template is saved from
+    @NotNull(message = "mealId is required")
+    private Long mealId;
+}
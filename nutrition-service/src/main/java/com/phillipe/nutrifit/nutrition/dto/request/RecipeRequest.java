@@ -0,0 +1,31 @@
+package com.phillipe.nutrifit.nutrition.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecipeRequest {
+
+    @NotBlank(message = "name is required")
+    private String name;
+
+    @NotNull(message = "servings is required")
+    @Min(value = 1, message = "servings must be at least 1")
+    private Integer servings;
+
+    // Hand-typed or catalog foods (foodId + grams) for the whole recipe; recipes cannot nest
+    @NotEmpty(message = "ingredients list cannot be empty")
+    private List<@Valid FoodItemRequest> ingredients;
+}
@@ -1,6 +1,7 @@
 package com.phillipe.nutrifit.nutrition.dto.response;
 
 import com.phillipe.nutrifit.nutrition.model.embedded.MealFoodEntry;
+import com.phillipe.nutrifit.nutrition.model.embedded.RecipeIngredient;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -17,6 +18,22 @@ public class FoodItemResponse {
     private Integer protein;
     private Integer carbs;
     private Integer fats;
+    private Integer foodId;
+    private Integer grams;
+    private Long recipeId;
+    private Double servings;
+
+    public static FoodItemResponse fromIngredient(RecipeIngredient ingredient) {
+        return FoodItemResponse.builder()
+                .type(ingredient.getType())
+                .calories(ingredient.getCalories())
+                .protein(ingredient.getProtein())
+                .carbs(ingredient.getCarbs())
+                .fats(ingredient.getFats())
+                .foodId(ingredient.getFoodId())
+                .grams(ingredient.getGrams())
+                .build();
+    }
 
     public static FoodItemResponse fromEmbedded(MealFoodEntry entry) {
         return FoodItemResponse.builder()
@@ -25,6 +42,10 @@ public class FoodItemResponse {
                 .protein(entry.getProtein())
                 .carbs(entry.getCarbs())
                 .fats(entry.getFats())
+                .foodId(entry.getFoodId())
+                .grams(entry.getGrams())
+                .recipeId(entry.getRecipeId())
+                .servings(entry.getServings())
                 .build();
     }
 }
\ No newline at end of file
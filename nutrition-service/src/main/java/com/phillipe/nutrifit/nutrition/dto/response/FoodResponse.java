@@ -0,0 +1,36 @@
+package com.phillipe.nutrifit.nutrition.dto.response;
+
+import com.phillipe.nutrifit.nutrition.model.Food;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FoodResponse {
+    private Integer id;
+    private String name;
+    // All per 100 g, to one decimal
+    private Double calories;
+    private Double protein;
+    private Double carbs;
+    private Double fats;
+
+    public static FoodResponse fromFood(Food food) {
+        return FoodResponse.builder()
+                .id(food.id())
+                .name(food.name())
+                .calories(round(food.calories()))
+                .protein(round(food.protein()))
+                .carbs(round(food.carbs()))
+                .fats(round(food.fats()))
+                .build();
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+}
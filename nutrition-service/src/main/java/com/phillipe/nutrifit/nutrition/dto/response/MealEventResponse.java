@@ -0,0 +1,26 @@
+package com.phillipe.nutrifit.nutrition.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/** A change to one user's calories on one day, from the meal change feed. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MealEventResponse {
+
+    /** With {@link #id}, the event's position in the feed; pass both back to continue after it. */
+    private Long xactId;
+    private Long id;
+    private Long userId;
+    private LocalDate localDate;
+    /** Negative when meals were deleted. */
+    private Integer calories;
+    private Instant createdAt;
+}
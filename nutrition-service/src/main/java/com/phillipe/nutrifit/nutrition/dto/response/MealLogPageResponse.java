@@ -0,0 +1,17 @@
+package com.phillipe.nutrifit.nutrition.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MealLogPageResponse {
+    private List<MealLogResponse> items;
+    private String nextCursor;  // null on the last page
+}
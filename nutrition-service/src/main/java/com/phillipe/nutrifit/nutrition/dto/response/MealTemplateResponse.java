@@ -0,0 +1,24 @@
+package com.phillipe.nutrifit.nutrition.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MealTemplateResponse {
+    private Long id;
+    private String name;
+    private Integer totalCalories;
+    private Integer totalProtein;
+    private Integer totalCarbs;
+    private Integer totalFats;
+    private Instant createdAt;
+    private List<FoodItemResponse> foods;
+}
@@ -0,0 +1,21 @@
+package com.phillipe.nutrifit.nutrition.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NutritionTotalsResponse {
+    private LocalDate periodStart;  // first day of the day, week or month
+    private Integer totalCalories;
+    private Integer totalProtein;
+    private Integer totalCarbs;
+    private Integer totalFats;
+    private Integer mealCount;
+}
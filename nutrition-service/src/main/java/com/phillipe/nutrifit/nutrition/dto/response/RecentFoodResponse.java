@@ -0,0 +1,31 @@
+package com.phillipe.nutrifit.nutrition.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * A food the user logs, as last logged. The food fields can be posted back as a
+ * {@link com.phillipe.nutrifit.nutrition.dto.request.FoodItemRequest} to log it again.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecentFoodResponse {
+
+    private String type;
+    private Integer calories;
+    private Integer protein;
+    private Integer carbs;
+    private Integer fats;
+    private Integer foodId;
+    private Integer grams;
+    private Long recipeId;
+    private Double servings;
+    private Integer useCount;
+    private Instant lastUsedAt;
+}
@@ -0,0 +1,31 @@
+package com.phillipe.nutrifit.nutrition.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecipeResponse {
+    private Long id;
+    private String name;
+    private Integer servings;
+    // Whole recipe
+    private Integer totalCalories;
+    private Integer totalProtein;
+    private Integer totalCarbs;
+    private Integer totalFats;
+    // One serving, rounded; what logging recipeId with servings = 1 adds to a meal
+    private Integer caloriesPerServing;
+    private Integer proteinPerServing;
+    private Integer carbsPerServing;
+    private Integer fatsPerServing;
+    private Instant updatedAt;
+    private List<FoodItemResponse> ingredients;
+}
@@ -0,0 +1,10 @@
+package com.phillipe.nutrifit.nutrition.model;
+
+/** One entry of the food catalog; macros are per 100 g of the food. */
+public record Food(int id, String name, double calories, double protein, double carbs, double fats) {
+
+    /** Amount of a per-100 g value in a portion of {@code grams}, rounded to whole units. */
+    public static int portion(double per100g, int grams) {
+        return (int) Math.round(per100g * grams / 100.0);
+    }
+}
@@ -0,0 +1,8 @@
+package com.phillipe.nutrifit.nutrition.model;
+
+public enum RecentFoodOrder {
+    /** Last logged first. */
+    RECENT,
+    /** Most often logged first, then last logged first. */
+    FREQUENT
+}
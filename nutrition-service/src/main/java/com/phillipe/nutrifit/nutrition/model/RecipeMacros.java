@@ -0,0 +1,10 @@
+package com.phillipe.nutrifit.nutrition.model;
+
+/** The cached totals of a recipe, all that logging a serving of it needs. */
+public record RecipeMacros(Long id, String name, int servings, int calories, int protein, int carbs, int fats) {
+
+    /** Amount of a recipe total in {@code portions} servings, rounded to whole units. */
+    public int portion(int total, double portions) {
+        return (int) Math.round(total * portions / servings);
+    }
+}
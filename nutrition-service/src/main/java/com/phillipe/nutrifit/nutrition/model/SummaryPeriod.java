@@ -0,0 +1,40 @@
+package com.phillipe.nutrifit.nutrition.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+public enum SummaryPeriod {
+    DAY("day"),
+    WEEK("week"),
+    MONTH("month");
+
+    private final String truncUnit;
+
+    SummaryPeriod(String truncUnit) {
+        this.truncUnit = truncUnit;
+    }
+
+    /** Unit passed to Postgres date_trunc. */
+    public String getTruncUnit() {
+        return truncUnit;
+    }
+
+    /** First day of the period containing {@code date}; weeks start on Monday, as in date_trunc. */
+    public LocalDate start(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+
+    /** Last day of the period containing {@code date}. */
+    public LocalDate end(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+            case MONTH -> date.with(TemporalAdjusters.lastDayOfMonth());
+        };
+    }
+}
@@ -23,4 +23,12 @@ public class MealFoodEntry {
     private Integer protein;
     private Integer carbs;
     private Integer fats;
+
+    // Set when the food was picked from the catalog; the macros above are then computed from it
+    private Integer foodId;
+    private Integer grams;
+
+    // Set for a logged recipe serving; the macros above are then the recipe's share
+    private Long recipeId;
+    private Double servings;
 }
\ No newline at end of file
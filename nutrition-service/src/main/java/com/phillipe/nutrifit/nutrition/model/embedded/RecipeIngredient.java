@@ -0,0 +1,44 @@
+package com.phillipe.nutrifit.nutrition.model.embedded;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode
+public class RecipeIngredient {
+
+    @Column(nullable = false)
+    private String type;
+
+    private Integer calories;
+    private Integer protein;
+    private Integer carbs;
+    private Integer fats;
+
+    // Set when the ingredient was picked from the food catalog
+    private Integer foodId;
+    private Integer grams;
+
+    public static RecipeIngredient fromEntry(MealFoodEntry entry) {
+        return RecipeIngredient.builder()
+                .type(entry.getType())
+                .calories(entry.getCalories())
+                .protein(entry.getProtein())
+                .carbs(entry.getCarbs())
+                .fats(entry.getFats())
+                .foodId(entry.getFoodId())
+                .grams(entry.getGrams())
+                .build();
+    }
+}
@@ -15,8 +15,10 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -34,12 +36,16 @@ public class MealLog {
     private Long id;
 
     @Column(nullable = false)
-    private String username;
+    private Long userId;
 
     @Builder.Default
     @Column(nullable = false)
     private Instant createdAt = Instant.now();
 
+    // Calendar day of createdAt in the client's time zone; the nutrition_daily_total bucket
+    @Column(nullable = false)
+    private LocalDate localDate;
+
     @Builder.Default
     @Column(nullable = false)
     private Integer totalCalories = 0;
@@ -56,8 +62,10 @@ public class MealLog {
     @Column(nullable = false)
     private Integer totalFats = 0;
 
+    // Foods for a whole page of meals load in one IN query instead of one query per meal
     @Builder.Default
     @ElementCollection
+    @BatchSize(size = 100)
     @CollectionTable(name = "meal_log_foods", joinColumns = @JoinColumn(name = "meal_log_id"))
     private List<MealFoodEntry> foods = new ArrayList<>();
 }
\ No newline at end of file
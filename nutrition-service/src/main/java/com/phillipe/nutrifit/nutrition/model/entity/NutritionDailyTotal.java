@@ -0,0 +1,61 @@
+package com.phillipe.nutrifit.nutrition.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * One user's nutrition totals for one local calendar day. Rows are only written through
+ * the increments in {@link com.phillipe.nutrifit.nutrition.repository.NutritionDailyTotalRepository},
+ * in the same transaction as the meal they account for.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "nutrition_daily_total")
+@IdClass(NutritionDailyTotal.Key.class)
+public class NutritionDailyTotal {
+
+    @Id
+    private Long userId;
+
+    @Id
+    private LocalDate localDate;
+
+    @Column(nullable = false)
+    private Integer totalCalories;
+
+    @Column(nullable = false)
+    private Integer totalProtein;
+
+    @Column(nullable = false)
+    private Integer totalCarbs;
+
+    @Column(nullable = false)
+    private Integer totalFats;
+
+    @Column(nullable = false)
+    private Integer mealCount;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long userId;
+        private LocalDate localDate;
+    }
+}
@@ -0,0 +1,66 @@
+package com.phillipe.nutrifit.nutrition.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * A food one user has logged, keyed by what it is rather than by name alone: the catalog
+ * food, the recipe, or the hand-typed name. Holds the portion and macros it was last logged
+ * with, so quick-adding it repeats the user's usual entry. Rows are only written through
+ * {@link com.phillipe.nutrifit.nutrition.repository.RecentFoodRepositoryCustom#record}, in the
+ * same transaction as the meal that used them.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@Entity
+@Table(name = "recent_food")
+@IdClass(RecentFood.Key.class)
+public class RecentFood {
+
+    @Id
+    private Long userId;
+
+    @Id
+    private String foodKey;
+
+    @Column(nullable = false)
+    private String type;
+
+    private Integer calories;
+    private Integer protein;
+    private Integer carbs;
+    private Integer fats;
+    private Integer foodId;
+    private Integer grams;
+    private Long recipeId;
+    private Double servings;
+
+    @Column(nullable = false)
+    private Integer useCount;
+
+    @Column(nullable = false)
+    private Instant lastUsedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long userId;
+        private String foodKey;
+    }
+}
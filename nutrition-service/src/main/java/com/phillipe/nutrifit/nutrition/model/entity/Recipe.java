@@ -0,0 +1,78 @@
+package com.phillipe.nutrifit.nutrition.model.entity;
+
+import com.phillipe.nutrifit.nutrition.model.embedded.RecipeIngredient;
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OrderColumn;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "recipe")
+public class Recipe {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(nullable = false)
+    private Integer servings;
+
+    // Sums over the ingredients, kept in step with them; a serving is total / servings
+    @Builder.Default
+    @Column(nullable = false)
+    private Integer totalCalories = 0;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Integer totalProtein = 0;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Integer totalCarbs = 0;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Integer totalFats = 0;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Instant createdAt = Instant.now();
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Instant updatedAt = Instant.now();
+
+    @Builder.Default
+    @ElementCollection
+    @BatchSize(size = 100)
+    @OrderColumn(name = "position")
+    @CollectionTable(name = "recipe_ingredient", joinColumns = @JoinColumn(name = "recipe_id"))
+    private List<RecipeIngredient> ingredients = new ArrayList<>();
+}
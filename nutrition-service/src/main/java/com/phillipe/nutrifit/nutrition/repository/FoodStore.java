@@ -0,0 +1,290 @@
+package com.phillipe.nutrifit.nutrition.repository;
+
+import com.phillipe.nutrifit.nutrition.model.Food;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Read-only food catalog backed by a memory-mapped file written by {@link FoodStoreWriter}.
+ * Records, names and the name search index all live in the mapping, so the catalog costs
+ * page cache rather than heap, and opening it is a single mmap regardless of its size.
+ * <p>
+ * Records are stored in rank order (shorter names first, then lower ids), so a search walks
+ * candidates best-first and stops as soon as it has enough. File layout (big-endian):
+ * <pre>
+ * header     MAGIC, VERSION, foodCount, tokenCount, sourceSize (long), sourceModified (long),
+ *            idIndexOffset, namesOffset, forwardOffset, tokensOffset, tokenBytesOffset, postingsOffset,
+ *            leadsOffset
+ * records    foodCount x RECORD_SIZE: id, calories, protein, carbs, fats (floats, per 100 g),
+ *            nameOffset, nameLength, forwardIndex, forwardCount
+ * idIndex    foodCount x (id, record), sorted by id
+ * names      UTF-8 food names
+ * forward    dictionary indexes of each record's words, in name order
+ * tokens     tokenCount x TOKEN_SIZE, sorted by token bytes: tokenOffset, tokenLength,
+ *            postingsIndex, postingsCount, leadsIndex, leadsCount
+ * tokenBytes UTF-8 tokens
+ * postings   record numbers per token, ascending
+ * leads      record numbers whose name starts with the token, ascending
+ * </pre>
+ */
+public class FoodStore {
+
+    static final int MAGIC = 0x4E46_4F44;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    static final int RECORD_SIZE = 36;
+    static final int TOKEN_SIZE = 24;
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+
+    private final MappedByteBuffer buffer;
+    private final int foodCount;
+    private final int tokenCount;
+    private final long sourceSize;
+    private final long sourceModified;
+    private final int idIndexOffset;
+    private final int forwardOffset;
+    private final int tokensOffset;
+    private final int postingsOffset;
+    private final int leadsOffset;
+
+    private FoodStore(MappedByteBuffer buffer) {
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IllegalStateException("Not a food store file, or written by another version");
+        }
+        this.buffer = buffer;
+        this.foodCount = buffer.getInt(8);
+        this.tokenCount = buffer.getInt(12);
+        this.sourceSize = buffer.getLong(16);
+        this.sourceModified = buffer.getLong(24);
+        this.idIndexOffset = buffer.getInt(32);
+        this.forwardOffset = buffer.getInt(40);
+        this.tokensOffset = buffer.getInt(44);
+        this.postingsOffset = buffer.getInt(52);
+        this.leadsOffset = buffer.getInt(56);
+    }
+
+    public static FoodStore open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            return new FoodStore(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public int size() {
+        return foodCount;
+    }
+
+    /** Whether this store was built from a source file of exactly this size and modification time. */
+    public boolean isBuiltFrom(long size, long modified) {
+        return sourceSize == size && sourceModified == modified;
+    }
+
+    public Optional<Food> findById(int id) {
+        int lo = 0;
+        int hi = foodCount - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int midId = buffer.getInt(idIndexOffset + mid * 8);
+            if (midId < id) {
+                lo = mid + 1;
+            } else if (midId > id) {
+                hi = mid - 1;
+            } else {
+                return Optional.of(food(buffer.getInt(idIndexOffset + mid * 8 + 4)));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Foods whose name has, for every word of {@code query}, a word starting with it, so
+     * "chick bre" finds "Chicken, breast, roasted". Names starting with the first word of the
+     * query rank first, then shorter names, then lower ids.
+     */
+    public List<Food> search(String query, int limit) {
+        List<byte[]> terms = tokens(query);
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        int[][] ranges = new int[terms.size()][];
+        int driver = 0;
+        long driverPostings = Long.MAX_VALUE;
+        for (int i = 0; i < ranges.length; i++) {
+            ranges[i] = prefixRange(terms.get(i));
+            long postings = postingsCount(ranges[i]);
+            if (postings == 0) {
+                return List.of();
+            }
+            if (postings < driverPostings) {
+                driver = i;
+                driverPostings = postings;
+            }
+        }
+
+        List<Integer> matches = new ArrayList<>(limit);
+        BitSet leads = union(ranges[0], leadsOffset, 16);
+        for (int i = leads.nextSetBit(0); i >= 0 && matches.size() < limit; i = leads.nextSetBit(i + 1)) {
+            if (matchesAll(i, ranges)) {
+                matches.add(i);
+            }
+        }
+
+        // Then the rest in rank order. A rare word's postings give a short candidate list; when
+        // even the rarest word is common, walking every record finds enough matches sooner
+        BitSet candidates = driverPostings < foodCount / 8 ? union(ranges[driver], postingsOffset, 8) : null;
+        int next = candidates != null ? candidates.nextSetBit(0) : 0;
+        while (next >= 0 && next < foodCount && matches.size() < limit) {
+            if (!leads.get(next) && matchesAll(next, ranges)) {
+                matches.add(next);
+            }
+            next = candidates != null ? candidates.nextSetBit(next + 1) : next + 1;
+        }
+
+        List<Food> foods = new ArrayList<>(matches.size());
+        for (int index : matches) {
+            foods.add(food(index));
+        }
+        return foods;
+    }
+
+    /** Record numbers listed for any token in {@code range}, from the postings or leads region. */
+    private BitSet union(int[] range, int regionOffset, int listField) {
+        BitSet records = new BitSet(foodCount);
+        for (int t = range[0]; t < range[1]; t++) {
+            int entry = tokensOffset + t * TOKEN_SIZE;
+            int from = regionOffset + buffer.getInt(entry + listField) * Integer.BYTES;
+            int count = buffer.getInt(entry + listField + 4);
+            for (int p = 0; p < count; p++) {
+                records.set(buffer.getInt(from + p * Integer.BYTES));
+            }
+        }
+        return records;
+    }
+
+    private boolean matchesAll(int index, int[][] ranges) {
+        int record = record(index);
+        int forward = forwardOffset + buffer.getInt(record + 28) * Integer.BYTES;
+        int words = buffer.getInt(record + 32);
+        for (int[] range : ranges) {
+            boolean found = false;
+            for (int w = 0; w < words && !found; w++) {
+                found = inRange(buffer.getInt(forward + w * Integer.BYTES), range);
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean inRange(int token, int[] range) {
+        return token >= range[0] && token < range[1];
+    }
+
+    private long postingsCount(int[] range) {
+        long count = 0;
+        for (int t = range[0]; t < range[1]; t++) {
+            count += buffer.getInt(tokensOffset + t * TOKEN_SIZE + 12);
+        }
+        return count;
+    }
+
+    /** Dictionary indexes [from, to) of the tokens starting with {@code prefix}. */
+    private int[] prefixRange(byte[] prefix) {
+        int lo = 0;
+        int hi = tokenCount;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (compareToken(mid, prefix, false) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        int from = lo;
+        hi = tokenCount;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (compareToken(mid, prefix, true) <= 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return new int[]{from, lo};
+    }
+
+    /**
+     * Compares dictionary token {@code index} with {@code key}, unsigned byte-wise. With
+     * {@code prefixOnly}, a token that starts with {@code key} compares as equal.
+     */
+    private int compareToken(int index, byte[] key, boolean prefixOnly) {
+        int entry = tokensOffset + index * TOKEN_SIZE;
+        int offset = buffer.getInt(entry);
+        int length = buffer.getInt(entry + 4);
+        int common = Math.min(length, key.length);
+        for (int i = 0; i < common; i++) {
+            int cmp = Integer.compare(buffer.get(offset + i) & 0xFF, key[i] & 0xFF);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        if (prefixOnly && length >= key.length) {
+            return 0;
+        }
+        return Integer.compare(length, key.length);
+    }
+
+    private Food food(int index) {
+        int record = record(index);
+        byte[] name = new byte[buffer.getInt(record + 24)];
+        buffer.get(buffer.getInt(record + 20), name);
+        return new Food(
+                buffer.getInt(record),
+                new String(name, StandardCharsets.UTF_8),
+                buffer.getFloat(record + 4),
+                buffer.getFloat(record + 8),
+                buffer.getFloat(record + 12),
+                buffer.getFloat(record + 16));
+    }
+
+    private static int record(int index) {
+        return HEADER_SIZE + index * RECORD_SIZE;
+    }
+
+    /**
+     * Lowercased, accent-free words of {@code text} as UTF-8, without duplicates, in order.
+     * The writer indexes names and the reader splits queries with this same function.
+     */
+    static List<byte[]> tokens(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        String folded = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        Set<String> words = new LinkedHashSet<>(Arrays.asList(SEPARATORS.split(folded.toLowerCase(Locale.ROOT))));
+        words.remove("");
+        List<byte[]> tokens = new ArrayList<>(words.size());
+        for (String word : words) {
+            tokens.add(word.getBytes(StandardCharsets.UTF_8));
+        }
+        return tokens;
+    }
+}
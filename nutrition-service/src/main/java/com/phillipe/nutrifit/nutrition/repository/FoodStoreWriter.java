@@ -0,0 +1,288 @@
+package com.phillipe.nutrifit.nutrition.repository;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Builds a {@link FoodStore} file from a food composition CSV with a header row. Columns are
+ * found by name, so a flattened USDA FoodData Central export works as is:
+ * <ul>
+ *     <li>{@code fdc_id} or {@code id}</li>
+ *     <li>{@code description} or {@code name}</li>
+ *     <li>{@code energy_kcal} or {@code calories}, {@code protein_g} or {@code protein},
+ *     {@code carbohydrate_g} or {@code carbs}, {@code fat_g} or {@code fats}, all per 100 g;
+ *     blank means 0</li>
+ * </ul>
+ * Other columns are ignored. The file is written next to the target and moved into place,
+ * so a store that is being read is never seen half-written.
+ */
+public final class FoodStoreWriter {
+
+    private static final IntList EMPTY = new IntList();
+
+    private FoodStoreWriter() {
+    }
+
+    /** Writes the store for {@code csv} to {@code target} and returns the number of foods. */
+    public static int write(BufferedReader csv, long sourceSize, long sourceModified, Path target) throws IOException {
+        List<Row> rows = read(csv);
+        rows.sort(Comparator.comparingInt(Row::id));
+        for (int i = 1; i < rows.size(); i++) {
+            if (rows.get(i).id == rows.get(i - 1).id) {
+                throw new IllegalArgumentException("Duplicate food id " + rows.get(i).id);
+            }
+        }
+        // Rank order: search walks records front to back and stops once it has enough
+        rows.sort(Comparator.comparingInt((Row row) -> row.name.length).thenComparingInt(Row::id));
+
+        // Token -> ascending record numbers; records are visited in order so lists stay sorted
+        Map<String, IntList> postings = new HashMap<>();
+        Map<String, IntList> leads = new HashMap<>();
+        List<List<String>> recordTokens = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            List<String> words = new ArrayList<>();
+            for (byte[] token : FoodStore.tokens(new String(rows.get(i).name, StandardCharsets.UTF_8))) {
+                String word = new String(token, StandardCharsets.UTF_8);
+                words.add(word);
+                postings.computeIfAbsent(word, k -> new IntList()).add(i);
+            }
+            if (!words.isEmpty()) {
+                leads.computeIfAbsent(words.getFirst(), k -> new IntList()).add(i);
+            }
+            recordTokens.add(words);
+        }
+
+        byte[][] dictionary = new byte[postings.size()][];
+        int t = 0;
+        for (String token : postings.keySet()) {
+            dictionary[t++] = token.getBytes(StandardCharsets.UTF_8);
+        }
+        Arrays.sort(dictionary, Arrays::compareUnsigned);
+        Map<String, Integer> tokenIndex = new HashMap<>(dictionary.length * 2);
+        for (int i = 0; i < dictionary.length; i++) {
+            tokenIndex.put(new String(dictionary[i], StandardCharsets.UTF_8), i);
+        }
+
+        long idIndexOffset = FoodStore.HEADER_SIZE + (long) rows.size() * FoodStore.RECORD_SIZE;
+        long namesOffset = idIndexOffset + rows.size() * 8L;
+        long forwardOffset = namesOffset + rows.stream().mapToLong(row -> row.name.length).sum();
+        long postingCount = postings.values().stream().mapToLong(p -> p.size).sum();
+        long tokensOffset = forwardOffset + postingCount * Integer.BYTES;
+        long tokenBytesOffset = tokensOffset + (long) dictionary.length * FoodStore.TOKEN_SIZE;
+        long postingsOffset = tokenBytesOffset + Arrays.stream(dictionary).mapToLong(d -> d.length).sum();
+        long leadsOffset = postingsOffset + postingCount * Integer.BYTES;
+        long leadCount = leads.values().stream().mapToLong(p -> p.size).sum();
+        if (leadsOffset + leadCount * Integer.BYTES > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Food dataset too large for a single store file");
+        }
+
+        Path temp = Files.createTempFile(target.toAbsolutePath().getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+                out.writeInt(FoodStore.MAGIC);
+                out.writeInt(FoodStore.VERSION);
+                out.writeInt(rows.size());
+                out.writeInt(dictionary.length);
+                out.writeLong(sourceSize);
+                out.writeLong(sourceModified);
+                out.writeInt((int) idIndexOffset);
+                out.writeInt((int) namesOffset);
+                out.writeInt((int) forwardOffset);
+                out.writeInt((int) tokensOffset);
+                out.writeInt((int) tokenBytesOffset);
+                out.writeInt((int) postingsOffset);
+                out.writeInt((int) leadsOffset);
+                out.write(new byte[FoodStore.HEADER_SIZE - 60]);
+
+                int nameOffset = (int) namesOffset;
+                int forwardIndex = 0;
+                for (int i = 0; i < rows.size(); i++) {
+                    Row row = rows.get(i);
+                    out.writeInt(row.id);
+                    out.writeFloat(row.calories);
+                    out.writeFloat(row.protein);
+                    out.writeFloat(row.carbs);
+                    out.writeFloat(row.fats);
+                    out.writeInt(nameOffset);
+                    out.writeInt(row.name.length);
+                    out.writeInt(forwardIndex);
+                    out.writeInt(recordTokens.get(i).size());
+                    nameOffset += row.name.length;
+                    forwardIndex += recordTokens.get(i).size();
+                }
+
+                Integer[] byId = new Integer[rows.size()];
+                for (int i = 0; i < byId.length; i++) {
+                    byId[i] = i;
+                }
+                Arrays.sort(byId, Comparator.comparingInt(i -> rows.get(i).id));
+                for (int record : byId) {
+                    out.writeInt(rows.get(record).id);
+                    out.writeInt(record);
+                }
+
+                for (Row row : rows) {
+                    out.write(row.name);
+                }
+                for (List<String> words : recordTokens) {
+                    for (String word : words) {
+                        out.writeInt(tokenIndex.get(word));
+                    }
+                }
+
+                int tokenOffset = (int) tokenBytesOffset;
+                int postingIndex = 0;
+                int leadIndex = 0;
+                for (byte[] token : dictionary) {
+                    String word = new String(token, StandardCharsets.UTF_8);
+                    IntList list = postings.get(word);
+                    IntList leadList = leads.getOrDefault(word, EMPTY);
+                    out.writeInt(tokenOffset);
+                    out.writeInt(token.length);
+                    out.writeInt(postingIndex);
+                    out.writeInt(list.size);
+                    out.writeInt(leadIndex);
+                    out.writeInt(leadList.size);
+                    tokenOffset += token.length;
+                    postingIndex += list.size;
+                    leadIndex += leadList.size;
+                }
+                for (byte[] token : dictionary) {
+                    out.write(token);
+                }
+                for (byte[] token : dictionary) {
+                    postings.get(new String(token, StandardCharsets.UTF_8)).writeTo(out);
+                }
+                for (byte[] token : dictionary) {
+                    leads.getOrDefault(new String(token, StandardCharsets.UTF_8), EMPTY).writeTo(out);
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return rows.size();
+    }
+
+    private static List<Row> read(BufferedReader csv) throws IOException {
+        String header = csv.readLine();
+        if (header == null) {
+            throw new IllegalArgumentException("Food CSV is empty");
+        }
+        List<String> columns = lower(parseLine(header.startsWith("\uFEFF") ? header.substring(1) : header));
+        int id = column(columns, "fdc_id", "id");
+        int name = column(columns, "description", "name");
+        int calories = column(columns, "energy_kcal", "calories");
+        int protein = column(columns, "protein_g", "protein");
+        int carbs = column(columns, "carbohydrate_g", "carbs");
+        int fats = column(columns, "fat_g", "fats");
+
+        List<Row> rows = new ArrayList<>();
+        String line;
+        int lineNumber = 1;
+        while ((line = csv.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            List<String> fields = parseLine(line);
+            try {
+                rows.add(new Row(
+                        Integer.parseInt(field(fields, id)),
+                        field(fields, name).getBytes(StandardCharsets.UTF_8),
+                        amount(field(fields, calories)),
+                        amount(field(fields, protein)),
+                        amount(field(fields, carbs)),
+                        amount(field(fields, fats))));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Malformed food CSV line " + lineNumber + ": " + e.getMessage(), e);
+            }
+        }
+        return rows;
+    }
+
+    private static int column(List<String> columns, String... names) {
+        for (String name : names) {
+            int index = columns.indexOf(name);
+            if (index >= 0) {
+                return index;
+            }
+        }
+        throw new IllegalArgumentException("Food CSV has no '" + names[0] + "' column");
+    }
+
+    private static String field(List<String> fields, int index) {
+        return index < fields.size() ? fields.get(index).trim() : "";
+    }
+
+    private static float amount(String value) {
+        return value.isEmpty() ? 0f : Float.parseFloat(value);
+    }
+
+    /** Splits one RFC 4180 line; quoted fields may contain commas and doubled quotes. */
+    static List<String> parseLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static List<String> lower(List<String> values) {
+        return values.stream().map(v -> v.trim().toLowerCase(Locale.ROOT)).toList();
+    }
+
+    private record Row(int id, byte[] name, float calories, float protein, float carbs, float fats) {
+    }
+
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            for (int i = 0; i < size; i++) {
+                out.writeInt(values[i]);
+            }
+        }
+    }
+}
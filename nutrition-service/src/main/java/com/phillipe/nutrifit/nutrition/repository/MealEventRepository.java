@@ -0,0 +1,63 @@
+package com.phillipe.nutrifit.nutrition.repository;
+
+import com.phillipe.nutrifit.nutrition.dto.response.MealEventResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Reads the meal_event change feed, which triggers on meal_log fill.
+ */
+@Repository
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class MealEventRepository {
+
+    // Events are read in (xact_id, id) order, and only those written by transactions older than
+    // the oldest one still running: every such transaction has ended, so no event can commit
+    // behind a position once it has been read. A long transaction holds the feed back until it ends
+    private static final String FEED_SQL = """
+            SELECT xact_id, id, user_id, local_date, calories, created_at
+            FROM meal_event
+            WHERE (xact_id, id) > (:afterXact, :after)
+              AND xact_id < pg_snapshot_xmin(pg_current_snapshot())::text::bigint
+            ORDER BY xact_id, id
+            LIMIT :limit
+            """;
+
+    private static final String PRUNE_SQL = "DELETE FROM meal_event WHERE created_at < :before";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public MealEventRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /** Up to {@code limit} committed events after the position {@code (afterXact, after)}, oldest first. */
+    public List<MealEventResponse> findAfter(long afterXact, long after, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("afterXact", afterXact)
+                .addValue("after", after)
+                .addValue("limit", limit);
+        return jdbcTemplate.query(FEED_SQL, params,
+                (rs, rowNum) -> MealEventResponse.builder()
+                        .xactId(rs.getLong("xact_id"))
+                        .id(rs.getLong("id"))
+                        .userId(rs.getLong("user_id"))
+                        .localDate(rs.getDate("local_date").toLocalDate())
+                        .calories(rs.getInt("calories"))
+                        .createdAt(rs.getObject("created_at", OffsetDateTime.class).toInstant())
+                        .build());
+    }
+
+    /** Drops the events created before {@code before}, read or not; returns how many. */
+    public int deleteCreatedBefore(Instant before) {
+        return jdbcTemplate.update(PRUNE_SQL,
+                new MapSqlParameterSource("before", OffsetDateTime.ofInstant(before, ZoneOffset.UTC)));
+    }
+}
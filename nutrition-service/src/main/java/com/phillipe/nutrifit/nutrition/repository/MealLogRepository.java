@@ -1,12 +1,35 @@
 package com.phillipe.nutrifit.nutrition.repository;
 
 import com.phillipe.nutrifit.nutrition.model.entity.MealLog;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
-public interface MealLogRepository extends JpaRepository<MealLog, Long> {
-    List<MealLog> findByUsernameOrderByCreatedAtDesc(String username);
-    Optional<MealLog> findByIdAndUsername(Long id, String username);
-}
\ No newline at end of file
+public interface MealLogRepository extends JpaRepository<MealLog, Long>, MealLogRepositoryCustom {
+
+    /**
+     * A user's meals in [from, to), newest first, strictly before the (createdAt, id) position.
+     * The row-value comparison lets Postgres seek straight to the position on the
+     * (user_id, created_at DESC, id DESC) index rather than filtering every newer row.
+     */
+    @Query("""
+            SELECT m FROM MealLog m
+            WHERE m.userId = :userId
+              AND m.createdAt >= :from AND m.createdAt < :to
+              AND (m.createdAt, m.id) < (:beforeCreatedAt, :beforeId)
+            ORDER BY m.createdAt DESC, m.id DESC
+            """)
+    List<MealLog> findPage(@Param("userId") Long userId,
+                           @Param("from") Instant from,
+                           @Param("to") Instant to,
+                           @Param("beforeCreatedAt") Instant beforeCreatedAt,
+                           @Param("beforeId") Long beforeId,
+                           Limit limit);
+
+    Optional<MealLog> findByIdAndUserId(Long id, Long userId);
+}
@@ -0,0 +1,23 @@
+package com.phillipe.nutrifit.nutrition.repository;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+public interface MealLogRepositoryCustom {
+
+    /**
+     * Copies a user's meals logged on local day {@code from} to day {@code to}, keeping each
+     * meal's time of day in {@code zone}, and adds them to that day's rollup. Returns the ids of
+     * the copies, empty if there was nothing to copy.
+     */
+    List<Long> copyDay(Long userId, LocalDate from, LocalDate to, ZoneId zone);
+
+    /**
+     * Logs the foods of one of the user's meal templates as a new meal and adds it to the day's
+     * rollup. Returns the new meal's id, empty if the template is not the user's.
+     */
+    Optional<Long> applyTemplate(Long templateId, Long userId, Instant createdAt, LocalDate localDate);
+}
@@ -0,0 +1,131 @@
+package com.phillipe.nutrifit.nutrition.repository;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class MealLogRepositoryImpl implements MealLogRepositoryCustom {
+
+    // Shared with the reactive build, which binds it with the same copyDayParams.
+    // New meal ids are drawn up front so each copied food row can be pointed at its new meal;
+    // meals, foods and the rollup are then each a single INSERT ... SELECT in one statement
+    static final String COPY_DAY_SQL = """
+            WITH source AS MATERIALIZED (
+                SELECT m.id AS source_id, nextval(pg_get_serial_sequence('meal_log', 'id')) AS id,
+                       (m.created_at AT TIME ZONE :zone + make_interval(days => :days)) AT TIME ZONE :zone AS created_at,
+                       m.total_calories, m.total_protein, m.total_carbs, m.total_fats
+                FROM (
+                    SELECT id, created_at, total_calories, total_protein, total_carbs, total_fats
+                    FROM meal_log
+                    WHERE user_id = :userId AND local_date = :from
+                    ORDER BY created_at, id
+                ) m
+            ), meals AS (
+                INSERT INTO meal_log (id, user_id, created_at, local_date, total_calories, total_protein,
+                                      total_carbs, total_fats)
+                SELECT id, :userId, created_at, :to, total_calories, total_protein, total_carbs, total_fats
+                FROM source
+            ), foods AS (
+                INSERT INTO meal_log_foods (meal_log_id, type, calories, protein, carbs, fats, food_id, grams,
+                                            recipe_id, servings)
+                SELECT s.id, f.type, f.calories, f.protein, f.carbs, f.fats, f.food_id, f.grams, f.recipe_id, f.servings
+                FROM source s
+                JOIN meal_log_foods f ON f.meal_log_id = s.source_id
+            ), daily AS (
+                INSERT INTO nutrition_daily_total (user_id, local_date, total_calories, total_protein,
+                                                   total_carbs, total_fats, meal_count)
+                SELECT :userId, :to, SUM(total_calories), SUM(total_protein), SUM(total_carbs), SUM(total_fats),
+                       COUNT(*)
+                FROM source
+                HAVING COUNT(*) > 0
+                ON CONFLICT (user_id, local_date) DO UPDATE
+                SET total_calories = nutrition_daily_total.total_calories + EXCLUDED.total_calories,
+                    total_protein = nutrition_daily_total.total_protein + EXCLUDED.total_protein,
+                    total_carbs = nutrition_daily_total.total_carbs + EXCLUDED.total_carbs,
+                    total_fats = nutrition_daily_total.total_fats + EXCLUDED.total_fats,
+                    meal_count = nutrition_daily_total.meal_count + EXCLUDED.meal_count
+            )
+            SELECT id FROM source ORDER BY id
+            """;
+
+    // The meal is only inserted if the template is the user's, and the foods only follow the meal
+    private static final String APPLY_TEMPLATE_SQL = """
+            WITH template AS (
+                SELECT id, total_calories, total_protein, total_carbs, total_fats
+                FROM meal_template
+                WHERE id = :templateId AND user_id = :userId
+            ), meal AS (
+                INSERT INTO meal_log (user_id, created_at, local_date, total_calories, total_protein, total_carbs, total_fats)
+                SELECT :userId, :createdAt, :localDate, total_calories, total_protein, total_carbs, total_fats
+                FROM template
+                RETURNING id
+            ), daily AS (
+                INSERT INTO nutrition_daily_total (user_id, local_date, total_calories, total_protein,
+                                                   total_carbs, total_fats, meal_count)
+                SELECT :userId, :localDate, total_calories, total_protein, total_carbs, total_fats, 1
+                FROM template
+                ON CONFLICT (user_id, local_date) DO UPDATE
+                SET total_calories = nutrition_daily_total.total_calories + EXCLUDED.total_calories,
+                    total_protein = nutrition_daily_total.total_protein + EXCLUDED.total_protein,
+                    total_carbs = nutrition_daily_total.total_carbs + EXCLUDED.total_carbs,
+                    total_fats = nutrition_daily_total.total_fats + EXCLUDED.total_fats,
+                    meal_count = nutrition_daily_total.meal_count + 1
+            ), foods AS (
+                INSERT INTO meal_log_foods (meal_log_id, type, calories, protein, carbs, fats, food_id, grams,
+                                            recipe_id, servings)
+                SELECT meal.id, f.type, f.calories, f.protein, f.carbs, f.fats, f.food_id, f.grams, f.recipe_id, f.servings
+                FROM meal
+                JOIN meal_template_foods f ON f.meal_template_id = :templateId
+            )
+            SELECT id FROM meal
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public MealLogRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<Long> copyDay(Long userId, LocalDate from, LocalDate to, ZoneId zone) {
+        return jdbcTemplate.queryForList(COPY_DAY_SQL, copyDayParams(userId, from, to, zone), Long.class);
+    }
+
+    /** Parameters of {@link #COPY_DAY_SQL}. */
+    static Map<String, Object> copyDayParams(Long userId, LocalDate from, LocalDate to, ZoneId zone) {
+        return Map.of(
+                "userId", userId,
+                "from", from,
+                "to", to,
+                "days", (int) ChronoUnit.DAYS.between(from, to),
+                "zone", sqlZone(zone));
+    }
+
+    @Override
+    public Optional<Long> applyTemplate(Long templateId, Long userId, Instant createdAt, LocalDate localDate) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("templateId", templateId)
+                .addValue("userId", userId)
+                .addValue("createdAt", OffsetDateTime.ofInstant(createdAt, ZoneOffset.UTC))
+                .addValue("localDate", localDate);
+        return jdbcTemplate.queryForList(APPLY_TEMPLATE_SQL, params, Long.class).stream().findFirst();
+    }
+
+    /**
+     * Zone name for AT TIME ZONE. Postgres reads bare offsets such as "+02:00" as POSIX zones,
+     * with the sign inverted, so fixed offsets shift in UTC instead; whole days are the same
+     * length in any fixed offset.
+     */
+    static String sqlZone(ZoneId zone) {
+        return zone == null || zone.normalized() instanceof ZoneOffset ? "UTC" : zone.getId();
+    }
+}
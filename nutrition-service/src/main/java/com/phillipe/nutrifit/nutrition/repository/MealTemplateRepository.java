@@ -0,0 +1,14 @@
+package com.phillipe.nutrifit.nutrition.repository;
+
+import com.phillipe.nutrifit.nutrition.model.entity.MealTemplate;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface MealTemplateRepository extends JpaRepository<MealTemplate, Long> {
+
+    List<MealTemplate> findByUserIdOrderByNameAscIdAsc(Long userId);
+
+    Optional<MealTemplate> findByIdAndUserId(Long id, Long userId);
+}
@@ -0,0 +1,54 @@
+package com.phillipe.nutrifit.nutrition.repository;
+
+import com.phillipe.nutrifit.nutrition.model.entity.NutritionDailyTotal;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+
+public interface NutritionDailyTotalRepository
+        extends JpaRepository<NutritionDailyTotal, NutritionDailyTotal.Key>, NutritionDailyTotalRepositoryCustom {
+
+    // Increments happen in the database, so concurrent meal writes for the same day never lose an
+    // update. The reactive build's meal insert runs this as a CTE with the same parameters
+    String ADD_MEAL_SQL = """
+            INSERT INTO nutrition_daily_total (user_id, local_date, total_calories, total_protein,
+                                               total_carbs, total_fats, meal_count)
+            VALUES (:userId, :localDate, :calories, :protein, :carbs, :fats, 1)
+            ON CONFLICT (user_id, local_date) DO UPDATE
+            SET total_calories = nutrition_daily_total.total_calories + EXCLUDED.total_calories,
+                total_protein = nutrition_daily_total.total_protein + EXCLUDED.total_protein,
+                total_carbs = nutrition_daily_total.total_carbs + EXCLUDED.total_carbs,
+                total_fats = nutrition_daily_total.total_fats + EXCLUDED.total_fats,
+                meal_count = nutrition_daily_total.meal_count + 1
+            """;
+
+    @Modifying
+    @Query(value = ADD_MEAL_SQL, nativeQuery = true)
+    void addMeal(@Param("userId") Long userId,
+                 @Param("localDate") LocalDate localDate,
+                 @Param("calories") int calories,
+                 @Param("protein") int protein,
+                 @Param("carbs") int carbs,
+                 @Param("fats") int fats);
+
+    // A day left with no meals keeps a zeroed row; summaries skip it
+    @Modifying
+    @Query(value = """
+            UPDATE nutrition_daily_total
+            SET total_calories = total_calories - :calories,
+                total_protein = total_protein - :protein,
+                total_carbs = total_carbs - :carbs,
+                total_fats = total_fats - :fats,
+                meal_count = meal_count - 1
+            WHERE user_id = :userId AND local_date = :localDate
+            """, nativeQuery = true)
+    void removeMeal(@Param("userId") Long userId,
+                    @Param("localDate") LocalDate localDate,
+                    @Param("calories") int calories,
+                    @Param("protein") int protein,
+                    @Param("carbs") int carbs,
+                    @Param("fats") int fats);
+}
@@ -0,0 +1,24 @@
+package com.phillipe.nutrifit.nutrition.repository;
+
+import com.phillipe.nutrifit.nutrition.model.SummaryPeriod;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface NutritionDailyTotalRepositoryCustom {
+
+    /**
+     * Sums the daily rollups per day, week or month for local dates in [from, to], oldest
+     * period first. Periods without meals are omitted.
+     */
+    List<PeriodTotals> summarize(Long userId, SummaryPeriod period, LocalDate from, LocalDate to);
+
+    /**
+     * Recomputes every user's rollups from meal_log and returns the number of day rows written.
+     * Must run inside a transaction: meal writes are blocked until it commits, so no increment
+     * can fall between the delete and the insert.
+     */
+    int rebuildAll();
+
+    record PeriodTotals(LocalDate periodStart, int calories, int protein, int carbs, int fats, int mealCount) {}
+}
@@ -0,0 +1,62 @@
+package com.phillipe.nutrifit.nutrition.repository;
+
+import com.phillipe.nutrifit.nutrition.model.SummaryPeriod;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+public class NutritionDailyTotalRepositoryImpl implements NutritionDailyTotalRepositoryCustom {
+
+    // Shared with the reactive build, which binds it with the same summaryParams
+    static final String SUMMARY_SQL = """
+            SELECT date_trunc(:unit, local_date)::date AS period_start,
+                   SUM(total_calories) AS total_calories, SUM(total_protein) AS total_protein,
+                   SUM(total_carbs) AS total_carbs, SUM(total_fats) AS total_fats,
+                   SUM(meal_count) AS meal_count
+            FROM nutrition_daily_total
+            WHERE user_id = :userId AND local_date BETWEEN :from AND :to AND meal_count > 0
+            GROUP BY 1
+            ORDER BY 1
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public NutritionDailyTotalRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<PeriodTotals> summarize(Long userId, SummaryPeriod period, LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(SUMMARY_SQL, summaryParams(userId, period, from, to),
+                (rs, rowNum) -> new PeriodTotals(
+                        rs.getDate("period_start").toLocalDate(),
+                        rs.getInt("total_calories"),
+                        rs.getInt("total_protein"),
+                        rs.getInt("total_carbs"),
+                        rs.getInt("total_fats"),
+                        rs.getInt("meal_count")));
+    }
+
+    /** Parameters of {@link #SUMMARY_SQL}. */
+    static Map<String, Object> summaryParams(Long userId, SummaryPeriod period, LocalDate from, LocalDate to) {
+        return Map.of("unit", period.getTruncUnit(), "userId", userId, "from", from, "to", to);
+    }
+
+    @Override
+    public int rebuildAll() {
+        JdbcOperations jdbc = jdbcTemplate.getJdbcOperations();
+        jdbc.execute("LOCK TABLE meal_log IN SHARE MODE");
+        jdbc.update("DELETE FROM nutrition_daily_total");
+        return jdbc.update("""
+                INSERT INTO nutrition_daily_total (user_id, local_date, total_calories, total_protein,
+                                                   total_carbs, total_fats, meal_count)
+                SELECT user_id, local_date, SUM(total_calories), SUM(total_protein), SUM(total_carbs),
+                       SUM(total_fats), COUNT(*)
+                FROM meal_log
+                GROUP BY user_id, local_date
+                """);
+    }
+}
@@ -0,0 +1,304 @@
+package com.phillipe.nutrifit.nutrition.repository;
+
+import com.phillipe.nutrifit.nutrition.dto.response.FoodItemResponse;
+import com.phillipe.nutrifit.nutrition.dto.response.MealLogResponse;
+import com.phillipe.nutrifit.nutrition.model.RecipeMacros;
+import com.phillipe.nutrifit.nutrition.model.embedded.MealFoodEntry;
+import com.phillipe.nutrifit.nutrition.model.SummaryPeriod;
+import com.phillipe.nutrifit.nutrition.model.entity.MealLog;
+import com.phillipe.nutrifit.nutrition.model.entity.RecentFood;
+import com.phillipe.nutrifit.nutrition.repository.NutritionDailyTotalRepositoryCustom.PeriodTotals;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * R2DBC access to meal_log and meal_log_foods for the reactive build, which serves the
+ * /meals endpoints only. R2DBC has no relationship mapping, so the element collection is
+ * written and read with plain SQL. Where the servlet build has a statement for the same job
+ * it is reused, bound the same way; each statement and its bindings come from a
+ * {@link Statement} factory so the query-plan suite can run them through JDBC.
+ */
+@Repository
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveMealLogRepository {
+
+    // Meal, foods, the day's rollup and the user's recent foods go in with one atomic statement,
+    // so a write is a single round trip. The rollup and recent foods are the servlet build's
+    // upserts, run as CTEs
+    private static final String INSERT_SQL = """
+            WITH meal AS (
+                INSERT INTO meal_log (user_id, created_at, local_date, total_calories, total_protein, total_carbs, total_fats)
+                VALUES (:userId, :createdAt, :localDate, :calories, :protein, :carbs, :fats)
+                RETURNING id
+            ), daily AS (
+            %s), foods AS (
+                INSERT INTO meal_log_foods (meal_log_id, type, calories, protein, carbs, fats, food_id, grams,
+                                            recipe_id, servings)
+                SELECT meal.id, f.type, f.calories, f.protein, f.carbs, f.fats, f.food_id, f.grams, f.recipe_id, f.servings
+                FROM meal, unnest(:foodTypes::varchar[], :foodCalories::int[], :foodProtein::int[], :foodCarbs::int[],
+                                  :foodFats::int[], :foodIds::int[], :foodGrams::int[], :foodRecipeIds::bigint[],
+                                  :foodServings::float8[])
+                    AS f(type, calories, protein, carbs, fats, food_id, grams, recipe_id, servings)
+            ), %s
+            SELECT id FROM meal
+            """.formatted(NutritionDailyTotalRepository.ADD_MEAL_SQL, RecentFoodRepositoryImpl.RECORD_CTES);
+
+    // Meals are picked (and limited) first so LIMIT counts meals, not food rows; the join then
+    // yields one row per food, newest meal first, with rows of the same meal adjacent
+    private static final String FIND_SQL = """
+            WITH page AS (
+                SELECT id, created_at, total_calories, total_protein, total_carbs, total_fats
+                FROM meal_log
+                WHERE user_id = :userId%s
+                ORDER BY created_at DESC, id DESC%s
+            )
+            SELECT m.id, m.created_at, m.total_calories, m.total_protein, m.total_carbs, m.total_fats,
+                   f.type, f.calories, f.protein, f.carbs, f.fats, f.food_id, f.grams,
+                   f.recipe_id, f.servings
+            FROM page m
+            LEFT JOIN meal_log_foods f ON f.meal_log_id = m.id
+            ORDER BY m.created_at DESC, m.id DESC
+            """;
+
+    // Only takes the meal out of its day's rollup if the delete matched; the foods go with the
+    // meal through ON DELETE CASCADE
+    private static final String DELETE_SQL = """
+            WITH meal AS (
+                DELETE FROM meal_log WHERE id = :id AND user_id = :userId
+                RETURNING user_id, local_date, total_calories, total_protein, total_carbs, total_fats
+            ), daily AS (
+                UPDATE nutrition_daily_total d
+                SET total_calories = d.total_calories - meal.total_calories,
+                    total_protein = d.total_protein - meal.total_protein,
+                    total_carbs = d.total_carbs - meal.total_carbs,
+                    total_fats = d.total_fats - meal.total_fats,
+                    meal_count = d.meal_count - 1
+                FROM meal
+                WHERE d.user_id = meal.user_id AND d.local_date = meal.local_date
+            )
+            SELECT COUNT(*) AS deleted FROM meal
+            """;
+
+    // Cached totals only, by primary key, as RecipeRepository#findMacros reads them
+    private static final String RECIPE_MACROS_SQL = """
+            SELECT id, name, servings, total_calories, total_protein, total_carbs, total_fats
+            FROM recipe
+            WHERE id = ANY(:ids) AND user_id = :userId
+            """;
+
+    private final DatabaseClient db;
+
+    public ReactiveMealLogRepository(DatabaseClient db) {
+        this.db = db;
+    }
+
+    /** Inserts the meal and records {@code used}, as built for {@link RecentFoodRepositoryCustom#record}. */
+    public Mono<Long> insert(MealLog meal, List<RecentFood> used) {
+        return execute(Statement.insert(meal, used))
+                .map((row, metadata) -> row.get("id", Long.class))
+                .one();
+    }
+
+    /** Totals of the user's recipes among {@code ids}, to resolve the servings a meal logs. */
+    public Flux<RecipeMacros> findRecipeMacros(Collection<Long> ids, Long userId) {
+        return execute(Statement.recipeMacros(ids, userId))
+                .map((row, metadata) -> new RecipeMacros(
+                        row.get("id", Long.class),
+                        row.get("name", String.class),
+                        row.get("servings", Integer.class),
+                        row.get("total_calories", Integer.class),
+                        row.get("total_protein", Integer.class),
+                        row.get("total_carbs", Integer.class),
+                        row.get("total_fats", Integer.class)))
+                .all();
+    }
+
+    /**
+     * Streams a user's meals newest first. {@code from}/{@code to} bound created_at (inclusive
+     * and exclusive), {@code before} resumes after a previous page and {@code limit} caps the
+     * number of meals; any of them may be null.
+     */
+    public Flux<MealLogResponse> streamByUserId(Long userId, Instant from, Instant to,
+                                                  MealLogCursor before, Integer limit) {
+        return stream(execute(Statement.byUserId(userId, from, to, before, limit)));
+    }
+
+    /** The user's meals with the given ids, newest first. */
+    public Flux<MealLogResponse> streamByIds(Long userId, List<Long> ids) {
+        return stream(execute(Statement.byIds(userId, ids)));
+    }
+
+    /** See {@link MealLogRepositoryCustom#copyDay}. */
+    public Flux<Long> copyDay(Long userId, LocalDate from, LocalDate to, ZoneId zone) {
+        return execute(Statement.copyDay(userId, from, to, zone))
+                .map((row, metadata) -> row.get("id", Long.class))
+                .all();
+    }
+
+    public Mono<Long> deleteByIdAndUserId(Long id, Long userId) {
+        return execute(Statement.delete(id, userId))
+                .map((row, metadata) -> row.get("deleted", Long.class))
+                .one();
+    }
+
+    public Flux<PeriodTotals> summarize(Long userId, SummaryPeriod period, LocalDate from, LocalDate to) {
+        return execute(Statement.summary(userId, period, from, to))
+                .map((row, metadata) -> new PeriodTotals(
+                        row.get("period_start", LocalDate.class),
+                        row.get("total_calories", Long.class).intValue(),
+                        row.get("total_protein", Long.class).intValue(),
+                        row.get("total_carbs", Long.class).intValue(),
+                        row.get("total_fats", Long.class).intValue(),
+                        row.get("meal_count", Long.class).intValue()))
+                .all();
+    }
+
+    private DatabaseClient.GenericExecuteSpec execute(Statement statement) {
+        DatabaseClient.GenericExecuteSpec spec = db.sql(statement.sql());
+        for (Map.Entry<String, Object> param : statement.params().entrySet()) {
+            spec = spec.bind(param.getKey(), param.getValue());
+        }
+        return spec;
+    }
+
+    /**
+     * A statement of this repository with its named parameters, in types both R2DBC and JDBC
+     * bind: times as UTC {@link OffsetDateTime}s, lists as arrays. None of the values is null.
+     */
+    record Statement(String sql, Map<String, Object> params) {
+
+        static Statement insert(MealLog meal, List<RecentFood> used) {
+            List<MealFoodEntry> foods = meal.getFoods();
+            Map<String, Object> params = new LinkedHashMap<>(RecentFoodRepositoryImpl.recordParams(used));
+            params.put("userId", meal.getUserId());
+            params.put("createdAt", utc(meal.getCreatedAt()));
+            params.put("localDate", meal.getLocalDate());
+            params.put("calories", meal.getTotalCalories());
+            params.put("protein", meal.getTotalProtein());
+            params.put("carbs", meal.getTotalCarbs());
+            params.put("fats", meal.getTotalFats());
+            params.put("foodTypes", foods.stream().map(MealFoodEntry::getType).toArray(String[]::new));
+            params.put("foodCalories", foods.stream().map(MealFoodEntry::getCalories).toArray(Integer[]::new));
+            params.put("foodProtein", foods.stream().map(MealFoodEntry::getProtein).toArray(Integer[]::new));
+            params.put("foodCarbs", foods.stream().map(MealFoodEntry::getCarbs).toArray(Integer[]::new));
+            params.put("foodFats", foods.stream().map(MealFoodEntry::getFats).toArray(Integer[]::new));
+            params.put("foodIds", foods.stream().map(MealFoodEntry::getFoodId).toArray(Integer[]::new));
+            params.put("foodGrams", foods.stream().map(MealFoodEntry::getGrams).toArray(Integer[]::new));
+            params.put("foodRecipeIds", foods.stream().map(MealFoodEntry::getRecipeId).toArray(Long[]::new));
+            params.put("foodServings", foods.stream().map(MealFoodEntry::getServings).toArray(Double[]::new));
+            return new Statement(INSERT_SQL, params);
+        }
+
+        static Statement recipeMacros(Collection<Long> ids, Long userId) {
+            return new Statement(RECIPE_MACROS_SQL, Map.of("ids", ids.toArray(Long[]::new), "userId", userId));
+        }
+
+        static Statement byUserId(Long userId, Instant from, Instant to, MealLogCursor before, Integer limit) {
+            StringBuilder where = new StringBuilder();
+            Map<String, Object> params = new LinkedHashMap<>();
+            params.put("userId", userId);
+            if (from != null) {
+                where.append(" AND created_at >= :from");
+                params.put("from", utc(from));
+            }
+            if (to != null) {
+                where.append(" AND created_at < :to");
+                params.put("to", utc(to));
+            }
+            if (before != null) {
+                where.append(" AND (created_at, id) < (:beforeCreatedAt, :beforeId)");
+                params.put("beforeCreatedAt", utc(before.createdAt()));
+                params.put("beforeId", before.id());
+            }
+            if (limit != null) {
+                params.put("limit", limit);
+            }
+            return new Statement(FIND_SQL.formatted(where, limit != null ? " LIMIT :limit" : ""), params);
+        }
+
+        static Statement byIds(Long userId, List<Long> ids) {
+            return new Statement(FIND_SQL.formatted(" AND id = ANY(:ids)", ""),
+                    Map.of("userId", userId, "ids", ids.toArray(Long[]::new)));
+        }
+
+        static Statement copyDay(Long userId, LocalDate from, LocalDate to, ZoneId zone) {
+            return new Statement(MealLogRepositoryImpl.COPY_DAY_SQL,
+                    MealLogRepositoryImpl.copyDayParams(userId, from, to, zone));
+        }
+
+        static Statement delete(Long id, Long userId) {
+            return new Statement(DELETE_SQL, Map.of("id", id, "userId", userId));
+        }
+
+        static Statement summary(Long userId, SummaryPeriod period, LocalDate from, LocalDate to) {
+            return new Statement(NutritionDailyTotalRepositoryImpl.SUMMARY_SQL,
+                    NutritionDailyTotalRepositoryImpl.summaryParams(userId, period, from, to));
+        }
+
+        private static OffsetDateTime utc(Instant instant) {
+            return OffsetDateTime.ofInstant(instant, ZoneOffset.UTC);
+        }
+    }
+
+    private static Flux<MealLogResponse> stream(DatabaseClient.GenericExecuteSpec spec) {
+        return spec
+                .map((row, metadata) -> new MealFoodRow(
+                        row.get("id", Long.class),
+                        row.get("created_at", OffsetDateTime.class).toInstant(),
+                        row.get("total_calories", Integer.class),
+                        row.get("total_protein", Integer.class),
+                        row.get("total_carbs", Integer.class),
+                        row.get("total_fats", Integer.class),
+                        row.get("type", String.class) == null ? null : FoodItemResponse.builder()
+                                .type(row.get("type", String.class))
+                                .calories(row.get("calories", Integer.class))
+                                .protein(row.get("protein", Integer.class))
+                                .carbs(row.get("carbs", Integer.class))
+                                .fats(row.get("fats", Integer.class))
+                                .foodId(row.get("food_id", Integer.class))
+                                .grams(row.get("grams", Integer.class))
+                                .recipeId(row.get("recipe_id", Long.class))
+                                .servings(row.get("servings", Double.class))
+                                .build()))
+                .all()
+                .bufferUntilChanged(MealFoodRow::mealId)
+                .map(ReactiveMealLogRepository::toResponse);
+    }
+
+    private static MealLogResponse toResponse(List<MealFoodRow> rows) {
+        MealFoodRow first = rows.get(0);
+        List<FoodItemResponse> foods = new ArrayList<>(rows.size());
+        for (MealFoodRow row : rows) {
+            if (row.food() != null) {
+                foods.add(row.food());
+            }
+        }
+        return MealLogResponse.builder()
+                .id(first.mealId())
+                .createdAt(first.createdAt())
+                .totalCalories(first.totalCalories())
+                .totalProtein(first.totalProtein())
+                .totalCarbs(first.totalCarbs())
+                .totalFats(first.totalFats())
+                .foods(foods)
+                .build();
+    }
+
+    private record MealFoodRow(Long mealId, Instant createdAt, Integer totalCalories, Integer totalProtein,
+                               Integer totalCarbs, Integer totalFats, FoodItemResponse food) {
+    }
+}
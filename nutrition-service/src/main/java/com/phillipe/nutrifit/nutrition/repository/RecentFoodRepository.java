@@ -0,0 +1,13 @@
+package com.phillipe.nutrifit.nutrition.repository;
+
+import com.phillipe.nutrifit.nutrition.model.entity.RecentFood;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface RecentFoodRepository
+        extends JpaRepository<RecentFood, RecentFood.Key>, RecentFoodRepositoryCustom {
+
+    List<RecentFood> findByUserIdOrderByLastUsedAtDesc(Long userId, Limit limit);
+}
@@ -0,0 +1,19 @@
+package com.phillipe.nutrifit.nutrition.repository;
+
+import com.phillipe.nutrifit.nutrition.model.entity.RecentFood;
+
+import java.util.List;
+
+public interface RecentFoodRepositoryCustom {
+
+    /** Rows kept per user; older ones are pruned as new foods are recorded. */
+    int KEPT_PER_USER = 100;
+
+    /**
+     * Upserts the foods one new meal used, at most one per food key, each carrying the number
+     * of times the meal used it and the meal's time. Counts are added in the database, so
+     * concurrent meals never lose a use. Also prunes the user's rows beyond the newest
+     * {@link #KEPT_PER_USER}. Returns the number of rows upserted.
+     */
+    int record(Long userId, List<RecentFood> used);
+}
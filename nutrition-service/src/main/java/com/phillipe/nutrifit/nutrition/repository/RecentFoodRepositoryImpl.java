@@ -0,0 +1,80 @@
+package com.phillipe.nutrifit.nutrition.repository;
+
+import com.phillipe.nutrifit.nutrition.model.entity.RecentFood;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class RecentFoodRepositoryImpl implements RecentFoodRepositoryCustom {
+
+    // Shared with the reactive build, whose meal insert runs these as two more CTEs and binds
+    // the same parameters by name. The prune sees the rows as they were before the statement,
+    // so it spares the keys being upserted and a user briefly holds at most one meal's worth
+    // of foods over the limit
+    static final String RECORD_CTES = """
+            recent_pruned AS (
+                DELETE FROM recent_food
+                WHERE user_id = :userId AND food_key <> ALL(:recentKeys::varchar[])
+                  AND last_used_at < (SELECT last_used_at FROM recent_food WHERE user_id = :userId
+                                      ORDER BY last_used_at DESC OFFSET %d LIMIT 1)
+            ), recent AS (
+                INSERT INTO recent_food (user_id, food_key, type, calories, protein, carbs, fats, food_id, grams,
+                                         recipe_id, servings, use_count, last_used_at)
+                SELECT :userId, r.food_key, r.type, r.calories, r.protein, r.carbs, r.fats, r.food_id, r.grams,
+                       r.recipe_id, r.servings, r.use_count, :createdAt
+                FROM unnest(:recentKeys::varchar[], :recentTypes::varchar[], :recentCalories::int[],
+                            :recentProtein::int[], :recentCarbs::int[], :recentFats::int[], :recentFoodIds::int[],
+                            :recentGrams::int[], :recentRecipeIds::bigint[], :recentServings::float8[],
+                            :recentUses::int[])
+                    AS r(food_key, type, calories, protein, carbs, fats, food_id, grams, recipe_id, servings, use_count)
+                ON CONFLICT (user_id, food_key) DO UPDATE
+                SET type = EXCLUDED.type, calories = EXCLUDED.calories, protein = EXCLUDED.protein,
+                    carbs = EXCLUDED.carbs, fats = EXCLUDED.fats, food_id = EXCLUDED.food_id,
+                    grams = EXCLUDED.grams, recipe_id = EXCLUDED.recipe_id, servings = EXCLUDED.servings,
+                    use_count = recent_food.use_count + EXCLUDED.use_count,
+                    last_used_at = GREATEST(recent_food.last_used_at, EXCLUDED.last_used_at)
+                RETURNING food_key
+            )
+            """.formatted(KEPT_PER_USER - 1);
+
+    private static final String RECORD_SQL = "WITH " + RECORD_CTES + "SELECT COUNT(*) FROM recent";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public RecentFoodRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int record(Long userId, List<RecentFood> used) {
+        if (used.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource(recordParams(used))
+                .addValue("userId", userId)
+                .addValue("createdAt", OffsetDateTime.ofInstant(used.getFirst().getLastUsedAt(), ZoneOffset.UTC));
+        return jdbcTemplate.queryForObject(RECORD_SQL, params, Integer.class);
+    }
+
+    /** The per-food array parameters of {@link #RECORD_CTES}. */
+    static Map<String, Object> recordParams(List<RecentFood> used) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("recentKeys", used.stream().map(RecentFood::getFoodKey).toArray(String[]::new));
+        params.put("recentTypes", used.stream().map(RecentFood::getType).toArray(String[]::new));
+        params.put("recentCalories", used.stream().map(RecentFood::getCalories).toArray(Integer[]::new));
+        params.put("recentProtein", used.stream().map(RecentFood::getProtein).toArray(Integer[]::new));
+        params.put("recentCarbs", used.stream().map(RecentFood::getCarbs).toArray(Integer[]::new));
+        params.put("recentFats", used.stream().map(RecentFood::getFats).toArray(Integer[]::new));
+        params.put("recentFoodIds", used.stream().map(RecentFood::getFoodId).toArray(Integer[]::new));
+        params.put("recentGrams", used.stream().map(RecentFood::getGrams).toArray(Integer[]::new));
+        params.put("recentRecipeIds", used.stream().map(RecentFood::getRecipeId).toArray(Long[]::new));
+        params.put("recentServings", used.stream().map(RecentFood::getServings).toArray(Double[]::new));
+        params.put("recentUses", used.stream().map(RecentFood::getUseCount).toArray(Integer[]::new));
+        return params;
+    }
+}
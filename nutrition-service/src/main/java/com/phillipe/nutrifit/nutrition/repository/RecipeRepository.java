@@ -0,0 +1,27 @@
+package com.phillipe.nutrifit.nutrition.repository;
+
+import com.phillipe.nutrifit.nutrition.model.RecipeMacros;
+import com.phillipe.nutrifit.nutrition.model.entity.Recipe;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface RecipeRepository extends JpaRepository<Recipe, Long> {
+
+    List<Recipe> findByUserIdOrderByNameAscIdAsc(Long userId);
+
+    Optional<Recipe> findByIdAndUserId(Long id, Long userId);
+
+    /** Cached totals only, by primary key; ingredients are never read when logging a meal. */
+    @Query("""
+            SELECT new com.phillipe.nutrifit.nutrition.model.RecipeMacros(
+                r.id, r.name, r.servings, r.totalCalories, r.totalProtein, r.totalCarbs, r.totalFats)
+            FROM Recipe r
+            WHERE r.id IN :ids AND r.userId = :userId
+            """)
+    List<RecipeMacros> findMacros(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+}
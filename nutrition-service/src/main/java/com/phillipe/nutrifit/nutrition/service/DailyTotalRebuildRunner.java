@@ -0,0 +1,50 @@
+package com.phillipe.nutrifit.nutrition.service;
+
+import com.phillipe.nutrifit.nutrition.repository.NutritionDailyTotalRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * One-off backfill of nutrition_daily_total from meal_log, for after a bulk import or manual
+ * data fix. Starting the service with {@code --rebuild-daily-totals} recomputes every user's
+ * rollups in one transaction and then shuts down instead of serving requests.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class DailyTotalRebuildRunner implements ApplicationRunner {
+
+    static final String OPTION = "rebuild-daily-totals";
+
+    private static final Logger log = LoggerFactory.getLogger(DailyTotalRebuildRunner.class);
+
+    private final NutritionDailyTotalRepository dailyTotalRepo;
+    private final TransactionTemplate tx;
+    private final ConfigurableApplicationContext context;
+
+    public DailyTotalRebuildRunner(NutritionDailyTotalRepository dailyTotalRepo,
+                                   PlatformTransactionManager transactionManager,
+                                   ConfigurableApplicationContext context) {
+        this.dailyTotalRepo = dailyTotalRepo;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption(OPTION)) {
+            return;
+        }
+        long started = System.nanoTime();
+        Integer days = tx.execute(status -> dailyTotalRepo.rebuildAll());
+        log.info("Rebuilt {} daily nutrition totals in {} ms", days, (System.nanoTime() - started) / 1_000_000);
+        System.exit(SpringApplication.exit(context, () -> 0));
+    }
+}
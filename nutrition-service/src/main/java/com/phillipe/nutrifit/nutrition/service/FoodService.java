@@ -0,0 +1,10 @@
+package com.phillipe.nutrifit.nutrition.service;
+
+import com.phillipe.nutrifit.nutrition.dto.response.FoodResponse;
+
+import java.util.List;
+
+public interface FoodService {
+    List<FoodResponse> search(String query, Integer limit);
+    FoodResponse getFood(int id);
+}
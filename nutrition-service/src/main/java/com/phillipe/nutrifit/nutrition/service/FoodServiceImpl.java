@@ -0,0 +1,38 @@
+package com.phillipe.nutrifit.nutrition.service;
+
+import com.phillipe.nutrifit.nutrition.dto.response.FoodResponse;
+import com.phillipe.nutrifit.nutrition.repository.FoodStore;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+// Serves both builds; the store is memory-mapped, so lookups never block on I/O worth offloading
+@Service
+public class FoodServiceImpl implements FoodService {
+
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_LIMIT = 50;
+
+    private final FoodStore foodStore;
+
+    public FoodServiceImpl(FoodStore foodStore) {
+        this.foodStore = foodStore;
+    }
+
+    @Override
+    public List<FoodResponse> search(String query, Integer limit) {
+        int max = limit == null ? DEFAULT_LIMIT : Math.clamp(limit, 1, MAX_LIMIT);
+        return foodStore.search(query, max)
+                .stream()
+                .map(FoodResponse::fromFood)
+                .toList();
+    }
+
+    @Override
+    public FoodResponse getFood(int id) {
+        return foodStore.findById(id)
+                .map(FoodResponse::fromFood)
+                .orElseThrow(() -> new EntityNotFoundException("Food not found"));
+    }
+}
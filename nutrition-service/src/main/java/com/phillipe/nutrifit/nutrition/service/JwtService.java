@@ -14,6 +14,15 @@ import java.util.function.Function;
 @Service
 public class JwtService {
 
+    /** Claim holding the backend's numeric user id, which nutrition data is keyed by. */
+    public static final String USER_ID_CLAIM = "uid";
+
+    /** Claim naming what a service token may do; service tokens carry no user id. */
+    public static final String SCOPE_CLAIM = "scope";
+
+    /** Scope of the tokens other services read the meal change feed with. */
+    public static final String MEAL_EVENTS_SCOPE = "meal-events";
+
     private final String secretKey;
 
     public JwtService(@Value("${jwt.secret}") String secretKey) {
@@ -30,6 +39,15 @@ public class JwtService {
         return extractClaim(token, Claims::getSubject);
     }
 
+    /** The token's user id, or null for tokens issued before the claim existed. */
+    public Long extractUserId(String token) {
+        return extractClaim(token, claims -> claims.get(USER_ID_CLAIM, Long.class));
+    }
+
+    public String extractScope(String token) {
+        return extractClaim(token, claims -> claims.get(SCOPE_CLAIM, String.class));
+    }
+
     public boolean isTokenExpired(String token) {
         return extractExpiration(token).before(new Date());
     }
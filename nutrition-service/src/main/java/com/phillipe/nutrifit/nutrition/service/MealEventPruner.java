@@ -0,0 +1,55 @@
+package com.phillipe.nutrifit.nutrition.service;
+
+import com.phillipe.nutrifit.nutrition.repository.MealEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Drops meal events older than {@code meal-events.retention}, so reading the feed never writes.
+ * The window is the longest a reader can stay away and still resume from its cursor; one gone
+ * longer misses the pruned events.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class MealEventPruner {
+
+    private static final Logger log = LoggerFactory.getLogger(MealEventPruner.class);
+
+    private final MealEventRepository mealEventRepo;
+    private final Clock clock;
+    private final Duration retention;
+
+    @Autowired
+    public MealEventPruner(MealEventRepository mealEventRepo,
+                           @Value("${meal-events.retention:7d}") Duration retention) {
+        this(mealEventRepo, Clock.systemUTC(), retention);
+    }
+
+    MealEventPruner(MealEventRepository mealEventRepo, Clock clock, Duration retention) {
+        this.mealEventRepo = mealEventRepo;
+        this.clock = clock;
+        this.retention = retention;
+    }
+
+    @Scheduled(cron = "${meal-events.prune-cron:0 45 3 * * *}", zone = "UTC")
+    public void prune() {
+        try {
+            int removed = mealEventRepo.deleteCreatedBefore(Instant.now(clock).minus(retention));
+            if (removed > 0) {
+                log.info("Pruned {} meal events older than {}", removed, retention);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Pruning meal events failed, retrying on the next run: {}", e.getMessage());
+        }
+    }
+}
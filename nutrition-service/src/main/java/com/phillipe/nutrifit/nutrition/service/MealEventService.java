@@ -0,0 +1,9 @@
+package com.phillipe.nutrifit.nutrition.service;
+
+import com.phillipe.nutrifit.nutrition.dto.response.MealEventResponse;
+
+import java.util.List;
+
+public interface MealEventService {
+    List<MealEventResponse> getEvents(long afterXact, long after, Integer limit);
+}
@@ -0,0 +1,41 @@
+package com.phillipe.nutrifit.nutrition.service;
+
+import com.phillipe.nutrifit.nutrition.dto.response.MealEventResponse;
+import com.phillipe.nutrifit.nutrition.repository.MealEventRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class MealEventServiceImpl implements MealEventService {
+
+    private static final int DEFAULT_LIMIT = 500;
+    private static final int MAX_LIMIT = 5000;
+
+    private final MealEventRepository mealEventRepo;
+
+    public MealEventServiceImpl(MealEventRepository mealEventRepo) {
+        this.mealEventRepo = mealEventRepo;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MealEventResponse> getEvents(long afterXact, long after, Integer limit) {
+        return mealEventRepo.findAfter(validAfter("afterXact", afterXact), validAfter("after", after),
+                pageSize(limit));
+    }
+
+    static long validAfter(String name, long after) {
+        if (after < 0) {
+            throw new IllegalArgumentException("'" + name + "' must not be negative");
+        }
+        return after;
+    }
+
+    static int pageSize(Integer limit) {
+        return limit == null ? DEFAULT_LIMIT : Math.clamp(limit, 1, MAX_LIMIT);
+    }
+}
@@ -1,12 +1,22 @@
 package com.phillipe.nutrifit.nutrition.service;
 
 import com.phillipe.nutrifit.nutrition.dto.request.MealLogRequest;
+import com.phillipe.nutrifit.nutrition.dto.response.MealLogPageResponse;
 import com.phillipe.nutrifit.nutrition.dto.response.MealLogResponse;
+import com.phillipe.nutrifit.nutrition.dto.response.NutritionTotalsResponse;
+import com.phillipe.nutrifit.nutrition.model.SummaryPeriod;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.List;
 
 public interface MealLogService {
-    MealLogResponse createMeal(MealLogRequest request, String username);
-    List<MealLogResponse> getMyMeals(String username);
-    void deleteMeal(Long id, String username);
+    MealLogResponse createMeal(MealLogRequest request, Long userId, ZoneId zone);
+    List<MealLogResponse> getMyMeals(Long userId, Instant from, Instant to);
+    MealLogPageResponse getMyMealsPage(Long userId, Instant from, Instant to, String cursor, Integer limit);
+    void deleteMeal(Long id, Long userId);
+    List<MealLogResponse> copyDay(Long userId, LocalDate from, LocalDate to, ZoneId zone);
+    List<NutritionTotalsResponse> getSummary(Long userId, SummaryPeriod period,
+                                             LocalDate from, LocalDate to, ZoneId zone);
 }
\ No newline at end of file
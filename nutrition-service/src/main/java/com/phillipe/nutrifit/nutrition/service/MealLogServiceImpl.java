@@ -3,78 +3,292 @@ package com.phillipe.nutrifit.nutrition.service;
 import com.phillipe.nutrifit.nutrition.dto.request.FoodItemRequest;
 import com.phillipe.nutrifit.nutrition.dto.request.MealLogRequest;
 import com.phillipe.nutrifit.nutrition.dto.response.FoodItemResponse;
+import com.phillipe.nutrifit.nutrition.dto.response.MealLogPageResponse;
 import com.phillipe.nutrifit.nutrition.dto.response.MealLogResponse;
+import com.phillipe.nutrifit.nutrition.dto.response.NutritionTotalsResponse;
+import com.phillipe.nutrifit.nutrition.model.Food;
+import com.phillipe.nutrifit.nutrition.model.RecipeMacros;
+import com.phillipe.nutrifit.nutrition.model.SummaryPeriod;
 import com.phillipe.nutrifit.nutrition.model.embedded.MealFoodEntry;
 import com.phillipe.nutrifit.nutrition.model.entity.MealLog;
+import com.phillipe.nutrifit.nutrition.model.entity.RecentFood;
+import com.phillipe.nutrifit.nutrition.repository.FoodStore;
+import com.phillipe.nutrifit.nutrition.repository.MealLogCursor;
 import com.phillipe.nutrifit.nutrition.repository.MealLogRepository;
+import com.phillipe.nutrifit.nutrition.repository.NutritionDailyTotalRepository;
+import com.phillipe.nutrifit.nutrition.repository.NutritionDailyTotalRepositoryCustom.PeriodTotals;
+import com.phillipe.nutrifit.nutrition.repository.RecentFoodRepository;
+import com.phillipe.nutrifit.nutrition.repository.RecipeRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class MealLogServiceImpl implements MealLogService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    // Open bounds are replaced with these so every listing runs the same index range scan
+    private static final Instant EARLIEST = Instant.EPOCH;
+    private static final Instant LATEST = Instant.parse("9999-12-31T00:00:00Z");
+    private static final Comparator<MealLog> NEWEST_FIRST =
+            Comparator.comparing(MealLog::getCreatedAt).thenComparing(MealLog::getId).reversed();
+
     private final MealLogRepository mealLogRepo;
+    private final NutritionDailyTotalRepository dailyTotalRepo;
+    private final RecipeRepository recipeRepo;
+    private final RecentFoodRepository recentFoodRepo;
+    private final FoodStore foodStore;
+    private final RecentFoodCache recentFoodCache;
 
-    public MealLogServiceImpl(MealLogRepository mealLogRepo) {
+    public MealLogServiceImpl(MealLogRepository mealLogRepo, NutritionDailyTotalRepository dailyTotalRepo,
+                              RecipeRepository recipeRepo, RecentFoodRepository recentFoodRepo,
+                              FoodStore foodStore, RecentFoodCache recentFoodCache) {
         this.mealLogRepo = mealLogRepo;
+        this.dailyTotalRepo = dailyTotalRepo;
+        this.recipeRepo = recipeRepo;
+        this.recentFoodRepo = recentFoodRepo;
+        this.foodStore = foodStore;
+        this.recentFoodCache = recentFoodCache;
+    }
+
+    private static int nz(Integer v) { return v == null ? 0 : v; }
+
+    @Override
+    @Transactional
+    public MealLogResponse createMeal(MealLogRequest request, Long userId, ZoneId zone) {
+        Set<Long> recipeIds = recipeIds(request);
+        Map<Long, RecipeMacros> recipes = recipeIds.isEmpty() ? Map.of()
+                : recipeRepo.findMacros(recipeIds, userId).stream()
+                        .collect(Collectors.toMap(RecipeMacros::id, Function.identity()));
+        MealLog saved = mealLogRepo.save(toEntity(request, userId, zone, foodStore, recipes));
+        dailyTotalRepo.addMeal(userId, saved.getLocalDate(), saved.getTotalCalories(),
+                saved.getTotalProtein(), saved.getTotalCarbs(), saved.getTotalFats());
+        List<RecentFood> used = RecentFoodServiceImpl.usedIn(saved);
+        recentFoodRepo.record(userId, used);
+        recordOnCommit(userId, used);
+        return toResponse(saved);
+    }
+
+    // The cache mirrors committed rows only: a meal whose transaction rolls back must not show up in it
+    private void recordOnCommit(Long userId, List<RecentFood> used) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recentFoodCache.record(userId, used);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentFoodCache.record(userId, used);
+            }
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MealLogResponse> getMyMeals(Long userId, Instant from, Instant to) {
+        return findMeals(userId, from, to, null, Limit.unlimited())
+                .stream()
+                .map(MealLogServiceImpl::toResponse)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public MealLogPageResponse getMyMealsPage(Long userId, Instant from, Instant to, String cursor, Integer limit) {
+        int pageSize = pageSize(limit);
+
+        MealLogCursor before = cursor != null ? MealLogCursor.decode(cursor) : null;
+
+        // Fetch one extra row to know whether another page follows
+        List<MealLog> rows = findMeals(userId, from, to, before, Limit.of(pageSize + 1));
+
+        boolean hasMore = rows.size() > pageSize;
+        List<MealLog> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        MealLog last = hasMore ? page.getLast() : null;
+        return MealLogPageResponse.builder()
+                .items(page.stream().map(MealLogServiceImpl::toResponse).toList())
+                .nextCursor(last != null ? new MealLogCursor(last.getCreatedAt(), last.getId()).encode() : null)
+                .build();
     }
 
-    private int nz(Integer v) { return v == null ? 0 : v; }
+    @Override
+    @Transactional
+    public void deleteMeal(Long id, Long userId) {
+        MealLog meal = mealLogRepo.findByIdAndUserId(id, userId)
+                .orElseThrow(() -> new IllegalArgumentException("Meal not found or access denied"));
+        mealLogRepo.delete(meal);
+        dailyTotalRepo.removeMeal(userId, meal.getLocalDate(), meal.getTotalCalories(),
+                meal.getTotalProtein(), meal.getTotalCarbs(), meal.getTotalFats());
+    }
 
     @Override
     @Transactional
-    public MealLogResponse createMeal(MealLogRequest request, String username) {
+    public List<MealLogResponse> copyDay(Long userId, LocalDate from, LocalDate to, ZoneId zone) {
+        List<Long> ids = mealLogRepo.copyDay(userId, from, copyTarget(to, zone), zone);
+        return mealLogRepo.findAllById(ids)
+                .stream()
+                .sorted(NEWEST_FIRST)
+                .map(MealLogServiceImpl::toResponse)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<NutritionTotalsResponse> getSummary(Long userId, SummaryPeriod period,
+                                                    LocalDate from, LocalDate to, ZoneId zone) {
+        DateRange range = summaryRange(period, from, to, zone);
+        return dailyTotalRepo.summarize(userId, period, range.from(), range.to())
+                .stream()
+                .map(MealLogServiceImpl::toResponse)
+                .toList();
+    }
+
+    private List<MealLog> findMeals(Long userId, Instant from, Instant to, MealLogCursor before, Limit limit) {
+        Instant upper = to != null ? to : LATEST;
+        return mealLogRepo.findPage(userId,
+                from != null ? from : EARLIEST,
+                upper,
+                before != null ? before.createdAt() : upper,
+                before != null ? before.id() : Long.MAX_VALUE,
+                limit);
+    }
+
+    static int pageSize(Integer limit) {
+        return limit == null ? DEFAULT_PAGE_SIZE : Math.clamp(limit, 1, MAX_PAGE_SIZE);
+    }
+
+    /** Day meals are copied to; today in the client's zone unless given. */
+    static LocalDate copyTarget(LocalDate to, ZoneId zone) {
+        return to != null ? to : LocalDate.now(orUtc(zone));
+    }
+
+    static ZoneId orUtc(ZoneId zone) {
+        return zone != null ? zone : ZoneOffset.UTC;
+    }
+
+    /**
+     * Widens [from, to] to whole periods so the first and last week or month are complete.
+     * Both default to today in the client's zone, so no parameters means "today".
+     */
+    static DateRange summaryRange(SummaryPeriod period, LocalDate from, LocalDate to, ZoneId zone) {
+        LocalDate end = to != null ? to : LocalDate.now(orUtc(zone));
+        LocalDate start = from != null ? from : end;
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        return new DateRange(period.start(start), period.end(end));
+    }
+
+    record DateRange(LocalDate from, LocalDate to) {}
+
+    // Shared with ReactiveMealLogServiceImpl so both builds compute totals and days the same way
+    static MealLog toEntity(MealLogRequest request, Long userId, ZoneId zone, FoodStore foodStore,
+                            Map<Long, RecipeMacros> recipes) {
         MealLog meal = MealLog.builder()
-                .username(username)
+                .userId(userId)
                 .build();
+        meal.setLocalDate(LocalDate.ofInstant(meal.getCreatedAt(), orUtc(zone)));
 
         int totalCals = 0, totalP = 0, totalCarbs = 0, totalFats = 0;
 
         for (FoodItemRequest food : request.getFoods()) {
-            MealFoodEntry entry = new MealFoodEntry(
-                    food.getType(),
-                    food.getCalories(),
-                    food.getProtein(),
-                    food.getCarbs(),
-                    food.getFats()
-            );
+            MealFoodEntry entry = toEntry(food, foodStore, recipes);
             meal.getFoods().add(entry);
 
-            totalCals += nz(food.getCalories());
-            totalP += nz(food.getProtein());
-            totalCarbs += nz(food.getCarbs());
-            totalFats += nz(food.getFats());
+            totalCals += nz(entry.getCalories());
+            totalP += nz(entry.getProtein());
+            totalCarbs += nz(entry.getCarbs());
+            totalFats += nz(entry.getFats());
         }
 
         meal.setTotalCalories(totalCals);
         meal.setTotalProtein(totalP);
         meal.setTotalCarbs(totalCarbs);
         meal.setTotalFats(totalFats);
-
-        MealLog saved = mealLogRepo.save(meal);
-        return toResponse(saved);
+        return meal;
     }
 
-    @Override
-    @Transactional(readOnly = true)
-    public List<MealLogResponse> getMyMeals(String username) {
-        return mealLogRepo.findByUsernameOrderByCreatedAtDesc(username)
-                .stream()
-                .map(this::toResponse)
-                .toList();
+    /** Ids of the recipes a request logs servings of, to be looked up before {@link #toEntity}. */
+    static Set<Long> recipeIds(MealLogRequest request) {
+        Set<Long> ids = new HashSet<>();
+        for (FoodItemRequest food : request.getFoods()) {
+            if (food.getRecipeId() != null) {
+                ids.add(food.getRecipeId());
+            }
+        }
+        return ids;
     }
 
-    @Override
-    @Transactional
-    public void deleteMeal(Long id, String username) {
-        MealLog meal = mealLogRepo.findByIdAndUsername(id, username)
-                .orElseThrow(() -> new IllegalArgumentException("Meal not found or access denied"));
-        mealLogRepo.delete(meal);
+    /**
+     * Catalog foods get their macros from the store, scaled to the portion, and recipe servings
+     * their share of the recipe's cached totals; anything else is taken as typed. Also used for
+     * recipe ingredients, which pass no recipes.
+     */
+    static MealFoodEntry toEntry(FoodItemRequest food, FoodStore foodStore, Map<Long, RecipeMacros> recipes) {
+        if (food.getRecipeId() != null) {
+            RecipeMacros recipe = recipes.get(food.getRecipeId());
+            if (recipe == null) {
+                throw new IllegalArgumentException("Unknown recipe id " + food.getRecipeId());
+            }
+            double servings = food.getServings() != null ? food.getServings() : 1.0;
+            return MealFoodEntry.builder()
+                    .type(food.getType() != null && !food.getType().isBlank() ? food.getType() : recipe.name())
+                    .calories(recipe.portion(recipe.calories(), servings))
+                    .protein(recipe.portion(recipe.protein(), servings))
+                    .carbs(recipe.portion(recipe.carbs(), servings))
+                    .fats(recipe.portion(recipe.fats(), servings))
+                    .recipeId(recipe.id())
+                    .servings(servings)
+                    .build();
+        }
+        if (food.getFoodId() == null) {
+            if (food.getType() == null || food.getType().isBlank()) {
+                throw new IllegalArgumentException("type is required unless foodId is set");
+            }
+            return MealFoodEntry.builder()
+                    .type(food.getType())
+                    .calories(food.getCalories())
+                    .protein(food.getProtein())
+                    .carbs(food.getCarbs())
+                    .fats(food.getFats())
+                    .build();
+        }
+        if (food.getGrams() == null) {
+            throw new IllegalArgumentException("grams is required with foodId");
+        }
+        Food catalogFood = foodStore.findById(food.getFoodId())
+                .orElseThrow(() -> new IllegalArgumentException("Unknown food id " + food.getFoodId()));
+        int grams = food.getGrams();
+        return MealFoodEntry.builder()
+                .type(food.getType() != null && !food.getType().isBlank() ? food.getType() : catalogFood.name())
+                .calories(Food.portion(catalogFood.calories(), grams))
+                .protein(Food.portion(catalogFood.protein(), grams))
+                .carbs(Food.portion(catalogFood.carbs(), grams))
+                .fats(Food.portion(catalogFood.fats(), grams))
+                .foodId(catalogFood.id())
+                .grams(grams)
+                .build();
     }
 
-    private MealLogResponse toResponse(MealLog meal) {
+    static MealLogResponse toResponse(MealLog meal) {
         return MealLogResponse.builder()
                 .id(meal.getId())
                 .createdAt(meal.getCreatedAt())
@@ -87,4 +301,15 @@ public class MealLogServiceImpl implements MealLogService {
                         .toList())
                 .build();
     }
-}
\ No newline at end of file
+
+    static NutritionTotalsResponse toResponse(PeriodTotals totals) {
+        return NutritionTotalsResponse.builder()
+                .periodStart(totals.periodStart())
+                .totalCalories(totals.calories())
+                .totalProtein(totals.protein())
+                .totalCarbs(totals.carbs())
+                .totalFats(totals.fats())
+                .mealCount(totals.mealCount())
+                .build();
+    }
+}
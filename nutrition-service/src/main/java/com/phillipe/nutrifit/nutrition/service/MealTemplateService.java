@@ -0,0 +1,15 @@
+package com.phillipe.nutrifit.nutrition.service;
+
+import com.phillipe.nutrifit.nutrition.dto.request.MealTemplateRequest;
+import com.phillipe.nutrifit.nutrition.dto.response.MealLogResponse;
+import com.phillipe.nutrifit.nutrition.dto.response.MealTemplateResponse;
+
+import java.time.ZoneId;
+import java.util.List;
+
+public interface MealTemplateService {
+    MealTemplateResponse createTemplate(MealTemplateRequest request, Long userId);
+    List<MealTemplateResponse> getMyTemplates(Long userId);
+    MealLogResponse applyTemplate(Long id, Long userId, ZoneId zone);
+    void deleteTemplate(Long id, Long userId);
+}
@@ -0,0 +1,90 @@
+package com.phillipe.nutrifit.nutrition.service;
+
+import com.phillipe.nutrifit.nutrition.dto.request.MealTemplateRequest;
+import com.phillipe.nutrifit.nutrition.dto.response.FoodItemResponse;
+import com.phillipe.nutrifit.nutrition.dto.response.MealLogResponse;
+import com.phillipe.nutrifit.nutrition.dto.response.MealTemplateResponse;
+import com.phillipe.nutrifit.nutrition.model.entity.MealLog;
+import com.phillipe.nutrifit.nutrition.model.entity.MealTemplate;
+import com.phillipe.nutrifit.nutrition.repository.MealLogRepository;
+import com.phillipe.nutrifit.nutrition.repository.MealTemplateRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class MealTemplateServiceImpl implements MealTemplateService {
+
+    private final MealTemplateRepository templateRepo;
+    private final MealLogRepository mealLogRepo;
+
+    public MealTemplateServiceImpl(MealTemplateRepository templateRepo, MealLogRepository mealLogRepo) {
+        this.templateRepo = templateRepo;
+        this.mealLogRepo = mealLogRepo;
+    }
+
+    @Override
+    @Transactional
+    public MealTemplateResponse createTemplate(MealTemplateRequest request, Long userId) {
+        MealLog meal = mealLogRepo.findByIdAndUserId(request.getMealId(), userId)
+                .orElseThrow(() -> new IllegalArgumentException("Meal not found or access denied"));
+        MealTemplate template = MealTemplate.builder()
+                .userId(userId)
+                .name(request.getName())
+                .totalCalories(meal.getTotalCalories())
+                .totalProtein(meal.getTotalProtein())
+                .totalCarbs(meal.getTotalCarbs())
+                .totalFats(meal.getTotalFats())
+                .build();
+        template.getFoods().addAll(meal.getFoods());
+        return toResponse(templateRepo.save(template));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MealTemplateResponse> getMyTemplates(Long userId) {
+        return templateRepo.findByUserIdOrderByNameAscIdAsc(userId)
+                .stream()
+                .map(MealTemplateServiceImpl::toResponse)
+                .toList();
+    }
+
+    // The meal is copied from the template in the database; only the new meal is read back
+    @Override
+    @Transactional
+    public MealLogResponse applyTemplate(Long id, Long userId, ZoneId zone) {
+        Instant now = Instant.now();
+        Long mealId = mealLogRepo.applyTemplate(id, userId, now, LocalDate.ofInstant(now, MealLogServiceImpl.orUtc(zone)))
+                .orElseThrow(() -> new EntityNotFoundException("Meal template not found"));
+        return MealLogServiceImpl.toResponse(mealLogRepo.findById(mealId).orElseThrow());
+    }
+
+    @Override
+    @Transactional
+    public void deleteTemplate(Long id, Long userId) {
+        templateRepo.delete(templateRepo.findByIdAndUserId(id, userId)
+                .orElseThrow(() -> new EntityNotFoundException("Meal template not found")));
+    }
+
+    static MealTemplateResponse toResponse(MealTemplate template) {
+        return MealTemplateResponse.builder()
+                .id(template.getId())
+                .name(template.getName())
+                .totalCalories(template.getTotalCalories())
+                .totalProtein(template.getTotalProtein())
+                .totalCarbs(template.getTotalCarbs())
+                .totalFats(template.getTotalFats())
+                .createdAt(template.getCreatedAt())
+                .foods(template.getFoods().stream()
+                        .map(FoodItemResponse::fromEmbedded)
+                        .toList())
+                .build();
+    }
+}
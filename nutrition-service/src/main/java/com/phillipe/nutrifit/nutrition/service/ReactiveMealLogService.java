@@ -0,0 +1,27 @@
+package com.phillipe.nutrifit.nutrition.service;
+
+import com.phillipe.nutrifit.nutrition.dto.request.MealLogRequest;
+import com.phillipe.nutrifit.nutrition.dto.response.MealLogPageResponse;
+import com.phillipe.nutrifit.nutrition.dto.response.MealLogResponse;
+import com.phillipe.nutrifit.nutrition.dto.response.NutritionTotalsResponse;
+import com.phillipe.nutrifit.nutrition.model.SummaryPeriod;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Non-blocking {@link MealLogService} used by the reactive build; same behavior and errors.
+ */
+public interface ReactiveMealLogService {
+    Mono<MealLogResponse> createMeal(MealLogRequest request, Long userId, ZoneId zone);
+    Flux<MealLogResponse> getMyMeals(Long userId, Instant from, Instant to);
+    Mono<MealLogPageResponse> getMyMealsPage(Long userId, Instant from, Instant to, String cursor, Integer limit);
+    Mono<Void> deleteMeal(Long id, Long userId);
+    Flux<MealLogResponse> copyDay(Long userId, LocalDate from, LocalDate to, ZoneId zone);
+    Mono<List<NutritionTotalsResponse>> getSummary(Long userId, SummaryPeriod period,
+                                                   LocalDate from, LocalDate to, ZoneId zone);
+}
@@ -0,0 +1,112 @@
+package com.phillipe.nutrifit.nutrition.service;
+
+import com.phillipe.nutrifit.nutrition.dto.request.MealLogRequest;
+import com.phillipe.nutrifit.nutrition.dto.response.MealLogPageResponse;
+import com.phillipe.nutrifit.nutrition.dto.response.MealLogResponse;
+import com.phillipe.nutrifit.nutrition.dto.response.NutritionTotalsResponse;
+import com.phillipe.nutrifit.nutrition.model.RecipeMacros;
+import com.phillipe.nutrifit.nutrition.model.SummaryPeriod;
+import com.phillipe.nutrifit.nutrition.model.entity.MealLog;
+import com.phillipe.nutrifit.nutrition.repository.FoodStore;
+import com.phillipe.nutrifit.nutrition.repository.MealLogCursor;
+import com.phillipe.nutrifit.nutrition.repository.ReactiveMealLogRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveMealLogServiceImpl implements ReactiveMealLogService {
+
+    private final ReactiveMealLogRepository mealLogRepo;
+    private final FoodStore foodStore;
+
+    public ReactiveMealLogServiceImpl(ReactiveMealLogRepository mealLogRepo, FoodStore foodStore) {
+        this.mealLogRepo = mealLogRepo;
+        this.foodStore = foodStore;
+    }
+
+    @Override
+    public Mono<MealLogResponse> createMeal(MealLogRequest request, Long userId, ZoneId zone) {
+        Set<Long> recipeIds = MealLogServiceImpl.recipeIds(request);
+        Mono<Map<Long, RecipeMacros>> recipes = recipeIds.isEmpty() ? Mono.just(Map.of())
+                : mealLogRepo.findRecipeMacros(recipeIds, userId).collectMap(RecipeMacros::id);
+        return recipes.flatMap(found -> {
+            MealLog meal = MealLogServiceImpl.toEntity(request, userId, zone, foodStore, found);
+            // recent_food is kept up to date for the servlet build, which serves /foods/recent
+            return mealLogRepo.insert(meal, RecentFoodServiceImpl.usedIn(meal))
+                    .map(id -> {
+                        meal.setId(id);
+                        return MealLogServiceImpl.toResponse(meal);
+                    });
+        });
+    }
+
+    @Override
+    public Flux<MealLogResponse> getMyMeals(Long userId, Instant from, Instant to) {
+        return mealLogRepo.streamByUserId(userId, from, to, null, null);
+    }
+
+    @Override
+    public Mono<MealLogPageResponse> getMyMealsPage(Long userId, Instant from, Instant to,
+                                                    String cursor, Integer limit) {
+        int pageSize = MealLogServiceImpl.pageSize(limit);
+        MealLogCursor before;
+        try {
+            before = cursor != null ? MealLogCursor.decode(cursor) : null;
+        } catch (IllegalArgumentException e) {
+            return Mono.error(e);
+        }
+
+        // Fetch one extra meal to know whether another page follows
+        return mealLogRepo.streamByUserId(userId, from, to, before, pageSize + 1)
+                .collectList()
+                .map(rows -> {
+                    boolean hasMore = rows.size() > pageSize;
+                    List<MealLogResponse> page = hasMore ? rows.subList(0, pageSize) : rows;
+                    MealLogResponse last = hasMore ? page.getLast() : null;
+                    return MealLogPageResponse.builder()
+                            .items(page)
+                            .nextCursor(last != null ? new MealLogCursor(last.getCreatedAt(), last.getId()).encode() : null)
+                            .build();
+                });
+    }
+
+    // Copies are made by one statement; the response then reads them back with their foods
+    @Override
+    public Flux<MealLogResponse> copyDay(Long userId, LocalDate from, LocalDate to, ZoneId zone) {
+        return mealLogRepo.copyDay(userId, from, MealLogServiceImpl.copyTarget(to, zone), zone)
+                .collectList()
+                .flatMapMany(ids -> ids.isEmpty() ? Flux.empty() : mealLogRepo.streamByIds(userId, ids));
+    }
+
+    @Override
+    public Mono<Void> deleteMeal(Long id, Long userId) {
+        return mealLogRepo.deleteByIdAndUserId(id, userId)
+                .flatMap(deleted -> deleted == 0
+                        ? Mono.error(new IllegalArgumentException("Meal not found or access denied"))
+                        : Mono.empty());
+    }
+
+    @Override
+    public Mono<List<NutritionTotalsResponse>> getSummary(Long userId, SummaryPeriod period,
+                                                          LocalDate from, LocalDate to, ZoneId zone) {
+        MealLogServiceImpl.DateRange range;
+        try {
+            range = MealLogServiceImpl.summaryRange(period, from, to, zone);
+        } catch (IllegalArgumentException e) {
+            return Mono.error(e);
+        }
+        return mealLogRepo.summarize(userId, period, range.from(), range.to())
+                .map(MealLogServiceImpl::toResponse)
+                .collectList();
+    }
+}
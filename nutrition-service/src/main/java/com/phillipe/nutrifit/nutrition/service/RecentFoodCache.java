@@ -0,0 +1,101 @@
+package com.phillipe.nutrifit.nutrition.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.phillipe.nutrifit.nutrition.model.RecentFoodOrder;
+import com.phillipe.nutrifit.nutrition.model.entity.RecentFood;
+import com.phillipe.nutrifit.nutrition.repository.RecentFoodRepositoryCustom;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory copy of recently active users' recent foods, held in both orders so a read is a
+ * map lookup and a list slice. New meals logged here are merged into a cached list once their
+ * transaction commits; meals logged through another instance show up once the entry expires,
+ * {@code recent-foods.cache-ttl} after it was loaded or last merged into. At most
+ * {@code recent-foods.cache-users} users are held.
+ */
+@Component
+public class RecentFoodCache {
+
+    private static final Comparator<RecentFood> MOST_USED_FIRST =
+            Comparator.comparing(RecentFood::getUseCount).reversed()
+                    .thenComparing(Comparator.comparing(RecentFood::getLastUsedAt).reversed())
+                    .thenComparing(RecentFood::getFoodKey);
+
+    private final Cache<Long, Entry> users;
+
+    public RecentFoodCache(@Value("${recent-foods.cache-users:10000}") int maxUsers,
+                           @Value("${recent-foods.cache-ttl:5m}") Duration ttl) {
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /** The user's foods in the given order, or null if they are not cached. */
+    public List<RecentFood> get(Long userId, RecentFoodOrder order) {
+        Entry entry = users.getIfPresent(userId);
+        if (entry == null) {
+            return null;
+        }
+        return order == RecentFoodOrder.FREQUENT ? entry.mostUsed() : entry.newest();
+    }
+
+    /** Caches the user's foods as loaded from the database, newest first, and returns them in the given order. */
+    public List<RecentFood> put(Long userId, List<RecentFood> newestFirst, RecentFoodOrder order) {
+        Entry entry = entry(newestFirst);
+        users.put(userId, entry);
+        return order == RecentFoodOrder.FREQUENT ? entry.mostUsed() : entry.newest();
+    }
+
+    /**
+     * Merges the foods of a meal just logged, as passed to
+     * {@link RecentFoodRepositoryCustom#record}, into the user's cached list, the same way the
+     * database does. A user who is not cached is left to load on their next read.
+     */
+    public void record(Long userId, List<RecentFood> used) {
+        if (used.isEmpty()) {
+            return;
+        }
+        users.asMap().computeIfPresent(userId, (id, entry) -> merge(entry, used));
+    }
+
+    private static Entry merge(Entry entry, List<RecentFood> used) {
+        Map<String, RecentFood> cached = new HashMap<>();
+        for (RecentFood food : entry.newest()) {
+            cached.put(food.getFoodKey(), food);
+        }
+        List<RecentFood> merged = new ArrayList<>(entry.newest().size() + used.size());
+        for (RecentFood food : used) {
+            RecentFood previous = cached.remove(food.getFoodKey());
+            merged.add(previous == null ? food
+                    : food.toBuilder().useCount(previous.getUseCount() + food.getUseCount()).build());
+        }
+        for (RecentFood food : entry.newest()) {
+            if (merged.size() == RecentFoodRepositoryCustom.KEPT_PER_USER) {
+                break;
+            }
+            if (cached.containsKey(food.getFoodKey())) {
+                merged.add(food);
+            }
+        }
+        return entry(merged);
+    }
+
+    private static Entry entry(List<RecentFood> newestFirst) {
+        List<RecentFood> mostUsed = new ArrayList<>(newestFirst);
+        mostUsed.sort(MOST_USED_FIRST);
+        return new Entry(List.copyOf(newestFirst), List.copyOf(mostUsed));
+    }
+
+    private record Entry(List<RecentFood> newest, List<RecentFood> mostUsed) {
+    }
+}
@@ -0,0 +1,10 @@
+package com.phillipe.nutrifit.nutrition.service;
+
+import com.phillipe.nutrifit.nutrition.dto.response.RecentFoodResponse;
+import com.phillipe.nutrifit.nutrition.model.RecentFoodOrder;
+
+import java.util.List;
+
+public interface RecentFoodService {
+    List<RecentFoodResponse> getRecentFoods(Long userId, RecentFoodOrder order, Integer limit);
+}
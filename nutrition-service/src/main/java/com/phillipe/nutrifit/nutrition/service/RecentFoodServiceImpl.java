@@ -0,0 +1,111 @@
+package com.phillipe.nutrifit.nutrition.service;
+
+import com.phillipe.nutrifit.nutrition.dto.response.RecentFoodResponse;
+import com.phillipe.nutrifit.nutrition.model.RecentFoodOrder;
+import com.phillipe.nutrifit.nutrition.model.embedded.MealFoodEntry;
+import com.phillipe.nutrifit.nutrition.model.entity.MealLog;
+import com.phillipe.nutrifit.nutrition.model.entity.RecentFood;
+import com.phillipe.nutrifit.nutrition.repository.RecentFoodRepository;
+import com.phillipe.nutrifit.nutrition.repository.RecentFoodRepositoryCustom;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class RecentFoodServiceImpl implements RecentFoodService {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final RecentFoodRepository recentFoodRepo;
+    private final RecentFoodCache cache;
+
+    public RecentFoodServiceImpl(RecentFoodRepository recentFoodRepo, RecentFoodCache cache) {
+        this.recentFoodRepo = recentFoodRepo;
+        this.cache = cache;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RecentFoodResponse> getRecentFoods(Long userId, RecentFoodOrder order, Integer limit) {
+        List<RecentFood> foods = cache.get(userId, order);
+        if (foods == null) {
+            foods = cache.put(userId, recentFoodRepo.findByUserIdOrderByLastUsedAtDesc(userId,
+                    Limit.of(RecentFoodRepositoryCustom.KEPT_PER_USER)), order);
+        }
+        return toResponses(foods, limit);
+    }
+
+    static List<RecentFoodResponse> toResponses(List<RecentFood> foods, Integer limit) {
+        int size = limit == null ? DEFAULT_LIMIT : Math.clamp(limit, 1, RecentFoodRepositoryCustom.KEPT_PER_USER);
+        return foods.subList(0, Math.min(size, foods.size()))
+                .stream()
+                .map(RecentFoodServiceImpl::toResponse)
+                .toList();
+    }
+
+    /**
+     * One row per distinct food of the meal, as last listed in it, with how often the meal lists
+     * it. Shared with ReactiveMealLogServiceImpl so both builds key and count foods the same way.
+     */
+    static List<RecentFood> usedIn(MealLog meal) {
+        Map<String, RecentFood> used = new LinkedHashMap<>();
+        for (MealFoodEntry entry : meal.getFoods()) {
+            String key = foodKey(entry);
+            RecentFood previous = used.get(key);
+            used.put(key, RecentFood.builder()
+                    .userId(meal.getUserId())
+                    .foodKey(key)
+                    .type(entry.getType())
+                    .calories(entry.getCalories())
+                    .protein(entry.getProtein())
+                    .carbs(entry.getCarbs())
+                    .fats(entry.getFats())
+                    .foodId(entry.getFoodId())
+                    .grams(entry.getGrams())
+                    .recipeId(entry.getRecipeId())
+                    .servings(entry.getServings())
+                    .useCount(previous == null ? 1 : previous.getUseCount() + 1)
+                    .lastUsedAt(meal.getCreatedAt())
+                    .build());
+        }
+        return new ArrayList<>(used.values());
+    }
+
+    /**
+     * What makes two logged foods the same food: the recipe, else the catalog food, else the
+     * typed name ignoring case and surrounding space. V7__recent_foods.sql derives the same keys.
+     */
+    static String foodKey(MealFoodEntry entry) {
+        if (entry.getRecipeId() != null) {
+            return "r:" + entry.getRecipeId();
+        }
+        if (entry.getFoodId() != null) {
+            return "f:" + entry.getFoodId();
+        }
+        return "t:" + entry.getType().strip().toLowerCase(Locale.ROOT);
+    }
+
+    static RecentFoodResponse toResponse(RecentFood food) {
+        return RecentFoodResponse.builder()
+                .type(food.getType())
+                .calories(food.getCalories())
+                .protein(food.getProtein())
+                .carbs(food.getCarbs())
+                .fats(food.getFats())
+                .foodId(food.getFoodId())
+                .grams(food.getGrams())
+                .recipeId(food.getRecipeId())
+                .servings(food.getServings())
+                .useCount(food.getUseCount())
+                .lastUsedAt(food.getLastUsedAt())
+                .build();
+    }
+}
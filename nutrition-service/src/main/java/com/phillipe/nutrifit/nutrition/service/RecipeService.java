@@ -0,0 +1,14 @@
+package com.phillipe.nutrifit.nutrition.service;
+
+import com.phillipe.nutrifit.nutrition.dto.request.RecipeRequest;
+import com.phillipe.nutrifit.nutrition.dto.response.RecipeResponse;
+
+import java.util.List;
+
+public interface RecipeService {
+    RecipeResponse createRecipe(RecipeRequest request, Long userId);
+    List<RecipeResponse> getMyRecipes(Long userId);
+    RecipeResponse getRecipe(Long id, Long userId);
+    RecipeResponse updateRecipe(Long id, RecipeRequest request, Long userId);
+    void deleteRecipe(Long id, Long userId);
+}
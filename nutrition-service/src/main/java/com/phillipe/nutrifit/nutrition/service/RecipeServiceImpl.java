@@ -0,0 +1,138 @@
+package com.phillipe.nutrifit.nutrition.service;
+
+import com.phillipe.nutrifit.nutrition.dto.request.FoodItemRequest;
+import com.phillipe.nutrifit.nutrition.dto.request.RecipeRequest;
+import com.phillipe.nutrifit.nutrition.dto.response.FoodItemResponse;
+import com.phillipe.nutrifit.nutrition.dto.response.RecipeResponse;
+import com.phillipe.nutrifit.nutrition.model.embedded.RecipeIngredient;
+import com.phillipe.nutrifit.nutrition.model.entity.Recipe;
+import com.phillipe.nutrifit.nutrition.repository.FoodStore;
+import com.phillipe.nutrifit.nutrition.repository.RecipeRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class RecipeServiceImpl implements RecipeService {
+
+    private final RecipeRepository recipeRepo;
+    private final FoodStore foodStore;
+
+    public RecipeServiceImpl(RecipeRepository recipeRepo, FoodStore foodStore) {
+        this.recipeRepo = recipeRepo;
+        this.foodStore = foodStore;
+    }
+
+    private static int nz(Integer v) { return v == null ? 0 : v; }
+
+    @Override
+    @Transactional
+    public RecipeResponse createRecipe(RecipeRequest request, Long userId) {
+        Recipe recipe = Recipe.builder()
+                .userId(userId)
+                .name(request.getName())
+                .servings(request.getServings())
+                .build();
+        setIngredients(recipe, toIngredients(request, foodStore));
+        return toResponse(recipeRepo.save(recipe));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RecipeResponse> getMyRecipes(Long userId) {
+        return recipeRepo.findByUserIdOrderByNameAscIdAsc(userId)
+                .stream()
+                .map(RecipeServiceImpl::toResponse)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public RecipeResponse getRecipe(Long id, Long userId) {
+        return toResponse(find(id, userId));
+    }
+
+    @Override
+    @Transactional
+    public RecipeResponse updateRecipe(Long id, RecipeRequest request, Long userId) {
+        Recipe recipe = find(id, userId);
+        recipe.setName(request.getName());
+        recipe.setServings(request.getServings());
+        recipe.setUpdatedAt(Instant.now());
+
+        // Totals are cached per recipe, so they are only recomputed, and the ingredient rows
+        // only rewritten, when the resolved ingredients actually differ
+        List<RecipeIngredient> ingredients = toIngredients(request, foodStore);
+        if (!ingredients.equals(recipe.getIngredients())) {
+            recipe.getIngredients().clear();
+            setIngredients(recipe, ingredients);
+        }
+        return toResponse(recipe);
+    }
+
+    @Override
+    @Transactional
+    public void deleteRecipe(Long id, Long userId) {
+        recipeRepo.delete(find(id, userId));
+    }
+
+    private Recipe find(Long id, Long userId) {
+        return recipeRepo.findByIdAndUserId(id, userId)
+                .orElseThrow(() -> new EntityNotFoundException("Recipe not found"));
+    }
+
+    // Shared with ReactiveRecipeServiceImpl so both builds resolve ingredients and totals the same way
+    static List<RecipeIngredient> toIngredients(RecipeRequest request, FoodStore foodStore) {
+        List<RecipeIngredient> ingredients = new ArrayList<>(request.getIngredients().size());
+        for (FoodItemRequest food : request.getIngredients()) {
+            if (food.getRecipeId() != null) {
+                throw new IllegalArgumentException("Recipe ingredients cannot be recipes");
+            }
+            ingredients.add(RecipeIngredient.fromEntry(MealLogServiceImpl.toEntry(food, foodStore, Map.of())));
+        }
+        return ingredients;
+    }
+
+    static void setIngredients(Recipe recipe, List<RecipeIngredient> ingredients) {
+        int calories = 0, protein = 0, carbs = 0, fats = 0;
+        for (RecipeIngredient ingredient : ingredients) {
+            calories += nz(ingredient.getCalories());
+            protein += nz(ingredient.getProtein());
+            carbs += nz(ingredient.getCarbs());
+            fats += nz(ingredient.getFats());
+        }
+        recipe.getIngredients().addAll(ingredients);
+        recipe.setTotalCalories(calories);
+        recipe.setTotalProtein(protein);
+        recipe.setTotalCarbs(carbs);
+        recipe.setTotalFats(fats);
+    }
+
+    static RecipeResponse toResponse(Recipe recipe) {
+        int servings = recipe.getServings();
+        return RecipeResponse.builder()
+                .id(recipe.getId())
+                .name(recipe.getName())
+                .servings(servings)
+                .totalCalories(recipe.getTotalCalories())
+                .totalProtein(recipe.getTotalProtein())
+                .totalCarbs(recipe.getTotalCarbs())
+                .totalFats(recipe.getTotalFats())
+                .caloriesPerServing(Math.round((float) recipe.getTotalCalories() / servings))
+                .proteinPerServing(Math.round((float) recipe.getTotalProtein() / servings))
+                .carbsPerServing(Math.round((float) recipe.getTotalCarbs() / servings))
+                .fatsPerServing(Math.round((float) recipe.getTotalFats() / servings))
+                .updatedAt(recipe.getUpdatedAt())
+                .ingredients(recipe.getIngredients().stream()
+                        .map(FoodItemResponse::fromIngredient)
+                        .toList())
+                .build();
+    }
+}
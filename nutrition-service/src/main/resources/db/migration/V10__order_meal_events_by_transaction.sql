@@ -0,0 +1,9 @@
+-- Ids of meal_event are taken when a row is inserted, not when its transaction commits, so a
+-- reader paging by id alone could see id 6 committed while id 5 is still pending and move past
+-- it for good. Each event now records the transaction that wrote it, and the feed is read in
+-- (xact_id, id) order only up to the oldest transaction still running, below which every
+-- transaction has ended. Existing events are all committed and keep their order before new ones.
+ALTER TABLE meal_event ADD COLUMN xact_id BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE meal_event ALTER COLUMN xact_id SET DEFAULT pg_current_xact_id()::text::bigint;
+
+CREATE INDEX idx_meal_event_position ON meal_event(xact_id, id);
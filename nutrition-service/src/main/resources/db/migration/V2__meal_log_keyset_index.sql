@@ -0,0 +1,11 @@
+-- Meals are always listed per user, newest first, optionally bounded by created_at and
+-- paged by (created_at, id). One composite index serves all of those as a single range scan
+-- and replaces the two single-column indexes, which could only be combined with a bitmap AND.
+CREATE INDEX idx_meal_log_username_created ON meal_log(username, created_at DESC, id DESC);
+
+DROP INDEX idx_meal_log_username;
+DROP INDEX idx_meal_log_created_at;
+
+-- Foods are loaded for a whole page of meals at once (meal_log_id IN (...)); without this
+-- every batch is a sequential scan of meal_log_foods
+CREATE INDEX idx_meal_log_foods_meal_log_id ON meal_log_foods(meal_log_id);
@@ -0,0 +1,24 @@
+-- Each meal is bucketed into the calendar day it was logged on in the client's time zone.
+-- The day is stored with the meal so a delete decrements the same bucket the insert
+-- incremented, even if the client's zone has changed since. Existing meals fall on UTC days.
+ALTER TABLE meal_log ADD COLUMN local_date DATE;
+UPDATE meal_log SET local_date = (created_at AT TIME ZONE 'UTC')::date;
+ALTER TABLE meal_log ALTER COLUMN local_date SET NOT NULL;
+
+-- Per-user daily totals, kept in step with meal_log on every meal write so day, week and
+-- month summaries never read meal rows
+CREATE TABLE nutrition_daily_total (
+    username VARCHAR(255) NOT NULL,
+    local_date DATE NOT NULL,
+    total_calories INTEGER NOT NULL DEFAULT 0,
+    total_protein INTEGER NOT NULL DEFAULT 0,
+    total_carbs INTEGER NOT NULL DEFAULT 0,
+    total_fats INTEGER NOT NULL DEFAULT 0,
+    meal_count INTEGER NOT NULL DEFAULT 0,
+    PRIMARY KEY (username, local_date)
+);
+
+INSERT INTO nutrition_daily_total (username, local_date, total_calories, total_protein, total_carbs, total_fats, meal_count)
+SELECT username, local_date, SUM(total_calories), SUM(total_protein), SUM(total_carbs), SUM(total_fats), COUNT(*)
+FROM meal_log
+GROUP BY username, local_date;
@@ -0,0 +1,5 @@
+-- Foods picked from the food catalog keep the catalog id and portion they were logged with.
+-- Macros are still stored per row, computed at write time, so a meal never changes when
+-- the catalog is reloaded from a newer dataset. Hand-typed foods leave both columns null.
+ALTER TABLE meal_log_foods ADD COLUMN food_id INTEGER;
+ALTER TABLE meal_log_foods ADD COLUMN grams INTEGER;
@@ -0,0 +1,35 @@
+-- A recipe caches the summed macros of its ingredients, recomputed only when the ingredients
+-- change, so logging a serving reads one row instead of re-resolving every ingredient
+CREATE TABLE recipe (
+    id BIGSERIAL PRIMARY KEY,
+    username VARCHAR(255) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    servings INTEGER NOT NULL,
+    total_calories INTEGER NOT NULL DEFAULT 0,
+    total_protein INTEGER NOT NULL DEFAULT 0,
+    total_carbs INTEGER NOT NULL DEFAULT 0,
+    total_fats INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX idx_recipe_username_name ON recipe(username, name);
+
+CREATE TABLE recipe_ingredient (
+    recipe_id BIGINT NOT NULL REFERENCES recipe(id) ON DELETE CASCADE,
+    position INTEGER NOT NULL,
+    type VARCHAR(255) NOT NULL,
+    calories INTEGER,
+    protein INTEGER,
+    carbs INTEGER,
+    fats INTEGER,
+    food_id INTEGER,
+    grams INTEGER
+);
+
+CREATE INDEX idx_recipe_ingredient_recipe_id ON recipe_ingredient(recipe_id);
+
+-- Logged recipe servings keep the recipe they came from; no foreign key, so deleting a
+-- recipe leaves meal history intact
+ALTER TABLE meal_log_foods ADD COLUMN recipe_id BIGINT;
+ALTER TABLE meal_log_foods ADD COLUMN servings DOUBLE PRECISION;
@@ -0,0 +1,33 @@
+-- A meal template is a saved copy of a meal's foods. Like recipes it caches its totals, so
+-- applying it inserts the meal, its foods and the day's rollup with one INSERT ... SELECT
+-- each, without summing the foods again
+CREATE TABLE meal_template (
+    id BIGSERIAL PRIMARY KEY,
+    username VARCHAR(255) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    total_calories INTEGER NOT NULL DEFAULT 0,
+    total_protein INTEGER NOT NULL DEFAULT 0,
+    total_carbs INTEGER NOT NULL DEFAULT 0,
+    total_fats INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX idx_meal_template_username_name ON meal_template(username, name);
+
+CREATE TABLE meal_template_foods (
+    meal_template_id BIGINT NOT NULL REFERENCES meal_template(id) ON DELETE CASCADE,
+    type VARCHAR(255) NOT NULL,
+    calories INTEGER,
+    protein INTEGER,
+    carbs INTEGER,
+    fats INTEGER,
+    food_id INTEGER,
+    grams INTEGER,
+    recipe_id BIGINT,
+    servings DOUBLE PRECISION
+);
+
+CREATE INDEX idx_meal_template_foods_meal_template_id ON meal_template_foods(meal_template_id);
+
+-- Copying a day selects the source meals by (username, local_date)
+CREATE INDEX idx_meal_log_username_local_date ON meal_log(username, local_date);
@@ -0,0 +1,39 @@
+-- Per-user quick-add index: one row per distinct food a user logs (catalog food, recipe or
+-- hand-typed name), with the portion and macros it was last logged with and how often.
+-- Upserted with every new meal and pruned to about the newest 100 rows per user, so it
+-- stays small no matter how long the meal history grows.
+CREATE TABLE recent_food (
+    username VARCHAR(255) NOT NULL,
+    food_key VARCHAR(300) NOT NULL,
+    type VARCHAR(255) NOT NULL,
+    calories INTEGER,
+    protein INTEGER,
+    carbs INTEGER,
+    fats INTEGER,
+    food_id INTEGER,
+    grams INTEGER,
+    recipe_id BIGINT,
+    servings DOUBLE PRECISION,
+    use_count INTEGER NOT NULL,
+    last_used_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (username, food_key)
+);
+
+CREATE INDEX idx_recent_food_username_last_used ON recent_food(username, last_used_at DESC);
+
+-- Seeded from the last 30 days of meals
+INSERT INTO recent_food (username, food_key, type, calories, protein, carbs, fats, food_id, grams,
+                         recipe_id, servings, use_count, last_used_at)
+SELECT DISTINCT ON (username, food_key)
+       username, food_key, type, calories, protein, carbs, fats, food_id, grams, recipe_id, servings,
+       COUNT(*) OVER (PARTITION BY username, food_key), created_at
+FROM (
+    SELECT m.username, m.created_at, f.*,
+           CASE WHEN f.recipe_id IS NOT NULL THEN 'r:' || f.recipe_id
+                WHEN f.food_id IS NOT NULL THEN 'f:' || f.food_id
+                ELSE 't:' || lower(btrim(f.type)) END AS food_key
+    FROM meal_log m
+    JOIN meal_log_foods f ON f.meal_log_id = m.id
+    WHERE m.created_at >= NOW() - INTERVAL '30 days'
+) used
+ORDER BY username, food_key, created_at DESC;
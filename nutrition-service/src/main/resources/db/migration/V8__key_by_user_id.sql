@@ -0,0 +1,75 @@
+-- Per-user rows are keyed by the backend's numeric user id (the token's uid claim) instead of
+-- the username: an 8-byte key makes every per-user index smaller and cheaper to compare than
+-- a VARCHAR(255), and data stays attached to the account rather than to its name.
+--
+-- Existing rows are mapped through user_id_map(username, user_id), copied from the backend
+-- database by scripts/copy-user-ids.sh beforehand. A database with no per-user rows needs no map.
+
+CREATE TABLE IF NOT EXISTS user_id_map (
+    username VARCHAR(255) PRIMARY KEY,
+    user_id BIGINT NOT NULL
+);
+
+DO $$
+DECLARE
+    v_missing TEXT;
+BEGIN
+    SELECT string_agg(DISTINCT u.username, ', ') INTO v_missing
+    FROM (
+        SELECT username FROM meal_log
+        UNION SELECT username FROM nutrition_daily_total
+        UNION SELECT username FROM recipe
+        UNION SELECT username FROM meal_template
+        UNION SELECT username FROM recent_food
+    ) u
+    WHERE NOT EXISTS (SELECT 1 FROM user_id_map m WHERE m.username = u.username);
+
+    IF v_missing IS NOT NULL THEN
+        RAISE EXCEPTION 'No user id for usernames: %. Run scripts/copy-user-ids.sh before migrating.', v_missing;
+    END IF;
+END;
+$$;
+
+-- meal_log
+ALTER TABLE meal_log ADD COLUMN user_id BIGINT;
+UPDATE meal_log t SET user_id = m.user_id FROM user_id_map m WHERE m.username = t.username;
+ALTER TABLE meal_log ALTER COLUMN user_id SET NOT NULL;
+DROP INDEX idx_meal_log_username_created;
+DROP INDEX idx_meal_log_username_local_date;
+ALTER TABLE meal_log DROP COLUMN username;
+CREATE INDEX idx_meal_log_user_created ON meal_log(user_id, created_at DESC, id DESC);
+CREATE INDEX idx_meal_log_user_local_date ON meal_log(user_id, local_date);
+
+-- nutrition_daily_total
+ALTER TABLE nutrition_daily_total ADD COLUMN user_id BIGINT;
+UPDATE nutrition_daily_total t SET user_id = m.user_id FROM user_id_map m WHERE m.username = t.username;
+ALTER TABLE nutrition_daily_total DROP CONSTRAINT nutrition_daily_total_pkey;
+ALTER TABLE nutrition_daily_total DROP COLUMN username;
+ALTER TABLE nutrition_daily_total ADD PRIMARY KEY (user_id, local_date);
+
+-- recipe
+ALTER TABLE recipe ADD COLUMN user_id BIGINT;
+UPDATE recipe t SET user_id = m.user_id FROM user_id_map m WHERE m.username = t.username;
+ALTER TABLE recipe ALTER COLUMN user_id SET NOT NULL;
+DROP INDEX idx_recipe_username_name;
+ALTER TABLE recipe DROP COLUMN username;
+CREATE INDEX idx_recipe_user_name ON recipe(user_id, name);
+
+-- meal_template
+ALTER TABLE meal_template ADD COLUMN user_id BIGINT;
+UPDATE meal_template t SET user_id = m.user_id FROM user_id_map m WHERE m.username = t.username;
+ALTER TABLE meal_template ALTER COLUMN user_id SET NOT NULL;
+DROP INDEX idx_meal_template_username_name;
+ALTER TABLE meal_template DROP COLUMN username;
+CREATE INDEX idx_meal_template_user_name ON meal_template(user_id, name);
+
+-- recent_food
+ALTER TABLE recent_food ADD COLUMN user_id BIGINT;
+UPDATE recent_food t SET user_id = m.user_id FROM user_id_map m WHERE m.username = t.username;
+ALTER TABLE recent_food DROP CONSTRAINT recent_food_pkey;
+DROP INDEX idx_recent_food_username_last_used;
+ALTER TABLE recent_food DROP COLUMN username;
+ALTER TABLE recent_food ADD PRIMARY KEY (user_id, food_key);
+CREATE INDEX idx_recent_food_user_last_used ON recent_food(user_id, last_used_at DESC);
+
+DROP TABLE user_id_map;
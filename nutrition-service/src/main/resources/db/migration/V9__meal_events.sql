@@ -0,0 +1,54 @@
+-- Change feed of calories logged per user and day, read by the backend's energy-balance
+-- projection through GET /events/meals. Triggers on meal_log fill it in the same transaction
+-- as the write, so every write path (single meals, day copies, templates, deletes, both
+-- builds) is captured without each one having to remember to.
+CREATE TABLE meal_event (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    local_date DATE NOT NULL,
+    -- Change to the day's calories; negative when meals are deleted
+    calories INTEGER NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now()
+);
+
+-- Events the reader has moved past are dropped once they are older than the retention window
+CREATE INDEX idx_meal_event_created ON meal_event(created_at);
+
+-- Statement-level, so a copied day or a bulk delete is one event per user and day rather
+-- than one per meal
+CREATE OR REPLACE FUNCTION meal_log_inserted() RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO meal_event (user_id, local_date, calories)
+    SELECT user_id, local_date, SUM(total_calories)
+    FROM inserted
+    GROUP BY user_id, local_date;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION meal_log_deleted() RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO meal_event (user_id, local_date, calories)
+    SELECT user_id, local_date, -SUM(total_calories)
+    FROM deleted
+    GROUP BY user_id, local_date;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER meal_log_event_insert
+    AFTER INSERT ON meal_log
+    REFERENCING NEW TABLE AS inserted
+    FOR EACH STATEMENT EXECUTE FUNCTION meal_log_inserted();
+
+CREATE TRIGGER meal_log_event_delete
+    AFTER DELETE ON meal_log
+    REFERENCING OLD TABLE AS deleted
+    FOR EACH STATEMENT EXECUTE FUNCTION meal_log_deleted();
+
+-- Start the feed with everything logged so far, one event per user and day
+INSERT INTO meal_event (user_id, local_date, calories)
+SELECT user_id, local_date, SUM(total_calories)
+FROM meal_log
+GROUP BY user_id, local_date
+ORDER BY user_id, local_date;
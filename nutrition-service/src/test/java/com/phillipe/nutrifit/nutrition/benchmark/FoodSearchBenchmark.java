@@ -0,0 +1,150 @@
+package com.phillipe.nutrifit.nutrition.benchmark;
+
+import com.phillipe.nutrifit.nutrition.repository.FoodStore;
+import com.phillipe.nutrifit.nutrition.repository.FoodStoreWriter;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Measures food catalog lookups and name searches in-process. Without {@code --csv} it writes a
+ * synthetic USDA-style dataset of {@code --foods} entries first; pass a real export to measure
+ * that instead. Reports the store build time and size, heap growth after opening the store,
+ * and p50/p99/max latencies of searches for random two- to five-letter prefixes, of two-word
+ * searches and of id lookups.
+ * <p>
+ * Not a unit test; surefire skips it. Run it after compiling:
+ * <pre>
+ * ./mvnw test-compile
+ * java -cp target/classes:target/test-classes com.phillipe.nutrifit.nutrition.benchmark.FoodSearchBenchmark \
+ *     --foods=400000 --queries=200000
+ * </pre>
+ */
+public class FoodSearchBenchmark {
+
+    private static final String[] WORDS = {
+            "chicken", "beef", "pork", "turkey", "salmon", "tuna", "shrimp", "egg", "milk", "cheese",
+            "yogurt", "butter", "bread", "rice", "pasta", "oats", "quinoa", "potato", "tomato", "carrot",
+            "broccoli", "spinach", "apple", "banana", "orange", "grape", "strawberry", "blueberry", "almond",
+            "walnut", "peanut", "bean", "lentil", "chickpea", "tofu", "soup", "salad", "sandwich", "pizza",
+            "burger", "cereal", "cracker", "cookie", "cake", "chocolate", "juice", "sauce", "dressing",
+            "raw", "cooked", "boiled", "roasted", "fried", "grilled", "baked", "canned", "frozen", "dried",
+            "breast", "thigh", "wing", "ground", "lean", "whole", "skim", "lowfat", "nonfat", "sweetened",
+            "unsweetened", "salted", "unsalted", "organic", "homestyle", "restaurant", "babyfood", "brand"
+    };
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        int foodCount = Integer.parseInt(options.getOrDefault("foods", "400000"));
+        int queries = Integer.parseInt(options.getOrDefault("queries", "200000"));
+        Random random = new Random(42);
+
+        Path dir = Files.createTempDirectory("food-bench");
+        Path csv = options.containsKey("csv") ? Path.of(options.get("csv")) : synthetic(dir, foodCount, random);
+        Path store = dir.resolve("foods.bin");
+
+        long started = System.nanoTime();
+        try (BufferedReader reader = Files.newBufferedReader(csv)) {
+            foodCount = FoodStoreWriter.write(reader, Files.size(csv), 0, store);
+        }
+        System.out.printf("built %d foods in %d ms, store %.1f MiB%n", foodCount,
+                (System.nanoTime() - started) / 1_000_000, Files.size(store) / 1048576.0);
+
+        long heapBefore = usedHeap();
+        FoodStore foods = FoodStore.open(store);
+        System.out.printf("heap growth after open: %d KiB%n", (usedHeap() - heapBefore) / 1024);
+
+        // Warm up the JIT and the page cache before measuring
+        run(foods, random, queries, null, null, null);
+
+        long[] prefix = new long[queries];
+        long[] twoWords = new long[queries];
+        long[] lookup = new long[queries];
+        run(foods, random, queries, prefix, twoWords, lookup);
+        report("search prefix   ", prefix);
+        report("search two words", twoWords);
+        report("find by id      ", lookup);
+
+        Files.deleteIfExists(store);
+        if (!options.containsKey("csv")) {
+            Files.deleteIfExists(csv);
+        }
+        Files.deleteIfExists(dir);
+    }
+
+    private static void run(FoodStore foods, Random random, int queries,
+                            long[] prefix, long[] twoWords, long[] lookup) {
+        long sink = 0;
+        for (int i = 0; i < queries; i++) {
+            String word = WORDS[random.nextInt(WORDS.length)];
+            String query = word.substring(0, Math.min(word.length(), 2 + random.nextInt(4)));
+            long t0 = System.nanoTime();
+            sink += foods.search(query, 20).size();
+            long t1 = System.nanoTime();
+            sink += foods.search(word + " " + WORDS[random.nextInt(WORDS.length)].substring(0, 3), 20).size();
+            long t2 = System.nanoTime();
+            sink += foods.findById(1 + random.nextInt(foods.size())).isPresent() ? 1 : 0;
+            long t3 = System.nanoTime();
+            if (prefix != null) {
+                prefix[i] = t1 - t0;
+                twoWords[i] = t2 - t1;
+                lookup[i] = t3 - t2;
+            }
+        }
+        if (sink == 42) {
+            System.out.println();
+        }
+    }
+
+    private static Path synthetic(Path dir, int count, Random random) throws Exception {
+        Path csv = dir.resolve("foods.csv");
+        try (BufferedWriter out = Files.newBufferedWriter(csv)) {
+            out.write("fdc_id,description,energy_kcal,protein_g,carbohydrate_g,fat_g\n");
+            for (int id = 1; id <= count; id++) {
+                StringBuilder name = new StringBuilder();
+                int words = 2 + random.nextInt(5);
+                for (int w = 0; w < words; w++) {
+                    name.append(w == 0 ? "" : ", ").append(WORDS[random.nextInt(WORDS.length)]);
+                }
+                // A numeric word per food keeps the dictionary realistically large
+                name.append(" ").append(Integer.toString(id * 7919 % 100_003, 36));
+                out.write(String.format("%d,\"%s\",%.1f,%.1f,%.1f,%.1f%n", id, name,
+                        random.nextDouble() * 600, random.nextDouble() * 40,
+                        random.nextDouble() * 80, random.nextDouble() * 50));
+            }
+        }
+        return csv;
+    }
+
+    private static void report(String label, long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        System.out.printf("%s p50=%.3f ms p99=%.3f ms max=%.3f ms%n", label,
+                sorted[sorted.length / 2] / 1e6, sorted[(int) (sorted.length * 0.99)] / 1e6,
+                sorted[sorted.length - 1] / 1e6);
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] parts = arg.replaceFirst("^--", "").split("=", 2);
+            options.put(parts[0], parts.length > 1 ? parts[1] : "true");
+        }
+        return options;
+    }
+}
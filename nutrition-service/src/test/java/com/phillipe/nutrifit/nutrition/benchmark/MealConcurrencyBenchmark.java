@@ -0,0 +1,263 @@
+package com.phillipe.nutrifit.nutrition.benchmark;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Holds many concurrent clients against GET /meals/mine and POST /meals, for comparing the
+ * servlet build with the reactive one ({@code SPRING_PROFILES_ACTIVE=reactive}) at high
+ * connection counts.
+ * <p>
+ * Every client is its own user with a token signed by {@code --jwt-secret}, so no single meal
+ * list grows hot. Besides throughput and latency it reports the server's resident memory and
+ * thread count at idle and at peak, and the memory growth per client. Both are read from /proc,
+ * so pass {@code --pid} when the server runs on the same host.
+ * <p>
+ * Not a unit test; surefire skips it. Run it with only the JDK on the classpath:
+ * <pre>
+ * ./mvnw test-compile
+ * java -cp target/test-classes com.phillipe.nutrifit.nutrition.benchmark.MealConcurrencyBenchmark \
+ *     --base-url=http://localhost:8081/api --jwt-secret=$JWT_SECRET --pid=$(pgrep -f NutritionServiceApplication) \
+ *     --concurrency=10000 --duration=60
+ * </pre>
+ * The client needs {@code ulimit -n} above the concurrency.
+ */
+public class MealConcurrencyBenchmark {
+
+    private static final String MEAL_JSON = """
+            {"foods":[{"type":"OATMEAL","calories":150,"protein":5,"carbs":27,"fats":3},
+                      {"type":"BANANA","calories":105,"protein":1,"carbs":27,"fats":0}]}
+            """;
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        String baseUrl = options.getOrDefault("base-url", "http://localhost:8081/api");
+        String secret = options.getOrDefault("jwt-secret", System.getenv("JWT_SECRET"));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "10000"));
+        int durationSeconds = Integer.parseInt(options.getOrDefault("duration", "60"));
+        int rampSeconds = Integer.parseInt(options.getOrDefault("ramp", "10"));
+        int writePercent = Integer.parseInt(options.getOrDefault("write-percent", "10"));
+        long pid = Long.parseLong(options.getOrDefault("pid", "0"));
+        if (secret == null || secret.length() < 32) {
+            throw new IllegalArgumentException("--jwt-secret (or JWT_SECRET) must be the service's 32+ character secret");
+        }
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        long idleRss = procStatus(pid, "VmRSS:") * 1024;
+        long idleThreads = procStatus(pid, "Threads:");
+        System.out.printf("concurrency=%d duration=%ds ramp=%ds write-percent=%d%n",
+                concurrency, durationSeconds, rampSeconds, writePercent);
+
+        Stats read = new Stats();
+        Stats write = new Stats();
+        AtomicLong peakRss = new AtomicLong(idleRss);
+        AtomicLong peakThreads = new AtomicLong(idleThreads);
+        // Fresh user ids per run, well above any real user's
+        long firstUserId = System.currentTimeMillis() / 1000 * 1_000_000;
+
+        long rampNanos = Duration.ofSeconds(rampSeconds).toNanos();
+        long start = System.nanoTime();
+        long measureFrom = start + rampNanos;
+        long deadline = measureFrom + Duration.ofSeconds(durationSeconds).toNanos();
+        CountDownLatch done = new CountDownLatch(concurrency);
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            Thread sampler = Thread.ofVirtual().start(() -> {
+                while (System.nanoTime() < deadline) {
+                    peakRss.accumulateAndGet(procStatus(pid, "VmRSS:") * 1024, Math::max);
+                    peakThreads.accumulateAndGet(procStatus(pid, "Threads:"), Math::max);
+                    sleep(1000);
+                }
+            });
+
+            for (int i = 0; i < concurrency; i++) {
+                String token = "Bearer " + token("bench-" + (firstUserId + i), firstUserId + i, secret);
+                long startAt = start + rampNanos * i / concurrency;
+                clients.submit(() -> {
+                    try {
+                        sleep((startAt - System.nanoTime()) / 1_000_000);
+                        HttpRequest get = HttpRequest.newBuilder(URI.create(baseUrl + "/meals/mine"))
+                                .header("Authorization", token)
+                                .timeout(Duration.ofSeconds(60))
+                                .GET()
+                                .build();
+                        HttpRequest post = HttpRequest.newBuilder(URI.create(baseUrl + "/meals"))
+                                .header("Authorization", token)
+                                .header("Content-Type", "application/json")
+                                .timeout(Duration.ofSeconds(60))
+                                .POST(HttpRequest.BodyPublishers.ofString(MEAL_JSON))
+                                .build();
+                        while (System.nanoTime() < deadline) {
+                            boolean isWrite = ThreadLocalRandom.current().nextInt(100) < writePercent;
+                            Stats stats = System.nanoTime() < measureFrom ? null : isWrite ? write : read;
+                            record(stats, () -> client.send(isWrite ? post : get,
+                                    HttpResponse.BodyHandlers.discarding()).statusCode());
+                        }
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            done.await();
+            sampler.join();
+        }
+
+        double seconds = durationSeconds;
+        System.out.println(read.report("GET  /meals/mine", seconds));
+        System.out.println(write.report("POST /meals     ", seconds));
+        System.out.printf("total throughput: %.1f req/s%n", (read.count() + write.count()) / seconds);
+        if (pid > 0) {
+            System.out.printf("server threads: idle=%d peak=%d%n", idleThreads, peakThreads.get());
+            System.out.printf("server RSS: idle=%.1f MiB peak=%.1f MiB, %.1f KiB per client%n",
+                    idleRss / 1048576.0, peakRss.get() / 1048576.0,
+                    (peakRss.get() - idleRss) / 1024.0 / concurrency);
+        }
+    }
+
+    private static void record(Stats stats, Stats.Call call) {
+        if (stats != null) {
+            stats.record(call);
+        } else {
+            try {
+                call.status();
+            } catch (Exception ignored) {
+                // warm-up failures are not counted
+            }
+        }
+    }
+
+    // HS256 token with the same claims nutrition-service reads: user id and expiry
+    private static String token(String username, long userId, String secret) {
+        try {
+            Base64.Encoder b64 = Base64.getUrlEncoder().withoutPadding();
+            long now = System.currentTimeMillis() / 1000;
+            String header = b64.encodeToString("{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+            String payload = b64.encodeToString(("{\"sub\":\"" + username + "\",\"uid\":" + userId + ",\"iat\":" + now
+                    + ",\"exp\":" + (now + 3600) + "}").getBytes(StandardCharsets.UTF_8));
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            String signature = b64.encodeToString(mac.doFinal((header + "." + payload).getBytes(StandardCharsets.UTF_8)));
+            return header + "." + payload + "." + signature;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // A numeric field from /proc/<pid>/status, e.g. VmRSS (KiB) or Threads; 0 when unavailable
+    private static long procStatus(long pid, String field) {
+        if (pid <= 0) {
+            return 0;
+        }
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc", Long.toString(pid), "status"))) {
+                if (line.startsWith(field)) {
+                    return Long.parseLong(line.replaceAll("\\D", ""));
+                }
+            }
+        } catch (Exception ignored) {
+            // process gone or not on this host
+        }
+        return 0;
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new ConcurrentHashMap<>();
+        for (String arg : args) {
+            String[] parts = arg.replaceFirst("^--", "").split("=", 2);
+            options.put(parts[0], parts.length > 1 ? parts[1] : "true");
+        }
+        return options;
+    }
+
+    /**
+     * Latencies in a fixed 1ms-resolution histogram up to 60s, so recording is lock-free.
+     */
+    private static class Stats {
+
+        interface Call {
+            int status() throws Exception;
+        }
+
+        private final AtomicLong[] histogram = new AtomicLong[60_001];
+        private final LongAdder ok = new LongAdder();
+        private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+        Stats() {
+            Arrays.setAll(histogram, i -> new AtomicLong());
+        }
+
+        void record(Call call) {
+            long start = System.nanoTime();
+            String error;
+            try {
+                int status = call.status();
+                error = status < 300 ? null : String.valueOf(status);
+            } catch (Exception e) {
+                error = e.getClass().getSimpleName();
+            }
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            histogram[(int) Math.min(millis, histogram.length - 1)].incrementAndGet();
+            if (error == null) {
+                ok.increment();
+            } else {
+                errors.computeIfAbsent(error, k -> new LongAdder()).increment();
+            }
+        }
+
+        long count() {
+            return ok.sum() + errors.values().stream().mapToLong(LongAdder::sum).sum();
+        }
+
+        String report(String label, double seconds) {
+            return String.format("%s %8.1f req/s  p50=%dms p90=%dms p99=%dms max=%dms  ok=%d errors=%s",
+                    label, count() / seconds, percentile(0.50), percentile(0.90), percentile(0.99),
+                    percentile(1.0), ok.sum(), errors);
+        }
+
+        private long percentile(double p) {
+            long total = count();
+            long target = Math.max(1, (long) Math.ceil(total * p));
+            long seen = 0;
+            for (int i = 0; i < histogram.length; i++) {
+                seen += histogram[i].get();
+                if (seen >= target) {
+                    return i;
+                }
+            }
+            return 0;
+        }
+    }
+}
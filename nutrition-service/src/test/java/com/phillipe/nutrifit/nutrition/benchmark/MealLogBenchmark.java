@@ -0,0 +1,152 @@
+package com.phillipe.nutrifit.nutrition.benchmark;
+
+import com.phillipe.nutrifit.nutrition.dto.request.FoodItemRequest;
+import com.phillipe.nutrifit.nutrition.dto.request.MealLogRequest;
+import com.phillipe.nutrifit.nutrition.dto.response.MealLogPageResponse;
+import com.phillipe.nutrifit.nutrition.dto.response.MealLogResponse;
+import com.phillipe.nutrifit.nutrition.model.RecipeMacros;
+import com.phillipe.nutrifit.nutrition.model.embedded.MealFoodEntry;
+import com.phillipe.nutrifit.nutrition.model.entity.MealLog;
+import com.phillipe.nutrifit.nutrition.repository.FoodStore;
+import com.phillipe.nutrifit.nutrition.repository.FoodStoreWriter;
+import com.phillipe.nutrifit.nutrition.repository.MealLogRepository;
+import com.phillipe.nutrifit.nutrition.repository.NutritionDailyTotalRepository;
+import com.phillipe.nutrifit.nutrition.repository.RecentFoodRepository;
+import com.phillipe.nutrifit.nutrition.repository.RecipeRepository;
+import com.phillipe.nutrifit.nutrition.service.MealLogServiceImpl;
+import com.phillipe.nutrifit.nutrition.service.RecentFoodCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * MealLogServiceImpl's in-memory work with the database stubbed out: logging a meal that
+ * mixes catalog foods, a recipe and a typed entry (totals, recent-food bookkeeping, response
+ * mapping) and reading a page of the meal history, which maps {@value #PAGE} meals and encodes
+ * the next cursor. Catalog foods come from a real FoodStore over a small CSV; the repositories
+ * are stub-only Mockito mocks, which record no invocations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MealLogBenchmark {
+
+    static final int PAGE = 20;
+
+    private static final String CSV = """
+            fdc_id,description,data_type,energy_kcal,protein_g,carbohydrate_g,fat_g
+            171077,"Chicken, broilers or fryers, breast, meat only, roasted",sr_legacy,165,31.02,0,3.57
+            169704,"Rice, white, long-grain, regular, cooked",sr_legacy,130,2.69,28.17,0.28
+            170379,"Broccoli, raw",sr_legacy,34,2.82,6.64,0.37
+            171287,"Egg, whole, raw, fresh",sr_legacy,143,12.56,0.72,9.51
+            """;
+
+    private Path dir;
+    private MealLogServiceImpl service;
+    private MealLogRequest request;
+
+    @Setup
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("meal-bench");
+        Path file = dir.resolve("foods.bin");
+        FoodStoreWriter.write(new BufferedReader(new StringReader(CSV)), CSV.length(), 0, file);
+        FoodStore foodStore = FoodStore.open(file);
+
+        MealLogRepository mealLogRepo = stub(MealLogRepository.class);
+        RecipeRepository recipeRepo = stub(RecipeRepository.class);
+        when(mealLogRepo.save(any())).thenAnswer(invocation -> {
+            MealLog meal = invocation.getArgument(0);
+            meal.setId(1L);
+            return meal;
+        });
+        when(recipeRepo.findMacros(any(), eq(42L)))
+                .thenReturn(List.of(new RecipeMacros(7L, "Overnight oats", 2, 760, 36, 104, 22)));
+
+        request = MealLogRequest.builder()
+                .foods(List.of(
+                        FoodItemRequest.builder().foodId(171077).grams(180).build(),
+                        FoodItemRequest.builder().foodId(169704).grams(200).build(),
+                        FoodItemRequest.builder().foodId(170379).grams(120).build(),
+                        FoodItemRequest.builder().recipeId(7L).servings(1.0).build(),
+                        FoodItemRequest.builder().type("Protein shake").calories(160).protein(30).carbs(6)
+                                .fats(2).build()))
+                .build();
+
+        // One more than a page, so the page carries a cursor as it would mid-history
+        List<MealLog> history = new ArrayList<>();
+        Instant now = Instant.now();
+        for (int i = 0; i <= PAGE; i++) {
+            MealLog meal = MealLog.builder()
+                    .id((long) PAGE + 1 - i)
+                    .userId(42L)
+                    .createdAt(now.minus(i * 5L, ChronoUnit.HOURS))
+                    .totalCalories(650)
+                    .totalProtein(48)
+                    .totalCarbs(70)
+                    .totalFats(18)
+                    .build();
+            meal.setLocalDate(meal.getCreatedAt().atZone(ZoneId.of("UTC")).toLocalDate());
+            meal.getFoods().add(MealFoodEntry.builder().type("Chicken breast").calories(297).protein(56)
+                    .carbs(0).fats(6).foodId(171077).grams(180).build());
+            meal.getFoods().add(MealFoodEntry.builder().type("Rice").calories(260).protein(5)
+                    .carbs(56).fats(1).foodId(169704).grams(200).build());
+            meal.getFoods().add(MealFoodEntry.builder().type("Olive oil").calories(93).protein(0)
+                    .carbs(0).fats(11).build());
+            history.add(meal);
+        }
+        when(mealLogRepo.findPage(eq(42L), any(), any(), any(), any(), any())).thenReturn(history);
+
+        service = new MealLogServiceImpl(mealLogRepo, stub(NutritionDailyTotalRepository.class), recipeRepo,
+                stub(RecentFoodRepository.class), foodStore, new RecentFoodCache(10_000, Duration.ofMinutes(5)));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(dir.resolve("foods.bin"));
+        Files.deleteIfExists(dir);
+    }
+
+    @Benchmark
+    public MealLogResponse logMeal() {
+        return service.createMeal(request, 42L, ZoneId.of("Europe/Berlin"));
+    }
+
+    @Benchmark
+    public MealLogPageResponse mealsPage() {
+        return service.getMyMealsPage(42L, null, null, null, PAGE);
+    }
+
+    private static <T> T stub(Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+}
@@ -0,0 +1,68 @@
+package com.phillipe.nutrifit.nutrition.controller;
+
+import com.phillipe.nutrifit.nutrition.config.SecurityConfig;
+import com.phillipe.nutrifit.nutrition.dto.response.FoodResponse;
+import com.phillipe.nutrifit.nutrition.service.FoodService;
+import com.phillipe.nutrifit.nutrition.service.JwtService;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(FoodController.class)
+@Import(SecurityConfig.class)
+class FoodControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private FoodService foodService;
+
+    @MockitoBean
+    private JwtService jwtService;
+
+    @Test
+    void search_shouldReturnMatchingFoods() throws Exception {
+        when(foodService.search("chick", 5)).thenReturn(List.of(FoodResponse.builder()
+                .id(15).name("Chicken, breast, roasted").calories(165.0).protein(31.0).carbs(0.0).fats(3.6)
+                .build()));
+
+        mockMvc.perform(get("/foods/search").param("q", "chick").param("limit", "5").with(user("testuser")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(15))
+                .andExpect(jsonPath("$[0].fats").value(3.6));
+    }
+
+    @Test
+    void search_withoutQuery_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/foods/search").with(user("testuser")))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Missing required parameter 'q'"));
+    }
+
+    @Test
+    void getFood_unknownId_shouldReturnNotFound() throws Exception {
+        when(foodService.getFood(404)).thenThrow(new EntityNotFoundException("Food not found"));
+
+        mockMvc.perform(get("/foods/404").with(user("testuser")))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void search_unauthenticated_shouldBeRejected() throws Exception {
+        mockMvc.perform(get("/foods/search").param("q", "chick"))
+                .andExpect(status().isForbidden());
+    }
+}
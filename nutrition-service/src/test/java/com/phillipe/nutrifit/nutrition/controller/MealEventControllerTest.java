@@ -0,0 +1,86 @@
+package com.phillipe.nutrifit.nutrition.controller;
+
+import com.phillipe.nutrifit.nutrition.config.SecurityConfig;
+import com.phillipe.nutrifit.nutrition.dto.response.MealEventResponse;
+import com.phillipe.nutrifit.nutrition.service.JwtService;
+import com.phillipe.nutrifit.nutrition.service.MealEventService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(MealEventController.class)
+@Import(SecurityConfig.class)
+class MealEventControllerTest {
+
+    private static final Authentication USER = new TestingAuthenticationToken(1L, null, "ROLE_USER");
+    private static final Authentication SERVICE =
+            new TestingAuthenticationToken(JwtService.MEAL_EVENTS_SCOPE, null, "ROLE_SERVICE");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private MealEventService mealEventService;
+
+    @MockitoBean
+    private JwtService jwtService;
+
+    @Test
+    void mealEvents_serviceToken_shouldReturnEventsAfterCursor() throws Exception {
+        when(mealEventService.getEvents(900L, 41L, 100)).thenReturn(List.of(MealEventResponse.builder()
+                .xactId(901L).id(42L).userId(3L).localDate(LocalDate.of(2026, 3, 14)).calories(-350)
+                .createdAt(Instant.parse("2026-03-14T12:00:00Z"))
+                .build()));
+
+        mockMvc.perform(get("/events/meals").param("afterXact", "900").param("after", "41").param("limit", "100")
+                        .with(authentication(SERVICE)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].xactId").value(901))
+                .andExpect(jsonPath("$[0].id").value(42))
+                .andExpect(jsonPath("$[0].userId").value(3))
+                .andExpect(jsonPath("$[0].localDate").value("2026-03-14"))
+                .andExpect(jsonPath("$[0].calories").value(-350));
+    }
+
+    @Test
+    void mealEvents_userToken_shouldBeForbidden() throws Exception {
+        mockMvc.perform(get("/events/meals").with(authentication(USER)))
+                .andExpect(status().isForbidden());
+
+        verify(mealEventService, never()).getEvents(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void mealEvents_unauthenticated_shouldBeRejected() throws Exception {
+        mockMvc.perform(get("/events/meals"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void mealEvents_negativeCursor_shouldReturnBadRequest() throws Exception {
+        when(mealEventService.getEvents(0L, -1L, null))
+                .thenThrow(new IllegalArgumentException("'after' must not be negative"));
+
+        mockMvc.perform(get("/events/meals").param("after", "-1").with(authentication(SERVICE)))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -5,7 +5,10 @@ import com.phillipe.nutrifit.nutrition.config.SecurityConfig;
 import com.phillipe.nutrifit.nutrition.dto.request.FoodItemRequest;
 import com.phillipe.nutrifit.nutrition.dto.request.MealLogRequest;
 import com.phillipe.nutrifit.nutrition.dto.response.FoodItemResponse;
+import com.phillipe.nutrifit.nutrition.dto.response.MealLogPageResponse;
 import com.phillipe.nutrifit.nutrition.dto.response.MealLogResponse;
+import com.phillipe.nutrifit.nutrition.dto.response.NutritionTotalsResponse;
+import com.phillipe.nutrifit.nutrition.model.SummaryPeriod;
 import com.phillipe.nutrifit.nutrition.service.JwtService;
 import com.phillipe.nutrifit.nutrition.service.MealLogService;
 import org.junit.jupiter.api.Test;
@@ -13,18 +16,22 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
-import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -35,6 +42,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @Import(SecurityConfig.class)
 class MealLogControllerTest {
 
+    private static final Authentication USER = new TestingAuthenticationToken(1L, null, "ROLE_USER");
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -68,11 +77,11 @@ class MealLogControllerTest {
                 .foods(List.of(FoodItemResponse.builder().type("Chicken").calories(300).protein(40).carbs(0).fats(10).build()))
                 .build();
 
-        when(mealLogService.createMeal(any(), eq("testuser"))).thenReturn(response);
+        when(mealLogService.createMeal(any(), eq(1L), any())).thenReturn(response);
 
         mockMvc.perform(post("/meals")
                         .with(csrf())
-                        .with(user("testuser"))
+                        .with(authentication(USER))
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isOk())
@@ -87,7 +96,7 @@ class MealLogControllerTest {
 
         mockMvc.perform(post("/meals")
                         .with(csrf())
-                        .with(user("testuser"))
+                        .with(authentication(USER))
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isBadRequest());
@@ -101,7 +110,7 @@ class MealLogControllerTest {
 
         mockMvc.perform(post("/meals")
                         .with(csrf())
-                        .with(user("testuser"))
+                        .with(authentication(USER))
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isBadRequest());
@@ -120,6 +129,59 @@ class MealLogControllerTest {
                 .andExpect(status().isForbidden());
     }
 
+    @Test
+    void createMeal_withTimeZoneHeader_shouldPassZoneToService() throws Exception {
+        MealLogRequest request = MealLogRequest.builder()
+                .foods(List.of(FoodItemRequest.builder().type("Chicken").calories(300).build()))
+                .build();
+        when(mealLogService.createMeal(any(), eq(1L), eq(ZoneId.of("Europe/Berlin"))))
+                .thenReturn(MealLogResponse.builder().id(1L).foods(List.of()).build());
+
+        mockMvc.perform(post("/meals")
+                        .with(csrf())
+                        .with(authentication(USER))
+                        .header("X-Time-Zone", "Europe/Berlin")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1));
+    }
+
+    @Test
+    void createMeal_invalidTimeZone_shouldReturnBadRequest() throws Exception {
+        MealLogRequest request = MealLogRequest.builder()
+                .foods(List.of(FoodItemRequest.builder().type("Chicken").calories(300).build()))
+                .build();
+
+        mockMvc.perform(post("/meals")
+                        .with(csrf())
+                        .with(authentication(USER))
+                        .header("X-Time-Zone", "Mars/Olympus_Mons")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getSummary_shouldReturnPeriodTotals() throws Exception {
+        LocalDate from = LocalDate.of(2026, 3, 1);
+        LocalDate to = LocalDate.of(2026, 3, 31);
+        when(mealLogService.getSummary(1L, SummaryPeriod.MONTH, from, to, ZoneId.of("America/Chicago")))
+                .thenReturn(List.of(NutritionTotalsResponse.builder()
+                        .periodStart(from).totalCalories(62000).mealCount(93).build()));
+
+        mockMvc.perform(get("/meals/summary")
+                        .param("period", "MONTH")
+                        .param("from", "2026-03-01")
+                        .param("to", "2026-03-31")
+                        .header("X-Time-Zone", "America/Chicago")
+                        .with(authentication(USER)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].periodStart").value("2026-03-01"))
+                .andExpect(jsonPath("$[0].totalCalories").value(62000))
+                .andExpect(jsonPath("$[0].mealCount").value(93));
+    }
+
     @Test
     void getMyMeals_success_shouldReturnMealsList() throws Exception {
         MealLogResponse meal = MealLogResponse.builder()
@@ -129,10 +191,10 @@ class MealLogControllerTest {
                 .foods(List.of())
                 .build();
 
-        when(mealLogService.getMyMeals("testuser")).thenReturn(List.of(meal));
+        when(mealLogService.getMyMeals(1L, null, null)).thenReturn(List.of(meal));
 
         mockMvc.perform(get("/meals/mine")
-                        .with(user("testuser")))
+                        .with(authentication(USER)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].id").value(1))
                 .andExpect(jsonPath("$[0].totalCalories").value(500));
@@ -140,28 +202,92 @@ class MealLogControllerTest {
 
     @Test
     void getMyMeals_emptyList_shouldReturnEmptyArray() throws Exception {
-        when(mealLogService.getMyMeals("testuser")).thenReturn(List.of());
+        when(mealLogService.getMyMeals(1L, null, null)).thenReturn(List.of());
 
         mockMvc.perform(get("/meals/mine")
-                        .with(user("testuser")))
+                        .with(authentication(USER)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").isEmpty());
     }
 
+    @Test
+    void getMyMeals_withRange_shouldPassBoundsToService() throws Exception {
+        Instant from = Instant.parse("2026-03-01T00:00:00Z");
+        Instant to = Instant.parse("2026-03-02T00:00:00Z");
+        when(mealLogService.getMyMeals(1L, from, to)).thenReturn(List.of());
+
+        mockMvc.perform(get("/meals/mine")
+                        .param("from", "2026-03-01T00:00:00Z")
+                        .param("to", "2026-03-02T00:00:00Z")
+                        .with(authentication(USER)))
+                .andExpect(status().isOk());
+
+        verify(mealLogService).getMyMeals(1L, from, to);
+    }
+
+    @Test
+    void getMyMeals_invalidDate_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/meals/mine")
+                        .param("from", "yesterday")
+                        .with(authentication(USER)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid value for parameter 'from'"));
+    }
+
+    @Test
+    void getMyMealsPage_shouldReturnItemsAndCursor() throws Exception {
+        MealLogResponse meal = MealLogResponse.builder().id(1L).totalCalories(500).foods(List.of()).build();
+        when(mealLogService.getMyMealsPage(1L, null, null, "abc", 1))
+                .thenReturn(MealLogPageResponse.builder().items(List.of(meal)).nextCursor("next").build());
+
+        mockMvc.perform(get("/meals/mine/page")
+                        .param("cursor", "abc")
+                        .param("limit", "1")
+                        .with(authentication(USER)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(1))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
     @Test
     void getMyMeals_unauthenticated_shouldReturnForbidden() throws Exception {
         mockMvc.perform(get("/meals/mine"))
                 .andExpect(status().isForbidden());
     }
 
+    @Test
+    void copyDay_shouldReturnCopiedMeals() throws Exception {
+        LocalDate from = LocalDate.of(2026, 3, 1);
+        when(mealLogService.copyDay(1L, from, null, ZoneId.of("Europe/Berlin")))
+                .thenReturn(List.of(MealLogResponse.builder().id(12L).totalCalories(700).foods(List.of()).build()));
+
+        mockMvc.perform(post("/meals/copy")
+                        .param("from", "2026-03-01")
+                        .header("X-Time-Zone", "Europe/Berlin")
+                        .with(csrf())
+                        .with(authentication(USER)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(12))
+                .andExpect(jsonPath("$[0].totalCalories").value(700));
+    }
+
+    @Test
+    void copyDay_withoutFrom_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/meals/copy")
+                        .with(csrf())
+                        .with(authentication(USER)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Missing required parameter 'from'"));
+    }
+
     @Test
     void deleteMeal_success_shouldReturnNoContent() throws Exception {
         mockMvc.perform(delete("/meals/1")
                         .with(csrf())
-                        .with(user("testuser")))
+                        .with(authentication(USER)))
                 .andExpect(status().isNoContent());
 
-        verify(mealLogService).deleteMeal(1L, "testuser");
+        verify(mealLogService).deleteMeal(1L, 1L);
     }
 
     @Test
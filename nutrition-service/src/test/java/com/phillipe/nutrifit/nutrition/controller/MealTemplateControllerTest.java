@@ -0,0 +1,110 @@
+package com.phillipe.nutrifit.nutrition.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.phillipe.nutrifit.nutrition.config.SecurityConfig;
+import com.phillipe.nutrifit.nutrition.dto.request.MealTemplateRequest;
+import com.phillipe.nutrifit.nutrition.dto.response.MealLogResponse;
+import com.phillipe.nutrifit.nutrition.dto.response.MealTemplateResponse;
+import com.phillipe.nutrifit.nutrition.service.JwtService;
+import com.phillipe.nutrifit.nutrition.service.MealTemplateService;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(MealTemplateController.class)
+@Import(SecurityConfig.class)
+class MealTemplateControllerTest {
+
+    private static final Authentication USER = new TestingAuthenticationToken(1L, null, "ROLE_USER");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private MealTemplateService templateService;
+
+    @MockitoBean
+    private JwtService jwtService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void createTemplate_success_shouldReturnTemplate() throws Exception {
+        when(templateService.createTemplate(any(), eq(1L))).thenReturn(MealTemplateResponse.builder()
+                .id(3L).name("Dinner").totalCalories(700).foods(List.of()).build());
+
+        mockMvc.perform(post("/meals/templates")
+                        .with(csrf())
+                        .with(authentication(USER))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                MealTemplateRequest.builder().name("Dinner").mealId(5L).build())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(3))
+                .andExpect(jsonPath("$.totalCalories").value(700));
+    }
+
+    @Test
+    void createTemplate_withoutMealId_shouldReturnValidationError() throws Exception {
+        mockMvc.perform(post("/meals/templates")
+                        .with(csrf())
+                        .with(authentication(USER))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(MealTemplateRequest.builder().name("Dinner").build())))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void myTemplates_shouldReturnTemplates() throws Exception {
+        when(templateService.getMyTemplates(1L)).thenReturn(List.of(MealTemplateResponse.builder()
+                .id(3L).name("Dinner").foods(List.of()).build()));
+
+        mockMvc.perform(get("/meals/templates/mine").with(authentication(USER)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Dinner"));
+    }
+
+    @Test
+    void applyTemplate_shouldPassZoneAndReturnMeal() throws Exception {
+        when(templateService.applyTemplate(3L, 1L, ZoneId.of("Europe/Berlin")))
+                .thenReturn(MealLogResponse.builder().id(42L).totalCalories(700).foods(List.of()).build());
+
+        mockMvc.perform(post("/meals/templates/3/apply")
+                        .header("X-Time-Zone", "Europe/Berlin")
+                        .with(csrf())
+                        .with(authentication(USER)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(42));
+    }
+
+    @Test
+    void applyTemplate_notFound_shouldReturnNotFound() throws Exception {
+        when(templateService.applyTemplate(9L, 1L, null))
+                .thenThrow(new EntityNotFoundException("Meal template not found"));
+
+        mockMvc.perform(post("/meals/templates/9/apply")
+                        .with(csrf())
+                        .with(authentication(USER)))
+                .andExpect(status().isNotFound());
+    }
+}
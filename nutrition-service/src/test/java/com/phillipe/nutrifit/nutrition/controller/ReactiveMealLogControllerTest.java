@@ -0,0 +1,243 @@
+package com.phillipe.nutrifit.nutrition.controller;
+
+import com.phillipe.nutrifit.nutrition.config.ReactiveSecurityConfig;
+import com.phillipe.nutrifit.nutrition.dto.request.FoodItemRequest;
+import com.phillipe.nutrifit.nutrition.dto.request.MealLogRequest;
+import com.phillipe.nutrifit.nutrition.dto.response.MealLogPageResponse;
+import com.phillipe.nutrifit.nutrition.dto.response.MealLogResponse;
+import com.phillipe.nutrifit.nutrition.dto.response.NutritionTotalsResponse;
+import com.phillipe.nutrifit.nutrition.model.SummaryPeriod;
+import com.phillipe.nutrifit.nutrition.service.JwtService;
+import com.phillipe.nutrifit.nutrition.service.ReactiveMealLogService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webflux.test.autoconfigure.WebFluxTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.reactive.server.SecurityMockServerConfigurers.mockAuthentication;
+import static org.springframework.security.test.web.reactive.server.SecurityMockServerConfigurers.springSecurity;
+
+@WebFluxTest(ReactiveMealLogController.class)
+@Import(ReactiveSecurityConfig.class)
+class ReactiveMealLogControllerTest {
+
+    private static final Authentication USER = new TestingAuthenticationToken(1L, null, "ROLE_USER");
+
+    @Autowired
+    private ApplicationContext context;
+
+    private WebTestClient webTestClient;
+
+    @MockitoBean
+    private ReactiveMealLogService mealLogService;
+
+    @MockitoBean
+    private JwtService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        webTestClient = WebTestClient.bindToApplicationContext(context)
+                .apply(springSecurity())
+                .configureClient()
+                .build();
+    }
+
+    @Test
+    void createMeal_success_shouldReturnMealLogResponse() {
+        MealLogRequest request = MealLogRequest.builder()
+                .foods(List.of(FoodItemRequest.builder().type("Chicken").calories(300).protein(40).build()))
+                .build();
+        MealLogResponse response = MealLogResponse.builder()
+                .id(1L)
+                .createdAt(Instant.now())
+                .totalCalories(300)
+                .totalProtein(40)
+                .foods(List.of())
+                .build();
+
+        when(mealLogService.createMeal(any(), eq(1L), any())).thenReturn(Mono.just(response));
+
+        webTestClient.mutateWith(mockAuthentication(USER))
+                .post().uri("/meals")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(1)
+                .jsonPath("$.totalCalories").isEqualTo(300);
+    }
+
+    @Test
+    void createMeal_emptyFoodsList_shouldReturnValidationError() {
+        MealLogRequest request = MealLogRequest.builder().foods(List.of()).build();
+
+        webTestClient.mutateWith(mockAuthentication(USER))
+                .post().uri("/meals")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("VALIDATION_ERROR")
+                .jsonPath("$.fieldErrors[0].field").isEqualTo("foods");
+    }
+
+    @Test
+    void createMeal_unauthenticated_shouldReturnForbidden() {
+        webTestClient.post().uri("/meals")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(MealLogRequest.builder()
+                        .foods(List.of(FoodItemRequest.builder().type("Chicken").build()))
+                        .build())
+                .exchange()
+                .expectStatus().isForbidden();
+    }
+
+    @Test
+    void getMyMeals_success_shouldReturnMealsArray() {
+        MealLogResponse first = MealLogResponse.builder().id(2L).totalCalories(500).foods(List.of()).build();
+        MealLogResponse second = MealLogResponse.builder().id(1L).totalCalories(300).foods(List.of()).build();
+
+        when(mealLogService.getMyMeals(1L, null, null)).thenReturn(Flux.just(first, second));
+
+        webTestClient.mutateWith(mockAuthentication(USER))
+                .get().uri("/meals/mine")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].id").isEqualTo(2)
+                .jsonPath("$[1].totalCalories").isEqualTo(300);
+    }
+
+    @Test
+    void getMyMeals_ndjson_shouldStreamOneMealPerLine() {
+        MealLogResponse meal = MealLogResponse.builder().id(1L).totalCalories(300).foods(List.of()).build();
+
+        when(mealLogService.getMyMeals(1L, null, null)).thenReturn(Flux.just(meal, meal));
+
+        webTestClient.mutateWith(mockAuthentication(USER))
+                .get().uri("/meals/mine")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(MealLogResponse.class)
+                .hasSize(2);
+    }
+
+    @Test
+    void getMyMealsPage_shouldReturnItemsAndCursor() {
+        Instant from = Instant.parse("2026-03-01T00:00:00Z");
+        MealLogResponse meal = MealLogResponse.builder().id(1L).totalCalories(300).foods(List.of()).build();
+        when(mealLogService.getMyMealsPage(1L, from, null, null, 1))
+                .thenReturn(Mono.just(MealLogPageResponse.builder().items(List.of(meal)).nextCursor("next").build()));
+
+        webTestClient.mutateWith(mockAuthentication(USER))
+                .get().uri("/meals/mine/page?from=2026-03-01T00:00:00Z&limit=1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items[0].id").isEqualTo(1)
+                .jsonPath("$.nextCursor").isEqualTo("next");
+    }
+
+    @Test
+    void getMyMeals_invalidDate_shouldReturnBadRequest() {
+        webTestClient.mutateWith(mockAuthentication(USER))
+                .get().uri("/meals/mine?from=yesterday")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Invalid value for parameter 'from'");
+    }
+
+    @Test
+    void getSummary_defaults_shouldAskForToday() {
+        when(mealLogService.getSummary(1L, SummaryPeriod.DAY, null, null, null))
+                .thenReturn(Mono.just(List.of(NutritionTotalsResponse.builder()
+                        .periodStart(LocalDate.of(2026, 3, 1)).totalCalories(1800).mealCount(3).build())));
+
+        webTestClient.mutateWith(mockAuthentication(USER))
+                .get().uri("/meals/summary")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].periodStart").isEqualTo("2026-03-01")
+                .jsonPath("$[0].mealCount").isEqualTo(3);
+    }
+
+    @Test
+    void getSummary_invalidTimeZone_shouldReturnBadRequest() {
+        webTestClient.mutateWith(mockAuthentication(USER))
+                .get().uri("/meals/summary")
+                .header("X-Time-Zone", "Mars/Olympus_Mons")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Invalid value for parameter 'X-Time-Zone'");
+    }
+
+    @Test
+    void copyDay_shouldReturnCopiedMeals() {
+        LocalDate from = LocalDate.of(2026, 3, 1);
+        when(mealLogService.copyDay(1L, from, null, ZoneId.of("Europe/Berlin")))
+                .thenReturn(Flux.just(MealLogResponse.builder().id(12L).totalCalories(700).foods(List.of()).build()));
+
+        webTestClient.mutateWith(mockAuthentication(USER))
+                .post().uri("/meals/copy?from=2026-03-01")
+                .header("X-Time-Zone", "Europe/Berlin")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].id").isEqualTo(12)
+                .jsonPath("$[0].totalCalories").isEqualTo(700);
+    }
+
+    @Test
+    void copyDay_withoutFrom_shouldReturnBadRequest() {
+        webTestClient.mutateWith(mockAuthentication(USER))
+                .post().uri("/meals/copy")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void deleteMeal_notOwned_shouldReturnBadRequest() {
+        when(mealLogService.deleteMeal(1L, 1L))
+                .thenReturn(Mono.error(new IllegalArgumentException("Meal not found or access denied")));
+
+        webTestClient.mutateWith(mockAuthentication(USER))
+                .delete().uri("/meals/1")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Meal not found or access denied");
+    }
+
+    @Test
+    void deleteMeal_success_shouldReturnNoContent() {
+        when(mealLogService.deleteMeal(1L, 1L)).thenReturn(Mono.empty());
+
+        webTestClient.mutateWith(mockAuthentication(USER))
+                .delete().uri("/meals/1")
+                .exchange()
+                .expectStatus().isNoContent();
+    }
+}
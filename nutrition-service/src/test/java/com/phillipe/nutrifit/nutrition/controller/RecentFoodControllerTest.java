@@ -0,0 +1,75 @@
+package com.phillipe.nutrifit.nutrition.controller;
+
+import com.phillipe.nutrifit.nutrition.config.SecurityConfig;
+import com.phillipe.nutrifit.nutrition.dto.response.RecentFoodResponse;
+import com.phillipe.nutrifit.nutrition.model.RecentFoodOrder;
+import com.phillipe.nutrifit.nutrition.service.JwtService;
+import com.phillipe.nutrifit.nutrition.service.RecentFoodService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(RecentFoodController.class)
+@Import(SecurityConfig.class)
+class RecentFoodControllerTest {
+
+    private static final Authentication USER = new TestingAuthenticationToken(1L, null, "ROLE_USER");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private RecentFoodService recentFoodService;
+
+    @MockitoBean
+    private JwtService jwtService;
+
+    @Test
+    void recentFoods_shouldDefaultToMostRecentFirst() throws Exception {
+        when(recentFoodService.getRecentFoods(1L, RecentFoodOrder.RECENT, null))
+                .thenReturn(List.of(RecentFoodResponse.builder()
+                        .type("Chicken, breast, roasted").calories(248).foodId(15).grams(150).useCount(6)
+                        .build()));
+
+        mockMvc.perform(get("/foods/recent").with(authentication(USER)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].foodId").value(15))
+                .andExpect(jsonPath("$[0].grams").value(150))
+                .andExpect(jsonPath("$[0].useCount").value(6));
+    }
+
+    @Test
+    void recentFoods_frequent_shouldPassOrderAndLimit() throws Exception {
+        when(recentFoodService.getRecentFoods(1L, RecentFoodOrder.FREQUENT, 5))
+                .thenReturn(List.of(RecentFoodResponse.builder().type("Oats").useCount(12).build()));
+
+        mockMvc.perform(get("/foods/recent").param("order", "FREQUENT").param("limit", "5").with(authentication(USER)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].type").value("Oats"));
+    }
+
+    @Test
+    void recentFoods_unknownOrder_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/foods/recent").param("order", "OLDEST").with(authentication(USER)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void recentFoods_unauthenticated_shouldBeRejected() throws Exception {
+        mockMvc.perform(get("/foods/recent"))
+                .andExpect(status().isForbidden());
+    }
+}
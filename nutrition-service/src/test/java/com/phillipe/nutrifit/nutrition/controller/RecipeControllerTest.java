@@ -0,0 +1,115 @@
+package com.phillipe.nutrifit.nutrition.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.phillipe.nutrifit.nutrition.config.SecurityConfig;
+import com.phillipe.nutrifit.nutrition.dto.request.FoodItemRequest;
+import com.phillipe.nutrifit.nutrition.dto.request.RecipeRequest;
+import com.phillipe.nutrifit.nutrition.dto.response.RecipeResponse;
+import com.phillipe.nutrifit.nutrition.service.JwtService;
+import com.phillipe.nutrifit.nutrition.service.RecipeService;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(RecipeController.class)
+@Import(SecurityConfig.class)
+class RecipeControllerTest {
+
+    private static final Authentication USER = new TestingAuthenticationToken(1L, null, "ROLE_USER");
+    private static final Authentication OTHER_USER = new TestingAuthenticationToken(2L, null, "ROLE_USER");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private RecipeService recipeService;
+
+    @MockitoBean
+    private JwtService jwtService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void createRecipe_success_shouldReturnRecipeResponse() throws Exception {
+        RecipeRequest request = RecipeRequest.builder()
+                .name("Chili")
+                .servings(4)
+                .ingredients(List.of(FoodItemRequest.builder().foodId(15).grams(500).build()))
+                .build();
+        when(recipeService.createRecipe(any(), eq(1L))).thenReturn(RecipeResponse.builder()
+                .id(3L).name("Chili").servings(4).totalCalories(825).caloriesPerServing(206).ingredients(List.of())
+                .build());
+
+        mockMvc.perform(post("/recipes")
+                        .with(csrf())
+                        .with(authentication(USER))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(3))
+                .andExpect(jsonPath("$.caloriesPerServing").value(206));
+    }
+
+    @Test
+    void createRecipe_zeroServings_shouldReturnValidationError() throws Exception {
+        RecipeRequest request = RecipeRequest.builder()
+                .name("Chili")
+                .servings(0)
+                .ingredients(List.of(FoodItemRequest.builder().type("Beans").calories(300).build()))
+                .build();
+
+        mockMvc.perform(post("/recipes")
+                        .with(csrf())
+                        .with(authentication(USER))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getRecipe_notFound_shouldReturnNotFound() throws Exception {
+        when(recipeService.getRecipe(9L, 1L)).thenThrow(new EntityNotFoundException("Recipe not found"));
+
+        mockMvc.perform(get("/recipes/9").with(authentication(USER)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void deleteRecipe_shouldReturnNoContent() throws Exception {
+        mockMvc.perform(delete("/recipes/3")
+                        .with(csrf())
+                        .with(authentication(USER)))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    void deleteRecipe_notOwned_shouldReturnNotFound() throws Exception {
+        doThrow(new EntityNotFoundException("Recipe not found")).when(recipeService).deleteRecipe(3L, 2L);
+
+        mockMvc.perform(delete("/recipes/3")
+                        .with(csrf())
+                        .with(authentication(OTHER_USER)))
+                .andExpect(status().isNotFound());
+    }
+}
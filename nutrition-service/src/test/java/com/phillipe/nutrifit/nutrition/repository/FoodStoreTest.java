@@ -0,0 +1,98 @@
+package com.phillipe.nutrifit.nutrition.repository;
+
+import com.phillipe.nutrifit.nutrition.model.Food;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FoodStoreTest {
+
+    private static final String CSV = """
+            fdc_id,description,data_type,energy_kcal,protein_g,carbohydrate_g,fat_g
+            171077,"Chicken, broilers or fryers, breast, meat only, roasted",sr_legacy,165,31.02,0,3.57
+            171116,"Chicken, thigh, roasted",sr_legacy,209,25.95,,10.9
+            173944,"Babyfood, chicken noodle dinner",sr_legacy,63,2.5,8.1,2.1
+            170567,"Crème fraîche",sr_legacy,393,2.4,2.8,40
+            169655,"Soup, ""homestyle"" chicken",sr_legacy,36,2.1,3.8,1.2
+            """;
+
+    @TempDir
+    Path dir;
+
+    private FoodStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path file = dir.resolve("foods.bin");
+        FoodStoreWriter.write(new BufferedReader(new StringReader(CSV)), 100, 200, file);
+        store = FoodStore.open(file);
+    }
+
+    @Test
+    void findById_shouldReturnFoodWithMacrosPer100g() {
+        Food food = store.findById(171116).orElseThrow();
+
+        assertEquals("Chicken, thigh, roasted", food.name());
+        assertEquals(209, food.calories(), 0.001);
+        assertEquals(25.95, food.protein(), 0.001);
+        assertEquals(0, food.carbs());
+        assertEquals(10.9, food.fats(), 0.001);
+        assertEquals(5, store.size());
+    }
+
+    @Test
+    void findById_unknownId_shouldBeEmpty() {
+        assertTrue(store.findById(1).isEmpty());
+        assertTrue(store.findById(999999).isEmpty());
+    }
+
+    @Test
+    void search_shouldRankNamesStartingWithQueryFirstThenShorterNames() {
+        List<Food> foods = store.search("chick", 10);
+
+        assertEquals(List.of(171116, 171077, 169655, 173944), foods.stream().map(Food::id).toList());
+    }
+
+    @Test
+    void search_shouldRequireEveryWordAsPrefix() {
+        assertEquals(List.of(171077), store.search("Chick BREAST", 10).stream().map(Food::id).toList());
+        assertEquals(List.of(169655), store.search("homestyle ch", 10).stream().map(Food::id).toList());
+        assertTrue(store.search("chicken beef", 10).isEmpty());
+    }
+
+    @Test
+    void search_shouldIgnoreAccents() {
+        assertEquals(List.of(170567), store.search("creme", 10).stream().map(Food::id).toList());
+    }
+
+    @Test
+    void search_shouldHonourLimit() {
+        assertEquals(2, store.search("chicken", 2).size());
+        assertTrue(store.search("  ,, ", 10).isEmpty());
+    }
+
+    @Test
+    void isBuiltFrom_shouldMatchSourceSizeAndModificationTime() {
+        assertTrue(store.isBuiltFrom(100, 200));
+        assertFalse(store.isBuiltFrom(100, 201));
+    }
+
+    @Test
+    void write_duplicateId_shouldThrow() {
+        String csv = "id,name,calories,protein,carbs,fats\n1,Apple,52,0.3,13.8,0.2\n1,Pear,57,0.4,15,0.1\n";
+
+        assertThrows(IllegalArgumentException.class, () -> FoodStoreWriter.write(
+                new BufferedReader(new StringReader(csv)), 0, 0, dir.resolve("dup.bin")));
+    }
+}
@@ -0,0 +1,497 @@
+package com.phillipe.nutrifit.nutrition.repository;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.phillipe.nutrifit.nutrition.dto.response.MealEventResponse;
+import com.phillipe.nutrifit.nutrition.model.SummaryPeriod;
+import com.phillipe.nutrifit.nutrition.model.embedded.MealFoodEntry;
+import com.phillipe.nutrifit.nutrition.model.entity.MealLog;
+import com.phillipe.nutrifit.nutrition.model.entity.RecentFood;
+import com.phillipe.nutrifit.nutrition.repository.ReactiveMealLogRepository.Statement;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.core.type.classreading.SimpleMetadataReaderFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.stereotype.Repository;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ClassUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Query-plan regression suite. Seeds a Postgres with realistic volumes (query-plans/seed.sql),
+ * calls every repository method through the real Spring Data and JDBC beans, and runs
+ * {@code EXPLAIN (ANALYZE, FORMAT JSON)} for each statement they issue. A case fails when a
+ * plan sequentially scans a table with more than {@code query-plans.seq-scan-rows} rows
+ * (10,000) that the case does not expect to scan, when a statement's estimated total cost
+ * exceeds its entry in query-plans/baseline.json by more than {@code query-plans.cost-tolerance}
+ * (1.5x), or when it issues a different number of statements than the baseline records.
+ * <p>
+ * Also checks that the meal feed never reads past an event whose transaction is still running,
+ * which takes two overlapping transactions against a real database.
+ * <p>
+ * The reactive build's repositories go through R2DBC rather than a JDBC DataSource and aren't
+ * created in this context. Their cases run each statement through JDBC instead, as built with
+ * its bindings by {@link ReactiveMealLogRepository.Statement}.
+ * <p>
+ * Excluded from the default build; run it with {@code ./mvnw test -Pquery-plans}. It starts
+ * a postgres:16-alpine container, or uses an empty database given as
+ * {@code -Dquery-plans.jdbc-url=... -Dquery-plans.username=... -Dquery-plans.password=...}.
+ * After an intended change in cost, rewrite the baseline with
+ * {@code -Dquery-plans.update-baseline=true} and review its diff.
+ */
+@Tag("query-plans")
+// The test application.yaml replaces the main one, and with it the servlet build's R2DBC exclusion
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.autoconfigure.exclude=org.springframework.boot.r2dbc.autoconfigure.R2dbcAutoConfiguration"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanTest {
+
+    private static final String JDBC_URL = System.getProperty("query-plans.jdbc-url");
+    private static final long SEQ_SCAN_ROWS = Long.getLong("query-plans.seq-scan-rows", 10_000);
+    private static final double COST_TOLERANCE =
+            Double.parseDouble(System.getProperty("query-plans.cost-tolerance", "1.5"));
+    private static final boolean UPDATE_BASELINE = Boolean.getBoolean("query-plans.update-baseline");
+    // Below this a plan is a handful of index lookups, and differences between costs are noise
+    private static final double MIN_COMPARED_COST = 50;
+    private static final Path BASELINE = Path.of("src/test/resources/query-plans/baseline.json");
+
+    // A seeded user with the typical share of every table; ids follow from seed.sql
+    private static final long USER = 4242;
+    private static final long MEAL = ((USER - 1) * 20 + 5) * 2 - 1;
+    private static final long RECIPE = (USER - 1) * 5 + 1;
+    private static final long TEMPLATE = (USER - 1) * 3 + 1;
+    private static final Instant SEEDED_UNTIL = Instant.parse("2025-06-30T00:00:00Z");
+    private static final LocalDate LAST_DAY = LocalDate.of(2025, 6, 29);
+
+    private static PostgreSQLContainer<?> postgres;
+
+    // Migrated here rather than by the context, whose schema validation runs against it
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        if (JDBC_URL == null && postgres == null) {
+            postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+            postgres.start();
+        }
+        String url = JDBC_URL != null ? JDBC_URL : postgres.getJdbcUrl();
+        String username = JDBC_URL != null ? System.getProperty("query-plans.username", "postgres") : postgres.getUsername();
+        String password = JDBC_URL != null ? System.getProperty("query-plans.password", "") : postgres.getPassword();
+        Flyway.configure().dataSource(url, username, password).load().migrate();
+
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.datasource.url", () -> url);
+        registry.add("spring.datasource.username", () -> username);
+        registry.add("spring.datasource.password", () -> password);
+    }
+
+    @TestConfiguration
+    static class RecorderConfig {
+
+        @Bean
+        static BeanPostProcessor queryPlanRecorderPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                    if (!(bean instanceof DataSource dataSource) || bean instanceof QueryPlanRecorder) {
+                        return bean;
+                    }
+                    return new QueryPlanRecorder(dataSource);
+                }
+            };
+        }
+    }
+
+    @Autowired private ApplicationContext context;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private NamedParameterJdbcTemplate namedJdbcTemplate;
+    @Autowired private DataSource dataSource;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private MealEventRepository mealEventRepo;
+    @Autowired private MealLogRepository mealLogRepo;
+    @Autowired private MealTemplateRepository templateRepo;
+    @Autowired private NutritionDailyTotalRepository dailyTotalRepo;
+    @Autowired private RecentFoodRepository recentFoodRepo;
+    @Autowired private RecipeRepository recipeRepo;
+
+    private final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final Map<String, List<Double>> costs = new TreeMap<>();
+    private Map<String, List<Double>> baseline = Map.of();
+    private final Map<String, Double> tableRows = new HashMap<>();
+
+    // The feed position 500 events before its end
+    private long feedXact;
+    private long feedId;
+
+    @BeforeAll
+    void seed() throws IOException, SQLException {
+        Boolean seeded = jdbcTemplate.queryForObject("SELECT to_regclass('query_plan_seed') IS NOT NULL", Boolean.class);
+        if (!seeded) {
+            Integer meals = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM meal_log", Integer.class);
+            if (meals > 0) {
+                throw new IllegalStateException("Database already has data; the query-plan suite needs an empty one");
+            }
+            try (Connection connection = jdbcTemplate.getDataSource().getConnection()) {
+                ScriptUtils.executeSqlScript(connection, new ClassPathResource("query-plans/seed.sql"));
+            }
+        }
+        // Rolled-back cases of earlier runs leave dead rows that would otherwise be costed as live ones
+        jdbcTemplate.execute("VACUUM ANALYZE");
+        if (Files.exists(BASELINE)) {
+            baseline = mapper.readValue(BASELINE.toFile(), new TypeReference<>() {});
+        }
+
+        jdbcTemplate.query("SELECT relname, reltuples FROM pg_class WHERE relkind = 'r'",
+                rs -> { tableRows.put(rs.getString(1), rs.getDouble(2)); });
+        jdbcTemplate.query("SELECT xact_id, id FROM meal_event ORDER BY xact_id DESC, id DESC OFFSET 500 LIMIT 1",
+                rs -> {
+                    feedXact = rs.getLong(1);
+                    feedId = rs.getLong(2);
+                });
+    }
+
+    @AfterAll
+    void writeBaseline() throws IOException {
+        if (UPDATE_BASELINE) {
+            mapper.writeValue(BASELINE.toFile(), costs);
+        }
+    }
+
+    @TestFactory
+    Stream<DynamicTest> repositoryQueries() {
+        return cases().stream().map(queryCase -> DynamicTest.dynamicTest(queryCase.name(), () -> check(queryCase)));
+    }
+
+    @Test
+    void everyRepositoryMethod_shouldHaveACase() throws IOException, ClassNotFoundException {
+        Set<String> covered = cases().stream().map(QueryCase::name).collect(Collectors.toSet());
+        Repositories repositories = new Repositories(context);
+        Stream<String> dataRepositoryMethods = StreamSupport.stream(repositories.spliterator(), false)
+                .map(domainType -> repositories.getRequiredRepositoryInformation(domainType).getRepositoryInterface())
+                .flatMap(QueryPlanTest::declaredMethods);
+        // Plain JDBC repositories of the servlet build
+        Stream<String> jdbcRepositoryMethods = context.getBeansWithAnnotation(Repository.class).values().stream()
+                .map(bean -> ClassUtils.getUserClass(bean.getClass()))
+                .filter(type -> type.getPackageName().equals(QueryPlanTest.class.getPackageName()))
+                .flatMap(QueryPlanTest::publicMethods);
+        Stream<String> reactiveRepositoryMethods = reactiveRepositories().stream()
+                .flatMap(QueryPlanTest::publicMethods);
+
+        List<String> missing = Stream.of(dataRepositoryMethods, jdbcRepositoryMethods, reactiveRepositoryMethods)
+                .flatMap(methods -> methods)
+                .filter(name -> !covered.contains(name))
+                .sorted()
+                .toList();
+
+        assertTrue(missing.isEmpty(), "Repository methods without a query-plan case: " + missing);
+    }
+
+    // Ids are taken on insert, so an event can commit after one with a higher id
+    @Test
+    void mealEventFeed_shouldNotPassAnEventWhoseTransactionIsStillRunning() throws SQLException {
+        // arrange
+        long[] end = new long[2];
+        jdbcTemplate.query("SELECT xact_id, id FROM meal_event ORDER BY xact_id DESC, id DESC LIMIT 1",
+                rs -> {
+                    end[0] = rs.getLong(1);
+                    end[1] = rs.getLong(2);
+                });
+        try (Connection first = dataSource.getConnection(); Connection second = dataSource.getConnection()) {
+            first.setAutoCommit(false);
+            second.setAutoCommit(false);
+            long earlier = insertMealEvent(first);
+            long later = insertMealEvent(second);
+            second.commit();
+
+            // act
+            List<Long> whileFirstRuns = mealEventIdsAfter(end[0], end[1]);
+            first.commit();
+            List<Long> afterBothCommitted = mealEventIdsAfter(end[0], end[1]);
+
+            // assert
+            assertEquals(List.of(), whileFirstRuns);
+            assertEquals(List.of(earlier, later), afterBothCommitted);
+        } finally {
+            jdbcTemplate.update("DELETE FROM meal_event WHERE (xact_id, id) > (?, ?)", end[0], end[1]);
+        }
+    }
+
+    private static long insertMealEvent(Connection connection) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO meal_event (user_id, local_date, calories) VALUES (?, ?, 500) RETURNING id")) {
+            insert.setLong(1, USER);
+            insert.setObject(2, LAST_DAY);
+            try (ResultSet rs = insert.executeQuery()) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        }
+    }
+
+    private List<Long> mealEventIdsAfter(long afterXact, long after) {
+        return mealEventRepo.findAfter(afterXact, after, 10).stream()
+                .map(MealEventResponse::getId)
+                .toList();
+    }
+
+    private List<QueryCase> cases() {
+        List<RecentFood> used = List.of(
+                recentFood("f:1001", "Food 1", 1001, SEEDED_UNTIL),
+                recentFood("f:1950", "Food 950", 1950, SEEDED_UNTIL));
+
+        return List.of(
+                query("MealEventRepository.findAfter",
+                        () -> mealEventRepo.findAfter(feedXact, feedId, 500)),
+                // The daily prune, which takes the slice that has just left the retention window
+                query("MealEventRepository.deleteCreatedBefore",
+                        () -> mealEventRepo.deleteCreatedBefore(Instant.now().minus(Duration.ofDays(7)))),
+
+                query("MealLogRepository.findPage",
+                        () -> mealLogRepo.findPage(USER, SEEDED_UNTIL.minusSeconds(14L * 86_400), SEEDED_UNTIL,
+                                SEEDED_UNTIL.minusSeconds(3L * 86_400), Long.MAX_VALUE, Limit.of(21))),
+                query("MealLogRepository.findByIdAndUserId", () -> mealLogRepo.findByIdAndUserId(MEAL, USER)),
+                query("MealLogRepository.copyDay",
+                        () -> mealLogRepo.copyDay(USER, LAST_DAY.minusDays(1), LAST_DAY.plusDays(1), ZoneId.of("Europe/Berlin"))),
+                query("MealLogRepository.applyTemplate",
+                        () -> mealLogRepo.applyTemplate(TEMPLATE, USER, SEEDED_UNTIL, LAST_DAY.plusDays(1))),
+
+                query("MealTemplateRepository.findByUserIdOrderByNameAscIdAsc",
+                        () -> templateRepo.findByUserIdOrderByNameAscIdAsc(USER)),
+                query("MealTemplateRepository.findByIdAndUserId", () -> templateRepo.findByIdAndUserId(TEMPLATE, USER)),
+
+                query("NutritionDailyTotalRepository.addMeal",
+                        () -> dailyTotalRepo.addMeal(USER, LAST_DAY, 650, 35, 70, 20)),
+                query("NutritionDailyTotalRepository.removeMeal",
+                        () -> dailyTotalRepo.removeMeal(USER, LAST_DAY, 650, 35, 70, 20)),
+                query("NutritionDailyTotalRepository.summarize",
+                        () -> dailyTotalRepo.summarize(USER, SummaryPeriod.WEEK, LAST_DAY.minusDays(90), LAST_DAY)),
+
+                query("RecentFoodRepository.findByUserIdOrderByLastUsedAtDesc",
+                        () -> recentFoodRepo.findByUserIdOrderByLastUsedAtDesc(USER, Limit.of(20))),
+                query("RecentFoodRepository.record", () -> recentFoodRepo.record(USER, used)),
+
+                query("RecipeRepository.findByUserIdOrderByNameAscIdAsc",
+                        () -> recipeRepo.findByUserIdOrderByNameAscIdAsc(USER)),
+                query("RecipeRepository.findByIdAndUserId", () -> recipeRepo.findByIdAndUserId(RECIPE, USER)),
+                query("RecipeRepository.findMacros",
+                        () -> recipeRepo.findMacros(List.of(RECIPE, RECIPE + 1, RECIPE + 2), USER)),
+
+                reactive("ReactiveMealLogRepository.insert", Statement.insert(meal(), used)),
+                reactive("ReactiveMealLogRepository.findRecipeMacros",
+                        Statement.recipeMacros(List.of(RECIPE, RECIPE + 1, RECIPE + 2), USER)),
+                reactive("ReactiveMealLogRepository.streamByUserId",
+                        Statement.byUserId(USER, SEEDED_UNTIL.minusSeconds(14L * 86_400), SEEDED_UNTIL,
+                                new MealLogCursor(SEEDED_UNTIL.minusSeconds(3L * 86_400), MEAL), 21)),
+                reactive("ReactiveMealLogRepository.streamByIds", Statement.byIds(USER, List.of(MEAL, MEAL - 2))),
+                reactive("ReactiveMealLogRepository.copyDay",
+                        Statement.copyDay(USER, LAST_DAY.minusDays(1), LAST_DAY.plusDays(1), ZoneId.of("Europe/Berlin"))),
+                reactive("ReactiveMealLogRepository.deleteByIdAndUserId", Statement.delete(MEAL, USER)),
+                reactive("ReactiveMealLogRepository.summarize",
+                        Statement.summary(USER, SummaryPeriod.WEEK, LAST_DAY.minusDays(90), LAST_DAY)),
+
+                // Operator-run recovery job that recomputes every rollup from every meal. Last, since even
+                // rolled back it leaves the whole rollup table dead and inflates the plans of later cases
+                query("NutritionDailyTotalRepository.rebuildAll",
+                        () -> dailyTotalRepo.rebuildAll(), "meal_log", "nutrition_daily_total"));
+    }
+
+    // A reactive repository method, its statement run through JDBC with the same bindings
+    private QueryCase reactive(String name, Statement statement) {
+        return query(name, () -> namedJdbcTemplate.queryForList(statement.sql(), statement.params()));
+    }
+
+    private static MealLog meal() {
+        MealLog meal = MealLog.builder()
+                .userId(USER)
+                .createdAt(SEEDED_UNTIL)
+                .localDate(LAST_DAY)
+                .totalCalories(500)
+                .totalProtein(24)
+                .totalCarbs(60)
+                .totalFats(16)
+                .build();
+        meal.getFoods().add(MealFoodEntry.builder().type("Food 1").calories(250).protein(12).carbs(30).fats(8)
+                .foodId(1001).grams(100).build());
+        meal.getFoods().add(MealFoodEntry.builder().type("Food 950").calories(250).protein(12).carbs(30).fats(8)
+                .foodId(1950).grams(100).build());
+        return meal;
+    }
+
+    private void check(QueryCase queryCase) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        List<QueryPlanRecorder.Plan> plans = tx.execute(status -> {
+            status.setRollbackOnly();
+            return QueryPlanRecorder.record(queryCase.call());
+        });
+        assertFalse(plans.isEmpty(), queryCase.name() + " issued no statement");
+
+        List<Double> planCosts = new ArrayList<>();
+        List<String> failures = new ArrayList<>();
+        for (QueryPlanRecorder.Plan plan : plans) {
+            JsonNode root = readPlan(plan);
+            planCosts.add(root.path("Total Cost").asDouble());
+            for (JsonNode node : nodes(root)) {
+                String relation = node.path("Relation Name").asText();
+                if (node.path("Node Type").asText().equals("Seq Scan")
+                        && tableRows.getOrDefault(relation, 0.0) > SEQ_SCAN_ROWS
+                        && !queryCase.seqScansAllowed().contains(relation)) {
+                    failures.add("Seq Scan on %s (%.0f rows) in:%n%s".formatted(
+                            relation, tableRows.get(relation), plan.sql().strip()));
+                }
+            }
+        }
+        costs.put(queryCase.name(), planCosts);
+
+        List<Double> expected = baseline.get(queryCase.name());
+        if (!UPDATE_BASELINE) {
+            if (expected == null) {
+                failures.add("No baseline; rerun with -Dquery-plans.update-baseline=true");
+            } else if (expected.size() != planCosts.size()) {
+                failures.add("Issued %d statements, baseline has %d".formatted(planCosts.size(), expected.size()));
+            } else {
+                for (int i = 0; i < planCosts.size(); i++) {
+                    double limit = Math.max(expected.get(i), MIN_COMPARED_COST) * COST_TOLERANCE;
+                    if (planCosts.get(i) > limit) {
+                        failures.add("Cost %.2f exceeds baseline %.2f by more than %.1fx in:%n%s".formatted(
+                                planCosts.get(i), expected.get(i), COST_TOLERANCE, plans.get(i).sql().strip()));
+                    }
+                }
+            }
+        }
+        if (!failures.isEmpty()) {
+            fail(queryCase.name() + ":\n" + String.join("\n", failures));
+        }
+    }
+
+    private JsonNode readPlan(QueryPlanRecorder.Plan plan) {
+        try {
+            return mapper.readTree(plan.json()).path(0).path("Plan");
+        } catch (IOException e) {
+            throw new IllegalStateException("Unreadable plan for " + plan.sql(), e);
+        }
+    }
+
+    private static List<JsonNode> nodes(JsonNode root) {
+        List<JsonNode> nodes = new ArrayList<>();
+        nodes.add(root);
+        for (JsonNode child : root.path("Plans")) {
+            nodes.addAll(nodes(child));
+        }
+        return nodes;
+    }
+
+    /** "Repository.method" for the methods a repository interface and its custom fragments declare. */
+    private static Stream<String> declaredMethods(Class<?> repository) {
+        Stream<Class<?>> fragments = Arrays.stream(repository.getInterfaces())
+                .filter(type -> type.getPackageName().equals(repository.getPackageName()));
+        return Stream.concat(Stream.of(repository), fragments)
+                .flatMap(type -> Arrays.stream(type.getDeclaredMethods()))
+                .filter(method -> !method.isSynthetic() && !method.isDefault() && !Modifier.isStatic(method.getModifiers()))
+                .map(Method::getName)
+                .distinct()
+                .map(name -> repository.getSimpleName() + "." + name);
+    }
+
+    /** Repositories of this package that only the reactive build creates. */
+    private static List<Class<?>> reactiveRepositories() throws IOException, ClassNotFoundException {
+        String classes = ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX
+                + ClassUtils.convertClassNameToResourcePath(QueryPlanTest.class.getPackageName()) + "/*.class";
+        MetadataReaderFactory readers = new SimpleMetadataReaderFactory();
+        List<Class<?>> repositories = new ArrayList<>();
+        for (Resource resource : new PathMatchingResourcePatternResolver().getResources(classes)) {
+            AnnotationMetadata metadata = readers.getMetadataReader(resource).getAnnotationMetadata();
+            Map<String, Object> web = metadata.getAnnotationAttributes(ConditionalOnWebApplication.class.getName());
+            if (metadata.hasAnnotation(Repository.class.getName())
+                    && web != null && web.get("type") == ConditionalOnWebApplication.Type.REACTIVE) {
+                repositories.add(ClassUtils.forName(metadata.getClassName(), QueryPlanTest.class.getClassLoader()));
+            }
+        }
+        return repositories;
+    }
+
+    private static Stream<String> publicMethods(Class<?> repository) {
+        return Arrays.stream(repository.getDeclaredMethods())
+                .filter(method -> Modifier.isPublic(method.getModifiers()) && !Modifier.isStatic(method.getModifiers()))
+                .map(method -> repository.getSimpleName() + "." + method.getName())
+                .distinct();
+    }
+
+    private static RecentFood recentFood(String key, String type, int foodId, Instant usedAt) {
+        return RecentFood.builder()
+                .userId(USER)
+                .foodKey(key)
+                .type(type)
+                .calories(250)
+                .protein(12)
+                .carbs(30)
+                .fats(8)
+                .foodId(foodId)
+                .grams(100)
+                .useCount(1)
+                .lastUsedAt(usedAt)
+                .build();
+    }
+
+    private static QueryCase query(String name, Runnable call, String... seqScansAllowed) {
+        return new QueryCase(name, call, Set.of(seqScansAllowed));
+    }
+
+    private record QueryCase(String name, Runnable call, Set<String> seqScansAllowed) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.phillipe.nutrifit.nutrition.service;
+
+import com.phillipe.nutrifit.nutrition.repository.MealEventRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MealEventPrunerTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-03-15T03:45:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    private MealEventRepository mealEventRepo;
+
+    @Test
+    void prune_shouldDropEventsOlderThanRetention() {
+        // arrange
+        MealEventPruner pruner = new MealEventPruner(mealEventRepo, CLOCK, Duration.ofDays(7));
+        when(mealEventRepo.deleteCreatedBefore(Instant.parse("2026-03-08T03:45:00Z"))).thenReturn(12);
+
+        // act
+        pruner.prune();
+
+        // assert
+        verify(mealEventRepo).deleteCreatedBefore(Instant.parse("2026-03-08T03:45:00Z"));
+    }
+
+    @Test
+    void prune_databaseDown_shouldRetryOnTheNextRun() {
+        // arrange
+        MealEventPruner pruner = new MealEventPruner(mealEventRepo, CLOCK, Duration.ofDays(7));
+        when(mealEventRepo.deleteCreatedBefore(Instant.parse("2026-03-08T03:45:00Z")))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+
+        // act
+        pruner.prune();
+
+        // assert
+        verify(mealEventRepo).deleteCreatedBefore(Instant.parse("2026-03-08T03:45:00Z"));
+    }
+}
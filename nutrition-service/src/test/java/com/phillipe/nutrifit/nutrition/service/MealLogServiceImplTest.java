@@ -2,25 +2,49 @@ package com.phillipe.nutrifit.nutrition.service;
 
 import com.phillipe.nutrifit.nutrition.dto.request.FoodItemRequest;
 import com.phillipe.nutrifit.nutrition.dto.request.MealLogRequest;
+import com.phillipe.nutrifit.nutrition.dto.response.MealLogPageResponse;
 import com.phillipe.nutrifit.nutrition.dto.response.MealLogResponse;
+import com.phillipe.nutrifit.nutrition.dto.response.NutritionTotalsResponse;
+import com.phillipe.nutrifit.nutrition.model.Food;
+import com.phillipe.nutrifit.nutrition.model.RecipeMacros;
+import com.phillipe.nutrifit.nutrition.model.SummaryPeriod;
 import com.phillipe.nutrifit.nutrition.model.entity.MealLog;
+import com.phillipe.nutrifit.nutrition.model.entity.RecentFood;
+import com.phillipe.nutrifit.nutrition.repository.FoodStore;
 import com.phillipe.nutrifit.nutrition.repository.MealLogRepository;
+import com.phillipe.nutrifit.nutrition.repository.NutritionDailyTotalRepository;
+import com.phillipe.nutrifit.nutrition.repository.NutritionDailyTotalRepositoryCustom.PeriodTotals;
+import com.phillipe.nutrifit.nutrition.repository.RecentFoodRepository;
+import com.phillipe.nutrifit.nutrition.repository.RecipeRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +53,21 @@ class MealLogServiceImplTest {
     @Mock
     private MealLogRepository mealLogRepository;
 
+    @Mock
+    private NutritionDailyTotalRepository dailyTotalRepository;
+
+    @Mock
+    private RecipeRepository recipeRepository;
+
+    @Mock
+    private RecentFoodRepository recentFoodRepository;
+
+    @Mock
+    private FoodStore foodStore;
+
+    @Mock
+    private RecentFoodCache recentFoodCache;
+
     @InjectMocks
     private MealLogServiceImpl service;
 
@@ -50,13 +89,13 @@ class MealLogServiceImplTest {
             return m;
         });
 
-        MealLogResponse response = service.createMeal(request, "testuser");
+        MealLogResponse response = service.createMeal(request, 1L, null);
 
         ArgumentCaptor<MealLog> captor = ArgumentCaptor.forClass(MealLog.class);
         verify(mealLogRepository).save(captor.capture());
 
         MealLog saved = captor.getValue();
-        assertEquals("testuser", saved.getUsername());
+        assertEquals(1L, saved.getUserId());
         assertEquals(300, saved.getTotalCalories());
         assertEquals(40, saved.getTotalProtein());
         assertEquals(0, saved.getTotalCarbs());
@@ -67,6 +106,24 @@ class MealLogServiceImplTest {
         assertEquals(300, response.getTotalCalories());
     }
 
+    @Test
+    void createMeal_shouldAddMealToItsLocalDayInClientZone() {
+        MealLogRequest request = MealLogRequest.builder()
+                .foods(List.of(FoodItemRequest.builder().type("Oats").calories(350).protein(12).carbs(60).fats(6).build()))
+                .build();
+        ZoneId zone = ZoneId.of("Pacific/Kiritimati");
+
+        when(mealLogRepository.save(any(MealLog.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        service.createMeal(request, 1L, zone);
+
+        ArgumentCaptor<MealLog> captor = ArgumentCaptor.forClass(MealLog.class);
+        verify(mealLogRepository).save(captor.capture());
+        LocalDate localDate = LocalDate.ofInstant(captor.getValue().getCreatedAt(), zone);
+        assertEquals(localDate, captor.getValue().getLocalDate());
+        verify(dailyTotalRepository).addMeal(1L, localDate, 350, 12, 60, 6);
+    }
+
     @Test
     void createMeal_shouldTreatNullNutritionValuesAsZero() {
         MealLogRequest request = MealLogRequest.builder()
@@ -85,7 +142,7 @@ class MealLogServiceImplTest {
             return m;
         });
 
-        MealLogResponse response = service.createMeal(request, "testuser");
+        MealLogResponse response = service.createMeal(request, 1L, null);
 
         assertEquals(0, response.getTotalCalories());
         assertEquals(0, response.getTotalProtein());
@@ -108,7 +165,7 @@ class MealLogServiceImplTest {
             return m;
         });
 
-        MealLogResponse response = service.createMeal(request, "testuser");
+        MealLogResponse response = service.createMeal(request, 1L, null);
 
         assertEquals(500, response.getTotalCalories());
         assertEquals(45, response.getTotalProtein());
@@ -116,10 +173,143 @@ class MealLogServiceImplTest {
         assertEquals(11, response.getTotalFats());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void createMeal_shouldRecordEachDistinctFoodOnceAsRecent() {
+        MealLogRequest request = MealLogRequest.builder()
+                .foods(List.of(
+                        FoodItemRequest.builder().type("Rice").calories(200).build(),
+                        FoodItemRequest.builder().type("Chicken").calories(300).build(),
+                        FoodItemRequest.builder().type(" rice ").calories(250).build()))
+                .build();
+
+        when(mealLogRepository.save(any(MealLog.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        service.createMeal(request, 1L, null);
+
+        ArgumentCaptor<List<RecentFood>> captor = ArgumentCaptor.forClass(List.class);
+        verify(recentFoodRepository).record(eq(1L), captor.capture());
+        List<RecentFood> used = captor.getValue();
+        assertEquals(2, used.size());
+        assertEquals("t:rice", used.get(0).getFoodKey());
+        assertEquals(2, used.get(0).getUseCount());
+        assertEquals(250, used.get(0).getCalories());
+        assertEquals("t:chicken", used.get(1).getFoodKey());
+        verify(recentFoodCache).record(1L, used);
+    }
+
+    @Test
+    void createMeal_shouldUpdateRecentFoodCacheOnlyAfterCommit() {
+        MealLogRequest request = MealLogRequest.builder()
+                .foods(List.of(FoodItemRequest.builder().type("Rice").calories(200).build()))
+                .build();
+        when(mealLogRepository.save(any(MealLog.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.createMeal(request, 1L, null);
+            verify(recentFoodCache, never()).record(anyLong(), anyList());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(recentFoodCache).record(eq(1L), anyList());
+    }
+
+    @Test
+    void createMeal_shouldLeaveRecentFoodCacheAloneOnRollback() {
+        MealLogRequest request = MealLogRequest.builder()
+                .foods(List.of(FoodItemRequest.builder().type("Rice").calories(200).build()))
+                .build();
+        when(mealLogRepository.save(any(MealLog.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.createMeal(request, 1L, null);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verifyNoInteractions(recentFoodCache);
+    }
+
+    @Test
+    void createMeal_catalogFood_shouldComputeMacrosFromPortion() {
+        MealLogRequest request = MealLogRequest.builder()
+                .foods(List.of(FoodItemRequest.builder().foodId(15).grams(150).calories(999).build()))
+                .build();
+        when(foodStore.findById(15)).thenReturn(Optional.of(
+                new Food(15, "Chicken, breast, roasted", 165, 31, 0, 3.6)));
+        when(mealLogRepository.save(any(MealLog.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        MealLogResponse response = service.createMeal(request, 1L, null);
+
+        assertEquals(248, response.getTotalCalories());
+        assertEquals(47, response.getTotalProtein());
+        assertEquals(0, response.getTotalCarbs());
+        assertEquals(5, response.getTotalFats());
+        assertEquals("Chicken, breast, roasted", response.getFoods().getFirst().getType());
+        assertEquals(15, response.getFoods().getFirst().getFoodId());
+        assertEquals(150, response.getFoods().getFirst().getGrams());
+    }
+
+    @Test
+    void createMeal_unknownFoodId_shouldThrow() {
+        MealLogRequest request = MealLogRequest.builder()
+                .foods(List.of(FoodItemRequest.builder().foodId(404).grams(100).build()))
+                .build();
+        when(foodStore.findById(404)).thenReturn(Optional.empty());
+
+        assertThrows(IllegalArgumentException.class, () -> service.createMeal(request, 1L, null));
+    }
+
+    @Test
+    void createMeal_recipeServings_shouldUseCachedRecipeTotals() {
+        MealLogRequest request = MealLogRequest.builder()
+                .foods(List.of(FoodItemRequest.builder().recipeId(3L).servings(1.5).build()))
+                .build();
+        when(recipeRepository.findMacros(Set.of(3L), 1L))
+                .thenReturn(List.of(new RecipeMacros(3L, "Chili", 4, 2000, 160, 180, 60)));
+        when(mealLogRepository.save(any(MealLog.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        MealLogResponse response = service.createMeal(request, 1L, null);
+
+        assertEquals(750, response.getTotalCalories());
+        assertEquals(60, response.getTotalProtein());
+        assertEquals(68, response.getTotalCarbs());
+        assertEquals(23, response.getTotalFats());
+        assertEquals("Chili", response.getFoods().getFirst().getType());
+        assertEquals(3L, response.getFoods().getFirst().getRecipeId());
+        assertEquals(1.5, response.getFoods().getFirst().getServings());
+    }
+
+    @Test
+    void createMeal_unknownRecipe_shouldThrow() {
+        MealLogRequest request = MealLogRequest.builder()
+                .foods(List.of(FoodItemRequest.builder().recipeId(404L).build()))
+                .build();
+        when(recipeRepository.findMacros(Set.of(404L), 1L)).thenReturn(List.of());
+
+        assertThrows(IllegalArgumentException.class, () -> service.createMeal(request, 1L, null));
+    }
+
+    @Test
+    void createMeal_withoutTypeOrFoodId_shouldThrow() {
+        MealLogRequest request = MealLogRequest.builder()
+                .foods(List.of(FoodItemRequest.builder().calories(100).build()))
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> service.createMeal(request, 1L, null));
+    }
+
     @Test
     void getMyMeals_shouldReturnUserMeals() {
         MealLog meal = MealLog.builder()
-                .username("testuser")
+                .userId(1L)
                 .createdAt(Instant.now())
                 .totalCalories(500)
                 .totalProtein(45)
@@ -128,9 +318,9 @@ class MealLogServiceImplTest {
                 .build();
         meal.setId(1L);
 
-        when(mealLogRepository.findByUsernameOrderByCreatedAtDesc("testuser")).thenReturn(List.of(meal));
+        when(mealLogRepository.findPage(eq(1L), any(), any(), any(), any(), eq(Limit.unlimited()))).thenReturn(List.of(meal));
 
-        List<MealLogResponse> result = service.getMyMeals("testuser");
+        List<MealLogResponse> result = service.getMyMeals(1L, null, null);
 
         assertEquals(1, result.size());
         assertEquals(500, result.get(0).getTotalCalories());
@@ -138,29 +328,123 @@ class MealLogServiceImplTest {
 
     @Test
     void getMyMeals_shouldReturnEmptyListWhenNoMeals() {
-        when(mealLogRepository.findByUsernameOrderByCreatedAtDesc("newuser")).thenReturn(List.of());
+        when(mealLogRepository.findPage(eq(3L), any(), any(), any(), any(), any())).thenReturn(List.of());
 
-        List<MealLogResponse> result = service.getMyMeals("newuser");
+        List<MealLogResponse> result = service.getMyMeals(3L, null, null);
 
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    void getMyMealsPage_shouldReturnCursorWhenMoreMealsFollow() {
+        Instant t = Instant.parse("2026-03-01T10:00:00Z");
+        // limit 2 fetches 3 meals; the third only signals that another page follows
+        when(mealLogRepository.findPage(eq(1L), any(), any(), any(), any(), eq(Limit.of(3))))
+                .thenReturn(List.of(meal(30L, t), meal(20L, t), meal(10L, t.minusSeconds(60))));
+
+        MealLogPageResponse page = service.getMyMealsPage(1L, null, null, null, 2);
+
+        assertEquals(List.of(30L, 20L), page.getItems().stream().map(MealLogResponse::getId).toList());
+        assertNotNull(page.getNextCursor());
+    }
+
+    @Test
+    void getMyMealsPage_lastPage_shouldHaveNoCursor() {
+        Instant t = Instant.parse("2026-03-01T10:00:00Z");
+        when(mealLogRepository.findPage(eq(1L), any(), any(), eq(t), eq(Long.MAX_VALUE), any()))
+                .thenReturn(List.of(meal(30L, t), meal(20L, t), meal(10L, t)));
+        String cursor = service.getMyMealsPage(1L, null, t, null, 2).getNextCursor();
+
+        // the next page resumes strictly after the last meal returned
+        when(mealLogRepository.findPage(eq(1L), any(), any(), eq(t), eq(20L), any()))
+                .thenReturn(List.of(meal(10L, t)));
+
+        MealLogPageResponse page = service.getMyMealsPage(1L, null, t, cursor, 2);
+
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getMyMealsPage_invalidCursor_shouldThrow() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getMyMealsPage(1L, null, null, "not-a-cursor", 2));
+    }
+
     @Test
     void deleteMeal_shouldDeleteMealOwnedByUser() {
-        MealLog meal = MealLog.builder().username("testuser").build();
+        LocalDate day = LocalDate.of(2026, 3, 1);
+        MealLog meal = MealLog.builder().userId(1L).localDate(day)
+                .totalCalories(500).totalProtein(45).totalCarbs(40).totalFats(11).build();
         meal.setId(1L);
 
-        when(mealLogRepository.findByIdAndUsername(1L, "testuser")).thenReturn(Optional.of(meal));
+        when(mealLogRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(meal));
 
-        service.deleteMeal(1L, "testuser");
+        service.deleteMeal(1L, 1L);
 
         verify(mealLogRepository).delete(meal);
+        verify(dailyTotalRepository).removeMeal(1L, day, 500, 45, 40, 11);
+    }
+
+    @Test
+    void copyDay_shouldReturnCopiesNewestFirst() {
+        LocalDate from = LocalDate.of(2026, 3, 1);
+        LocalDate to = LocalDate.of(2026, 3, 2);
+        ZoneId zone = ZoneId.of("Europe/Berlin");
+        when(mealLogRepository.copyDay(1L, from, to, zone)).thenReturn(List.of(11L, 12L));
+        when(mealLogRepository.findAllById(List.of(11L, 12L))).thenReturn(List.of(
+                meal(11L, Instant.parse("2026-03-02T07:00:00Z")),
+                meal(12L, Instant.parse("2026-03-02T18:00:00Z"))));
+
+        List<MealLogResponse> copies = service.copyDay(1L, from, to, zone);
+
+        assertEquals(List.of(12L, 11L), copies.stream().map(MealLogResponse::getId).toList());
+    }
+
+    @Test
+    void copyDay_withoutTarget_shouldCopyToTodayInClientZone() {
+        LocalDate from = LocalDate.of(2026, 3, 1);
+        ZoneId zone = ZoneId.of("Pacific/Kiritimati");
+        LocalDate today = LocalDate.now(zone);
+        when(mealLogRepository.copyDay(1L, from, today, zone)).thenReturn(List.of());
+
+        assertTrue(service.copyDay(1L, from, null, zone).isEmpty());
+    }
+
+    @Test
+    void getSummary_week_shouldWidenRangeToWholeWeeks() {
+        LocalDate monday = LocalDate.of(2026, 3, 2);
+        when(dailyTotalRepository.summarize(1L, SummaryPeriod.WEEK, monday, LocalDate.of(2026, 3, 15)))
+                .thenReturn(List.of(new PeriodTotals(monday, 14000, 900, 1500, 400, 21)));
+
+        List<NutritionTotalsResponse> result = service.getSummary(1L, SummaryPeriod.WEEK,
+                LocalDate.of(2026, 3, 4), LocalDate.of(2026, 3, 11), null);
+
+        assertEquals(1, result.size());
+        assertEquals(monday, result.get(0).getPeriodStart());
+        assertEquals(14000, result.get(0).getTotalCalories());
+        assertEquals(21, result.get(0).getMealCount());
+    }
+
+    @Test
+    void getSummary_fromAfterTo_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> service.getSummary(1L, SummaryPeriod.DAY,
+                LocalDate.of(2026, 3, 5), LocalDate.of(2026, 3, 1), null));
     }
 
     @Test
     void deleteMeal_shouldThrowWhenMealNotFoundOrAccessDenied() {
-        when(mealLogRepository.findByIdAndUsername(99L, "testuser")).thenReturn(Optional.empty());
+        when(mealLogRepository.findByIdAndUserId(99L, 1L)).thenReturn(Optional.empty());
+
+        assertThrows(IllegalArgumentException.class, () -> service.deleteMeal(99L, 1L));
+    }
 
-        assertThrows(IllegalArgumentException.class, () -> service.deleteMeal(99L, "testuser"));
+    private static MealLog meal(Long id, Instant createdAt) {
+        MealLog meal = MealLog.builder()
+                .userId(1L)
+                .createdAt(createdAt)
+                .build();
+        meal.setId(id);
+        return meal;
     }
-}
\ No newline at end of file
+}
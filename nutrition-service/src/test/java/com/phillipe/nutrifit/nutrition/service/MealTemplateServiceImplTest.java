@@ -0,0 +1,104 @@
+package com.phillipe.nutrifit.nutrition.service;
+
+import com.phillipe.nutrifit.nutrition.dto.request.MealTemplateRequest;
+import com.phillipe.nutrifit.nutrition.dto.response.MealLogResponse;
+import com.phillipe.nutrifit.nutrition.dto.response.MealTemplateResponse;
+import com.phillipe.nutrifit.nutrition.model.embedded.MealFoodEntry;
+import com.phillipe.nutrifit.nutrition.model.entity.MealLog;
+import com.phillipe.nutrifit.nutrition.model.entity.MealTemplate;
+import com.phillipe.nutrifit.nutrition.repository.MealLogRepository;
+import com.phillipe.nutrifit.nutrition.repository.MealTemplateRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MealTemplateServiceImplTest {
+
+    @Mock
+    private MealTemplateRepository templateRepository;
+
+    @Mock
+    private MealLogRepository mealLogRepository;
+
+    @InjectMocks
+    private MealTemplateServiceImpl service;
+
+    @Test
+    void createTemplate_shouldCopyMealFoodsAndTotals() {
+        MealLog meal = MealLog.builder().userId(1L)
+                .totalCalories(700).totalProtein(40).totalCarbs(60).totalFats(20).build();
+        meal.getFoods().add(MealFoodEntry.builder().type("Chicken").calories(500).foodId(15).grams(300).build());
+        meal.getFoods().add(MealFoodEntry.builder().type("Rice").calories(200).build());
+        when(mealLogRepository.findByIdAndUserId(5L, 1L)).thenReturn(Optional.of(meal));
+        when(templateRepository.save(any(MealTemplate.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        MealTemplateResponse response = service.createTemplate(
+                MealTemplateRequest.builder().name("Dinner").mealId(5L).build(), 1L);
+
+        ArgumentCaptor<MealTemplate> captor = ArgumentCaptor.forClass(MealTemplate.class);
+        verify(templateRepository).save(captor.capture());
+        assertEquals(1L, captor.getValue().getUserId());
+        assertEquals(2, captor.getValue().getFoods().size());
+        assertEquals("Dinner", response.getName());
+        assertEquals(700, response.getTotalCalories());
+        assertEquals(15, response.getFoods().getFirst().getFoodId());
+    }
+
+    @Test
+    void createTemplate_mealNotOwned_shouldThrow() {
+        when(mealLogRepository.findByIdAndUserId(5L, 2L)).thenReturn(Optional.empty());
+
+        assertThrows(IllegalArgumentException.class, () -> service.createTemplate(
+                MealTemplateRequest.builder().name("Dinner").mealId(5L).build(), 2L));
+    }
+
+    @Test
+    void applyTemplate_shouldLogMealOnTodayInClientZone() {
+        ZoneId zone = ZoneId.of("Pacific/Kiritimati");
+        MealLog meal = MealLog.builder().userId(1L).totalCalories(700).build();
+        meal.setId(42L);
+        when(mealLogRepository.applyTemplate(eq(3L), eq(1L), any(), eq(LocalDate.now(zone))))
+                .thenReturn(Optional.of(42L));
+        when(mealLogRepository.findById(42L)).thenReturn(Optional.of(meal));
+
+        MealLogResponse response = service.applyTemplate(3L, 1L, zone);
+
+        assertEquals(42L, response.getId());
+        assertEquals(700, response.getTotalCalories());
+    }
+
+    @Test
+    void applyTemplate_notFoundOrNotOwned_shouldThrow() {
+        when(mealLogRepository.applyTemplate(eq(3L), eq(2L), any(), any())).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class, () -> service.applyTemplate(3L, 2L, null));
+    }
+
+    @Test
+    void getMyTemplates_shouldReturnUserTemplates() {
+        MealTemplate template = MealTemplate.builder().userId(1L).name("Breakfast").build();
+        when(templateRepository.findByUserIdOrderByNameAscIdAsc(1L)).thenReturn(List.of(template));
+
+        List<MealTemplateResponse> result = service.getMyTemplates(1L);
+
+        assertEquals(1, result.size());
+        assertEquals("Breakfast", result.get(0).getName());
+    }
+}
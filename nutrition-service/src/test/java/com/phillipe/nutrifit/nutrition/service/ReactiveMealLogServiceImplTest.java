@@ -0,0 +1,170 @@
+package com.phillipe.nutrifit.nutrition.service;
+
+import com.phillipe.nutrifit.nutrition.dto.request.FoodItemRequest;
+import com.phillipe.nutrifit.nutrition.dto.request.MealLogRequest;
+import com.phillipe.nutrifit.nutrition.dto.response.MealLogResponse;
+import com.phillipe.nutrifit.nutrition.model.RecipeMacros;
+import com.phillipe.nutrifit.nutrition.model.entity.MealLog;
+import com.phillipe.nutrifit.nutrition.model.entity.RecentFood;
+import com.phillipe.nutrifit.nutrition.repository.MealLogCursor;
+import com.phillipe.nutrifit.nutrition.repository.ReactiveMealLogRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveMealLogServiceImplTest {
+
+    @Mock
+    private ReactiveMealLogRepository mealLogRepository;
+
+    @InjectMocks
+    private ReactiveMealLogServiceImpl service;
+
+    @Test
+    void createMeal_shouldInsertMealWithTotals() {
+        MealLogRequest request = MealLogRequest.builder()
+                .foods(List.of(
+                        FoodItemRequest.builder().type("Chicken").calories(300).protein(40).fats(10).build(),
+                        FoodItemRequest.builder().type("Rice").calories(200).carbs(45).build()))
+                .build();
+
+        when(mealLogRepository.insert(any(MealLog.class), anyList())).thenReturn(Mono.just(7L));
+
+        StepVerifier.create(service.createMeal(request, 1L, null))
+                .assertNext(response -> {
+                    assertEquals(7L, response.getId());
+                    assertEquals(500, response.getTotalCalories());
+                    assertEquals(40, response.getTotalProtein());
+                    assertEquals(45, response.getTotalCarbs());
+                    assertEquals(10, response.getTotalFats());
+                    assertEquals(2, response.getFoods().size());
+                })
+                .verifyComplete();
+
+        ArgumentCaptor<MealLog> captor = ArgumentCaptor.forClass(MealLog.class);
+        ArgumentCaptor<List<RecentFood>> used = ArgumentCaptor.captor();
+        verify(mealLogRepository).insert(captor.capture(), used.capture());
+        assertEquals(1L, captor.getValue().getUserId());
+        assertEquals(2, captor.getValue().getFoods().size());
+        assertEquals(List.of("Chicken", "Rice"), used.getValue().stream().map(RecentFood::getType).toList());
+    }
+
+    @Test
+    void createMeal_recipeServings_shouldUseCachedRecipeTotals() {
+        MealLogRequest request = MealLogRequest.builder()
+                .foods(List.of(FoodItemRequest.builder().recipeId(3L).servings(1.5).build()))
+                .build();
+        when(mealLogRepository.findRecipeMacros(Set.of(3L), 1L))
+                .thenReturn(Flux.just(new RecipeMacros(3L, "Chili", 4, 2000, 160, 180, 60)));
+        when(mealLogRepository.insert(any(MealLog.class), anyList())).thenReturn(Mono.just(7L));
+
+        StepVerifier.create(service.createMeal(request, 1L, null))
+                .assertNext(response -> {
+                    assertEquals(750, response.getTotalCalories());
+                    assertEquals(60, response.getTotalProtein());
+                    assertEquals(68, response.getTotalCarbs());
+                    assertEquals(23, response.getTotalFats());
+                    assertEquals("Chili", response.getFoods().getFirst().getType());
+                    assertEquals(3L, response.getFoods().getFirst().getRecipeId());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void createMeal_unknownRecipe_shouldErrorWithoutInserting() {
+        MealLogRequest request = MealLogRequest.builder()
+                .foods(List.of(FoodItemRequest.builder().recipeId(404L).build()))
+                .build();
+        when(mealLogRepository.findRecipeMacros(Set.of(404L), 1L)).thenReturn(Flux.empty());
+
+        StepVerifier.create(service.createMeal(request, 1L, null))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        verify(mealLogRepository, never()).insert(any(MealLog.class), anyList());
+    }
+
+    @Test
+    void getMyMealsPage_shouldFetchOneExtraMealAndReturnCursor() {
+        Instant t = Instant.parse("2026-03-01T10:00:00Z");
+        when(mealLogRepository.streamByUserId(1L, null, null, null, 3))
+                .thenReturn(Flux.just(meal(30L, t), meal(20L, t), meal(10L, t)));
+
+        StepVerifier.create(service.getMyMealsPage(1L, null, null, null, 2))
+                .assertNext(page -> {
+                    assertEquals(List.of(30L, 20L), page.getItems().stream().map(MealLogResponse::getId).toList());
+                    assertEquals(new MealLogCursor(t, 20L), MealLogCursor.decode(page.getNextCursor()));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getMyMealsPage_invalidCursor_shouldError() {
+        StepVerifier.create(service.getMyMealsPage(1L, null, null, "not-a-cursor", 2))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    @Test
+    void copyDay_nothingToCopy_shouldCompleteEmpty() {
+        LocalDate from = LocalDate.of(2026, 3, 1);
+        LocalDate to = LocalDate.of(2026, 3, 2);
+        when(mealLogRepository.copyDay(1L, from, to, null)).thenReturn(Flux.empty());
+
+        StepVerifier.create(service.copyDay(1L, from, to, null))
+                .verifyComplete();
+    }
+
+    @Test
+    void copyDay_shouldReadTheCopiesBack() {
+        LocalDate from = LocalDate.of(2026, 3, 1);
+        LocalDate to = LocalDate.of(2026, 3, 2);
+        Instant t = Instant.parse("2026-03-02T08:00:00Z");
+        when(mealLogRepository.copyDay(1L, from, to, null)).thenReturn(Flux.just(11L, 12L));
+        when(mealLogRepository.streamByIds(1L, List.of(11L, 12L))).thenReturn(Flux.just(meal(12L, t), meal(11L, t)));
+
+        StepVerifier.create(service.copyDay(1L, from, to, null).map(MealLogResponse::getId))
+                .expectNext(12L, 11L)
+                .verifyComplete();
+    }
+
+    @Test
+    void deleteMeal_shouldCompleteWhenRowDeleted() {
+        when(mealLogRepository.deleteByIdAndUserId(1L, 1L)).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(service.deleteMeal(1L, 1L))
+                .verifyComplete();
+    }
+
+    @Test
+    void deleteMeal_shouldErrorWhenNotFoundOrNotOwned() {
+        when(mealLogRepository.deleteByIdAndUserId(1L, 2L)).thenReturn(Mono.just(0L));
+
+        StepVerifier.create(service.deleteMeal(1L, 2L))
+                .expectErrorMatches(e -> e instanceof IllegalArgumentException
+                        && e.getMessage().equals("Meal not found or access denied"))
+                .verify();
+    }
+
+    private static MealLogResponse meal(Long id, Instant createdAt) {
+        return MealLogResponse.builder().id(id).createdAt(createdAt).foods(List.of()).build();
+    }
+}
@@ -0,0 +1,100 @@
+package com.phillipe.nutrifit.nutrition.service;
+
+import com.phillipe.nutrifit.nutrition.dto.response.RecentFoodResponse;
+import com.phillipe.nutrifit.nutrition.model.RecentFoodOrder;
+import com.phillipe.nutrifit.nutrition.model.embedded.MealFoodEntry;
+import com.phillipe.nutrifit.nutrition.model.entity.RecentFood;
+import com.phillipe.nutrifit.nutrition.repository.RecentFoodRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RecentFoodServiceImplTest {
+
+    private static final Instant T = Instant.parse("2026-03-01T10:00:00Z");
+
+    @Mock
+    private RecentFoodRepository recentFoodRepository;
+
+    private RecentFoodCache cache;
+
+    private RecentFoodServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        cache = new RecentFoodCache(10, Duration.ofMinutes(5));
+        service = new RecentFoodServiceImpl(recentFoodRepository, cache);
+    }
+
+    @Test
+    void getRecentFoods_shouldLoadOnceThenServeFromCache() {
+        when(recentFoodRepository.findByUserIdOrderByLastUsedAtDesc(eq(1L), any(Limit.class)))
+                .thenReturn(List.of(food("t:rice", 3, T), food("f:15", 1, T.minusSeconds(60))));
+
+        List<RecentFoodResponse> first = service.getRecentFoods(1L, RecentFoodOrder.RECENT, null);
+        List<RecentFoodResponse> second = service.getRecentFoods(1L, RecentFoodOrder.RECENT, 1);
+
+        assertEquals(2, first.size());
+        assertEquals(1, second.size());
+        assertEquals(3, second.get(0).getUseCount());
+        verify(recentFoodRepository, times(1)).findByUserIdOrderByLastUsedAtDesc(eq(1L), any(Limit.class));
+    }
+
+    @Test
+    void getRecentFoods_frequent_shouldOrderByUseCountThenRecency() {
+        when(recentFoodRepository.findByUserIdOrderByLastUsedAtDesc(eq(1L), any(Limit.class)))
+                .thenReturn(List.of(food("t:tea", 1, T), food("t:oats", 4, T.minusSeconds(60)),
+                        food("t:rice", 4, T.minusSeconds(30))));
+
+        List<RecentFoodResponse> foods = service.getRecentFoods(1L, RecentFoodOrder.FREQUENT, null);
+
+        assertEquals(List.of("t:rice", "t:oats", "t:tea"), foods.stream().map(RecentFoodResponse::getType).toList());
+    }
+
+    @Test
+    void getRecentFoods_afterMealLogged_shouldMergeUsesIntoCachedList() {
+        when(recentFoodRepository.findByUserIdOrderByLastUsedAtDesc(eq(1L), any(Limit.class)))
+                .thenReturn(List.of(food("t:tea", 1, T), food("t:rice", 2, T.minusSeconds(60))));
+        service.getRecentFoods(1L, RecentFoodOrder.RECENT, null);
+
+        cache.record(1L, List.of(food("t:rice", 1, T.plusSeconds(60))));
+        List<RecentFoodResponse> foods = service.getRecentFoods(1L, RecentFoodOrder.RECENT, null);
+
+        assertEquals(List.of("t:rice", "t:tea"), foods.stream().map(RecentFoodResponse::getType).toList());
+        assertEquals(3, foods.get(0).getUseCount());
+        assertEquals(T.plusSeconds(60), foods.get(0).getLastUsedAt());
+    }
+
+    @Test
+    void foodKey_shouldPreferRecipeThenCatalogFoodThenTypedName() {
+        assertEquals("r:7", RecentFoodServiceImpl.foodKey(MealFoodEntry.builder().type("Chili").recipeId(7L).build()));
+        assertEquals("f:15", RecentFoodServiceImpl.foodKey(MealFoodEntry.builder().type("Chicken").foodId(15).build()));
+        assertEquals("t:greek yogurt", RecentFoodServiceImpl.foodKey(MealFoodEntry.builder().type(" Greek Yogurt ").build()));
+    }
+
+    private static RecentFood food(String key, int uses, Instant lastUsedAt) {
+        return RecentFood.builder()
+                .userId(1L)
+                .foodKey(key)
+                .type(key)
+                .calories(100)
+                .useCount(uses)
+                .lastUsedAt(lastUsedAt)
+                .build();
+    }
+}
@@ -0,0 +1,129 @@
+package com.phillipe.nutrifit.nutrition.service;
+
+import com.phillipe.nutrifit.nutrition.dto.request.FoodItemRequest;
+import com.phillipe.nutrifit.nutrition.dto.request.RecipeRequest;
+import com.phillipe.nutrifit.nutrition.dto.response.RecipeResponse;
+import com.phillipe.nutrifit.nutrition.model.Food;
+import com.phillipe.nutrifit.nutrition.model.entity.Recipe;
+import com.phillipe.nutrifit.nutrition.repository.FoodStore;
+import com.phillipe.nutrifit.nutrition.repository.RecipeRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RecipeServiceImplTest {
+
+    @Mock
+    private RecipeRepository recipeRepository;
+
+    @Mock
+    private FoodStore foodStore;
+
+    @InjectMocks
+    private RecipeServiceImpl service;
+
+    @Test
+    void createRecipe_shouldCacheTotalsAndPerServingMacros() {
+        when(foodStore.findById(15)).thenReturn(Optional.of(
+                new Food(15, "Chicken, breast, roasted", 165, 31, 0, 3.6)));
+        when(recipeRepository.save(any(Recipe.class))).thenAnswer(inv -> {
+            Recipe r = inv.getArgument(0);
+            r.setId(3L);
+            return r;
+        });
+
+        RecipeResponse response = service.createRecipe(request("Chicken and rice", 2), 1L);
+
+        ArgumentCaptor<Recipe> captor = ArgumentCaptor.forClass(Recipe.class);
+        verify(recipeRepository).save(captor.capture());
+        assertEquals(1L, captor.getValue().getUserId());
+        assertEquals(2, captor.getValue().getIngredients().size());
+        assertEquals(Integer.valueOf(15), captor.getValue().getIngredients().getFirst().getFoodId());
+
+        assertEquals(3L, response.getId());
+        assertEquals(530, response.getTotalCalories());
+        assertEquals(66, response.getTotalProtein());
+        assertEquals(45, response.getTotalCarbs());
+        assertEquals(9, response.getTotalFats());
+        assertEquals(265, response.getCaloriesPerServing());
+        assertEquals(33, response.getProteinPerServing());
+    }
+
+    @Test
+    void createRecipe_nestedRecipe_shouldThrow() {
+        RecipeRequest request = RecipeRequest.builder()
+                .name("Bowl")
+                .servings(1)
+                .ingredients(List.of(FoodItemRequest.builder().recipeId(3L).build()))
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> service.createRecipe(request, 1L));
+    }
+
+    @Test
+    void updateRecipe_sameIngredients_shouldKeepCachedIngredients() {
+        when(foodStore.findById(15)).thenReturn(Optional.of(
+                new Food(15, "Chicken, breast, roasted", 165, 31, 0, 3.6)));
+        Recipe recipe = Recipe.builder().userId(1L).name("Chicken and rice").servings(2).build();
+        recipe.setId(3L);
+        RecipeServiceImpl.setIngredients(recipe, RecipeServiceImpl.toIngredients(request("x", 2), foodStore));
+        Object cached = recipe.getIngredients().getFirst();
+        when(recipeRepository.findByIdAndUserId(3L, 1L)).thenReturn(Optional.of(recipe));
+
+        RecipeResponse response = service.updateRecipe(3L, request("Chicken, rice", 4), 1L);
+
+        assertSame(cached, recipe.getIngredients().getFirst());
+        assertEquals("Chicken, rice", response.getName());
+        assertEquals(530, response.getTotalCalories());
+        assertEquals(133, response.getCaloriesPerServing());
+    }
+
+    @Test
+    void updateRecipe_changedIngredients_shouldRecomputeTotals() {
+        Recipe recipe = Recipe.builder().userId(1L).name("Rice").servings(1).build();
+        recipe.setId(3L);
+        when(recipeRepository.findByIdAndUserId(3L, 1L)).thenReturn(Optional.of(recipe));
+
+        RecipeResponse response = service.updateRecipe(3L, RecipeRequest.builder()
+                .name("Rice")
+                .servings(1)
+                .ingredients(List.of(FoodItemRequest.builder().type("Rice").calories(200).carbs(45).build()))
+                .build(), 1L);
+
+        assertEquals(200, response.getTotalCalories());
+        assertEquals(45, response.getTotalCarbs());
+        assertEquals(1, recipe.getIngredients().size());
+    }
+
+    @Test
+    void getRecipe_notFoundOrNotOwned_shouldThrow() {
+        when(recipeRepository.findByIdAndUserId(9L, 2L)).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class, () -> service.getRecipe(9L, 2L));
+    }
+
+    private static RecipeRequest request(String name, int servings) {
+        return RecipeRequest.builder()
+                .name(name)
+                .servings(servings)
+                .ingredients(List.of(
+                        FoodItemRequest.builder().foodId(15).grams(200).build(),
+                        FoodItemRequest.builder().type("Rice").calories(200).protein(4).carbs(45).fats(2).build()))
+                .build();
+    }
+}
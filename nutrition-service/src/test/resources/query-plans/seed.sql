@@ -0,0 +1,72 @@
+-- Deterministic data for QueryPlanTest: 5,000 users logging two meals a day for the 20 days
+-- up to 2025-06-30, with recipes, templates and recent foods, sized so the per-user tables are
+-- far past the point where a sequential scan is cheaper than an index. meal_event is filled by
+-- the meal_log triggers. Plan costs in baseline.json depend on these volumes; regenerate it
+-- after changing them.
+
+INSERT INTO meal_log (id, user_id, created_at, local_date, total_calories, total_protein, total_carbs, total_fats)
+SELECT ((u - 1) * 20 + d) * 2 + m - 2, u, t.created_at, (t.created_at AT TIME ZONE 'UTC')::date,
+       400 + (u + d * 7 + m * 13) % 500, 20 + u % 30, 40 + d % 50, 10 + m * 5
+FROM generate_series(1, 5000) u
+CROSS JOIN generate_series(1, 20) d
+CROSS JOIN generate_series(1, 2) m
+CROSS JOIN LATERAL (
+    SELECT TIMESTAMPTZ '2025-06-30 00:00:00+00' - d * INTERVAL '1 day' + (7 + m * 5) * INTERVAL '1 hour'
+           + (u % 60) * INTERVAL '1 minute' AS created_at
+) t;
+
+INSERT INTO meal_log_foods (meal_log_id, type, calories, protein, carbs, fats, food_id, grams)
+SELECT id, 'Food ' || (id * 7 + f) % 900, total_calories / 2, total_protein / 2, total_carbs / 2, total_fats / 2,
+       1000 + (id * 7 + f) % 900, 100 + f * 50
+FROM meal_log
+CROSS JOIN generate_series(0, 1) f;
+
+INSERT INTO nutrition_daily_total (user_id, local_date, total_calories, total_protein, total_carbs, total_fats,
+                                   meal_count)
+SELECT user_id, local_date, SUM(total_calories), SUM(total_protein), SUM(total_carbs), SUM(total_fats), COUNT(*)
+FROM meal_log
+GROUP BY user_id, local_date;
+
+-- Five recipes of four ingredients and three templates of three foods per user
+INSERT INTO recipe (id, user_id, name, servings, total_calories, total_protein, total_carbs, total_fats, created_at,
+                    updated_at)
+SELECT (u - 1) * 5 + r, u, 'Recipe ' || r, 2 + r % 3, 1200 + r * 100, 60, 150, 40,
+       TIMESTAMPTZ '2025-05-01 00:00:00+00' + u * INTERVAL '1 minute',
+       TIMESTAMPTZ '2025-05-01 00:00:00+00' + u * INTERVAL '1 minute'
+FROM generate_series(1, 5000) u
+CROSS JOIN generate_series(1, 5) r;
+
+INSERT INTO recipe_ingredient (recipe_id, position, type, calories, protein, carbs, fats, food_id, grams)
+SELECT id, i, 'Food ' || (id + i * 31) % 900, 300, 15, 40, 10, 1000 + (id + i * 31) % 900, 150
+FROM recipe
+CROSS JOIN generate_series(0, 3) i;
+
+INSERT INTO meal_template (id, user_id, name, total_calories, total_protein, total_carbs, total_fats, created_at)
+SELECT (u - 1) * 3 + t, u, 'Template ' || t, 650, 35, 70, 20,
+       TIMESTAMPTZ '2025-05-01 00:00:00+00' + u * INTERVAL '1 minute'
+FROM generate_series(1, 5000) u
+CROSS JOIN generate_series(1, 3) t;
+
+INSERT INTO meal_template_foods (meal_template_id, type, calories, protein, carbs, fats, food_id, grams)
+SELECT id, 'Food ' || (id + f * 17) % 900, 220, 12, 23, 7, 1000 + (id + f * 17) % 900, 120
+FROM meal_template
+CROSS JOIN generate_series(0, 2) f;
+
+-- Thirty recent foods per user, as RecentFoodServiceImpl keys them
+INSERT INTO recent_food (user_id, food_key, type, calories, protein, carbs, fats, food_id, grams, use_count,
+                         last_used_at)
+SELECT u, 'f:' || (1000 + (u + k * 29) % 900), 'Food ' || (u + k * 29) % 900, 250, 12, 30, 8,
+       1000 + (u + k * 29) % 900, 100, 1 + k % 7,
+       TIMESTAMPTZ '2025-06-30 00:00:00+00' - k * INTERVAL '13 hours' - (u % 60) * INTERVAL '1 minute'
+FROM generate_series(1, 5000) u
+CROSS JOIN generate_series(1, 30) k;
+
+SELECT setval(pg_get_serial_sequence('meal_log', 'id'), (SELECT MAX(id) FROM meal_log));
+SELECT setval(pg_get_serial_sequence('recipe', 'id'), (SELECT MAX(id) FROM recipe));
+SELECT setval(pg_get_serial_sequence('meal_template', 'id'), (SELECT MAX(id) FROM meal_template));
+
+-- Marks the database as seeded, so later runs against it skip straight to the checks
+CREATE TABLE query_plan_seed (seeded_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now());
+INSERT INTO query_plan_seed DEFAULT VALUES;
+
+VACUUM ANALYZE;